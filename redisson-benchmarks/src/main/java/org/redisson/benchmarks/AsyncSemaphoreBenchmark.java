@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.pubsub.AsyncSemaphore;
+
+/**
+ * Measures {@link AsyncSemaphore} acquire and release
+ * with and without contention.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncSemaphoreBenchmark {
+
+    private final AsyncSemaphore semaphore = new AsyncSemaphore(1);
+
+    @State(Scope.Thread)
+    public static class Listener implements Runnable {
+
+        AsyncSemaphore semaphore;
+
+        @Setup
+        public void setup(AsyncSemaphoreBenchmark benchmark) {
+            semaphore = benchmark.semaphore;
+        }
+
+        @Override
+        public void run() {
+            // permit is passed to next listener
+            semaphore.release();
+        }
+
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void uncontended(Listener listener) {
+        semaphore.acquire(listener);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void contended(Listener listener) {
+        semaphore.acquire(listener);
+    }
+
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.redisson.cache.BufferedLRUCacheMap;
+import org.redisson.cache.Cache;
+import org.redisson.cache.CacheKey;
+import org.redisson.cache.CacheValue;
+import org.redisson.cache.LFUCacheMap;
+import org.redisson.cache.LRUCacheMap;
+import org.redisson.cache.OffHeapCacheMap;
+import org.redisson.cache.TinyLFUCacheMap;
+import org.redisson.client.codec.StringCodec;
+
+import io.netty.util.CharsetUtil;
+
+/**
+ * Measures local cache implementations used by RLocalCachedMap.
+ * Keys are requested with skewed distribution, so some of them are hot.
+ * <p>
+ * Run {@link #main(String[])} to measure them with 1 to 64 threads.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheMapBenchmark {
+
+    private static final int CACHE_SIZE = 10000;
+    private static final int KEYS_AMOUNT = CACHE_SIZE * 4;
+    private static final int SEQUENCE_SIZE = 1 << 16;
+
+    @Param({"LRU", "LFU", "BUFFERED_LRU", "TINY_LFU", "OFFHEAP"})
+    public String cacheType;
+
+    private Cache<CacheKey, CacheValue> cache;
+    private CacheKey[] keys;
+    private CacheValue[] values;
+    private int[] sequence;
+
+    @State(Scope.Thread)
+    public static class Position {
+
+        int index = new Random().nextInt(SEQUENCE_SIZE);
+
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = createCache(cacheType);
+
+        keys = new CacheKey[KEYS_AMOUNT];
+        values = new CacheValue[KEYS_AMOUNT];
+        for (int i = 0; i < KEYS_AMOUNT; i++) {
+            keys[i] = new CacheKey(("key" + i).getBytes(CharsetUtil.UTF_8));
+            values[i] = new CacheValue("key" + i, "value" + i);
+        }
+
+        Random random = new Random(42);
+        sequence = new int[SEQUENCE_SIZE];
+        for (int i = 0; i < SEQUENCE_SIZE; i++) {
+            // skewed towards small indexes
+            double r = random.nextDouble();
+            sequence[i] = (int) (KEYS_AMOUNT * r * r * r);
+        }
+
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            cache.put(keys[i], values[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.clear();
+    }
+
+    private static Cache<CacheKey, CacheValue> createCache(String type) {
+        switch (type) {
+            case "LRU":
+                return new LRUCacheMap<>(CACHE_SIZE, 0, 0);
+            case "LFU":
+                return new LFUCacheMap<>(CACHE_SIZE, 0, 0);
+            case "BUFFERED_LRU":
+                return new BufferedLRUCacheMap<>(CACHE_SIZE, 0, 0);
+            case "TINY_LFU":
+                return new TinyLFUCacheMap<>(CACHE_SIZE, 0, 0);
+            case "OFFHEAP":
+                return new OffHeapCacheMap(StringCodec.INSTANCE, CACHE_SIZE, 0, 0, 0);
+            default:
+                throw new IllegalArgumentException("Unknown cache type: " + type);
+        }
+    }
+
+    private int next(Position position) {
+        int index = sequence[position.index & (SEQUENCE_SIZE - 1)];
+        position.index++;
+        return index;
+    }
+
+    /**
+     * Read with load into cache on miss
+     *
+     * @param position - thread position in keys sequence
+     * @return cached value
+     */
+    @Benchmark
+    public CacheValue read(Position position) {
+        int index = next(position);
+        CacheValue value = cache.get(keys[index]);
+        if (value == null) {
+            cache.put(keys[index], values[index]);
+            return values[index];
+        }
+        return value;
+    }
+
+    @Benchmark
+    public CacheValue write(Position position) {
+        int index = next(position);
+        return cache.put(keys[index], values[index]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(CacheMapBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+}
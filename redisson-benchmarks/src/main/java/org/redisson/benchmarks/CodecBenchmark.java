@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.AvroJacksonCodec;
+import org.redisson.codec.CborJacksonCodec;
+import org.redisson.codec.FstCodec;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.codec.Kryo5Codec;
+import org.redisson.codec.KryoCodec;
+import org.redisson.codec.LZ4Codec;
+import org.redisson.codec.MarshallingCodec;
+import org.redisson.codec.MsgPackJacksonCodec;
+import org.redisson.codec.SerializationCodec;
+import org.redisson.codec.SmileJacksonCodec;
+import org.redisson.codec.SnappyCodec;
+import org.redisson.codec.SnappyCodecV2;
+import org.redisson.codec.TypedJsonJacksonCodec;
+
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Measures encoding and decoding of the same value
+ * by each codec from <code>org.redisson.codec</code> package.
+ * IonJacksonCodec isn't included since it can't decode typed objects.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"JsonJacksonCodec", "TypedJsonJacksonCodec", "SmileJacksonCodec", "CborJacksonCodec",
+            "MsgPackJacksonCodec", "AvroJacksonCodec", "FstCodec", "KryoCodec",
+            "Kryo5Codec", "MarshallingCodec", "SerializationCodec", "SnappyCodec", "SnappyCodecV2",
+            "LZ4Codec"})
+    public String codecName;
+
+    private Codec codec;
+    private Payload value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        codec = createCodec(codecName);
+
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tags.add("tag" + i);
+        }
+        value = new Payload(1234567L, "benchmark payload", 99.5, true, tags);
+
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        encoded = new byte[buf.readableBytes()];
+        buf.readBytes(encoded);
+        buf.release();
+    }
+
+    private static Codec createCodec(String name) throws IOException {
+        switch (name) {
+            case "JsonJacksonCodec":
+                return new JsonJacksonCodec();
+            case "TypedJsonJacksonCodec":
+                return new TypedJsonJacksonCodec(Payload.class);
+            case "SmileJacksonCodec":
+                return new SmileJacksonCodec();
+            case "CborJacksonCodec":
+                return new CborJacksonCodec();
+            case "MsgPackJacksonCodec":
+                return new MsgPackJacksonCodec();
+            case "AvroJacksonCodec":
+                AvroSchema schema = new AvroMapper().schemaFor(Payload.class);
+                return new AvroJacksonCodec(Payload.class, schema);
+            case "FstCodec":
+                return new FstCodec();
+            case "KryoCodec":
+                return new KryoCodec(Arrays.asList(Payload.class, ArrayList.class));
+            case "Kryo5Codec":
+                return new Kryo5Codec();
+            case "MarshallingCodec":
+                return new MarshallingCodec();
+            case "SerializationCodec":
+                return new SerializationCodec();
+            case "SnappyCodec":
+                return new SnappyCodec();
+            case "SnappyCodecV2":
+                return new SnappyCodecV2();
+            case "LZ4Codec":
+                return new LZ4Codec();
+            default:
+                throw new IllegalArgumentException("Unknown codec: " + name);
+        }
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        int size = buf.readableBytes();
+        buf.release();
+        return size;
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encoded), null);
+    }
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.handler.CommandDecoder;
+import org.redisson.client.handler.CommandsQueue;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+
+/**
+ * Measures {@link CommandDecoder} throughput on captured replies.
+ * Each reply could be delivered in several parts
+ * to emulate replies split across socket reads.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandDecoderBenchmark {
+
+    /**
+     * Amount of parts each reply is split into
+     */
+    @Param({"1", "4"})
+    public int parts;
+
+    private EmbeddedChannel channel;
+
+    private ByteBuf statusReply;
+    private ByteBuf bulkReply;
+    private ByteBuf arrayReply;
+    private ByteBuf mapReply;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        channel = new EmbeddedChannel(new CommandsQueue(), new CommandDecoder(null, false));
+
+        statusReply = reply("+OK\r\n");
+
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 1024; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        bulkReply = reply("$" + value.length() + "\r\n" + value + "\r\n");
+
+        StringBuilder array = new StringBuilder("*100\r\n");
+        for (int i = 0; i < 100; i++) {
+            String element = "element" + i;
+            array.append("$").append(element.length()).append("\r\n").append(element).append("\r\n");
+        }
+        arrayReply = reply(array.toString());
+
+        StringBuilder map = new StringBuilder("*100\r\n");
+        for (int i = 0; i < 50; i++) {
+            String key = "field" + i;
+            String val = "value" + i;
+            map.append("$").append(key.length()).append("\r\n").append(key).append("\r\n");
+            map.append("$").append(val.length()).append("\r\n").append(val).append("\r\n");
+        }
+        mapReply = reply(map.toString());
+    }
+
+    private ByteBuf reply(String reply) {
+        return Unpooled.unreleasableBuffer(Unpooled.directBuffer().writeBytes(reply.getBytes(CharsetUtil.UTF_8)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    private Object decode(RedisCommand<?> command, ByteBuf reply) {
+        RPromise<Object> promise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(promise, StringCodec.INSTANCE, command, new Object[] {"key"}));
+        channel.releaseOutbound();
+
+        int length = reply.readableBytes();
+        int partSize = (length + parts - 1) / parts;
+        for (int i = 0; i < length; i += partSize) {
+            channel.writeInbound(reply.retainedSlice(i, Math.min(partSize, length - i)));
+        }
+        return promise.getNow();
+    }
+
+    @Benchmark
+    public Object status() {
+        return decode(RedisCommands.SET, statusReply);
+    }
+
+    @Benchmark
+    public Object bulk() {
+        return decode(RedisCommands.GET, bulkReply);
+    }
+
+    @Benchmark
+    public Object array() {
+        return decode(RedisCommands.LRANGE, arrayReply);
+    }
+
+    @Benchmark
+    public Object map() {
+        return decode(RedisCommands.HGETALL, mapReply);
+    }
+
+}
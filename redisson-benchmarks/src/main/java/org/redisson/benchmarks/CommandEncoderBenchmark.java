@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.client.handler.CommandEncoder;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Compares {@link CommandEncoder} with {@link LegacyCommandEncoder}.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandEncoderBenchmark {
+
+    @Param({"current", "legacy"})
+    public String encoder;
+
+    /**
+     * Size of each encoded value in bytes
+     */
+    @Param({"16", "1024", "65536"})
+    public int valueSize;
+
+    private EmbeddedChannel channel;
+    private ByteBuf value;
+    private ByteBuf[] values;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ChannelHandler handler = CommandEncoder.INSTANCE;
+        if ("legacy".equals(encoder)) {
+            handler = LegacyCommandEncoder.INSTANCE;
+        }
+        channel = new EmbeddedChannel(handler);
+
+        byte[] bytes = new byte[valueSize];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        value = ByteBufAllocator.DEFAULT.buffer(valueSize).writeBytes(bytes);
+
+        values = new ByteBuf[20];
+        for (int i = 0; i < values.length; i += 2) {
+            values[i] = ByteBufAllocator.DEFAULT.buffer().writeBytes(("key" + i).getBytes());
+            values[i + 1] = value;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+        value.release();
+        for (int i = 0; i < values.length; i += 2) {
+            values[i].release();
+        }
+    }
+
+    private void write(CommandData<?, ?> command) {
+        channel.writeOutbound(command);
+        while (true) {
+            ByteBuf out = channel.readOutbound();
+            if (out == null) {
+                break;
+            }
+            out.release();
+        }
+    }
+
+    @Benchmark
+    public void get() {
+        write(new CommandData<>(new RedissonPromise<>(), null, RedisCommands.GET, new Object[] {"someKey"}));
+    }
+
+    @Benchmark
+    public void set() {
+        write(new CommandData<>(new RedissonPromise<>(), null, RedisCommands.SET, new Object[] {"someKey", value}));
+    }
+
+    @Benchmark
+    public void mset() {
+        write(new CommandData<>(new RedissonPromise<>(), null, RedisCommands.MSET, (Object[]) values));
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisConnection;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.config.Config;
+import org.redisson.connection.MasterSlaveEntry;
+
+/**
+ * Measures acquisition and release of connection from pool
+ * of connections to {@link FakeRedisServer}.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    private FakeRedisServer server;
+    private RedissonClient redisson;
+    private MasterSlaveEntry entry;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        server = new FakeRedisServer().start();
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(server.getAddress())
+                .setConnectionMinimumIdleSize(16)
+                .setConnectionPoolSize(16);
+        redisson = Redisson.create(config);
+        entry = ((Redisson) redisson).getConnectionManager().getEntry(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisson.shutdown();
+        server.stop();
+    }
+
+    private RedisConnection acquireRelease() {
+        RedisConnection connection = entry.connectionWriteOp(RedisCommands.GET).syncUninterruptibly().getNow();
+        entry.releaseWrite(connection);
+        return connection;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RedisConnection uncontended() {
+        return acquireRelease();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public RedisConnection contended() {
+        return acquireRelease();
+    }
+
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+
+/**
+ * Measures end-to-end latency of commands sent to {@link FakeRedisServer}
+ * through whole client stack: object, executor, connection pool, encoder and decoder.
+ * <p>
+ * Run with <code>-t</code> option to measure it under concurrency.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndToEndBenchmark {
+
+    /**
+     * Size of value in bytes
+     */
+    @Param({"16", "1024"})
+    public int valueSize;
+
+    private FakeRedisServer server;
+    private RedissonClient redisson;
+    private RBucket<String> bucket;
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        server = new FakeRedisServer().start();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress(server.getAddress());
+        redisson = Redisson.create(config);
+
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < valueSize; i++) {
+            s.append((char) ('a' + i % 26));
+        }
+        value = s.toString();
+        bucket = redisson.getBucket("bucket", StringCodec.INSTANCE);
+        bucket.set(value);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisson.shutdown();
+        server.stop();
+    }
+
+    @Benchmark
+    public String get() {
+        return bucket.get();
+    }
+
+    @Benchmark
+    public void set() {
+        bucket.set(value);
+    }
+
+}
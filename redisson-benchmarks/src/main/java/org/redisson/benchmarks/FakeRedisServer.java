@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.CharsetUtil;
+
+/**
+ * Minimal in-process server speaking Redis protocol.
+ * Allows to run end-to-end benchmarks without external Redis.
+ * <p>
+ * Supports PING, ECHO, SELECT, CLIENT, SET, GET, MGET, DEL, EXISTS and INCR commands.
+ * Other commands are replied with an error.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class FakeRedisServer {
+
+    private static final byte[] CRLF = "\r\n".getBytes(CharsetUtil.US_ASCII);
+    private static final ByteBuf OK = Unpooled.unreleasableBuffer(
+                                        Unpooled.copiedBuffer("+OK\r\n", CharsetUtil.US_ASCII));
+    private static final ByteBuf PONG = Unpooled.unreleasableBuffer(
+                                        Unpooled.copiedBuffer("+PONG\r\n", CharsetUtil.US_ASCII));
+    private static final ByteBuf NULL = Unpooled.unreleasableBuffer(
+                                        Unpooled.copiedBuffer("$-1\r\n", CharsetUtil.US_ASCII));
+
+    private final ConcurrentHashMap<String, byte[]> data = new ConcurrentHashMap<>();
+
+    private EventLoopGroup group;
+    private Channel channel;
+
+    /**
+     * Starts server on random free port of loopback interface
+     *
+     * @return this instance
+     */
+    public FakeRedisServer start() {
+        return start(0);
+    }
+
+    /**
+     * Starts server on defined port of loopback interface
+     *
+     * @param port - port number
+     * @return this instance
+     */
+    public FakeRedisServer start(int port) {
+        group = new NioEventLoopGroup();
+        ServerBootstrap bootstrap = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) throws Exception {
+                        ch.pipeline().addLast(new CommandHandler());
+                    }
+                });
+        channel = bootstrap.bind("127.0.0.1", port).syncUninterruptibly().channel();
+        return this;
+    }
+
+    public int getPort() {
+        return ((InetSocketAddress) channel.localAddress()).getPort();
+    }
+
+    public String getAddress() {
+        return "redis://127.0.0.1:" + getPort();
+    }
+
+    public void stop() {
+        if (channel != null) {
+            channel.close().syncUninterruptibly();
+        }
+        if (group != null) {
+            group.shutdownGracefully().syncUninterruptibly();
+        }
+        data.clear();
+    }
+
+    class CommandHandler extends ByteToMessageDecoder {
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+            boolean executed = false;
+            while (in.isReadable()) {
+                in.markReaderIndex();
+                List<byte[]> args = readCommand(in);
+                if (args == null) {
+                    in.resetReaderIndex();
+                    break;
+                }
+                if (!args.isEmpty()) {
+                    ctx.write(execute(args));
+                    executed = true;
+                }
+            }
+            if (executed) {
+                ctx.flush();
+            }
+        }
+
+        private List<byte[]> readCommand(ByteBuf in) {
+            String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+            if (header.isEmpty() || header.charAt(0) != '*') {
+                // inline command
+                List<byte[]> args = new ArrayList<>();
+                for (String arg : header.trim().split("\\s+")) {
+                    if (!arg.isEmpty()) {
+                        args.add(arg.getBytes(CharsetUtil.UTF_8));
+                    }
+                }
+                return args;
+            }
+
+            int size = Integer.parseInt(header.substring(1));
+            List<byte[]> args = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String line = readLine(in);
+                if (line == null) {
+                    return null;
+                }
+                int length = Integer.parseInt(line.substring(1));
+                if (in.readableBytes() < length + 2) {
+                    return null;
+                }
+                byte[] arg = new byte[length];
+                in.readBytes(arg);
+                in.skipBytes(2);
+                args.add(arg);
+            }
+            return args;
+        }
+
+        private String readLine(ByteBuf in) {
+            int end = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+            if (end == -1) {
+                return null;
+            }
+            String line = in.toString(in.readerIndex(), end - in.readerIndex() - 1, CharsetUtil.UTF_8);
+            in.readerIndex(end + 1);
+            return line;
+        }
+
+        private ByteBuf execute(List<byte[]> args) {
+            String name = new String(args.get(0), CharsetUtil.UTF_8).toUpperCase();
+            switch (name) {
+                case "PING":
+                    if (args.size() > 1) {
+                        return bulk(args.get(1));
+                    }
+                    return PONG.duplicate();
+                case "ECHO":
+                    return bulk(args.get(1));
+                case "SELECT":
+                case "CLIENT":
+                    return OK.duplicate();
+                case "SET":
+                    data.put(key(args, 1), args.get(2));
+                    return OK.duplicate();
+                case "GET":
+                    return bulk(data.get(key(args, 1)));
+                case "MGET":
+                    ByteBuf result = Unpooled.buffer();
+                    writeHeader(result, '*', args.size() - 1);
+                    for (int i = 1; i < args.size(); i++) {
+                        writeBulk(result, data.get(key(args, i)));
+                    }
+                    return result;
+                case "DEL":
+                    int deleted = 0;
+                    for (int i = 1; i < args.size(); i++) {
+                        if (data.remove(key(args, i)) != null) {
+                            deleted++;
+                        }
+                    }
+                    return integer(deleted);
+                case "EXISTS":
+                    int exists = 0;
+                    for (int i = 1; i < args.size(); i++) {
+                        if (data.containsKey(key(args, i))) {
+                            exists++;
+                        }
+                    }
+                    return integer(exists);
+                case "INCR":
+                    long value = 1;
+                    String key = key(args, 1);
+                    while (true) {
+                        byte[] prev = data.putIfAbsent(key, "1".getBytes(CharsetUtil.US_ASCII));
+                        if (prev == null) {
+                            break;
+                        }
+                        value = Long.parseLong(new String(prev, CharsetUtil.US_ASCII)) + 1;
+                        if (data.replace(key, prev,
+                                Long.toString(value).getBytes(CharsetUtil.US_ASCII))) {
+                            break;
+                        }
+                    }
+                    return integer(value);
+                default:
+                    return Unpooled.copiedBuffer("-ERR unknown command '" + name + "'\r\n", CharsetUtil.UTF_8);
+            }
+        }
+
+        private String key(List<byte[]> args, int index) {
+            return new String(args.get(index), CharsetUtil.UTF_8);
+        }
+
+        private ByteBuf integer(long value) {
+            return Unpooled.copiedBuffer(":" + value + "\r\n", CharsetUtil.US_ASCII);
+        }
+
+        private ByteBuf bulk(byte[] value) {
+            if (value == null) {
+                return NULL.duplicate();
+            }
+            ByteBuf result = Unpooled.buffer(value.length + 16);
+            writeBulk(result, value);
+            return result;
+        }
+
+        private void writeBulk(ByteBuf out, byte[] value) {
+            if (value == null) {
+                out.writeBytes(NULL, NULL.readerIndex(), NULL.readableBytes());
+                return;
+            }
+            writeHeader(out, '$', value.length);
+            out.writeBytes(value);
+            out.writeBytes(CRLF);
+        }
+
+        private void writeHeader(ByteBuf out, char type, int size) {
+            out.writeByte(type);
+            out.writeCharSequence(Integer.toString(size), CharsetUtil.US_ASCII);
+            out.writeBytes(CRLF);
+        }
+
+    }
+
+}
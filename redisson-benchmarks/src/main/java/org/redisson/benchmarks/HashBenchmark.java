@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.connection.CRC16;
+import org.redisson.connection.MasterSlaveConnectionManager;
+import org.redisson.misc.Hash;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
+
+/**
+ * Measures hash functions used for cluster slot calculation
+ * and for local cache keys.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashBenchmark {
+
+    /**
+     * Size of hashed key in bytes
+     */
+    @Param({"16", "128", "1024"})
+    public int keySize;
+
+    private byte[] key;
+    private ByteBuf keyBuf;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder s = new StringBuilder();
+        Random random = new Random(42);
+        while (s.length() < keySize) {
+            s.append((char) ('a' + random.nextInt(26)));
+        }
+        key = s.toString().getBytes(CharsetUtil.UTF_8);
+        keyBuf = Unpooled.wrappedBuffer(key);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        keyBuf.release();
+    }
+
+    @Benchmark
+    public int slot() {
+        return CRC16.crc16(key) % MasterSlaveConnectionManager.MAX_SLOT;
+    }
+
+    @Benchmark
+    public long highwayHash64() {
+        return Hash.hash64(keyBuf);
+    }
+
+    @Benchmark
+    public long[] highwayHash128() {
+        return Hash.hash128(keyBuf);
+    }
+
+}
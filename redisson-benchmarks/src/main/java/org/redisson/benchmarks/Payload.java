@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Value object used by codec benchmarks
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class Payload implements Serializable {
+
+    private static final long serialVersionUID = 6226371946208373364L;
+
+    private long id;
+    private String name;
+    private double score;
+    private boolean active;
+    private List<String> tags;
+
+    public Payload() {
+    }
+
+    public Payload(long id, String name, double score, boolean active, List<String> tags) {
+        this.id = id;
+        this.name = name;
+        this.score = score;
+        this.active = active;
+        this.tags = tags;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+}
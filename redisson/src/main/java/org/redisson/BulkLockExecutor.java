@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandBatchService;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+import org.redisson.pubsub.LockPubSub;
+
+/**
+ * Acquires and releases multiple {@link RedissonLock} objects
+ * with single Lua script invocation per slot of Redis node.
+ * Scripts for all nodes are sent in parallel within one batch.
+ * <p>
+ * Locks of the same slot are acquired only if all of them are free
+ * or already held by the same thread.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+final class BulkLockExecutor {
+
+    private static final String ACQUIRE_SCRIPT =
+            "for i = 1, #KEYS do "
+              + "if (redis.call('exists', KEYS[i]) == 1) and (redis.call('hexists', KEYS[i], ARGV[i + 1]) == 0) then "
+                  + "return redis.call('pttl', KEYS[i]); "
+              + "end; "
+          + "end; "
+          + "for i = 1, #KEYS do "
+              + "redis.call('hincrby', KEYS[i], ARGV[i + 1], 1); "
+              + "redis.call('pexpire', KEYS[i], ARGV[1]); "
+          + "end; "
+          + "return nil; ";
+
+    private static final String RELEASE_SCRIPT =
+            "local missed = 0; "
+          + "for i = 1, #KEYS do "
+              + "local j = (i - 1) * 4; "
+              + "if (redis.call('hexists', KEYS[i], ARGV[j + 1]) == 0) then "
+                  + "missed = missed + 1; "
+              + "else "
+                  + "local counter = redis.call('hincrby', KEYS[i], ARGV[j + 1], -1); "
+                  + "if (counter > 0) then "
+                      + "redis.call('pexpire', KEYS[i], ARGV[j + 2]); "
+                  + "else "
+                      + "redis.call('del', KEYS[i]); "
+                      + "redis.call('publish', ARGV[j + 3], ARGV[j + 4]); "
+                  + "end; "
+              + "end; "
+          + "end; "
+          + "return missed; ";
+
+    private BulkLockExecutor() {
+    }
+
+    /**
+     * Returns <code>true</code> if all locks could be handled
+     * by bulk scripts. Locks should have plain reentrant lock logic
+     * and belong to the same Redisson instance.
+     *
+     * @param locks - locks
+     * @return <code>true</code> if bulk scripts are applicable
+     */
+    static boolean isSupported(Collection<RLock> locks) {
+        ConnectionManager connectionManager = null;
+        for (RLock lock : locks) {
+            if (!(lock instanceof RedissonLock)) {
+                return false;
+            }
+            RedissonLock redissonLock = (RedissonLock) lock;
+            if (!redissonLock.isBulkLockSupported()) {
+                return false;
+            }
+            if (connectionManager == null) {
+                connectionManager = redissonLock.commandExecutor.getConnectionManager();
+            } else if (connectionManager != redissonLock.commandExecutor.getConnectionManager()) {
+                return false;
+            }
+        }
+        return connectionManager != null;
+    }
+
+    /**
+     * Tries to acquire all locks. Locks acquired in some slots
+     * are released back if any lock in other slot is held by another thread.
+     * Fails if batch execution has failed, since acquisition state is unknown.
+     *
+     * @param locks - locks
+     * @param leaseTime - lease time in milliseconds or <code>-1</code> to renew expiration by watchdog
+     * @param threadId - id of thread
+     * @return <code>true</code> if all locks have been acquired
+     */
+    static RFuture<Boolean> tryLockAsync(Collection<RLock> locks, long leaseTime, long threadId) {
+        ConnectionManager connectionManager = getConnectionManager(locks);
+        long lockLeaseTime = leaseTime;
+        if (leaseTime == -1) {
+            lockLeaseTime = connectionManager.getCfg().getLockWatchdogTimeout();
+        }
+
+        Map<Integer, List<RedissonLock>> groups = groupBySlot(connectionManager, locks);
+        CommandBatchService executorService = new CommandBatchService(connectionManager);
+        List<RFuture<Long>> futures = new ArrayList<>(groups.size());
+        for (List<RedissonLock> group : groups.values()) {
+            List<Object> keys = new ArrayList<>(group.size());
+            List<Object> args = new ArrayList<>(group.size() + 1);
+            args.add(lockLeaseTime);
+            for (RedissonLock lock : group) {
+                keys.add(lock.getName());
+                args.add(lock.getLockName(threadId));
+            }
+            RFuture<Long> future = executorService.evalWriteAsync(group.get(0).getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                    ACQUIRE_SCRIPT, keys, args.toArray());
+            futures.add(future);
+        }
+
+        long finalLeaseTime = lockLeaseTime;
+        RPromise<Boolean> result = new RedissonPromise<>();
+        executorService.executeAsync().onComplete((res, e) -> {
+            if (e != null) {
+                // acquisition state is unknown, locks acquired by this attempt expire after lease time
+                result.tryFailure(e);
+                return;
+            }
+
+            List<List<RedissonLock>> acquired = new ArrayList<>(groups.size());
+            boolean failed = false;
+            int index = 0;
+            for (List<RedissonLock> group : groups.values()) {
+                RFuture<Long> future = futures.get(index++);
+                if (future.getNow() == null) {
+                    acquired.add(group);
+                } else {
+                    failed = true;
+                }
+            }
+
+            if (failed) {
+                // revert only increments made by this attempt, expiration renewal is kept for locks held before
+                releaseAsync(connectionManager, acquired, threadId).onComplete((r, ex) -> {
+                    result.trySuccess(false);
+                });
+                return;
+            }
+
+            for (List<RedissonLock> group : acquired) {
+                for (RedissonLock lock : group) {
+                    lock.internalLockLeaseTime = finalLeaseTime;
+                    if (leaseTime == -1) {
+                        lock.scheduleExpirationRenewal(threadId);
+                    }
+                }
+            }
+            result.trySuccess(true);
+        });
+        return result;
+    }
+
+    /**
+     * Releases all locks held by thread.
+     * Fails with {@link IllegalMonitorStateException} if any lock isn't held by thread.
+     *
+     * @param locks - locks
+     * @param threadId - id of thread
+     * @return void
+     */
+    static RFuture<Void> unlockAsync(Collection<RLock> locks, long threadId) {
+        if (locks.isEmpty()) {
+            return RedissonPromise.newSucceededFuture(null);
+        }
+
+        ConnectionManager connectionManager = getConnectionManager(locks);
+        Map<Integer, List<RedissonLock>> groups = groupBySlot(connectionManager, locks);
+        RPromise<Void> result = new RedissonPromise<>();
+        releaseAsync(connectionManager, groups.values(), threadId).onComplete((missed, e) -> {
+            for (RLock lock : locks) {
+                ((RedissonLock) lock).cancelExpirationRenewal(threadId);
+            }
+
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            if (missed > 0) {
+                result.tryFailure(new IllegalMonitorStateException("attempt to unlock lock, not locked by current thread by node id: "
+                        + connectionManager.getId() + " thread-id: " + threadId));
+                return;
+            }
+            result.trySuccess(null);
+        });
+        return result;
+    }
+
+    /**
+     * Decrements hold count of each lock by one.
+     * Expiration renewal isn't affected.
+     *
+     * @return amount of locks not held by thread
+     */
+    private static RFuture<Long> releaseAsync(ConnectionManager connectionManager, Collection<List<RedissonLock>> groups, long threadId) {
+        if (groups.isEmpty()) {
+            return RedissonPromise.newSucceededFuture(0L);
+        }
+
+        CommandBatchService executorService = new CommandBatchService(connectionManager);
+        List<RFuture<Long>> futures = new ArrayList<>(groups.size());
+        for (List<RedissonLock> group : groups) {
+            List<Object> keys = new ArrayList<>(group.size());
+            List<Object> args = new ArrayList<>(group.size() * 4);
+            for (RedissonLock lock : group) {
+                keys.add(lock.getName());
+                args.add(lock.getLockName(threadId));
+                args.add(lock.internalLockLeaseTime);
+                args.add(lock.getNotificationChannel());
+                args.add(lock.getNotificationMessage(LockPubSub.UNLOCK_MESSAGE));
+            }
+            RFuture<Long> future = executorService.evalWriteAsync(group.get(0).getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                    RELEASE_SCRIPT, keys, args.toArray());
+            futures.add(future);
+        }
+
+        RPromise<Long> result = new RedissonPromise<>();
+        executorService.executeAsync().onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            long missed = 0;
+            for (RFuture<Long> future : futures) {
+                missed += future.getNow();
+            }
+            result.trySuccess(missed);
+        });
+        return result;
+    }
+
+    private static ConnectionManager getConnectionManager(Collection<RLock> locks) {
+        RedissonLock lock = (RedissonLock) locks.iterator().next();
+        return lock.commandExecutor.getConnectionManager();
+    }
+
+    private static Map<Integer, List<RedissonLock>> groupBySlot(ConnectionManager connectionManager, Collection<RLock> locks) {
+        Map<Integer, List<RedissonLock>> groups = new LinkedHashMap<>();
+        for (RLock lock : locks) {
+            int slot = connectionManager.calcSlot(lock.getName());
+            groups.computeIfAbsent(slot, k -> new ArrayList<>()).add((RedissonLock) lock);
+        }
+        return groups;
+    }
+
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.RedisClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.protocol.decoder.ListScanResult;
+import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+/**
+ * Applies operation to all keys matched by pattern.
+ * <p>
+ * Keys are scanned on all master nodes in parallel.
+ * Each SCAN page is passed to operation right away and next page is requested
+ * without waiting for its completion until amount of operations in progress
+ * per node reaches <code>maxInFlight</code> limit.
+ * No thread is blocked during execution.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+final class PatternKeysPipeline {
+
+    private final class NodeScan {
+
+        private final MasterSlaveEntry entry;
+        private RedisClient client;
+        private long position;
+        private boolean scanning;
+        private boolean scanned;
+        private boolean done;
+        private int inFlight;
+
+        NodeScan(MasterSlaveEntry entry) {
+            this.entry = entry;
+        }
+
+        synchronized void schedule() {
+            if (done || result.isDone()) {
+                return;
+            }
+
+            if (!scanned && !scanning && inFlight < maxInFlight) {
+                scanning = true;
+                scanNext();
+                return;
+            }
+
+            if (scanned && inFlight == 0) {
+                done = true;
+                if (nodesLeft.decrementAndGet() == 0) {
+                    result.trySuccess(total.get());
+                }
+            }
+        }
+
+        private void scanNext() {
+            RFuture<ListScanResult<Object>> future = keys.scanIteratorAsync(client, entry, position, pattern, count);
+            future.onComplete((page, e) -> {
+                if (e != null) {
+                    fail(e);
+                    return;
+                }
+
+                List<String> values = new ArrayList<>(page.getValues().size());
+                for (Object value : page.getValues()) {
+                    values.add((String) value);
+                }
+
+                synchronized (this) {
+                    client = page.getRedisClient();
+                    position = page.getPos();
+                    scanning = false;
+                    if (position == 0) {
+                        scanned = true;
+                    }
+                    if (!values.isEmpty()) {
+                        inFlight++;
+                    }
+                }
+
+                if (!values.isEmpty()) {
+                    process(values);
+                }
+                schedule();
+            });
+        }
+
+        private void process(List<String> values) {
+            operation.apply(values).onComplete((res, e) -> {
+                if (e != null) {
+                    fail(e);
+                    return;
+                }
+
+                long value = total.addAndGet(res);
+                if (progressListener != null) {
+                    progressListener.accept(value);
+                }
+
+                synchronized (this) {
+                    inFlight--;
+                }
+                schedule();
+            });
+        }
+
+    }
+
+    private final RedissonKeys keys;
+    private final String pattern;
+    private final int count;
+    private final int maxInFlight;
+    private final Function<List<String>, RFuture<Long>> operation;
+    private final LongConsumer progressListener;
+
+    private final RPromise<Long> result = new RedissonPromise<>();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicInteger nodesLeft = new AtomicInteger();
+
+    /**
+     * @param keys - keys object used for scanning
+     * @param pattern - keys pattern
+     * @param count - amount of keys requested per SCAN invocation
+     * @param maxInFlight - maximum amount of operations in progress per node
+     * @param operation - operation applied to each page, returns amount of affected keys
+     * @param progressListener - receives total amount of affected keys after each completed operation. Could be <code>null</code>
+     */
+    PatternKeysPipeline(RedissonKeys keys, String pattern, int count, int maxInFlight,
+            Function<List<String>, RFuture<Long>> operation, LongConsumer progressListener) {
+        this.keys = keys;
+        this.pattern = pattern;
+        this.count = count;
+        this.maxInFlight = maxInFlight;
+        this.operation = operation;
+        this.progressListener = progressListener;
+    }
+
+    private void fail(Throwable cause) {
+        if (total.get() > 0) {
+            result.tryFailure(new RedisException(
+                    "" + total.get() + " keys has been processed. But one or more nodes has an error", cause));
+            return;
+        }
+        result.tryFailure(cause);
+    }
+
+    /**
+     * Starts execution over defined nodes
+     *
+     * @param entries - master nodes
+     * @return total amount of affected keys
+     */
+    RFuture<Long> execute(Collection<MasterSlaveEntry> entries) {
+        if (entries.isEmpty()) {
+            return RedissonPromise.newSucceededFuture(0L);
+        }
+
+        List<NodeScan> scans = new ArrayList<>(entries.size());
+        for (MasterSlaveEntry entry : entries) {
+            scans.add(new NodeScan(entry));
+        }
+        nodesLeft.set(scans.size());
+        for (NodeScan scan : scans) {
+            scan.schedule();
+        }
+        return result;
+    }
+
+}
@@ -602,6 +602,15 @@ public class Redisson implements RedissonClient {
         return new RedissonTransaction(connectionManager.getCommandExecutor(), options);
     }
 
+    @Override
+    public RClientSideCaching createClientSideCaching(ClientSideCachingOptions options) {
+        RedissonClientSideCaching caching = new RedissonClientSideCaching(connectionManager, this, options);
+        if (config.isReferenceEnabled()) {
+            caching.enableRedissonReferenceSupport(this);
+        }
+        return caching;
+    }
+
     @Override
     public RBatch createBatch(BatchOptions options) {
         RedissonBatch batch = new RedissonBatch(evictionScheduler, connectionManager, options);
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import org.redisson.api.*;
+import org.redisson.client.codec.Codec;
+import org.redisson.command.CommandClientSideCachingService;
+import org.redisson.connection.ConnectionManager;
+
+/**
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonClientSideCaching implements RClientSideCaching {
+
+    private final CommandClientSideCachingService executorService;
+    private final RedissonClient redisson;
+
+    public RedissonClientSideCaching(ConnectionManager connectionManager, RedissonClient redisson, ClientSideCachingOptions options) {
+        this.executorService = new CommandClientSideCachingService(connectionManager, options);
+        this.redisson = redisson;
+    }
+
+    protected void enableRedissonReferenceSupport(Redisson redisson) {
+        this.executorService.enableRedissonReferenceSupport(redisson);
+    }
+
+    @Override
+    public <V> RBucket<V> getBucket(String name) {
+        return new RedissonBucket<V>(executorService, name);
+    }
+
+    @Override
+    public <V> RBucket<V> getBucket(String name, Codec codec) {
+        return new RedissonBucket<V>(codec, executorService, name);
+    }
+
+    @Override
+    public RBuckets getBuckets() {
+        return new RedissonBuckets(executorService);
+    }
+
+    @Override
+    public RBuckets getBuckets(Codec codec) {
+        return new RedissonBuckets(codec, executorService);
+    }
+
+    @Override
+    public <K, V> RMap<K, V> getMap(String name) {
+        return new RedissonMap<K, V>(executorService, name, redisson, null, null);
+    }
+
+    @Override
+    public <K, V> RMap<K, V> getMap(String name, Codec codec) {
+        return new RedissonMap<K, V>(codec, executorService, name, redisson, null, null);
+    }
+
+    @Override
+    public <V> RSet<V> getSet(String name) {
+        return new RedissonSet<V>(executorService, name, redisson);
+    }
+
+    @Override
+    public <V> RSet<V> getSet(String name, Codec codec) {
+        return new RedissonSet<V>(codec, executorService, name, redisson);
+    }
+
+    @Override
+    public long getCacheHits() {
+        return executorService.getCacheHits();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return executorService.getCacheMisses();
+    }
+
+    @Override
+    public int getCacheSize() {
+        return executorService.getCacheSize();
+    }
+
+    @Override
+    public void clearCache() {
+        executorService.clearCache();
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdown();
+    }
+
+}
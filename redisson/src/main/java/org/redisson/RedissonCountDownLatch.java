@@ -15,7 +15,7 @@
  */
 package org.redisson;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -270,13 +270,24 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
     }
 
     private RFuture<RedissonCountDownLatchEntry> subscribe() {
+        if (pubSub.isMultiplexed()) {
+            return pubSub.subscribeMultiplexed(getEntryName(), getChannelName());
+        }
         return pubSub.subscribe(getEntryName(), getChannelName());
     }
 
     private void unsubscribe(RFuture<RedissonCountDownLatchEntry> future) {
+        if (pubSub.isMultiplexed()) {
+            pubSub.unsubscribeMultiplexed(future.getNow(), getEntryName(), getChannelName());
+            return;
+        }
         pubSub.unsubscribe(future.getNow(), getEntryName(), getChannelName());
     }
 
+    private String getNotificationMessage(Long message) {
+        return message + pubSub.getNotificationSuffix(getChannelName());
+    }
+
     @Override
     public void countDown() {
         get(countDownAsync());
@@ -287,8 +298,9 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
         return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                         "local v = redis.call('decr', KEYS[1]);" +
                         "if v <= 0 then redis.call('del', KEYS[1]) end;" +
-                        "if v == 0 then redis.call('publish', KEYS[2], ARGV[1]) end;",
-                    Arrays.<Object>asList(getName(), getChannelName()), CountDownLatchPubSub.ZERO_COUNT_MESSAGE);
+                        "if v == 0 then redis.call('publish', ARGV[2], ARGV[1]) end;",
+                    Collections.<Object>singletonList(getName()),
+                    getNotificationMessage(CountDownLatchPubSub.ZERO_COUNT_MESSAGE), pubSub.getNotificationChannel(getChannelName()));
     }
 
     private String getEntryName() {
@@ -319,24 +331,26 @@ public class RedissonCountDownLatch extends RedissonObject implements RCountDown
         return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if redis.call('exists', KEYS[1]) == 0 then "
                     + "redis.call('set', KEYS[1], ARGV[2]); "
-                    + "redis.call('publish', KEYS[2], ARGV[1]); "
+                    + "redis.call('publish', ARGV[3], ARGV[1]); "
                     + "return 1 "
                 + "else "
                     + "return 0 "
                 + "end",
-                Arrays.<Object>asList(getName(), getChannelName()), CountDownLatchPubSub.NEW_COUNT_MESSAGE, count);
+                Collections.<Object>singletonList(getName()),
+                getNotificationMessage(CountDownLatchPubSub.NEW_COUNT_MESSAGE), count, pubSub.getNotificationChannel(getChannelName()));
     }
 
     @Override
     public RFuture<Boolean> deleteAsync() {
         return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if redis.call('del', KEYS[1]) == 1 then "
-                    + "redis.call('publish', KEYS[2], ARGV[1]); "
+                    + "redis.call('publish', ARGV[2], ARGV[1]); "
                     + "return 1 "
                 + "else "
                     + "return 0 "
                 + "end",
-                Arrays.<Object>asList(getName(), getChannelName()), CountDownLatchPubSub.NEW_COUNT_MESSAGE);
+                Collections.<Object>singletonList(getName()),
+                getNotificationMessage(CountDownLatchPubSub.NEW_COUNT_MESSAGE), pubSub.getNotificationChannel(getChannelName()));
     }
 
 }
@@ -345,4 +345,9 @@ public class RedissonFairLock extends RedissonLock implements RLock {
                 LockPubSub.UNLOCK_MESSAGE, System.currentTimeMillis());
     }
 
-}
\ No newline at end of file
+    @Override
+    protected boolean isBulkLockSupported() {
+        return false;
+    }
+
+}
@@ -24,8 +24,8 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -34,14 +34,16 @@ import org.redisson.api.RKeys;
 import org.redisson.api.RObject;
 import org.redisson.api.RType;
 import org.redisson.client.RedisClient;
-import org.redisson.client.RedisException;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.client.protocol.decoder.ListScanResult;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.command.CommandBatchService;
 import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.iterator.PrefetchingScanIterator;
+import org.redisson.iterator.PrefetchingScanIterator.ScanSource;
 import org.redisson.iterator.RedissonBaseIterator;
+import org.redisson.iterator.ScanSpliterator;
 import org.redisson.misc.CompositeIterable;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
@@ -55,6 +57,9 @@ import org.redisson.rx.CommandRxBatchService;
  */
 public class RedissonKeys implements RKeys {
 
+    private static final int PATTERN_SCAN_COUNT = 1000;
+    private static final int PATTERN_MAX_IN_FLIGHT = 4;
+
     private final CommandAsyncExecutor commandExecutor;
 
     public RedissonKeys(CommandAsyncExecutor commandExecutor) {
@@ -102,6 +107,19 @@ public class RedissonKeys implements RKeys {
         return new CompositeIterable<String>(iterables);
     }
 
+    @Override
+    public Iterable<String> getKeysByPattern(String pattern, int count, int prefetchDepth) {
+        return () -> new PrefetchingScanIterator<String>(createScanSources(pattern, count), prefetchDepth, key -> delete(key));
+    }
+
+    private List<ScanSource> createScanSources(String pattern, int count) {
+        List<ScanSource> sources = new ArrayList<>();
+        for (MasterSlaveEntry entry : commandExecutor.getConnectionManager().getEntrySet()) {
+            sources.add((client, position) -> scanIteratorAsync(client, entry, position, pattern, count));
+        }
+        return sources;
+    }
+
     @Override
     public Iterable<String> getKeys() {
         return getKeysByPattern(null);
@@ -200,9 +218,7 @@ public class RedissonKeys implements RKeys {
 
     @Override
     public RFuture<Long> deleteByPatternAsync(String pattern) {
-        if (commandExecutor instanceof CommandBatchService
-                || commandExecutor instanceof CommandReactiveBatchService
-                    || commandExecutor instanceof CommandRxBatchService) {
+        if (isBatch()) {
             return commandExecutor.evalWriteAsync((String) null, null, RedisCommands.EVAL_LONG, 
                             "local keys = redis.call('keys', ARGV[1]) "
                               + "local n = 0 "
@@ -211,59 +227,157 @@ public class RedissonKeys implements RKeys {
                               + "end "
                           + "return n;", Collections.emptyList(), pattern);
         }
-        
-        int batchSize = 500;
-        RPromise<Long> result = new RedissonPromise<Long>();
-        AtomicReference<Throwable> failed = new AtomicReference<Throwable>();
-        AtomicLong count = new AtomicLong();
-        Collection<MasterSlaveEntry> entries = commandExecutor.getConnectionManager().getEntrySet();
-        AtomicLong executed = new AtomicLong(entries.size());
-        BiConsumer<Long, Throwable> listener = (res, e) -> {
-            if (e == null) {
-                count.addAndGet(res);
-            } else {
-                failed.set(e);
-            }
 
-            checkExecution(result, failed, count, executed);
-        };
+        return executeByPattern(pattern, keys -> deleteAsync(keys.toArray(new String[keys.size()])), null);
+    }
+
+    /**
+     * Deletes keys matched by pattern without blocking any thread.
+     * SCAN pages are requested on all master nodes in parallel and
+     * deletion of each page overlaps with scanning of next one.
+     *
+     * @param pattern - match pattern
+     * @param progressListener - receives total amount of deleted keys after each deleted page. Could be <code>null</code>.
+     *        Isn't invoked in batch mode
+     * @return number of removed keys
+     */
+    public RFuture<Long> deleteByPatternAsync(String pattern, LongConsumer progressListener) {
+        if (isBatch()) {
+            return deleteByPatternAsync(pattern);
+        }
+        return executeByPattern(pattern, keys -> deleteAsync(keys.toArray(new String[keys.size()])), progressListener);
+    }
+
+    @Override
+    public long unlinkByPattern(String pattern) {
+        return commandExecutor.get(unlinkByPatternAsync(pattern));
+    }
+
+    @Override
+    public RFuture<Long> unlinkByPatternAsync(String pattern) {
+        if (isBatch()) {
+            return commandExecutor.evalWriteAsync((String) null, null, RedisCommands.EVAL_LONG, 
+                            "local keys = redis.call('keys', ARGV[1]) "
+                              + "local n = 0 "
+                              + "for i=1, #keys,5000 do "
+                                  + "n = n + redis.call('unlink', unpack(keys, i, math.min(i+4999, table.getn(keys)))) "
+                              + "end "
+                          + "return n;", Collections.emptyList(), pattern);
+        }
+
+        return executeByPattern(pattern, keys -> unlinkAsync(keys.toArray(new String[keys.size()])), null);
+    }
+
+    /**
+     * Unlinks keys matched by pattern without blocking any thread.
+     * SCAN pages are requested on all master nodes in parallel and
+     * unlinking of each page overlaps with scanning of next one.
+     *
+     * @param pattern - match pattern
+     * @param progressListener - receives total amount of unlinked keys after each unlinked page. Could be <code>null</code>.
+     *        Isn't invoked in batch mode
+     * @return number of unlinked keys
+     */
+    public RFuture<Long> unlinkByPatternAsync(String pattern, LongConsumer progressListener) {
+        if (isBatch()) {
+            return unlinkByPatternAsync(pattern);
+        }
+        return executeByPattern(pattern, keys -> unlinkAsync(keys.toArray(new String[keys.size()])), progressListener);
+    }
+
+    @Override
+    public long expireByPattern(String pattern, long timeToLive, TimeUnit timeUnit) {
+        return commandExecutor.get(expireByPatternAsync(pattern, timeToLive, timeUnit));
+    }
+
+    @Override
+    public RFuture<Long> expireByPatternAsync(String pattern, long timeToLive, TimeUnit timeUnit) {
+        long ttl = timeUnit.toMillis(timeToLive);
+        if (isBatch()) {
+            return commandExecutor.evalWriteAsync((String) null, null, RedisCommands.EVAL_LONG, 
+                            "local keys = redis.call('keys', ARGV[1]) "
+                              + "local n = 0 "
+                              + "for i=1, #keys do "
+                                  + "n = n + redis.call('pexpire', keys[i], ARGV[2]) "
+                              + "end "
+                          + "return n;", Collections.emptyList(), pattern, ttl);
+        }
+
+        return executeByPattern(pattern, keys -> expireAsync(keys, ttl), null);
+    }
+
+    @Override
+    public long touchByPattern(String pattern) {
+        return commandExecutor.get(touchByPatternAsync(pattern));
+    }
+
+    @Override
+    public RFuture<Long> touchByPatternAsync(String pattern) {
+        if (isBatch()) {
+            return commandExecutor.evalWriteAsync((String) null, null, RedisCommands.EVAL_LONG, 
+                            "local keys = redis.call('keys', ARGV[1]) "
+                              + "local n = 0 "
+                              + "for i=1, #keys,5000 do "
+                                  + "n = n + redis.call('touch', unpack(keys, i, math.min(i+4999, table.getn(keys)))) "
+                              + "end "
+                          + "return n;", Collections.emptyList(), pattern);
+        }
+
+        return executeByPattern(pattern, keys -> {
+            return commandExecutor.writeBatchedAsync(null, RedisCommands.TOUCH_LONG, new SlotCallback<Long, Long>() {
+                AtomicLong results = new AtomicLong();
 
-        for (MasterSlaveEntry entry : entries) {
-            commandExecutor.getConnectionManager().getExecutor().execute(new Runnable() {
                 @Override
-                public void run() {
-                    long count = 0;
-                    try {
-                        Iterator<String> keysIterator = createKeysIterator(entry, pattern, batchSize);
-                        List<String> keys = new ArrayList<String>();
-                        while (keysIterator.hasNext()) {
-                            String key = keysIterator.next();
-                            keys.add(key);
-
-                            if (keys.size() % batchSize == 0) {
-                                count += delete(keys.toArray(new String[keys.size()]));
-                                keys.clear();
-                            }
-                        }
-
-                        if (!keys.isEmpty()) {
-                            count += delete(keys.toArray(new String[keys.size()]));
-                            keys.clear();
-                        }
-
-                        RFuture<Long> future = RedissonPromise.newSucceededFuture(count);
-                        future.onComplete(listener);
-                    } catch (Exception e) {
-                        RFuture<Long> future = RedissonPromise.newFailedFuture(e);
-                        future.onComplete(listener);
-                    }
+                public void onSlotResult(Long result) {
+                    results.addAndGet(result);
                 }
-            });
+
+                @Override
+                public Long onFinish() {
+                    return results.get();
+                }
+            }, keys.toArray(new String[keys.size()]));
+        }, null);
+    }
+
+    private RFuture<Long> expireAsync(List<String> keys, long timeToLive) {
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        List<RFuture<Boolean>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(executorService.writeAsync(key, StringCodec.INSTANCE, RedisCommands.PEXPIRE, key, timeToLive));
         }
 
+        RPromise<Long> result = new RedissonPromise<>();
+        executorService.executeAsync().onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            long count = 0;
+            for (RFuture<Boolean> future : futures) {
+                if (future.getNow()) {
+                    count++;
+                }
+            }
+            result.trySuccess(count);
+        });
         return result;
     }
 
+    private RFuture<Long> executeByPattern(String pattern, Function<List<String>, RFuture<Long>> operation,
+            LongConsumer progressListener) {
+        PatternKeysPipeline pipeline = new PatternKeysPipeline(this, pattern, PATTERN_SCAN_COUNT, PATTERN_MAX_IN_FLIGHT,
+                operation, progressListener);
+        return pipeline.execute(commandExecutor.getConnectionManager().getEntrySet());
+    }
+
+    private boolean isBatch() {
+        return commandExecutor instanceof CommandBatchService
+                || commandExecutor instanceof CommandReactiveBatchService
+                    || commandExecutor instanceof CommandRxBatchService;
+    }
+
     @Override
     public long delete(String... keys) {
         return commandExecutor.get(deleteAsync(keys));
@@ -385,24 +499,6 @@ public class RedissonKeys implements RKeys {
         return commandExecutor.writeAllAsync(RedisCommands.FLUSHALL);
     }
 
-    private void checkExecution(RPromise<Long> result, AtomicReference<Throwable> failed, AtomicLong count,
-            AtomicLong executed) {
-        if (executed.decrementAndGet() == 0) {
-            if (failed.get() != null) {
-                if (count.get() > 0) {
-                    RedisException ex = new RedisException(
-                            "" + count.get() + " keys has been deleted. But one or more nodes has an error",
-                            failed.get());
-                    result.tryFailure(ex);
-                } else {
-                    result.tryFailure(failed.get());
-                }
-            } else {
-                result.trySuccess(count.get());
-            }
-        }
-    }
-
     @Override
     public long remainTimeToLive(String name) {
         return commandExecutor.get(remainTimeToLiveAsync(name));
@@ -509,6 +605,12 @@ public class RedissonKeys implements RKeys {
         return toStream(getKeysByPattern(pattern, count).iterator());
     }
 
+    @Override
+    public Stream<String> getKeysStreamByPattern(String pattern, int count, int prefetchDepth) {
+        Spliterator<String> spliterator = new ScanSpliterator<String>(createScanSources(pattern, count), prefetchDepth);
+        return StreamSupport.stream(spliterator, false);
+    }
+
     @Override
     public Stream<String> getKeysStream() {
         return toStream(getKeys().iterator());
@@ -29,6 +29,7 @@ import net.bytebuddy.matcher.ElementMatchers;
 import org.redisson.api.*;
 import org.redisson.api.annotation.*;
 import org.redisson.api.condition.Condition;
+import org.redisson.api.condition.Sort;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.command.CommandBatchService;
 import org.redisson.connection.ConnectionManager;
@@ -51,6 +52,9 @@ import java.util.stream.Collectors;
 public class RedissonLiveObjectService implements RLiveObjectService {
 
     private static final ConcurrentMap<Class<? extends RIdResolver<?>>, RIdResolver<?>> PROVIDER_CACHE = new ConcurrentHashMap<>();
+
+    // field stored in live map of each persisted entity
+    private static final String LIVE_OBJECT_MARKER = "redisson_live_object";
     private final ConcurrentMap<Class<?>, Class<?>> classCache;
     private final ConnectionManager connectionManager;
     private final LiveObjectSearch seachEngine;
@@ -122,6 +126,66 @@ public class RedissonLiveObjectService implements RLiveObjectService {
         return null;
     }
 
+    @Override
+    public <T> List<T> getAll(Class<T> entityClass, Collection<?> ids) {
+        List<T> proxies = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            proxies.add(createLiveObject(entityClass, id));
+        }
+        prefetch(proxies);
+
+        List<T> result = new ArrayList<>(proxies.size());
+        for (T proxy : proxies) {
+            LiveObjectSnapshot snapshot = ClassUtils.getField(proxy, "liveObjectSnapshot");
+            if (snapshot.get(LIVE_OBJECT_MARKER) != null) {
+                result.add(proxy);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <T> void prefetch(Collection<T> attachedObjects, String... fieldNames) {
+        CommandBatchService ce = new CommandBatchService(connectionManager);
+        List<RFuture<Map<String, Object>>> futures = new ArrayList<>(attachedObjects.size());
+        Set<String> fields = new HashSet<>(Arrays.asList(fieldNames));
+        for (T attachedObject : attachedObjects) {
+            validateAttached(attachedObject);
+            RMap<String, Object> liveMap = getMap(attachedObject);
+            RMap<String, Object> map = new RedissonMap<>(liveMap.getCodec(), ce, liveMap.getName(), null, null, null);
+            if (fields.isEmpty()) {
+                futures.add(map.readAllMapAsync());
+            } else {
+                futures.add(map.getAllAsync(fields));
+            }
+        }
+        ce.execute();
+
+        Iterator<RFuture<Map<String, Object>>> iterator = futures.iterator();
+        for (T attachedObject : attachedObjects) {
+            Map<String, Object> values = iterator.next().getNow();
+            LiveObjectSnapshot snapshot = new LiveObjectSnapshot(false);
+            if (fields.isEmpty()) {
+                snapshot.loadAll(values);
+            } else {
+                snapshot.load(fields, values);
+            }
+            ClassUtils.setField(attachedObject, "liveObjectSnapshot", snapshot);
+        }
+    }
+
+    @Override
+    public <T> void clearPrefetch(Collection<T> attachedObjects) {
+        for (T attachedObject : attachedObjects) {
+            validateAttached(attachedObject);
+            LiveObjectSnapshot snapshot = ClassUtils.getField(attachedObject, "liveObjectSnapshot");
+            // buffered snapshot holds writes of ongoing persist or merge
+            if (snapshot != null && !snapshot.isBufferWrites()) {
+                ClassUtils.setField(attachedObject, "liveObjectSnapshot", null);
+            }
+        }
+    }
+
     @Override
     public <T> Collection<T> find(Class<T> entityClass, Condition condition) {
         Set<Object> ids = seachEngine.find(entityClass, condition);
@@ -131,6 +195,29 @@ public class RedissonLiveObjectService implements RLiveObjectService {
                     .collect(Collectors.toList());
     }
 
+    @Override
+    public <T> Collection<T> find(Class<T> entityClass, Condition condition, int offset, int limit) {
+        List<Object> ids = seachEngine.find(entityClass, condition, offset, limit);
+
+        return ids.stream()
+                    .map(id -> createLiveObject(entityClass, id))
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public <T> List<T> find(Class<T> entityClass, Condition condition, Sort sort, int offset, int limit) {
+        List<Object> ids = seachEngine.find(entityClass, condition, sort, offset, limit);
+
+        return ids.stream()
+                    .map(id -> createLiveObject(entityClass, id))
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(Class<?> entityClass, Condition condition) {
+        return seachEngine.count(entityClass, condition);
+    }
+
     @Override
     public <T> T attach(T detachedObject) {
         validateDetached(detachedObject);
@@ -181,6 +268,7 @@ public class RedissonLiveObjectService implements RLiveObjectService {
 
             T attachedObject = attach(detachedObject, commandExecutor, classCache);
             RMap<String, Object> liveMap = getMap(attachedObject);
+            ClassUtils.setField(attachedObject, "liveObjectSnapshot", new LiveObjectSnapshot(true));
 
             detached2Attached.put(detachedObject, attachedObject);
             name2id.put(liveMap.getName(), id);
@@ -189,7 +277,7 @@ public class RedissonLiveObjectService implements RLiveObjectService {
         CommandBatchService checkExecutor = new CommandBatchService(connectionManager);
         for (Entry<String, Object> entry : name2id.entrySet()) {
             RMap map = new RedissonMap(checkExecutor, entry.getKey(), null, null, null);
-            map.containsKeyAsync("redisson_live_object");
+            map.containsKeyAsync(LIVE_OBJECT_MARKER);
         }
 
         BatchResult<?> checkResponse = checkExecutor.execute();
@@ -217,6 +305,13 @@ public class RedissonLiveObjectService implements RLiveObjectService {
 
             String idFieldName = getRIdFieldName(detachedObject.getClass());
             copy(detachedObject, attachedObject, Arrays.asList(idFieldName));
+
+            LiveObjectSnapshot snapshot = ClassUtils.getField(attachedObject, "liveObjectSnapshot");
+            ClassUtils.setField(attachedObject, "liveObjectSnapshot", null);
+            Map<String, Object> values = snapshot.flush();
+            if (!values.isEmpty()) {
+                getMap(attachedObject).putAllAsync(values);
+            }
         }
 
         commandExecutor.execute();
@@ -239,10 +334,27 @@ public class RedissonLiveObjectService implements RLiveObjectService {
         T attachedObject = attach(detachedObject);
         alreadyPersisted.put(detachedObject, attachedObject);
         RMap<String, Object> liveMap = getMap(attachedObject);
+        // plain field values are collected and stored with single HMSET
+        LiveObjectSnapshot snapshot = new LiveObjectSnapshot(true);
+        ClassUtils.setField(attachedObject, "liveObjectSnapshot", snapshot);
+        try {
+            persist(detachedObject, attachedObject, id, idFieldName, liveMap, alreadyPersisted, type);
+        } finally {
+            ClassUtils.setField(attachedObject, "liveObjectSnapshot", null);
+        }
+        Map<String, Object> values = snapshot.flush();
+        if (!values.isEmpty()) {
+            liveMap.putAll(values);
+        }
+        return attachedObject;
+    }
+
+    private <T> void persist(T detachedObject, T attachedObject, Object id, String idFieldName, RMap<String, Object> liveMap,
+                                Map<Object, Object> alreadyPersisted, RCascadeType type) {
 
         List<String> excludedFields = new ArrayList<String>();
         excludedFields.add(idFieldName);
-        boolean fastResult = liveMap.fastPut("redisson_live_object", "1");
+        boolean fastResult = liveMap.fastPut(LIVE_OBJECT_MARKER, "1");
         if (type == RCascadeType.PERSIST && !fastResult) {
             throw new IllegalArgumentException("This REntity already exists.");
         }
@@ -317,7 +429,6 @@ public class RedissonLiveObjectService implements RLiveObjectService {
 
         }
         copy(detachedObject, attachedObject, excludedFields);
-        return attachedObject;
     }
 
     private void validateAnnotation(Object instance, String fieldName) {
@@ -648,6 +759,23 @@ public class RedissonLiveObjectService implements RLiveObjectService {
         for (InDefinedShape field : fields) {
             throw new IllegalArgumentException("RIndex annotation couldn't be defined for field '" + field.getName() + "' with type '" + field.getType() + "'");
         }
+
+        for (SortedIndex index : SortedIndex.getIndexes(entityClass)) {
+            for (String fieldName : index.getFields()) {
+                Field field;
+                try {
+                    field = ClassUtils.getDeclaredField(entityClass, fieldName);
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalArgumentException("Sorted index field '" + fieldName + "' doesn't exist in " + entityClass);
+                }
+                if (Map.class.isAssignableFrom(field.getType())
+                        || Collection.class.isAssignableFrom(field.getType())
+                        || RObject.class.isAssignableFrom(field.getType())
+                        || ClassUtils.isAnnotationPresent(field.getType(), REntity.class)) {
+                    throw new IllegalArgumentException("Sorted index couldn't be defined for field '" + fieldName + "' with type '" + field.getType() + "'");
+                }
+            }
+        }
         
         FieldList<FieldDescription.InDefinedShape> fieldsWithRIdAnnotation
                 = Introspectior.getFieldsWithAnnotation(entityClass, RId.class);
@@ -15,7 +15,6 @@
  */
 package org.redisson;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -40,6 +39,7 @@ import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 import org.redisson.pubsub.LockPubSub;
+import org.redisson.renewal.LockRenewalScheduler.RenewalTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +61,7 @@ public class RedissonLock extends RedissonExpirable implements RLock {
     public static class ExpirationEntry {
         
         private final Map<Long, Integer> threadIds = new LinkedHashMap<>();
-        private volatile Timeout timeout;
+        private volatile RenewalTask renewalTask;
         
         public ExpirationEntry() {
             super();
@@ -99,11 +99,11 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         }
         
         
-        public void setTimeout(Timeout timeout) {
-            this.timeout = timeout;
+        public void setRenewalTask(RenewalTask renewalTask) {
+            this.renewalTask = renewalTask;
         }
-        public Timeout getTimeout() {
-            return timeout;
+        public RenewalTask getRenewalTask() {
+            return renewalTask;
         }
         
     }
@@ -137,6 +137,28 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         return prefixName("redisson_lock__channel", getName());
     }
 
+    /**
+     * Returns <code>true</code> if unlock notifications
+     * are published to shared channel
+     */
+    boolean isNotificationMultiplexed() {
+        return pubSub.isMultiplexed();
+    }
+
+    String getNotificationChannel() {
+        if (isNotificationMultiplexed()) {
+            return pubSub.getNotificationChannel(getChannelName());
+        }
+        return getChannelName();
+    }
+
+    String getNotificationMessage(Long message) {
+        if (isNotificationMultiplexed()) {
+            return message + pubSub.getNotificationSuffix(getChannelName());
+        }
+        return message.toString();
+    }
+
     protected String getLockName(long threadId) {
         return id + ":" + threadId;
     }
@@ -262,53 +284,82 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         return get(tryLockAsync());
     }
 
-    private void renewExpiration() {
-        ExpirationEntry ee = EXPIRATION_RENEWAL_MAP.get(getEntryName());
-        if (ee == null) {
-            return;
-        }
-        
-        Timeout task = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+    private void renewExpiration(ExpirationEntry ee) {
+        RenewalTask task = new RenewalTask() {
             @Override
-            public void run(Timeout timeout) throws Exception {
-                ExpirationEntry ent = EXPIRATION_RENEWAL_MAP.get(getEntryName());
-                if (ent == null) {
-                    return;
+            public String getName() {
+                return RedissonLock.this.getName();
+            }
+
+            @Override
+            public String getOwnerName() {
+                Long threadId = ee.getFirstThreadId();
+                if (threadId == null) {
+                    return null;
                 }
-                Long threadId = ent.getFirstThreadId();
+                return getLockName(threadId);
+            }
+
+            @Override
+            public boolean isBatched() {
+                return isRenewalBatched();
+            }
+
+            @Override
+            public RFuture<Boolean> renewAsync() {
+                Long threadId = ee.getFirstThreadId();
                 if (threadId == null) {
-                    return;
+                    return RedissonPromise.newSucceededFuture(false);
                 }
-                
-                RFuture<Boolean> future = renewExpirationAsync(threadId);
-                future.onComplete((res, e) -> {
-                    if (e != null) {
-                        log.error("Can't update lock " + getName() + " expiration", e);
-                        return;
-                    }
-                    
-                    if (res) {
-                        // reschedule itself
-                        renewExpiration();
-                    }
-                });
+                return renewExpirationAsync(threadId);
             }
-        }, internalLockLeaseTime / 3, TimeUnit.MILLISECONDS);
+
+            @Override
+            public void onStopped(Throwable cause) {
+                if (cause != null) {
+                    log.error("Can't update lock " + getName() + " expiration", cause);
+                }
+                EXPIRATION_RENEWAL_MAP.remove(getEntryName(), ee);
+            }
+        };
         
-        ee.setTimeout(task);
+        ee.setRenewalTask(task);
+        commandExecutor.getConnectionManager().getLockRenewalScheduler().schedule(getEntryName(), task);
     }
     
-    private void scheduleExpirationRenewal(long threadId) {
+    void scheduleExpirationRenewal(long threadId) {
         ExpirationEntry entry = new ExpirationEntry();
         ExpirationEntry oldEntry = EXPIRATION_RENEWAL_MAP.putIfAbsent(getEntryName(), entry);
         if (oldEntry != null) {
             oldEntry.addThreadId(threadId);
         } else {
             entry.addThreadId(threadId);
-            renewExpiration();
+            renewExpiration(entry);
         }
     }
 
+    /**
+     * Returns <code>true</code> if lock expiration could be renewed
+     * by shared batched script. Locks with own renewal logic
+     * should return <code>false</code>.
+     *
+     * @return <code>true</code> if renewal could be batched
+     */
+    protected boolean isRenewalBatched() {
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if lock could be acquired and released
+     * together with other locks by shared bulk script.
+     * Locks with own acquisition logic should return <code>false</code>.
+     *
+     * @return <code>true</code> if bulk acquisition is supported
+     */
+    protected boolean isBulkLockSupported() {
+        return true;
+    }
+
     protected RFuture<Boolean> renewExpirationAsync(long threadId) {
         return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if (redis.call('hexists', KEYS[1], ARGV[2]) == 1) then " +
@@ -331,9 +382,9 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         }
 
         if (threadId == null || task.hasNoThreads()) {
-            Timeout timeout = task.getTimeout();
-            if (timeout != null) {
-                timeout.cancel();
+            RenewalTask renewalTask = task.getRenewalTask();
+            if (renewalTask != null) {
+                commandExecutor.getConnectionManager().getLockRenewalScheduler().cancel(getEntryName(), renewalTask);
             }
             EXPIRATION_RENEWAL_MAP.remove(getEntryName());
         }
@@ -438,10 +489,17 @@ public class RedissonLock extends RedissonExpirable implements RLock {
     }
 
     protected RFuture<RedissonLockEntry> subscribe(long threadId) {
+        if (isNotificationMultiplexed()) {
+            return pubSub.subscribeMultiplexed(getEntryName(), getChannelName());
+        }
         return pubSub.subscribe(getEntryName(), getChannelName());
     }
 
     protected void unsubscribe(RFuture<RedissonLockEntry> future, long threadId) {
+        if (isNotificationMultiplexed()) {
+            pubSub.unsubscribeMultiplexed(future.getNow(), getEntryName(), getChannelName());
+            return;
+        }
         pubSub.unsubscribe(future.getNow(), getEntryName(), getChannelName());
     }
 
@@ -489,12 +547,12 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         cancelExpirationRenewal(null);
         return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if (redis.call('del', KEYS[1]) == 1) then "
-                + "redis.call('publish', KEYS[2], ARGV[1]); "
+                + "redis.call('publish', ARGV[2], ARGV[1]); "
                 + "return 1 "
                 + "else "
                 + "return 0 "
                 + "end",
-                Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.UNLOCK_MESSAGE);
+                Collections.<Object>singletonList(getName()), getNotificationMessage(LockPubSub.UNLOCK_MESSAGE), getNotificationChannel());
     }
 
     @Override
@@ -556,11 +614,12 @@ public class RedissonLock extends RedissonExpirable implements RLock {
                     "return 0; " +
                 "else " +
                     "redis.call('del', KEYS[1]); " +
-                    "redis.call('publish', KEYS[2], ARGV[1]); " +
+                    "redis.call('publish', ARGV[4], ARGV[1]); " +
                     "return 1; "+
                 "end; " +
                 "return nil;",
-                Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.UNLOCK_MESSAGE, internalLockLeaseTime, getLockName(threadId));
+                Collections.<Object>singletonList(getName()), getNotificationMessage(LockPubSub.UNLOCK_MESSAGE),
+                internalLockLeaseTime, getLockName(threadId), getNotificationChannel());
 
     }
     
@@ -1109,7 +1109,7 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
     }
 
     protected Iterator<K> keyIterator(String pattern, int count) {
-        return new RedissonMapIterator<K>(RedissonMap.this, pattern, count) {
+        return new RedissonMapIterator<K>(RedissonMap.this, commandExecutor, pattern, count) {
             @Override
             protected K getValue(java.util.Map.Entry<Object, Object> entry) {
                 return (K) entry.getKey();
@@ -1162,7 +1162,7 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
     }
 
     protected Iterator<V> valueIterator(String pattern, int count) {
-        return new RedissonMapIterator<V>(RedissonMap.this, pattern, count) {
+        return new RedissonMapIterator<V>(RedissonMap.this, commandExecutor, pattern, count) {
             @Override
             protected V getValue(java.util.Map.Entry<Object, Object> entry) {
                 return (V) entry.getValue();
@@ -1211,7 +1211,7 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
     }
 
     protected Iterator<Map.Entry<K, V>> entryIterator(String pattern, int count) {
-        return new RedissonMapIterator<>(RedissonMap.this, pattern, count);
+        return new RedissonMapIterator<>(RedissonMap.this, commandExecutor, pattern, count);
     }
 
     private void loadValue(K key, RPromise<V> result, boolean replaceValue) {
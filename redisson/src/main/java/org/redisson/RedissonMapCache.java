@@ -390,6 +390,7 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
                 Arrays.<Object>asList(getName(key), getTimeoutSetNameByKey(key), getIdleSetNameByKey(key), getCreatedChannelNameByKey(key),
                         getLastAccessTimeSetNameByKey(key), getRemovedChannelNameByKey(key), getOptionsNameByKey(key)),
                 System.currentTimeMillis(), ttlTimeout, maxIdleTimeout, maxIdleDelta, encodeMapKey(key), encodeMapValue(value));
+        scheduleExpiration(future, ttlTimeout, maxIdleTimeout);
         if (hasNoWriter()) {
             return future;
         }
@@ -841,6 +842,7 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
                 Arrays.<Object>asList(getName(key), getTimeoutSetNameByKey(key), getIdleSetNameByKey(key), getCreatedChannelNameByKey(key),
                         getUpdatedChannelNameByKey(key), getLastAccessTimeSetNameByKey(key), getRemovedChannelNameByKey(key), getOptionsNameByKey(key)),
                 System.currentTimeMillis(), ttlTimeout, maxIdleTimeout, maxIdleDelta, encodeMapKey(key), encodeMapValue(value));
+        scheduleExpiration(future, ttlTimeout, maxIdleTimeout);
         return future;
     }
 
@@ -890,6 +892,7 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
         }
 
         RFuture<V> future = putOperationAsync(key, value, ttlTimeout, maxIdleTimeout, maxIdleDelta);
+        scheduleExpiration(future, ttlTimeout, maxIdleTimeout);
         if (hasNoWriter()) {
             return future;
         }
@@ -1571,6 +1574,7 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
                 Arrays.<Object>asList(getName(key), getTimeoutSetNameByKey(key), getIdleSetNameByKey(key), getCreatedChannelNameByKey(key),
                         getLastAccessTimeSetNameByKey(key), getRemovedChannelNameByKey(key), getOptionsNameByKey(key)),
                 System.currentTimeMillis(), ttlTimeout, maxIdleTimeout, maxIdleDelta, encodeMapKey(key), encodeMapValue(value));
+        scheduleExpiration(future, ttlTimeout, maxIdleTimeout);
         if (hasNoWriter()) {
             return future;
         }
@@ -1790,7 +1794,7 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
             params.add(encodeMapValue(t.getValue()));
         }
 
-        return commandExecutor.evalWriteAsync(getName(), codec, RedisCommands.EVAL_VOID,
+        RFuture<Void> future = commandExecutor.evalWriteAsync(getName(), codec, RedisCommands.EVAL_VOID,
                   "local currentTime = tonumber(table.remove(ARGV, 1)); " + // index is the first parameter
                   "local ttl = table.remove(ARGV, 1); " + // ttl is the second parameter
                   "local ttlNumber = tonumber(ttl); " +
@@ -1867,6 +1871,8 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
                 Arrays.<Object>asList(getName(), getTimeoutSetName(), getIdleSetName(), getCreatedChannelName(),
                         getUpdatedChannelName(), getLastAccessTimeSetName(), getRemovedChannelName(), getOptionsName()),
             params.toArray());
+        scheduleExpiration(future, ttlTimeout, 0);
+        return future;
     }
 
     private MapCacheEventCodec.OSType osType;
@@ -2139,6 +2145,27 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
                 System.currentTimeMillis());
     }
 
+    private void scheduleExpiration(RFuture<?> future, long ttlTimeout, long maxIdleTimeout) {
+        if (evictionScheduler == null) {
+            return;
+        }
+
+        long time = ttlTimeout;
+        if (maxIdleTimeout > 0 && (time == 0 || maxIdleTimeout < time)) {
+            time = maxIdleTimeout;
+        }
+        if (time == 0) {
+            return;
+        }
+
+        long expirationTime = time;
+        future.onComplete((res, e) -> {
+            if (e == null) {
+                evictionScheduler.scheduleExpiration(getName(), expirationTime);
+            }
+        });
+    }
+
     @Override
     public void destroy() {
         if (evictionScheduler != null) {
@@ -307,7 +307,31 @@ public class RedissonMultiLock implements RLock {
         }
     }
 
+    /**
+     * Returns <code>true</code> if locks could be acquired and released
+     * by single script invocation per Redis node.
+     * All-or-nothing semantic is preserved only if no failed locks are allowed.
+     * 
+     * @param locks - locks
+     * @return <code>true</code> if bulk scripts are applicable
+     */
+    protected boolean isBulkSupported(Collection<RLock> locks) {
+        return failedLocksLimit() == 0 && BulkLockExecutor.isSupported(locks);
+    }
+    
+    private long toBulkLeaseTime(long leaseTime, TimeUnit unit) {
+        if (leaseTime == -1) {
+            return -1;
+        }
+        return unit.toMillis(leaseTime);
+    }
+    
     protected void unlockInner(Collection<RLock> locks) {
+        if (isBulkSupported(locks)) {
+            BulkLockExecutor.unlockAsync(locks, Thread.currentThread().getId()).awaitUninterruptibly();
+            return;
+        }
+        
         List<RFuture<Void>> futures = new ArrayList<>(locks.size());
         for (RLock lock : locks) {
             futures.add(lock.unlockAsync());
@@ -323,6 +347,10 @@ public class RedissonMultiLock implements RLock {
             return RedissonPromise.newSucceededFuture(null);
         }
         
+        if (isBulkSupported(locks)) {
+            return BulkLockExecutor.unlockAsync(locks, threadId);
+        }
+        
         RPromise<Void> result = new RedissonPromise<Void>();
         AtomicInteger counter = new AtomicInteger(locks.size());
         for (RLock lock : locks) {
@@ -372,6 +400,17 @@ public class RedissonMultiLock implements RLock {
         }
         long lockWaitTime = calcLockWaitTime(remainTime);
         
+        if (isBulkSupported(locks)) {
+            RFuture<Boolean> bulkFuture = BulkLockExecutor.tryLockAsync(locks, toBulkLeaseTime(leaseTime, unit), Thread.currentThread().getId());
+            if (bulkFuture.syncUninterruptibly().getNow()) {
+                return true;
+            }
+            // some locks are held by other threads, wait for them one by one
+            if (waitTime == -1) {
+                return false;
+            }
+        }
+        
         int failedLocksLimit = failedLocksLimit();
         List<RLock> acquiredLocks = new ArrayList<>(locks.size());
         for (ListIterator<RLock> iterator = locks.listIterator(); iterator.hasNext();) {
@@ -443,7 +482,29 @@ public class RedissonMultiLock implements RLock {
     public RFuture<Boolean> tryLockAsync(long waitTime, long leaseTime, TimeUnit unit, long threadId) {
         RPromise<Boolean> result = new RedissonPromise<Boolean>();
         LockState state = new LockState(waitTime, leaseTime, unit, threadId);
-        state.tryAcquireLockAsync(locks.listIterator(), result);
+        if (!isBulkSupported(locks)) {
+            state.tryAcquireLockAsync(locks.listIterator(), result);
+            return result;
+        }
+        
+        BulkLockExecutor.tryLockAsync(locks, toBulkLeaseTime(leaseTime, unit), threadId).onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+            
+            if (res) {
+                result.trySuccess(true);
+                return;
+            }
+            
+            // some locks are held by other threads, wait for them one by one
+            if (waitTime == -1) {
+                result.trySuccess(false);
+                return;
+            }
+            state.tryAcquireLockAsync(locks.listIterator(), result);
+        });
         return result;
     }
     
@@ -464,6 +525,11 @@ public class RedissonMultiLock implements RLock {
     
     @Override
     public void unlock() {
+        if (isBulkSupported(locks)) {
+            BulkLockExecutor.unlockAsync(locks, Thread.currentThread().getId()).syncUninterruptibly();
+            return;
+        }
+        
         List<RFuture<Void>> futures = new ArrayList<>(locks.size());
 
         for (RLock lock : locks) {
@@ -39,6 +39,12 @@ public class RedissonQueueSemaphore extends RedissonSemaphore {
         super(commandExecutor, name);
     }
     
+    @Override
+    boolean isNotificationMultiplexed() {
+        // bounded queue publishes notifications to semaphore channel
+        return false;
+    }
+
     public void setQueueName(String queueName) {
         this.queueName = queueName;
     }
@@ -44,6 +44,12 @@ public class RedissonReadLock extends RedissonLock implements RLock {
     String getChannelName() {
         return prefixName("redisson_rwlock", getName());
     }
+
+    @Override
+    boolean isNotificationMultiplexed() {
+        // read and write locks publish notifications to own channel
+        return false;
+    }
     
     String getWriteLockName(long threadId) {
         return super.getLockName(threadId) + ":write";
@@ -137,6 +143,12 @@ public class RedissonReadLock extends RedissonLock implements RLock {
         return timeoutPrefix.split(":" + getLockName(threadId))[0];
     }
     
+    @Override
+    protected boolean isRenewalBatched() {
+        // renewal of read lock also prolongs its timeout keys
+        return false;
+    }
+
     @Override
     protected RFuture<Boolean> renewExpirationAsync(long threadId) {
         String timeoutPrefix = getReadWriteTimeoutNamePrefix(threadId);
@@ -191,4 +203,9 @@ public class RedissonReadLock extends RedissonLock implements RLock {
         return "read".equals(res);
     }
 
+    @Override
+    protected boolean isBulkLockSupported() {
+        return false;
+    }
+
 }
@@ -21,6 +21,7 @@ import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.command.CommandBatchService;
 import org.redisson.executor.RemotePromise;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
@@ -28,12 +29,16 @@ import org.redisson.remote.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -47,9 +52,28 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
         
         RFuture<String> future;
         final AtomicInteger counter;
+        final int batchSize;
+        final AtomicBoolean polling = new AtomicBoolean();
         
         public Entry(int workers) {
+            this(workers, 0);
+        }
+        
+        public Entry(int workers, int batchSize) {
             counter = new AtomicInteger(workers);
+            this.batchSize = batchSize;
+        }
+        
+        public boolean isBatched() {
+            return batchSize > 0;
+        }
+        
+        public int getBatchSize() {
+            return batchSize;
+        }
+        
+        public AtomicBoolean getPolling() {
+            return polling;
         }
         
         public void setFuture(RFuture<String> future) {
@@ -69,9 +93,11 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
     private static final Logger log = LoggerFactory.getLogger(RedissonRemoteService.class);
 
     private final Map<Class<?>, Entry> remoteMap = new ConcurrentHashMap<>();
+    private final ResponseBatchWriter responseWriter;
 
     public RedissonRemoteService(Codec codec, String name, CommandAsyncExecutor commandExecutor, String executorId, ConcurrentMap<String, ResponseEntry> responses) {
         super(codec, name, commandExecutor, executorId, responses);
+        this.responseWriter = new ResponseBatchWriter(codec, commandExecutor.getConnectionManager());
     }
 
     public String getRequestTasksMapName(Class<?> remoteInterface) {
@@ -165,6 +191,24 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
         subscribe(remoteInterface, requestQueue, executor, object);
     }
 
+    @Override
+    public <T> void register(Class<T> remoteInterface, T object, int workers, ExecutorService executor, int batchSize) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("executorsAmount can't be lower than 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize can't be lower than 1");
+        }
+
+        if (remoteMap.putIfAbsent(remoteInterface, new Entry(workers, batchSize)) != null) {
+            return;
+        }
+
+        String requestQueueName = getRequestQueueName(remoteInterface);
+        RBlockingQueue<String> requestQueue = getBlockingQueue(requestQueueName, StringCodec.INSTANCE);
+        poll(remoteInterface, requestQueue, executor, object);
+    }
+
     @Override
     public <T> boolean tryExecute(Class<T> remoteInterface, T object, long timeout, TimeUnit timeUnit) throws InterruptedException {
         return tryExecute(remoteInterface, object, commandExecutor.getConnectionManager().getExecutor(), timeout, timeUnit);
@@ -392,6 +436,12 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
     
     private <T> RFuture<RRemoteServiceResponse> executeMethod(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
             ExecutorService executor, RemoteServiceRequest request, Object bean) {
+        return executeMethod(remoteInterface, executor, request, bean, false,
+                () -> resubscribe(remoteInterface, requestQueue, executor, bean));
+    }
+
+    private <T> RFuture<RRemoteServiceResponse> executeMethod(Class<T> remoteInterface, ExecutorService executor,
+            RemoteServiceRequest request, Object bean, boolean batched, Runnable onComplete) {
         RemoteServiceMethod method = Arrays.stream(remoteInterface.getMethods())
                 .filter(m -> m.getName().equals(request.getMethodName())
                                 && Arrays.equals(getMethodSignature(m), request.getSignature()))
@@ -413,10 +463,15 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
                     timeout = request.getOptions().getExecutionTimeoutInMillis();
                 }
 
-                RBlockingQueueAsync<RRemoteServiceResponse> queue = getBlockingQueue(responseName, codec);
                 try {
-                    RFuture<Void> clientsFuture = queue.putAsync(result);
-                    queue.expireAsync(timeout, TimeUnit.MILLISECONDS);
+                    RFuture<Void> clientsFuture;
+                    if (batched) {
+                        clientsFuture = responseWriter.add(responseName, result, timeout);
+                    } else {
+                        RBlockingQueueAsync<RRemoteServiceResponse> queue = getBlockingQueue(responseName, codec);
+                        clientsFuture = queue.putAsync(result);
+                        queue.expireAsync(timeout, TimeUnit.MILLISECONDS);
+                    }
 
                     clientsFuture.onComplete((res, exc) -> {
                         if (exc != null) {
@@ -426,13 +481,13 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
                             log.error("Can't send response: " + result + " for request: " + request, exc);
                         }
 
-                        resubscribe(remoteInterface, requestQueue, executor, method.getBean());
+                        onComplete.run();
                     });
                 } catch (Exception ex) {
                     log.error("Can't send response: " + result + " for request: " + request, e);
                 }
             } else {
-                resubscribe(remoteInterface, requestQueue, executor, method.getBean());
+                onComplete.run();
             }
         });
 
@@ -482,6 +537,220 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
         }
     }
 
+    /**
+     * Dequeues up to <code>batchSize</code> request ids by single script
+     * while there are free workers and resolves their bodies by {@link #getTasks(List, RMap)}.
+     * Blocking take is used only if request queue is empty.
+     */
+    private <T> void poll(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
+            ExecutorService executor, Object bean) {
+        Entry entry = remoteMap.get(remoteInterface);
+        if (entry == null) {
+            return;
+        }
+        if (!entry.getPolling().compareAndSet(false, true)) {
+            return;
+        }
+
+        int freeWorkers = entry.getCounter().get();
+        if (freeWorkers <= 0) {
+            entry.getPolling().set(false);
+            // worker might be released after the check
+            if (entry.getCounter().get() > 0) {
+                poll(remoteInterface, requestQueue, executor, bean);
+            }
+            return;
+        }
+
+        RFuture<List<String>> future = pollRequests(requestQueue.getName(), Math.min(freeWorkers, entry.getBatchSize()));
+        future.onComplete((requestIds, e) -> {
+            if (remoteMap.get(remoteInterface) != entry) {
+                return;
+            }
+
+            if (e != null) {
+                if (e instanceof RedissonShutdownException) {
+                    return;
+                }
+                log.error("Can't process the remote service requests.", e);
+                entry.getPolling().set(false);
+                poll(remoteInterface, requestQueue, executor, bean);
+                return;
+            }
+
+            if (!requestIds.isEmpty()) {
+                RMap<String, RemoteServiceRequest> tasks = getMap(requestQueue.getName() + ":tasks");
+                RFuture<List<RemoteServiceRequest>> tasksFuture = getTasks(requestIds, tasks);
+                tasksFuture.onComplete((requests, exc) -> {
+                    if (exc != null) {
+                        if (exc instanceof RedissonShutdownException) {
+                            return;
+                        }
+                        log.error("Can't process the remote service requests with ids " + requestIds, exc);
+                        entry.getPolling().set(false);
+                        poll(remoteInterface, requestQueue, executor, bean);
+                        return;
+                    }
+
+                    if (requests.isEmpty()) {
+                        log.debug("Tasks can't be found for requests: {}", requestIds);
+                        entry.getPolling().set(false);
+                        poll(remoteInterface, requestQueue, executor, bean);
+                        return;
+                    }
+
+                    dispatch(remoteInterface, requestQueue, executor, bean, entry, requests);
+                });
+                return;
+            }
+
+            RFuture<String> take = requestQueue.takeAsync();
+            entry.setFuture(take);
+            take.onComplete((requestId, ex) -> {
+                if (remoteMap.get(remoteInterface) != entry) {
+                    return;
+                }
+
+                if (ex != null) {
+                    if (ex instanceof RedissonShutdownException) {
+                        return;
+                    }
+                    log.error("Can't process the remote service request.", ex);
+                    entry.getPolling().set(false);
+                    poll(remoteInterface, requestQueue, executor, bean);
+                    return;
+                }
+
+                RMap<String, RemoteServiceRequest> tasks = getMap(requestQueue.getName() + ":tasks");
+                RFuture<RemoteServiceRequest> taskFuture = getTask(requestId, tasks);
+                taskFuture.onComplete((request, exc) -> {
+                    if (exc != null) {
+                        if (exc instanceof RedissonShutdownException) {
+                            return;
+                        }
+                        log.error("Can't process the remote service request with id " + requestId, exc);
+                        entry.getPolling().set(false);
+                        poll(remoteInterface, requestQueue, executor, bean);
+                        return;
+                    }
+
+                    if (request == null) {
+                        log.debug("Task can't be found for request: {}", requestId);
+                        entry.getPolling().set(false);
+                        poll(remoteInterface, requestQueue, executor, bean);
+                        return;
+                    }
+
+                    dispatch(remoteInterface, requestQueue, executor, bean, entry, Collections.singletonList(request));
+                });
+            });
+        });
+    }
+
+    private RFuture<List<String>> pollRequests(String requestQueueName, int count) {
+        return commandExecutor.evalWriteAsync(requestQueueName, StringCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                "local result = {}; "
+              + "for i = 1, tonumber(ARGV[1]), 1 do "
+                  + "local id = redis.call('lpop', KEYS[1]); "
+                  + "if id == false then "
+                      + "break; "
+                  + "end; "
+                  + "table.insert(result, id); "
+              + "end; "
+              + "return result;",
+              Arrays.<Object>asList(requestQueueName), count);
+    }
+
+    private <T> void dispatch(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
+            ExecutorService executor, Object bean, Entry entry, List<RemoteServiceRequest> requests) {
+        entry.getCounter().addAndGet(-requests.size());
+        entry.getPolling().set(false);
+        poll(remoteInterface, requestQueue, executor, bean);
+
+        Runnable release = () -> release(remoteInterface, requestQueue, executor, bean);
+        List<RemoteServiceRequest> ackRequests = new ArrayList<>();
+        for (RemoteServiceRequest request : requests) {
+            if (!request.getOptions().isAckExpected()) {
+                executeMethod(remoteInterface, executor, request, bean, true, release);
+                continue;
+            }
+
+            long elapsedTime = System.currentTimeMillis() - request.getDate();
+            if (elapsedTime > request.getOptions().getAckTimeoutInMillis()) {
+                log.debug("request: {} has been skipped due to ackTimeout. Elapsed time: {}ms", request.getId(), elapsedTime);
+                release.run();
+                continue;
+            }
+            ackRequests.add(request);
+        }
+
+        if (ackRequests.isEmpty()) {
+            return;
+        }
+
+        // ack keys belong to different slots, so they are set in single batch instead of single script
+        CommandBatchService batch = new CommandBatchService(commandExecutor.getConnectionManager());
+        List<RFuture<Boolean>> ackFutures = new ArrayList<>(ackRequests.size());
+        for (RemoteServiceRequest request : ackRequests) {
+            String ackName = getAckName(request.getId());
+            RFuture<Boolean> ackFuture = batch.evalWriteAsync(ackName, LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                        "if redis.call('setnx', KEYS[1], 1) == 1 then "
+                            + "redis.call('pexpire', KEYS[1], ARGV[1]);"
+                            + "return 1;"
+                        + "end;"
+                        + "return 0;",
+                    Arrays.<Object>asList(ackName),
+                    request.getOptions().getAckTimeoutInMillis());
+            ackFutures.add(ackFuture);
+        }
+
+        RFuture<?> batchFuture = batch.executeAsync();
+        batchFuture.onComplete((res, e) -> {
+            for (int i = 0; i < ackRequests.size(); i++) {
+                RemoteServiceRequest request = ackRequests.get(i);
+                RFuture<Boolean> ackFuture = ackFutures.get(i);
+                if (!ackFuture.isSuccess()) {
+                    if (ackFuture.cause() instanceof RedissonShutdownException) {
+                        return;
+                    }
+                    log.error("Can't send ack for request: " + request, ackFuture.cause());
+                    release.run();
+                    continue;
+                }
+
+                if (!ackFuture.getNow()) {
+                    release.run();
+                    continue;
+                }
+
+                String responseName = getResponseQueueName(request.getExecutorId());
+                RFuture<Void> addFuture = responseWriter.add(responseName, new RemoteServiceAck(request.getId()), 0);
+                addFuture.onComplete((r, ex) -> {
+                    if (ex != null) {
+                        if (ex instanceof RedissonShutdownException) {
+                            return;
+                        }
+                        log.error("Can't send ack for request: " + request, ex);
+                        release.run();
+                        return;
+                    }
+
+                    executeMethod(remoteInterface, executor, request, bean, true, release);
+                });
+            }
+        });
+    }
+
+    private <T> void release(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
+            ExecutorService executor, Object bean) {
+        Entry entry = remoteMap.get(remoteInterface);
+        if (entry == null) {
+            return;
+        }
+        entry.getCounter().incrementAndGet();
+        poll(remoteInterface, requestQueue, executor, bean);
+    }
+
     private <T> void resubscribe(Class<T> remoteInterface, RBlockingQueue<String> requestQueue,
             ExecutorService executor, Object bean) {
         Entry entry = remoteMap.get(remoteInterface);
@@ -495,4 +764,47 @@ public class RedissonRemoteService extends BaseRemoteService implements RRemoteS
         return tasks.removeAsync(requestId);
     }
 
+    /**
+     * Returns tasks of requests dequeued in batched mode.
+     * Each task is resolved by {@link #getTask(String, RMap)} and all commands
+     * are sent at once. Tasks which can't be found or resolved are skipped.
+     *
+     * @param requestIds - ids of dequeued requests
+     * @param tasks - map of tasks
+     * @return list of tasks
+     */
+    protected RFuture<List<RemoteServiceRequest>> getTasks(List<String> requestIds, RMap<String, RemoteServiceRequest> tasks) {
+        List<RFuture<RemoteServiceRequest>> futures = new ArrayList<>(requestIds.size());
+        for (String requestId : requestIds) {
+            futures.add(getTask(requestId, tasks));
+        }
+
+        RPromise<List<RemoteServiceRequest>> result = new RedissonPromise<>();
+        AtomicInteger counter = new AtomicInteger(futures.size());
+        for (RFuture<RemoteServiceRequest> future : futures) {
+            future.onComplete((res, e) -> {
+                if (counter.decrementAndGet() > 0) {
+                    return;
+                }
+
+                // requests are already dequeued, so resolved tasks are returned even if others failed
+                List<RemoteServiceRequest> requests = new ArrayList<>(futures.size());
+                for (int i = 0; i < futures.size(); i++) {
+                    RFuture<RemoteServiceRequest> f = futures.get(i);
+                    if (!f.isSuccess()) {
+                        if (!(f.cause() instanceof RedissonShutdownException)) {
+                            log.error("Can't process the remote service request with id " + requestIds.get(i), f.cause());
+                        }
+                        continue;
+                    }
+                    if (f.getNow() != null) {
+                        requests.add(f.getNow());
+                    }
+                }
+                result.trySuccess(requests);
+            });
+        }
+        return result;
+    }
+
 }
@@ -418,13 +418,18 @@ public class RedissonScoredSortedSet<V> extends RedissonExpirable implements RSc
 
     @Override
     public Iterator<V> iterator(final String pattern, final int count) {
-        return new RedissonBaseIterator<V>() {
+        return new RedissonBaseIterator<V>(commandExecutor) {
 
             @Override
             protected ListScanResult<Object> iterator(RedisClient client, long nextIterPos) {
                 return scanIterator(client, nextIterPos, pattern, count);
             }
 
+            @Override
+            protected RFuture<ListScanResult<Object>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(client, nextIterPos, pattern, count);
+            }
+
             @Override
             protected void remove(Object value) {
                 RedissonScoredSortedSet.this.remove((V) value);
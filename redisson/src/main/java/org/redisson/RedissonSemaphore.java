@@ -59,6 +59,28 @@ public class RedissonSemaphore extends RedissonExpirable implements RSemaphore {
     String getChannelName() {
         return getChannelName(getName());
     }
+
+    /**
+     * Returns <code>true</code> if release notifications
+     * are published to shared channel
+     */
+    boolean isNotificationMultiplexed() {
+        return semaphorePubSub.isMultiplexed();
+    }
+
+    String getNotificationChannel() {
+        if (isNotificationMultiplexed()) {
+            return semaphorePubSub.getNotificationChannel(getChannelName());
+        }
+        return getChannelName();
+    }
+
+    String getNotificationSuffix() {
+        if (isNotificationMultiplexed()) {
+            return semaphorePubSub.getNotificationSuffix(getChannelName());
+        }
+        return "";
+    }
     
     public static String getChannelName(String name) {
         if (name.contains("{")) {
@@ -400,10 +422,17 @@ public class RedissonSemaphore extends RedissonExpirable implements RSemaphore {
     }
 
     private RFuture<RedissonLockEntry> subscribe() {
+        if (isNotificationMultiplexed()) {
+            return semaphorePubSub.subscribeMultiplexed(getName(), getChannelName());
+        }
         return semaphorePubSub.subscribe(getName(), getChannelName());
     }
 
     private void unsubscribe(RFuture<RedissonLockEntry> future) {
+        if (isNotificationMultiplexed()) {
+            semaphorePubSub.unsubscribeMultiplexed(future.getNow(), getName(), getChannelName());
+            return;
+        }
         semaphorePubSub.unsubscribe(future.getNow(), getName(), getChannelName());
     }
 
@@ -438,8 +467,8 @@ public class RedissonSemaphore extends RedissonExpirable implements RSemaphore {
 
         return commandExecutor.evalWriteAsync(getName(), StringCodec.INSTANCE, RedisCommands.EVAL_VOID,
             "local value = redis.call('incrby', KEYS[1], ARGV[1]); " +
-            "redis.call('publish', KEYS[2], value); ",
-            Arrays.<Object>asList(getName(), getChannelName()), permits);
+            "redis.call('publish', ARGV[2], value .. ARGV[3]); ",
+            Collections.<Object>singletonList(getName()), permits, getNotificationChannel(), getNotificationSuffix());
     }
 
     @Override
@@ -480,11 +509,11 @@ public class RedissonSemaphore extends RedissonExpirable implements RSemaphore {
                 "local value = redis.call('get', KEYS[1]); " +
                 "if (value == false or value == 0) then "
                     + "redis.call('set', KEYS[1], ARGV[1]); "
-                    + "redis.call('publish', KEYS[2], ARGV[1]); "
+                    + "redis.call('publish', ARGV[2], ARGV[1] .. ARGV[3]); "
                     + "return 1;"
                 + "end;"
                 + "return 0;",
-                Arrays.<Object>asList(getName(), getChannelName()), permits);
+                Collections.<Object>singletonList(getName()), permits, getNotificationChannel(), getNotificationSuffix());
     }
 
     @Override
@@ -111,13 +111,18 @@ public class RedissonSet<V> extends RedissonExpirable implements RSet<V>, ScanIt
     
     @Override
     public Iterator<V> iterator(final String pattern, final int count) {
-        return new RedissonBaseIterator<V>() {
+        return new RedissonBaseIterator<V>(commandExecutor) {
 
             @Override
             protected ListScanResult<Object> iterator(RedisClient client, long nextIterPos) {
                 return scanIterator(getName(), client, nextIterPos, pattern, count);
             }
 
+            @Override
+            protected RFuture<ListScanResult<Object>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(getName(), client, nextIterPos, pattern, count);
+            }
+
             @Override
             protected void remove(Object value) {
                 RedissonSet.this.remove((V) value);
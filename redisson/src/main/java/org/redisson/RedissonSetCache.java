@@ -175,13 +175,18 @@ public class RedissonSetCache<V> extends RedissonExpirable implements RSetCache<
     
     @Override
     public Iterator<V> iterator(final String pattern, final int count) {
-        return new RedissonBaseIterator<V>() {
+        return new RedissonBaseIterator<V>(commandExecutor) {
 
             @Override
             protected ListScanResult<Object> iterator(RedisClient client, long nextIterPos) {
                 return scanIterator(getName(), client, nextIterPos, pattern, count);
             }
 
+            @Override
+            protected RFuture<ListScanResult<Object>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(getName(), client, nextIterPos, pattern, count);
+            }
+
             @Override
             protected void remove(Object value) {
                 RedissonSetCache.this.remove((V) value);
@@ -243,7 +248,7 @@ public class RedissonSetCache<V> extends RedissonExpirable implements RSetCache<
         ByteBuf objectState = encode(value);
 
         long timeoutDate = System.currentTimeMillis() + unit.toMillis(ttl);
-        return commandExecutor.evalWriteAsync(getName(value), codec, RedisCommands.EVAL_BOOLEAN,
+        RFuture<Boolean> future = commandExecutor.evalWriteAsync(getName(value), codec, RedisCommands.EVAL_BOOLEAN,
                 "local expireDateScore = redis.call('zscore', KEYS[1], ARGV[3]); " +
                 "redis.call('zadd', KEYS[1], ARGV[2], ARGV[3]); " +
                 "if expireDateScore ~= false and tonumber(expireDateScore) > tonumber(ARGV[1]) then " +
@@ -251,6 +256,14 @@ public class RedissonSetCache<V> extends RedissonExpirable implements RSetCache<
                 "end; " +
                 "return 1; ",
                 Arrays.<Object>asList(getName(value)), System.currentTimeMillis(), timeoutDate, objectState);
+        if (evictionScheduler != null) {
+            future.onComplete((res, e) -> {
+                if (e == null) {
+                    evictionScheduler.scheduleExpiration(getName(), timeoutDate);
+                }
+            });
+        }
+        return future;
     }
 
     @Override
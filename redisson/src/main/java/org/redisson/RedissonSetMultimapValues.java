@@ -177,6 +177,10 @@ public class RedissonSetMultimapValues<V> extends RedissonExpirable implements R
     }
 
     private ListScanResult<Object> scanIterator(RedisClient client, long startPos, String pattern, int count) {
+        return get(scanIteratorAsync(client, startPos, pattern, count));
+    }
+
+    private RFuture<ListScanResult<Object>> scanIteratorAsync(RedisClient client, long startPos, String pattern, int count) {
         List<Object> params = new ArrayList<Object>();
         params.add(System.currentTimeMillis());
         params.add(startPos);
@@ -186,7 +190,7 @@ public class RedissonSetMultimapValues<V> extends RedissonExpirable implements R
         }
         params.add(count);
         
-        RFuture<ListScanResult<Object>> f = commandExecutor.evalReadAsync(client, getName(), codec, EVAL_SSCAN,
+        return commandExecutor.evalReadAsync(client, getName(), codec, EVAL_SSCAN,
                 "local expireDate = 92233720368547758; " +
                 "local expireDateScore = redis.call('zscore', KEYS[1], ARGV[3]); "
               + "if expireDateScore ~= false then "
@@ -206,7 +210,6 @@ public class RedissonSetMultimapValues<V> extends RedissonExpirable implements R
               + "return res;", 
               Arrays.<Object>asList(timeoutSetName, getName()), 
               params.toArray());
-      return get(f);
     }
 
     @Override
@@ -221,13 +224,18 @@ public class RedissonSetMultimapValues<V> extends RedissonExpirable implements R
     
     @Override
     public Iterator<V> iterator(final String pattern, final int count) {
-        return new RedissonBaseIterator<V>() {
+        return new RedissonBaseIterator<V>(commandExecutor) {
 
             @Override
             protected ListScanResult<Object> iterator(RedisClient client, long nextIterPos) {
                 return scanIterator(client, nextIterPos, pattern, count);
             }
 
+            @Override
+            protected RFuture<ListScanResult<Object>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(client, nextIterPos, pattern, count);
+            }
+
             @Override
             protected void remove(Object value) {
                 RedissonSetMultimapValues.this.remove((V) value);
@@ -16,10 +16,13 @@
 package org.redisson;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.redisson.api.*;
 import org.redisson.api.mapreduce.RCollectionMapReduce;
+import org.redisson.client.codec.ByteArrayCodec;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.client.handler.State;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandExecutor;
 import org.redisson.mapreduce.RedissonCollectionMapReduce;
@@ -27,6 +30,7 @@ import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.math.BigInteger;
 import java.security.MessageDigest;
@@ -69,9 +73,39 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     private Comparator comparator = Comparator.naturalOrder();
 
+    /**
+     * Position of value found by search along with stored neighbours
+     * used to verify that list hasn't been changed around it
+     */
+    static class SearchResult {
+
+        private final int index;
+        private final byte[] value;
+        private final byte[] left;
+        private final byte[] right;
+
+        SearchResult(int index, byte[] value, byte[] left, byte[] right) {
+            this.index = index;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+        }
+
+        boolean isFound() {
+            return value != null;
+        }
+
+    }
+
+    /**
+     * Amount of elements requested per search round
+     */
+    static final int SEARCH_FANOUT = 16;
+
+    private static final byte[] EMPTY = new byte[0];
+
     CommandExecutor commandExecutor;
     
-    private RLock lock;
     private RedissonList<V> list;
     private RBucket<String> comparatorHolder;
     private RedissonClient redisson;
@@ -82,7 +116,6 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         this.redisson = redisson;
 
         comparatorHolder = redisson.getBucket(getComparatorKeyName(), StringCodec.INSTANCE);
-        lock = redisson.getLock("redisson_sortedset_lock:{" + getName() + "}");
         list = (RedissonList<V>) redisson.getList(getName());
     }
 
@@ -91,7 +124,6 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         this.commandExecutor = commandExecutor;
 
         comparatorHolder = redisson.getBucket(getComparatorKeyName(), StringCodec.INSTANCE);
-        lock = redisson.getLock("redisson_sortedset_lock:{" + getName() + "}");
         list = (RedissonList<V>) redisson.getList(getName(), codec);
     }
     
@@ -165,7 +197,7 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     @Override
     public boolean contains(final Object o) {
-        return binarySearch((V) o, codec).getIndex() >= 0;
+        return search((V) o).isFound();
     }
 
     @Override
@@ -185,31 +217,45 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     @Override
     public boolean add(V value) {
-        lock.lock();
-        
+        checkComparator();
+
+        ByteBuf encodedValue = encode(value);
         try {
-            checkComparator();
-    
-            BinarySearchResult<V> res = binarySearch(value, codec);
-            if (res.getIndex() < 0) {
-                int index = -(res.getIndex() + 1);
-                
-                ByteBuf encodedValue = encode(value);
-                
-                commandExecutor.evalWrite(getName(), RedisCommands.EVAL_VOID, 
-                   "local len = redis.call('llen', KEYS[1]);"
-                    + "if tonumber(ARGV[1]) < len then "
-                        + "local pivot = redis.call('lindex', KEYS[1], ARGV[1]);"
-                        + "redis.call('linsert', KEYS[1], 'before', pivot, ARGV[2]);"
-                        + "return;"
-                    + "end;"
-                    + "redis.call('rpush', KEYS[1], ARGV[2]);", Arrays.<Object>asList(getName()), index, encodedValue);
-                return true;
-            } else {
-                return false;
+            while (true) {
+                SearchResult res = search(value);
+                if (res.isFound()) {
+                    return false;
+                }
+
+                // inserted only if neighbours of found position are the same
+                Boolean added = commandExecutor.evalWrite(getName(), ByteArrayCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                      "local index = tonumber(ARGV[1]); "
+                    + "local len = redis.call('llen', KEYS[1]); "
+                    + "if index > len then "
+                        + "return 0; "
+                    + "end; "
+                    + "if index > 0 and redis.call('lindex', KEYS[1], index - 1) ~= ARGV[2] then "
+                        + "return 0; "
+                    + "end; "
+                    + "if index == len then "
+                        + "if ARGV[3] ~= '' then "
+                            + "return 0; "
+                        + "end; "
+                        + "redis.call('rpush', KEYS[1], ARGV[4]); "
+                        + "return 1; "
+                    + "end; "
+                    + "if redis.call('lindex', KEYS[1], index) ~= ARGV[3] then "
+                        + "return 0; "
+                    + "end; "
+                    + "redis.call('linsert', KEYS[1], 'before', ARGV[3], ARGV[4]); "
+                    + "return 1;",
+                    Arrays.<Object>asList(getName()), res.index, res.left, res.right, encodedValue.retainedDuplicate());
+                if (added) {
+                    return true;
+                }
             }
         } finally {
-            lock.unlock();
+            encodedValue.release();
         }
     }
 
@@ -259,20 +305,19 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
 
     @Override
     public boolean remove(Object value) {
-        lock.lock();
+        checkComparator();
 
-        try {
-            checkComparator();
-            
-            BinarySearchResult<V> res = binarySearch((V) value, codec);
-            if (res.getIndex() < 0) {
+        while (true) {
+            SearchResult res = search((V) value);
+            if (!res.isFound()) {
                 return false;
             }
 
-            list.remove((int) res.getIndex());
-            return true;
-        } finally {
-            lock.unlock();
+            // stored element is removed by its value, so index shifts don't matter
+            Boolean removed = get(commandExecutor.writeAsync(getName(), ByteArrayCodec.INSTANCE, RedisCommands.LREM_SINGLE, getName(), 1, res.value));
+            if (removed) {
+                return true;
+            }
         }
     }
 
@@ -388,34 +433,94 @@ public class RedissonSortedSet<V> extends RedissonObject implements RSortedSet<V
         return res;
     }
     
-    // TODO optimize: get three values each time instead of single
     public BinarySearchResult<V> binarySearch(V value, Codec codec) {
-        int size = list.size();
-        int upperIndex = size - 1;
-        int lowerIndex = 0;
-        while (lowerIndex <= upperIndex) {
-            int index = lowerIndex + (upperIndex - lowerIndex) / 2;
+        SearchResult res = search(value);
+        BinarySearchResult<V> indexRes;
+        if (res.isFound()) {
+            indexRes = new BinarySearchResult<V>(decodeValue(res.value));
+            indexRes.setIndex(res.index);
+        } else {
+            indexRes = new BinarySearchResult<V>();
+            indexRes.setIndex(-(res.index + 1));
+        }
+        return indexRes;
+    }
 
-            V res = list.getValue(index);
-            if (res == null) {
-                return new BinarySearchResult<V>();
+    /**
+     * Searches value position. Each round requests up to {@link #SEARCH_FANOUT}
+     * evenly spaced elements of current range by single script,
+     * so search requires log<sub>17</sub>(n) round trips instead of log<sub>2</sub>(n).
+     */
+    private SearchResult search(V value) {
+        int lowerIndex = 0;
+        int upperIndex = -1;
+        byte[] left = EMPTY;
+        byte[] right = EMPTY;
+        while (true) {
+            List<Object> res = commandExecutor.evalRead(getName(), ByteArrayCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                  "local size = redis.call('llen', KEYS[1]); "
+                + "local lower = tonumber(ARGV[1]); "
+                + "local upper = tonumber(ARGV[2]); "
+                + "local fanout = tonumber(ARGV[3]); "
+                + "if upper < 0 or upper >= size then "
+                    + "upper = size - 1; "
+                + "end; "
+                + "local result = {size}; "
+                + "local count = upper - lower + 1; "
+                + "if count <= 0 then "
+                    + "return result; "
+                + "end; "
+                + "if count <= fanout then "
+                    + "for i = lower, upper, 1 do "
+                        + "table.insert(result, i); "
+                        + "table.insert(result, redis.call('lindex', KEYS[1], i)); "
+                    + "end; "
+                    + "return result; "
+                + "end; "
+                + "for i = 1, fanout, 1 do "
+                    + "local index = lower + math.floor(i * count / (fanout + 1)); "
+                    + "table.insert(result, index); "
+                    + "table.insert(result, redis.call('lindex', KEYS[1], index)); "
+                + "end; "
+                + "return result;",
+                Arrays.<Object>asList(getName()), lowerIndex, upperIndex, SEARCH_FANOUT);
+
+            int size = ((Long) res.get(0)).intValue();
+            if (upperIndex < 0 || upperIndex >= size) {
+                upperIndex = size - 1;
+                right = EMPTY;
             }
-            int cmp = comparator.compare(value, res);
-
-            if (cmp == 0) {
-                BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-                indexRes.setIndex(index);
-                return indexRes;
-            } else if (cmp < 0) {
-                upperIndex = index - 1;
-            } else {
+            boolean complete = upperIndex - lowerIndex + 1 <= SEARCH_FANOUT;
+
+            for (int i = 1; i < res.size(); i += 2) {
+                int index = ((Long) res.get(i)).intValue();
+                byte[] encoded = (byte[]) res.get(i + 1);
+                int cmp = comparator.compare(value, decodeValue(encoded));
+                if (cmp == 0) {
+                    return new SearchResult(index, encoded, null, null);
+                }
+                if (cmp < 0) {
+                    upperIndex = index - 1;
+                    right = encoded;
+                    break;
+                }
                 lowerIndex = index + 1;
+                left = encoded;
+            }
+
+            if (complete || lowerIndex > upperIndex) {
+                return new SearchResult(lowerIndex, null, left, right);
             }
         }
+    }
 
-        BinarySearchResult<V> indexRes = new BinarySearchResult<V>();
-        indexRes.setIndex(-(lowerIndex + 1));
-        return indexRes;
+    private V decodeValue(byte[] value) {
+        ByteBuf buf = Unpooled.wrappedBuffer(value);
+        try {
+            return (V) codec.getValueDecoder().decode(buf, new State());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @SuppressWarnings("AvoidInlineConditionals")
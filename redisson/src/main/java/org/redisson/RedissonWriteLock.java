@@ -45,6 +45,12 @@ public class RedissonWriteLock extends RedissonLock implements RLock {
         return prefixName("redisson_rwlock", getName());
     }
 
+    @Override
+    boolean isNotificationMultiplexed() {
+        // read and write locks publish notifications to own channel
+        return false;
+    }
+
     @Override
     protected String getLockName(long threadId) {
         return super.getLockName(threadId) + ":write";
@@ -135,4 +141,9 @@ public class RedissonWriteLock extends RedissonLock implements RLock {
         return "write".equals(res);
     }
 
+    @Override
+    protected boolean isBulkLockSupported() {
+        return false;
+    }
+
 }
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.LocalCachedMapOptions.EvictionPolicy;
+
+/**
+ * Configuration for client side caching based on Redis server-assisted
+ * <code>CLIENT TRACKING</code> feature. Requires Redis 6.0+
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public final class ClientSideCachingOptions {
+
+    public enum TrackingMode {
+
+        /**
+         * Redis remembers keys read by client and sends invalidation messages only for them.
+         */
+        DEFAULT,
+
+        /**
+         * Redis sends invalidation messages for all keys matching defined prefixes
+         * regardless of keys read by client.
+         */
+        BCAST
+
+    }
+
+    private TrackingMode trackingMode;
+    private List<String> prefixes;
+    private EvictionPolicy evictionPolicy;
+    private int cacheSize;
+    private long timeToLiveInMillis;
+    private long maxIdleInMillis;
+
+    private ClientSideCachingOptions() {
+    }
+
+    /**
+     * Creates a new instance of ClientSideCachingOptions with default options.
+     * <p>
+     * This is equivalent to:
+     * <pre>
+     *     ClientSideCachingOptions.defaults()
+     *      .trackingMode(TrackingMode.DEFAULT)
+     *      .evictionPolicy(EvictionPolicy.LRU)
+     *      .cacheSize(10000).timeToLive(0).maxIdle(0);
+     * </pre>
+     * 
+     * @return ClientSideCachingOptions instance
+     */
+    public static ClientSideCachingOptions defaults() {
+        return new ClientSideCachingOptions()
+                    .trackingMode(TrackingMode.DEFAULT)
+                    .evictionPolicy(EvictionPolicy.LRU)
+                    .cacheSize(10000).timeToLive(0).maxIdle(0);
+    }
+
+    public TrackingMode getTrackingMode() {
+        return trackingMode;
+    }
+
+    /**
+     * Defines tracking mode.
+     *
+     * @param trackingMode
+     *         <p><code>DEFAULT</code> - Redis tracks keys read through this cache.
+     *         <p><code>BCAST</code> - Redis broadcasts invalidations of all keys matching <code>prefixes</code>.
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions trackingMode(TrackingMode trackingMode) {
+        if (trackingMode == null) {
+            throw new NullPointerException("trackingMode can't be null");
+        }
+        this.trackingMode = trackingMode;
+        return this;
+    }
+
+    public List<String> getPrefixes() {
+        if (prefixes == null) {
+            return Collections.emptyList();
+        }
+        return prefixes;
+    }
+
+    /**
+     * Defines key prefixes tracked in <code>BCAST</code> mode.
+     * All keys are tracked if prefixes aren't defined.
+     *
+     * @param prefixes - key prefixes
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions prefixes(String... prefixes) {
+        this.prefixes = Arrays.asList(prefixes);
+        return this;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * Defines local cache eviction policy.
+     * 
+     * @param evictionPolicy
+     *         <p><code>LRU</code> - uses local cache with LRU (least recently used) eviction policy.
+     *         <p><code>LFU</code> - uses local cache with LFU (least frequently used) eviction policy.
+     *         <p><code>SOFT</code> - uses local cache with soft references. The garbage collector will evict items from the local cache when the JVM is running out of memory.
+     *         <p><code>WEAK</code> - uses local cache with weak references. The garbage collector will evict items from the local cache when it became weakly reachable.
+     *         <p><code>BUFFERED_LRU</code> - uses local cache with LRU eviction policy and lock-free read hits.
+     *         <p><code>TINY_LFU</code> - uses local cache with W-TinyLFU eviction policy and lock-free read hits.
+     *         <p><code>NONE</code> - doesn't use eviction policy, but timeToLive and maxIdleTime params are still working.
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions evictionPolicy(EvictionPolicy evictionPolicy) {
+        if (evictionPolicy == null) {
+            throw new NullPointerException("evictionPolicy can't be null");
+        }
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Defines local cache size in amount of Redis keys.
+     * If size is <code>0</code> then local cache is unbounded.
+     * 
+     * @param cacheSize - size of cache
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions cacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+        return this;
+    }
+
+    public long getTimeToLiveInMillis() {
+        return timeToLiveInMillis;
+    }
+
+    /**
+     * Defines time to live in milliseconds of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     * 
+     * @param timeToLiveInMillis - time to live in milliseconds
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions timeToLive(long timeToLiveInMillis) {
+        this.timeToLiveInMillis = timeToLiveInMillis;
+        return this;
+    }
+
+    /**
+     * Defines time to live of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     * 
+     * @param timeToLive - time to live
+     * @param timeUnit - time unit
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions timeToLive(long timeToLive, TimeUnit timeUnit) {
+        return timeToLive(timeUnit.toMillis(timeToLive));
+    }
+
+    public long getMaxIdleInMillis() {
+        return maxIdleInMillis;
+    }
+
+    /**
+     * Defines max idle time in milliseconds of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     * 
+     * @param maxIdleInMillis - max idle time in milliseconds
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions maxIdle(long maxIdleInMillis) {
+        this.maxIdleInMillis = maxIdleInMillis;
+        return this;
+    }
+
+    /**
+     * Defines max idle time of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     * 
+     * @param maxIdle - max idle time
+     * @param timeUnit - time unit
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions maxIdle(long maxIdle, TimeUnit timeUnit) {
+        return maxIdle(timeUnit.toMillis(maxIdle));
+    }
+
+}
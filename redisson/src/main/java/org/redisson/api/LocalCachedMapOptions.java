@@ -103,14 +103,34 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
          * Local cache with Weak Reference used for values. 
          * All references will be collected by GC
          */
-        WEAK
+        WEAK,
+
+        /**
+         * Least Recently Used local cache.
+         * Read hits are lock-free, access order is updated asynchronously.
+         */
+        BUFFERED_LRU,
+
+        /**
+         * Local cache with W-TinyLFU policy. Frequently used entries
+         * are protected from eviction by entries read only once.
+         * Read hits are lock-free, access order is updated asynchronously.
+         */
+        TINY_LFU
     };
 
     public enum CacheProvider {
 
         REDISSON,
 
-        CAFFEINE
+        CAFFEINE,
+
+        /**
+         * Redisson own LRU implementation which keeps entries
+         * encoded by map codec in direct memory.
+         * Entries are decoded on each read.
+         */
+        REDISSON_OFFHEAP
 
     }
 
@@ -136,6 +156,7 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
     private long maxIdleInMillis;
     private CacheProvider cacheProvider;
     private StoreMode storeMode;
+    private long offHeapSize;
     
     protected LocalCachedMapOptions() {
     }
@@ -149,6 +170,7 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
         this.maxIdleInMillis = copy.maxIdleInMillis;
         this.cacheProvider = copy.cacheProvider;
         this.storeMode = copy.storeMode;
+        this.offHeapSize = copy.offHeapSize;
     }
     
     /**
@@ -200,6 +222,10 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
         return maxIdleInMillis;
     }
 
+    public long getOffHeapSize() {
+        return offHeapSize;
+    }
+
     /**
      * Defines local cache size. If size is <code>0</code> then local cache is unbounded.
      * 
@@ -210,6 +236,19 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
         this.cacheSize = cacheSize;
         return this;
     }
+
+    /**
+     * Defines max amount of direct memory in bytes used by local cache entries.
+     * Applied only if {@link CacheProvider#REDISSON_OFFHEAP} cache provider is used.
+     * If size is <code>0</code> then local cache is bounded only by <code>cacheSize</code>.
+     *
+     * @param offHeapSize - size of cache in bytes
+     * @return LocalCachedMapOptions instance
+     */
+    public LocalCachedMapOptions<K, V> offHeapSize(long offHeapSize) {
+        this.offHeapSize = offHeapSize;
+        return this;
+    }
     
     public ReconnectionStrategy getReconnectionStrategy() {
         return reconnectionStrategy;
@@ -245,6 +284,8 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
      *         <p><code>LFU</code> - uses local cache with LFU (least frequently used) eviction policy.
      *         <p><code>SOFT</code> - uses local cache with soft references. The garbage collector will evict items from the local cache when the JVM is running out of memory.
      *         <p><code>WEAK</code> - uses local cache with weak references. The garbage collector will evict items from the local cache when it became weakly reachable.
+     *         <p><code>BUFFERED_LRU</code> - uses local cache with LRU eviction policy and lock-free read hits.
+     *         <p><code>TINY_LFU</code> - uses local cache with W-TinyLFU eviction policy and lock-free read hits.
      *         <p><code>NONE</code> - doesn't use eviction policy, but timeToLive and maxIdleTime params are still working.
      * @return LocalCachedMapOptions instance
      */
@@ -327,6 +368,7 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
      * @param cacheProvider
      *         <p><code>REDISSON</code> - uses Redisson own implementation.
      *         <p><code>CAFFEINE</code> - uses Caffeine implementation.
+     *         <p><code>REDISSON_OFFHEAP</code> - uses Redisson own implementation which stores entries in direct memory.
      * @return LocalCachedMapOptions instance
      */
     public LocalCachedMapOptions<K, V> cacheProvider(CacheProvider cacheProvider) {
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import org.redisson.client.codec.Codec;
+
+/**
+ * Client side caching based on Redis server-assisted <code>CLIENT TRACKING</code> feature.
+ * <p>
+ * Read operations of objects returned by this instance are served from local cache.
+ * Cached entries are invalidated by push messages sent by Redis on key change,
+ * including changes made by clients not using Redisson.
+ * Cache misses are read from master node through dedicated RESP3 connection.
+ * Requires Redis 6.0+
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RClientSideCaching {
+
+    /**
+     * Returns object holder instance by name.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @return Bucket object
+     */
+    <V> RBucket<V> getBucket(String name);
+
+    /**
+     * Returns object holder instance by name
+     * using provided codec for object.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for values
+     * @return Bucket object
+     */
+    <V> RBucket<V> getBucket(String name, Codec codec);
+
+    /**
+     * Returns interface for mass operations with Bucket objects.
+     *
+     * @return Buckets
+     */
+    RBuckets getBuckets();
+
+    /**
+     * Returns interface for mass operations with Bucket objects
+     * using provided codec for object.
+     *
+     * @param codec - codec for bucket objects
+     * @return Buckets
+     */
+    RBuckets getBuckets(Codec codec);
+
+    /**
+     * Returns map instance by name.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - name of object
+     * @return Map object
+     */
+    <K, V> RMap<K, V> getMap(String name);
+
+    /**
+     * Returns map instance by name
+     * using provided codec for both map keys and values.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for keys and values
+     * @return Map object
+     */
+    <K, V> RMap<K, V> getMap(String name, Codec codec);
+
+    /**
+     * Returns set instance by name.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @return Set object
+     */
+    <V> RSet<V> getSet(String name);
+
+    /**
+     * Returns set instance by name
+     * using provided codec for set objects.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for values
+     * @return Set object
+     */
+    <V> RSet<V> getSet(String name, Codec codec);
+
+    /**
+     * Returns amount of read operations served from local cache
+     *
+     * @return amount of hits
+     */
+    long getCacheHits();
+
+    /**
+     * Returns amount of read operations executed on Redis
+     *
+     * @return amount of misses
+     */
+    long getCacheMisses();
+
+    /**
+     * Returns amount of Redis keys stored in local cache
+     *
+     * @return amount of keys
+     */
+    int getCacheSize();
+
+    /**
+     * Clears local cache
+     */
+    void clearCache();
+
+    /**
+     * Disables tracking and closes connections used by this instance.
+     */
+    void destroy();
+
+}
@@ -183,6 +183,22 @@ public interface RKeys extends RKeysAsync {
      * @return Iterable object
      */
     Iterable<String> getKeysByPattern(String pattern, int count);
+
+    /**
+     * Get all keys by pattern using iterator.
+     * Keys traversed with SCAN operation. Each SCAN operation loads
+     * up to <code>count</code> keys per request.
+     * <p>
+     * All master nodes are scanned concurrently and next pages are requested
+     * while loaded keys are consumed. Up to <code>prefetchDepth</code> pages
+     * are requested or loaded ahead.
+     *
+     * @param pattern - match pattern
+     * @param count - keys loaded per request to Redis
+     * @param prefetchDepth - maximum amount of pages loaded ahead
+     * @return Iterable object
+     */
+    Iterable<String> getKeysByPattern(String pattern, int count, int prefetchDepth);
     
     /**
      * Get all keys using iterator. Keys traversing with SCAN operation. 
@@ -237,6 +253,23 @@ public interface RKeys extends RKeysAsync {
      * @return Iterable object
      */
     Stream<String> getKeysStreamByPattern(String pattern, int count);
+
+    /**
+     * Get all keys by pattern using Stream.
+     * Keys traversed with SCAN operation. Each SCAN operation loads
+     * up to <code>count</code> keys per request.
+     * <p>
+     * All master nodes are scanned concurrently and next pages are requested
+     * while loaded keys are consumed. Up to <code>prefetchDepth</code> pages
+     * are requested or loaded ahead. Parallel stream scans
+     * different master nodes in different threads.
+     *
+     * @param pattern - match pattern
+     * @param count - keys loaded per request to Redis
+     * @param prefetchDepth - maximum amount of pages loaded ahead
+     * @return Stream object
+     */
+    Stream<String> getKeysStreamByPattern(String pattern, int count, int prefetchDepth);
     
     /**
      * Get all keys using Stream. Keys traversing with SCAN operation. 
@@ -277,6 +310,56 @@ public interface RKeys extends RKeysAsync {
      */
     long deleteByPattern(String pattern);
 
+    /**
+     * Unlink multiple objects by a key pattern.
+     * Actual removal will happen later asynchronously.
+     * <p>
+     * Keys are scanned on all nodes in parallel and unlinked page by page.
+     * <p>
+     * Requires Redis 4.0+
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @return number of unlinked keys
+     */
+    long unlinkByPattern(String pattern);
+
+    /**
+     * Set a timeout for multiple objects by a key pattern.
+     * <p>
+     * Keys are scanned on all nodes in parallel and updated page by page.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @param timeToLive - timeout before objects will be deleted
+     * @param timeUnit - timeout time unit
+     * @return number of updated keys
+     */
+    long expireByPattern(String pattern, long timeToLive, TimeUnit timeUnit);
+
+    /**
+     * Update the last access time of multiple objects by a key pattern.
+     * <p>
+     * Keys are scanned on all nodes in parallel and touched page by page.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @return number of touched keys
+     */
+    long touchByPattern(String pattern);
+
     /**
      * Delete multiple objects
      *
@@ -230,6 +230,90 @@ public interface RKeysReactive {
      */
     Mono<Long> deleteByPattern(String pattern);
 
+    /**
+     * Unlink multiple objects by a key pattern.
+     * Actual removal will happen later asynchronously.
+     * <p>
+     * Keys are scanned on all nodes in parallel and unlinked page by page.
+     * <p>
+     * Requires Redis 4.0+
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @return number of unlinked keys
+     */
+    Mono<Long> unlinkByPattern(String pattern);
+
+    /**
+     * Set a timeout for multiple objects by a key pattern.
+     * <p>
+     * Keys are scanned on all nodes in parallel and updated page by page.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @param timeToLive - timeout before objects will be deleted
+     * @param timeUnit - timeout time unit
+     * @return number of updated keys
+     */
+    Mono<Long> expireByPattern(String pattern, long timeToLive, TimeUnit timeUnit);
+
+    /**
+     * Update the last access time of multiple objects by a key pattern.
+     * <p>
+     * Keys are scanned on all nodes in parallel and touched page by page.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @return number of touched keys
+     */
+    Mono<Long> touchByPattern(String pattern);
+
+    /**
+     * Delete multiple objects by a key pattern.
+     * <p>
+     * Keys are scanned on all nodes in parallel and deleted page by page.
+     * Emits total amount of deleted keys after each deleted page.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @return stream of deleted keys amount
+     */
+    Flux<Long> deleteByPatternWithProgress(String pattern);
+
+    /**
+     * Unlink multiple objects by a key pattern.
+     * <p>
+     * Keys are scanned on all nodes in parallel and unlinked page by page.
+     * Emits total amount of unlinked keys after each unlinked page.
+     * <p>
+     * Requires Redis 4.0+
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @return stream of unlinked keys amount
+     */
+    Flux<Long> unlinkByPatternWithProgress(String pattern);
+
     /**
      * Delete multiple objects by name.
      *
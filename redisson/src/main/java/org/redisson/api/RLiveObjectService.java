@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.redisson.api.condition.Condition;
 import org.redisson.api.condition.Conditions;
+import org.redisson.api.condition.Sort;
 
 /**
  * The pre-registration of each entity class is not necessary.
@@ -52,6 +53,51 @@ public interface RLiveObjectService {
      * @return a proxied object if it exists in redis, or null if not.
      */
     <T> T get(Class<T> entityClass, Object id);
+
+    /**
+     * Finds the entities by ids. Fields of returned entities
+     * are loaded with single pipelined request and
+     * field reads are served without additional round trips.
+     * Setters still write changes to Redis.
+     * <p>
+     * Loaded fields are never refreshed or expired, see {@link #prefetch(Collection, String...)}.
+     * <p>
+     * Ids of not existing entities are skipped.
+     *
+     * @param entityClass - entity class
+     * @param ids - identifiers
+     * @param <T> Entity type
+     * @return list of existing proxied objects
+     */
+    <T> List<T> getAll(Class<T> entityClass, Collection<?> ids);
+
+    /**
+     * Loads fields of attached objects with single pipelined request.
+     * Uses HGETALL per object if no <code>fieldNames</code> defined
+     * or HMGET with defined <code>fieldNames</code> otherwise.
+     * <p>
+     * Subsequent reads of loaded fields are served from local snapshot.
+     * Snapshot is never refreshed or expired, so changes made by other clients
+     * or other proxies of the same entity after this call aren't visible
+     * until the next <code>prefetch</code> invocation or until snapshot
+     * is dropped by {@link #clearPrefetch(Collection)}.
+     * Setters of the same proxy update snapshot along with Redis.
+     *
+     * @param attachedObjects - attached objects
+     * @param fieldNames - names of fields to load
+     * @param <T> Entity type
+     */
+    <T> void prefetch(Collection<T> attachedObjects, String... fieldNames);
+
+    /**
+     * Drops snapshots loaded by {@link #prefetch(Collection, String...)}
+     * or {@link #getAll(Class, Collection)}, so subsequent field reads
+     * of these objects are served from Redis.
+     *
+     * @param attachedObjects - attached objects
+     * @param <T> Entity type
+     */
+    <T> void clearPrefetch(Collection<T> attachedObjects);
     
     /**
      * Finds the entities matches specified <code>condition</code>.
@@ -70,6 +116,65 @@ public interface RLiveObjectService {
      */
     <T> Collection<T> find(Class<T> entityClass, Condition condition);
 
+    /**
+     * Finds the page of entities matches specified <code>condition</code>.
+     * Condition is evaluated on Redis side and only ids of requested page are returned.
+     * Entities are ordered by encoded form of their ids.
+     * Usage example:
+     * <pre>
+     * Collection objects = liveObjectService.find(MyObject.class, Conditions.gt("field", 10), 100, 50);
+     * </pre>
+     *
+     * @see Conditions
+     *
+     * @param <T> Entity type
+     * @param entityClass - entity class
+     * @param condition - condition object
+     * @param offset - amount of entities to skip
+     * @param limit - maximum amount of entities to return. <code>-1</code> means no limit
+     * @return collection of live objects or empty collection.
+     */
+    <T> Collection<T> find(Class<T> entityClass, Condition condition, int offset, int limit);
+
+    /**
+     * Counts the entities matches specified <code>condition</code>.
+     * Condition is evaluated on Redis side and only amount of entities is returned.
+     *
+     * @see Conditions
+     *
+     * @param entityClass - entity class
+     * @param condition - condition object
+     * @return amount of entities
+     */
+    long count(Class<?> entityClass, Condition condition);
+
+    /**
+     * Finds the page of entities matches specified <code>condition</code>
+     * ordered by defined <code>sort</code>.
+     * <p>
+     * Sort requires sorted index defined by {@link org.redisson.api.annotation.RSortedIndex}
+     * or {@link org.redisson.api.annotation.RCompositeIndex} annotation.
+     * Sort by single numeric field could be served by {@link org.redisson.api.annotation.RIndex} annotation as well.
+     * Index is scanned in defined order and only entities of requested page are returned.
+     * Usage example:
+     * <pre>
+     * Collection objects = liveObjectService.find(MyObject.class, Conditions.eq("status", "active"),
+     *                          Sort.desc("lastModified"), 0, 20);
+     * </pre>
+     *
+     * @see Conditions
+     * @see Sort
+     *
+     * @param <T> Entity type
+     * @param entityClass - entity class
+     * @param condition - condition object or <code>null</code> to match all entities
+     * @param sort - sort object
+     * @param offset - amount of entities to skip
+     * @param limit - maximum amount of entities to return. <code>-1</code> means no limit
+     * @return list of live objects or empty list.
+     */
+    <T> List<T> find(Class<T> entityClass, Condition condition, Sort sort, int offset, int limit);
+
     /**
      * Returns proxied object for the detached object. Discard all the
      * field values already in the detached instance.
@@ -111,6 +111,23 @@ public interface RRemoteService {
      * @param executor - executor service used to invoke methods
      */
     <T> void register(Class<T> remoteInterface, T object, int workers, ExecutorService executor);
+
+    /**
+     * Register remote service with custom workers amount
+     * and executor for running them.
+     * <p>
+     * Up to <code>batchSize</code> requests are dequeued along with their bodies
+     * per single Redis call while there are free workers.
+     * Acks and responses are sent to clients in batches.
+     *
+     * @param <T> type of remote service
+     * @param remoteInterface - remote service interface
+     * @param object - remote service object
+     * @param workers - workers amount
+     * @param executor - executor service used to invoke methods
+     * @param batchSize - maximum amount of requests dequeued at once
+     */
+    <T> void register(Class<T> remoteInterface, T object, int workers, ExecutorService executor, int batchSize);
     
     /**
      * Deregister all workers for remote service
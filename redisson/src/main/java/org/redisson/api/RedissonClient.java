@@ -1007,6 +1007,21 @@ public interface RedissonClient {
      */
     RTransaction createTransaction(TransactionOptions options);
 
+    /**
+     * Creates client side caching instance based on Redis <code>CLIENT TRACKING</code> feature.
+     * Objects returned by this instance serve read operations from local cache.
+     * Requires Redis 6.0+
+     * <p>
+     * Default implementation throws {@link UnsupportedOperationException},
+     * so existing implementations of this interface remain compatible.
+     * 
+     * @param options - client side caching configuration
+     * @return ClientSideCaching object
+     */
+    default RClientSideCaching createClientSideCaching(ClientSideCachingOptions options) {
+        throw new UnsupportedOperationException("Client side caching isn't supported by " + getClass().getName());
+    }
+
     /**
      * Creates batch object which could be executed later 
      * with collected group of commands in pipeline mode.
@@ -32,6 +32,8 @@ public final class TransactionOptions {
     private long syncTimeout = 5000;
     
     private long timeout = 5000;
+    
+    private boolean optimistic;
 
     private TransactionOptions() {
     }
@@ -134,6 +136,33 @@ public final class TransactionOptions {
         this.timeout = timeoutUnit.toMillis(timeout);
         return this;
     }
+
+    public boolean isOptimistic() {
+        return optimistic;
+    }
+
+    /**
+     * Defines optimistic mode of transaction.
+     * <p>
+     * In this mode map and set keys aren't locked by each operation. 
+     * Values read by transaction are stored instead and compared with current 
+     * values during commit. Locks of modified keys are acquired at the same time
+     * by single Lua script per object. Commit fails with 
+     * <code>org.redisson.transaction.TransactionConflictException</code> if any value 
+     * has been changed or locked by another transaction. Such transaction 
+     * could be retried from scratch.
+     * <p>
+     * Suitable for workloads with low contention.
+     * <p>
+     * Default is <code>false</code>
+     * 
+     * @param optimistic - <code>true</code> to enable optimistic mode
+     * @return self instance
+     */
+    public TransactionOptions optimistic(boolean optimistic) {
+        this.optimistic = optimistic;
+        return this;
+    }
  
     
 }
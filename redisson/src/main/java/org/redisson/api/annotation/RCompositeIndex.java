@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.redisson.api.RLiveObjectService;
+import org.redisson.api.condition.Sort;
+
+/**
+ * Specifies sorted index composed of multiple fields.
+ * Entities are ordered by first field, then by second field and so on.
+ * Index could be used to sort by all its fields or by any prefix of them.
+ * <p>
+ * Field values are ordered in the same way as in {@link RSortedIndex}.
+ * Entity is added to index once any of index fields is set.
+ *
+ * @see Sort
+ * @see RLiveObjectService#find(Class, org.redisson.api.condition.Condition, Sort, int, int)
+ *
+ * @author Nikita Koksharov
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+@Repeatable(RCompositeIndexes.class)
+public @interface RCompositeIndex {
+
+    /**
+     * Names of fields included into index
+     *
+     * @return names of fields
+     */
+    String[] value();
+
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.redisson.api.RLiveObjectService;
+import org.redisson.api.condition.Sort;
+
+/**
+ * Specifies that the field is used in sorted index.
+ * Sorted index keeps ids of entities ordered by field value
+ * and allows to get page of sorted entities without loading all of them.
+ * <p>
+ * Numbers and dates are ordered by their numeric value, other values
+ * are ordered lexicographically by their <code>toString()</code> form.
+ * Entities with <code>null</code> value are placed first.
+ *
+ * @see Sort
+ * @see RCompositeIndex
+ * @see RLiveObjectService#find(Class, org.redisson.api.condition.Condition, Sort, int, int)
+ *
+ * @author Nikita Koksharov
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD})
+public @interface RSortedIndex {
+
+}
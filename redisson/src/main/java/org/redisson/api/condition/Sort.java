@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.condition;
+
+import java.util.Arrays;
+
+import org.redisson.api.SortOrder;
+
+/**
+ * Sort order of Live Objects returned by search.
+ * Sort is served by sorted index defined for specified fields.
+ *
+ * @see org.redisson.api.annotation.RSortedIndex
+ * @see org.redisson.api.annotation.RCompositeIndex
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class Sort {
+
+    private final String[] fields;
+    private final SortOrder order;
+
+    private Sort(SortOrder order, String... fields) {
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("At least one field should be defined");
+        }
+        this.order = order;
+        this.fields = fields;
+    }
+
+    /**
+     * Returns ascending sort by <code>fields</code>
+     *
+     * @param fields - names of properties
+     * @return sort object
+     */
+    public static Sort asc(String... fields) {
+        return new Sort(SortOrder.ASC, fields);
+    }
+
+    /**
+     * Returns descending sort by <code>fields</code>
+     *
+     * @param fields - names of properties
+     * @return sort object
+     */
+    public static Sort desc(String... fields) {
+        return new Sort(SortOrder.DESC, fields);
+    }
+
+    public String[] getFields() {
+        return fields;
+    }
+
+    public SortOrder getOrder() {
+        return order;
+    }
+
+    @Override
+    public String toString() {
+        return "Sort [fields=" + Arrays.toString(fields) + ", order=" + order + "]";
+    }
+
+}
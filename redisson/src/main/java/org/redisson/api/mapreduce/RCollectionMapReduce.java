@@ -114,5 +114,15 @@ public interface RCollectionMapReduce<VIn, KOut, VOut> extends RMapReduceExecuto
      * @return self instance
      */
     RCollectionMapReduce<VIn, KOut, VOut> reducer(RReducer<KOut, VOut> reducer);
+
+    /**
+     * Setup Combiner object. Combiner pre-aggregates values emitted
+     * by each Mapper before they are sent to Redis,
+     * so it should produce values which could be reduced again by Reducer.
+     * 
+     * @param combiner used during MapReduce
+     * @return self instance
+     */
+    RCollectionMapReduce<VIn, KOut, VOut> combiner(RReducer<KOut, VOut> combiner);
     
 }
@@ -109,5 +109,15 @@ public interface RMapReduce<KIn, VIn, KOut, VOut> extends RMapReduceExecutor<VIn
      * @return self instance
      */
     RMapReduce<KIn, VIn, KOut, VOut> reducer(RReducer<KOut, VOut> reducer);
+
+    /**
+     * Setup Combiner object. Combiner pre-aggregates values emitted
+     * by each Mapper before they are sent to Redis,
+     * so it should produce values which could be reduced again by Reducer.
+     * 
+     * @param combiner used during MapReduce
+     * @return self instance
+     */
+    RMapReduce<KIn, VIn, KOut, VOut> combiner(RReducer<KOut, VOut> combiner);
     
 }
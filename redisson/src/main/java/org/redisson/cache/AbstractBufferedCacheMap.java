@@ -0,0 +1,260 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Base class for caches which keep read hits free of locks.
+ * <p>
+ * Reads are recorded into striped lossy ring buffers, additions and removals
+ * into a queue. Recorded events are applied to eviction policy structures
+ * by a single thread which managed to acquire the lock, once read buffer
+ * is half full, on each write and before eviction.
+ * A read is dropped if its buffer is full, so eviction order is approximate.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public abstract class AbstractBufferedCacheMap<K, V> extends AbstractCacheMap<K, V> {
+
+    static final int BUFFER_SIZE = 16;
+    static final int BUFFER_MASK = BUFFER_SIZE - 1;
+    static final int DRAIN_THRESHOLD = BUFFER_SIZE / 2;
+
+    static final class ReadBuffer {
+
+        final AtomicReferenceArray<CachedValue<?, ?>> values = new AtomicReferenceArray<>(BUFFER_SIZE);
+        final AtomicLong writeCounter = new AtomicLong();
+        volatile long readCounter;
+
+        /**
+         * Records value
+         *
+         * @param value - cached value
+         * @return amount of recorded values or <code>-1</code> if value was dropped
+         */
+        int offer(CachedValue<?, ?> value) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            long size = tail - head;
+            if (size >= BUFFER_SIZE) {
+                return -1;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                values.lazySet((int) (tail & BUFFER_MASK), value);
+                return (int) size + 1;
+            }
+            return -1;
+        }
+
+    }
+
+    static final class WriteEvent<K, V> {
+
+        final CachedValue<K, V> value;
+        final boolean added;
+
+        WriteEvent(CachedValue<K, V> value, boolean added) {
+            this.value = value;
+            this.added = added;
+        }
+
+    }
+
+    private final ReadBuffer[] readBuffers;
+    private final Queue<WriteEvent<K, V>> writeQueue = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public AbstractBufferedCacheMap(int size, long timeToLiveInMillis, long maxIdleInMillis) {
+        super(size, timeToLiveInMillis, maxIdleInMillis);
+
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() * 2) {
+            stripes <<= 1;
+        }
+        readBuffers = new ReadBuffer[stripes];
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * Applies read of value to eviction policy.
+     * Invoked under lock.
+     *
+     * @param value - cached value
+     */
+    protected abstract void onAccess(CachedValue<K, V> value);
+
+    /**
+     * Applies addition of value to eviction policy.
+     * Invoked under lock.
+     *
+     * @param value - cached value
+     */
+    protected abstract void onAdd(CachedValue<K, V> value);
+
+    /**
+     * Applies removal of value to eviction policy.
+     * Invoked under lock. Value might be already evicted.
+     *
+     * @param value - cached value
+     */
+    protected abstract void onRemove(CachedValue<K, V> value);
+
+    /**
+     * Removes value selected for eviction from eviction policy.
+     * Invoked under lock.
+     *
+     * @return evicted value or <code>null</code> if there is nothing to evict
+     */
+    protected abstract CachedValue<K, V> evict();
+
+    /**
+     * Clears eviction policy.
+     * Invoked under lock.
+     */
+    protected abstract void onClear();
+
+    @Override
+    protected void onValueRead(CachedValue<K, V> value) {
+        int index = (int) (Thread.currentThread().getId() * 0x9E3779B9L) & (readBuffers.length - 1);
+        int recorded = readBuffers[index].offer(value);
+        if (recorded == -1 || recorded >= DRAIN_THRESHOLD) {
+            tryDrain();
+        }
+    }
+
+    @Override
+    protected void onValueCreate(CachedValue<K, V> value) {
+        writeQueue.add(new WriteEvent<>(value, true));
+        tryDrain();
+    }
+
+    @Override
+    protected void onValueRemove(CachedValue<K, V> value) {
+        writeQueue.add(new WriteEvent<>(value, false));
+        tryDrain();
+    }
+
+    @Override
+    protected void onMapFull() {
+        lock.lock();
+        try {
+            drain();
+            do {
+                if (!evictValue()) {
+                    return;
+                }
+            } while (isOverflowed());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean evictValue() {
+        while (true) {
+            CachedValue<K, V> value = evict();
+            if (value == null) {
+                return false;
+            }
+            if (map.remove(value.getKey(), value)) {
+                onEvict(value);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks if more values should be evicted after eviction of one value.
+     * Invoked under lock.
+     *
+     * @return <code>true</code> if cache is still overflowed
+     */
+    protected boolean isOverflowed() {
+        return false;
+    }
+
+    /**
+     * Invoked once value has been evicted and removed from map.
+     * Invoked under lock.
+     *
+     * @param value - cached value
+     */
+    protected void onEvict(CachedValue<K, V> value) {
+    }
+
+    private void tryDrain() {
+        if (lock.tryLock()) {
+            try {
+                drain();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        // writes are applied first, so reads of added values aren't ignored
+        while (true) {
+            WriteEvent<K, V> event = writeQueue.poll();
+            if (event == null) {
+                break;
+            }
+            if (event.added) {
+                onAdd(event.value);
+            } else {
+                onRemove(event.value);
+            }
+        }
+
+        for (ReadBuffer buffer : readBuffers) {
+            long head = buffer.readCounter;
+            long tail = buffer.writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & BUFFER_MASK);
+                CachedValue<K, V> value = (CachedValue<K, V>) buffer.values.get(index);
+                if (value == null) {
+                    // not published yet
+                    break;
+                }
+                buffer.values.lazySet(index, null);
+                onAccess(value);
+            }
+            buffer.readCounter = head;
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            drain();
+            onClear();
+            super.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
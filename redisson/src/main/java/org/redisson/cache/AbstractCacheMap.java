@@ -53,6 +53,14 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         
     }
 
+    /**
+     * Invoked for value created by {@link #create} but never stored in map.
+     *
+     * @param value - cached value
+     */
+    protected void onValueDiscard(CachedValue<K, V> value) {
+    }
+
     
     /*
      * (non-Javadoc)
@@ -96,7 +104,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         return true;
     }
 
-    private boolean isValueExpired(CachedValue<K, V> entry) {
+    protected boolean isValueExpired(CachedValue<K, V> entry) {
         if (entry.isExpired()) {
             return true;
         }
@@ -120,7 +128,8 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
 
         for (Map.Entry<K, CachedValue<K, V>> entry : map.entrySet()) {
             CachedValue<K, V> cachedValue = entry.getValue();
-            if (cachedValue.getValue().equals(value)) {
+            Object v = cachedValue.getValue();
+            if (v != null && v.equals(value)) {
                 if (isValueExpired(cachedValue)) {
                     if (map.remove(cachedValue.getKey(), cachedValue)) {
                         onValueRemove(cachedValue);
@@ -182,10 +191,12 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         onValueCreate(entry);
         CachedValue<K, V> prevCachedValue = map.put(key, entry);
         if (prevCachedValue != null) {
-            onValueRemove(prevCachedValue);
+            V prevValue = null;
             if (!isValueExpired(prevCachedValue)) {
-                return (V) prevCachedValue.getValue();
+                prevValue = (V) prevCachedValue.getValue();
             }
+            onValueRemove(prevCachedValue);
+            return prevValue;
         }
         return null;
     }
@@ -235,10 +246,12 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
     public V remove(Object key) {
         CachedValue<K, V> entry = map.remove(key);
         if (entry != null) {
-            onValueRemove(entry);
+            V value = null;
             if (!isValueExpired(entry)) {
-                return (V) entry.getValue();
+                value = (V) entry.getValue();
             }
+            onValueRemove(entry);
+            return value;
         }
         return null;
     }
@@ -340,7 +353,9 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
                     if (mapEntry == null) {
                         throw new IllegalStateException();
                     }
-                    map.remove(mapEntry.getKey());
+                    if (map.remove(mapEntry.getKey(), mapEntry.getValue())) {
+                        onValueRemove(mapEntry.getValue());
+                    }
                     mapEntry = null;
                 }
             };
@@ -389,7 +404,9 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
                     if (mapEntry == null) {
                         throw new IllegalStateException();
                     }
-                    map.remove(mapEntry.getKey(), mapEntry.getValue());
+                    if (map.remove(mapEntry.getKey(), mapEntry.getValue())) {
+                        onValueRemove(mapEntry.getValue());
+                    }
                     mapEntry = null;
                 }
             };
@@ -432,7 +449,9 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
                     if (mapEntry == null) {
                         throw new IllegalStateException();
                     }
-                    map.remove(mapEntry.getKey(), mapEntry.getValue());
+                    if (map.remove(mapEntry.getKey(), mapEntry.getValue())) {
+                        onValueRemove(mapEntry.getValue());
+                    }
                     mapEntry = null;
                 }
             };
@@ -472,6 +491,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         CachedValue<K, V> entry = create(key, value, timeToLiveInMillis, maxIdleInMillis);
         CachedValue<K, V> prevCachedValue = map.putIfAbsent(key, entry);
         if (prevCachedValue != null) {
+            onValueDiscard(entry);
             return prevCachedValue.getValue();
         }
 
@@ -512,17 +532,19 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
     @Override
     public boolean replace(K key, V oldValue, V newValue) {
         CachedValue<K, V> e = null;
+        CachedValue<K, V> newEntry = null;
         synchronized (map) {
             CachedValue<K, V> entry = map.get(key);
             if (entry != null
                     && entry.getValue().equals(oldValue)
                         && !isValueExpired(entry)) {
-                CachedValue<K, V> newEntry = create(key, newValue, timeToLiveInMillis, maxIdleInMillis);
+                newEntry = create(key, newValue, timeToLiveInMillis, maxIdleInMillis);
                 map.put(key, newEntry);
                 e = entry;
             }
         }
         if (e != null) {
+            onValueCreate(newEntry);
             onValueRemove(e);
             return true;
         }
@@ -532,18 +554,21 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
     @Override
     public V replace(K key, V value) {
         CachedValue<K, V> e = null;
+        CachedValue<K, V> newEntry = null;
         synchronized (map) {
             CachedValue<K, V> entry = map.get(key);
             if (entry != null
                     && !isValueExpired(entry)) {
-                CachedValue<K, V> newEntry = create(key, value, timeToLiveInMillis, maxIdleInMillis);
+                newEntry = create(key, value, timeToLiveInMillis, maxIdleInMillis);
                 map.put(key, newEntry);
                 e = entry;
             }
         }
         if (e != null) {
+            onValueCreate(newEntry);
+            V prevValue = e.getValue();
             onValueRemove(e);
-            return e.getValue();
+            return prevValue;
         }
         return null;
     }
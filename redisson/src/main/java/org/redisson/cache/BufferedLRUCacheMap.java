@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * LRU (least recently used) cache with lock-free read hits.
+ * Unlike {@link LRUCacheMap} access order is updated asynchronously
+ * and a small fraction of reads may be ignored under high contention.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public class BufferedLRUCacheMap<K, V> extends AbstractBufferedCacheMap<K, V> {
+
+    private final Set<CachedValue<K, V>> queue = new LinkedHashSet<>();
+
+    public BufferedLRUCacheMap(int size, long timeToLiveInMillis, long maxIdleInMillis) {
+        super(size, timeToLiveInMillis, maxIdleInMillis);
+    }
+
+    @Override
+    protected void onAccess(CachedValue<K, V> value) {
+        // move value to tail of queue
+        if (queue.remove(value)) {
+            queue.add(value);
+        }
+    }
+
+    @Override
+    protected void onAdd(CachedValue<K, V> value) {
+        queue.add(value);
+    }
+
+    @Override
+    protected void onRemove(CachedValue<K, V> value) {
+        queue.remove(value);
+    }
+
+    @Override
+    protected CachedValue<K, V> evict() {
+        Iterator<CachedValue<K, V>> iter = queue.iterator();
+        if (!iter.hasNext()) {
+            return null;
+        }
+        CachedValue<K, V> value = iter.next();
+        iter.remove();
+        return value;
+    }
+
+    @Override
+    protected void onClear() {
+        queue.clear();
+    }
+
+}
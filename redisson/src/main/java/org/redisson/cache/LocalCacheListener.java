@@ -113,6 +113,10 @@ public abstract class LocalCacheListener {
             }
             return caffeineBuilder.<CacheKey, CacheValue>build().asMap();
         }
+        if (options.getCacheProvider() == LocalCachedMapOptions.CacheProvider.REDISSON_OFFHEAP) {
+            return new OffHeapCacheMap(codec, options.getCacheSize(), options.getOffHeapSize(),
+                                        options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
 
         if (options.getEvictionPolicy() == EvictionPolicy.NONE) {
             return new NoneCacheMap<>(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
@@ -123,6 +127,12 @@ public abstract class LocalCacheListener {
         if (options.getEvictionPolicy() == EvictionPolicy.LFU) {
             return new LFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
         }
+        if (options.getEvictionPolicy() == EvictionPolicy.BUFFERED_LRU) {
+            return new BufferedLRUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.TINY_LFU) {
+            return new TinyLFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
         if (options.getEvictionPolicy() == EvictionPolicy.SOFT) {
             return ReferenceCacheMap.soft(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
         }
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.client.codec.Codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.IllegalReferenceCountException;
+
+/**
+ * LRU cache which keeps entries encoded by codec in direct memory.
+ * Only keys index and small entry descriptors are kept on heap,
+ * so large caches don't increase heap size and GC pauses.
+ * Entry is decoded on each read.
+ * <p>
+ * Cache size is limited by amount of entries and by amount of bytes
+ * allocated for entries in direct memory.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class OffHeapCacheMap extends BufferedLRUCacheMap<CacheKey, CacheValue> {
+
+    static final class OffHeapCachedValue implements CachedValue<CacheKey, CacheValue> {
+
+        private static final AtomicIntegerFieldUpdater<OffHeapCachedValue> RELEASED_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(OffHeapCachedValue.class, "released");
+
+        private final OffHeapCacheMap owner;
+        private final CacheKey key;
+        // [key length][key][value length or -1 for null][value]
+        private final ByteBuf buf;
+
+        private final long ttl;
+        private final long maxIdleTime;
+
+        private long creationTime;
+        private long lastAccess;
+
+        private volatile int released;
+
+        OffHeapCachedValue(OffHeapCacheMap owner, CacheKey key, ByteBuf buf, long ttl, long maxIdleTime) {
+            this.owner = owner;
+            this.key = key;
+            this.buf = buf;
+            this.ttl = ttl;
+            this.maxIdleTime = maxIdleTime;
+
+            if (ttl != 0 || maxIdleTime != 0) {
+                creationTime = System.currentTimeMillis();
+                lastAccess = creationTime;
+            }
+        }
+
+        @Override
+        public boolean isExpired() {
+            if (maxIdleTime == 0 && ttl == 0) {
+                return false;
+            }
+            long currentTime = System.currentTimeMillis();
+            if (ttl != 0 && creationTime + ttl < currentTime) {
+                return true;
+            }
+            if (maxIdleTime != 0 && lastAccess + maxIdleTime < currentTime) {
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public CacheKey getKey() {
+            return key;
+        }
+
+        /**
+         * Decodes stored value
+         *
+         * @return value or <code>null</code> if value has been already released
+         */
+        @Override
+        public CacheValue getValue() {
+            lastAccess = System.currentTimeMillis();
+            try {
+                buf.retain();
+            } catch (IllegalReferenceCountException e) {
+                return null;
+            }
+            try {
+                return owner.decode(buf.duplicate());
+            } finally {
+                buf.release();
+            }
+        }
+
+        int getSize() {
+            return buf.capacity();
+        }
+
+        boolean release() {
+            if (RELEASED_UPDATER.compareAndSet(this, 0, 1)) {
+                buf.release();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "OffHeapCachedValue [key=" + key + ", size=" + buf.capacity() + "]";
+        }
+
+    }
+
+    private final Codec codec;
+    private final long maxBytes;
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    /**
+     * Creates cache instance
+     *
+     * @param codec - codec used to encode and decode entries
+     * @param size - max amount of entries. <code>0</code> means unlimited
+     * @param maxBytes - max amount of bytes used by entries. <code>0</code> means unlimited
+     * @param timeToLiveInMillis - time to live
+     * @param maxIdleInMillis - max idle time
+     */
+    public OffHeapCacheMap(Codec codec, int size, long maxBytes, long timeToLiveInMillis, long maxIdleInMillis) {
+        super(size, timeToLiveInMillis, maxIdleInMillis);
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes can't be " + maxBytes);
+        }
+        this.codec = codec;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns amount of direct memory used by entries
+     *
+     * @return amount of bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    @Override
+    protected CachedValue<CacheKey, CacheValue> create(CacheKey key, CacheValue value, long ttl, long maxIdleTime) {
+        ByteBuf encodedKey = null;
+        ByteBuf encodedValue = null;
+        try {
+            encodedKey = codec.getMapKeyEncoder().encode(value.getKey());
+            if (value.getValue() != null) {
+                encodedValue = codec.getMapValueEncoder().encode(value.getValue());
+            }
+
+            int length = 8 + encodedKey.readableBytes();
+            if (encodedValue != null) {
+                length += encodedValue.readableBytes();
+            }
+            ByteBuf buf = UnpooledByteBufAllocator.DEFAULT.directBuffer(length, length);
+            buf.writeInt(encodedKey.readableBytes());
+            buf.writeBytes(encodedKey);
+            if (encodedValue != null) {
+                buf.writeInt(encodedValue.readableBytes());
+                buf.writeBytes(encodedValue);
+            } else {
+                buf.writeInt(-1);
+            }
+
+            usedBytes.addAndGet(buf.capacity());
+            return new OffHeapCachedValue(this, key, buf, ttl, maxIdleTime);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        } finally {
+            if (encodedKey != null) {
+                encodedKey.release();
+            }
+            if (encodedValue != null) {
+                encodedValue.release();
+            }
+        }
+    }
+
+    CacheValue decode(ByteBuf buf) {
+        try {
+            int keyLength = buf.readInt();
+            Object key = codec.getMapKeyDecoder().decode(buf.readSlice(keyLength), null);
+            int valueLength = buf.readInt();
+            Object value = null;
+            if (valueLength != -1) {
+                value = codec.getMapValueDecoder().decode(buf.readSlice(valueLength), null);
+            }
+            return new CacheValue(key, value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void release(CachedValue<CacheKey, CacheValue> value) {
+        OffHeapCachedValue v = (OffHeapCachedValue) value;
+        if (v.release()) {
+            usedBytes.addAndGet(-v.getSize());
+        }
+    }
+
+    @Override
+    protected boolean isValueExpired(CachedValue<CacheKey, CacheValue> entry) {
+        // CacheValue is never an ExpirableValue, so value isn't decoded here
+        return entry.isExpired();
+    }
+
+    @Override
+    protected boolean isFull(CacheKey key) {
+        if (maxBytes > 0 && usedBytes.get() > maxBytes) {
+            return true;
+        }
+        return super.isFull(key);
+    }
+
+    @Override
+    protected boolean isOverflowed() {
+        return maxBytes > 0 && usedBytes.get() > maxBytes;
+    }
+
+    @Override
+    protected void onEvict(CachedValue<CacheKey, CacheValue> value) {
+        release(value);
+    }
+
+    @Override
+    protected void onValueRemove(CachedValue<CacheKey, CacheValue> value) {
+        super.onValueRemove(value);
+        release(value);
+    }
+
+    @Override
+    protected void onValueDiscard(CachedValue<CacheKey, CacheValue> value) {
+        release(value);
+    }
+
+    @Override
+    public void clear() {
+        // entries are removed one by one, so concurrently added entries aren't leaked
+        for (CachedValue<CacheKey, CacheValue> value : map.values()) {
+            if (map.remove(value.getKey(), value)) {
+                onValueRemove(value);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Cache with W-TinyLFU eviction policy and lock-free read hits.
+ * <p>
+ * New entries are placed into small LRU window. Entry evicted from window
+ * is admitted into main segmented LRU area only if its estimated access frequency
+ * is higher than frequency of main area eviction candidate.
+ * Access frequency is tracked by compact Count-Min sketch, so
+ * frequency of already evicted keys is taken into account.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public class TinyLFUCacheMap<K, V> extends AbstractBufferedCacheMap<K, V> {
+
+    static final int WINDOW = 0;
+    static final int PROBATION = 1;
+    static final int PROTECTED = 2;
+
+    static class TinyLFUCachedValue<K, V> extends StdCachedValue<K, V> {
+
+        // modified under lock only
+        int region;
+
+        TinyLFUCachedValue(K key, V value, long ttl, long maxIdleTime) {
+            super(key, value, ttl, maxIdleTime);
+        }
+
+    }
+
+    private final Set<CachedValue<K, V>> window = new LinkedHashSet<>();
+    private final Set<CachedValue<K, V>> probation = new LinkedHashSet<>();
+    private final Set<CachedValue<K, V>> protectedArea = new LinkedHashSet<>();
+
+    private final int maxWindowSize;
+    private final int maxProtectedSize;
+    private final FrequencySketch sketch;
+
+    public TinyLFUCacheMap(int size, long timeToLiveInMillis, long maxIdleInMillis) {
+        super(size, timeToLiveInMillis, maxIdleInMillis);
+
+        if (size == 0) {
+            maxWindowSize = Integer.MAX_VALUE;
+            maxProtectedSize = 0;
+            sketch = null;
+        } else {
+            maxWindowSize = Math.max(1, size / 100);
+            maxProtectedSize = (int) ((size - maxWindowSize) * 0.8);
+            sketch = new FrequencySketch(size);
+        }
+    }
+
+    @Override
+    protected CachedValue<K, V> create(K key, V value, long ttl, long maxIdleTime) {
+        return new TinyLFUCachedValue<K, V>(key, value, ttl, maxIdleTime);
+    }
+
+    @Override
+    protected void onAccess(CachedValue<K, V> value) {
+        if (sketch != null) {
+            sketch.increment(value.getKey());
+        }
+
+        TinyLFUCachedValue<K, V> v = (TinyLFUCachedValue<K, V>) value;
+        if (v.region == WINDOW) {
+            if (window.remove(v)) {
+                window.add(v);
+            }
+        } else if (v.region == PROBATION) {
+            if (probation.remove(v)) {
+                v.region = PROTECTED;
+                protectedArea.add(v);
+                if (protectedArea.size() > maxProtectedSize) {
+                    TinyLFUCachedValue<K, V> demoted = (TinyLFUCachedValue<K, V>) pollFirst(protectedArea);
+                    demoted.region = PROBATION;
+                    probation.add(demoted);
+                }
+            }
+        } else {
+            if (protectedArea.remove(v)) {
+                protectedArea.add(v);
+            }
+        }
+    }
+
+    @Override
+    protected void onAdd(CachedValue<K, V> value) {
+        if (sketch != null) {
+            sketch.increment(value.getKey());
+        }
+
+        TinyLFUCachedValue<K, V> v = (TinyLFUCachedValue<K, V>) value;
+        v.region = WINDOW;
+        window.add(v);
+        // main area has free space since cache isn't full yet
+        while (window.size() > maxWindowSize) {
+            TinyLFUCachedValue<K, V> moved = (TinyLFUCachedValue<K, V>) pollFirst(window);
+            moved.region = PROBATION;
+            probation.add(moved);
+        }
+    }
+
+    @Override
+    protected void onRemove(CachedValue<K, V> value) {
+        regionOf(value).remove(value);
+    }
+
+    @Override
+    protected CachedValue<K, V> evict() {
+        CachedValue<K, V> candidate = null;
+        if (window.size() >= maxWindowSize) {
+            candidate = first(window);
+        }
+        CachedValue<K, V> victim = first(probation);
+        if (victim == null) {
+            victim = first(protectedArea);
+        }
+
+        if (candidate != null && victim != null) {
+            window.remove(candidate);
+            if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                // candidate is admitted into main area
+                ((TinyLFUCachedValue<K, V>) candidate).region = PROBATION;
+                probation.add(candidate);
+                regionOf(victim).remove(victim);
+                return victim;
+            }
+            return candidate;
+        }
+
+        CachedValue<K, V> value = victim;
+        if (value == null) {
+            value = first(window);
+        }
+        if (value != null) {
+            regionOf(value).remove(value);
+        }
+        return value;
+    }
+
+    private Set<CachedValue<K, V>> regionOf(CachedValue<K, V> value) {
+        int region = ((TinyLFUCachedValue<K, V>) value).region;
+        if (region == WINDOW) {
+            return window;
+        }
+        if (region == PROBATION) {
+            return probation;
+        }
+        return protectedArea;
+    }
+
+    private CachedValue<K, V> first(Set<CachedValue<K, V>> set) {
+        Iterator<CachedValue<K, V>> iter = set.iterator();
+        if (iter.hasNext()) {
+            return iter.next();
+        }
+        return null;
+    }
+
+    private CachedValue<K, V> pollFirst(Set<CachedValue<K, V>> set) {
+        Iterator<CachedValue<K, V>> iter = set.iterator();
+        CachedValue<K, V> value = iter.next();
+        iter.remove();
+        return value;
+    }
+
+    @Override
+    protected void onClear() {
+        window.clear();
+        probation.clear();
+        protectedArea.clear();
+        if (sketch != null) {
+            sketch.clear();
+        }
+    }
+
+}
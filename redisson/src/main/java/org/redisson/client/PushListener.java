@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client;
+
+import java.util.List;
+
+/**
+ * Listener of RESP3 push messages received by regular connection.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface PushListener {
+
+    /**
+     * Invoked on push message. Message elements are decoded as
+     * <code>byte[]</code> for bulk strings, <code>String</code> for simple strings,
+     * <code>Long</code> for integers and <code>List</code> for nested aggregates.
+     *
+     * @param message - push message elements, first element is message type
+     */
+    void onPush(List<Object> message);
+
+}
@@ -19,7 +19,9 @@ import java.net.InetSocketAddress;
 import java.net.URL;
 import java.util.concurrent.ExecutorService;
 
+import org.redisson.config.Protocol;
 import org.redisson.config.SslProvider;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.misc.RedisURI;
 
 import io.netty.channel.EventLoopGroup;
@@ -56,6 +58,9 @@ public class RedisClientConfig {
     private int pingConnectionInterval;
     private boolean keepAlive;
     private boolean tcpNoDelay;
+    private boolean pipelining;
+    private int writeCoalescingSize;
+    private Protocol protocol = Protocol.RESP2;
     
     private String sslHostname;
     private boolean sslEnableEndpointIdentification = true;
@@ -65,13 +70,15 @@ public class RedisClientConfig {
     private URL sslKeystore;
     private String sslKeystorePassword;
     private NettyHook nettyHook = new DefaultNettyHook();
+    private MetricsRecorder metricsRecorder;
     
     public RedisClientConfig() {
     }
     
-    RedisClientConfig(RedisClientConfig config) {
+    public RedisClientConfig(RedisClientConfig config) {
         super();
         this.nettyHook = config.nettyHook;
+        this.metricsRecorder = config.metricsRecorder;
         this.addr = config.addr;
         this.address = config.address;
         this.timer = config.timer;
@@ -89,6 +96,9 @@ public class RedisClientConfig {
         this.pingConnectionInterval = config.pingConnectionInterval;
         this.keepAlive = config.keepAlive;
         this.tcpNoDelay = config.tcpNoDelay;
+        this.pipelining = config.pipelining;
+        this.writeCoalescingSize = config.writeCoalescingSize;
+        this.protocol = config.protocol;
         this.sslEnableEndpointIdentification = config.sslEnableEndpointIdentification;
         this.sslProvider = config.sslProvider;
         this.sslTruststore = config.sslTruststore;
@@ -107,6 +117,14 @@ public class RedisClientConfig {
         this.nettyHook = nettyHook;
     }
 
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+    public RedisClientConfig setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
     public String getSslHostname() {
         return sslHostname;
     }
@@ -307,6 +325,30 @@ public class RedisClientConfig {
         return this;
     }
 
+    public boolean isPipelining() {
+        return pipelining;
+    }
+    public RedisClientConfig setPipelining(boolean pipelining) {
+        this.pipelining = pipelining;
+        return this;
+    }
+
+    public int getWriteCoalescingSize() {
+        return writeCoalescingSize;
+    }
+    public RedisClientConfig setWriteCoalescingSize(int writeCoalescingSize) {
+        this.writeCoalescingSize = writeCoalescingSize;
+        return this;
+    }
+
+    public Protocol getProtocol() {
+        return protocol;
+    }
+    public RedisClientConfig setProtocol(Protocol protocol) {
+        this.protocol = protocol;
+        return this;
+    }
+
     public AddressResolverGroup<InetSocketAddress> getResolverGroup() {
         return resolverGroup;
     }
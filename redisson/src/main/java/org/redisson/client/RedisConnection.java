@@ -15,6 +15,9 @@
  */
 package org.redisson.client;
 
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -56,6 +59,7 @@ public class RedisConnection implements RedisCommands {
     private long lastUsageTime;
     private Runnable connectedListener;
     private Runnable disconnectedListener;
+    private final Queue<PushListener> pushListeners = new ConcurrentLinkedQueue<>();
 
     public <C> RedisConnection(RedisClient redisClient, Channel channel, RPromise<C> connectionPromise) {
         this.redisClient = redisClient;
@@ -89,6 +93,20 @@ public class RedisConnection implements RedisCommands {
         this.disconnectedListener = disconnectedListener;
     }
 
+    public void addPushListener(PushListener listener) {
+        pushListeners.add(listener);
+    }
+
+    public void removePushListener(PushListener listener) {
+        pushListeners.remove(listener);
+    }
+
+    public void firePush(List<Object> message) {
+        for (PushListener listener : pushListeners) {
+            listener.onPush(message);
+        }
+    }
+
     public <C extends RedisConnection> RPromise<C> getConnectionPromise() {
         return (RPromise<C>) connectionPromise;
     }
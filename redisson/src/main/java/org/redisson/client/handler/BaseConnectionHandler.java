@@ -21,17 +21,24 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisClientConfig;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisLoadingException;
+import org.redisson.client.RedisPubSubConnection;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.CommandsData;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.config.Protocol;
+import org.redisson.misc.LogHelper;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.Timeout;
 
 /**
  * 
@@ -61,46 +68,70 @@ public abstract class BaseConnectionHandler<C extends RedisConnection> extends C
     
     @Override
     public void channelActive(final ChannelHandlerContext ctx) {
-        List<RFuture<Object>> futures = new ArrayList<RFuture<Object>>();
+        List<CommandData<?, ?>> commands = new ArrayList<CommandData<?, ?>>();
 
         RedisClientConfig config = redisClient.getConfig();
-        if (config.getPassword() != null) {
-            RFuture<Object> future;
+        // pubsub connection keeps RESP2 since messages are decoded as replies to subscribe commands
+        boolean resp3 = config.getProtocol() == Protocol.RESP3
+                            && !(connection instanceof RedisPubSubConnection);
+        if (resp3) {
+            // HELLO authenticates connection and sets client name in the same roundtrip
+            List<Object> params = new ArrayList<Object>();
+            params.add(3);
+            if (config.getPassword() != null) {
+                params.add("AUTH");
+                if (config.getUsername() != null) {
+                    params.add(config.getUsername());
+                } else {
+                    params.add("default");
+                }
+                params.add(config.getPassword());
+            }
+            if (config.getClientName() != null) {
+                params.add("SETNAME");
+                params.add(config.getClientName());
+            }
+            commands.add(connection.create(null, RedisCommands.HELLO, params.toArray()));
+        } else if (config.getPassword() != null) {
             if (config.getUsername() != null) {
-                future = connection.async(RedisCommands.AUTH, config.getUsername(), config.getPassword());
+                commands.add(connection.create(null, RedisCommands.AUTH, config.getUsername(), config.getPassword()));
             } else {
-                future = connection.async(RedisCommands.AUTH, config.getPassword());
+                commands.add(connection.create(null, RedisCommands.AUTH, config.getPassword()));
             }
-            futures.add(future);
         }
         if (config.getDatabase() != 0) {
-            RFuture<Object> future = connection.async(RedisCommands.SELECT, config.getDatabase());
-            futures.add(future);
+            commands.add(connection.create(null, RedisCommands.SELECT, config.getDatabase()));
         }
-        if (config.getClientName() != null) {
-            RFuture<Object> future = connection.async(RedisCommands.CLIENT_SETNAME, config.getClientName());
-            futures.add(future);
+        if (!resp3 && config.getClientName() != null) {
+            commands.add(connection.create(null, RedisCommands.CLIENT_SETNAME, config.getClientName()));
         }
         if (config.isReadOnly()) {
-            RFuture<Object> future = connection.async(RedisCommands.READONLY);
-            futures.add(future);
+            commands.add(connection.create(null, RedisCommands.READONLY));
         }
         if (config.getPingConnectionInterval() > 0) {
-            RFuture<Object> future = connection.async(RedisCommands.PING);
-            futures.add(future);
+            commands.add(connection.create(null, RedisCommands.PING));
         }
         
-        if (futures.isEmpty()) {
+        if (commands.isEmpty()) {
             ctx.fireChannelActive();
             connectionPromise.trySuccess(connection);
             return;
         }
-        
+
+        Timeout timeout = redisClient.getTimer().newTimeout(t -> {
+            for (CommandData<?, ?> command : commands) {
+                RedisTimeoutException ex = new RedisTimeoutException("Command execution timeout for command: "
+                        + LogHelper.toString(command.getCommand(), command.getParams()) + ", Redis client: " + redisClient);
+                command.tryFailure(ex);
+            }
+        }, redisClient.getCommandTimeout(), TimeUnit.MILLISECONDS);
+
         final AtomicBoolean retry = new AtomicBoolean();
-        final AtomicInteger commandsCounter = new AtomicInteger(futures.size());
-        for (RFuture<Object> future : futures) {
-            future.onComplete((res, e) -> {
+        final AtomicInteger commandsCounter = new AtomicInteger(commands.size());
+        for (CommandData<?, ?> command : commands) {
+            command.getPromise().onComplete((res, e) -> {
                 if (e != null) {
+                    timeout.cancel();
                     if (e instanceof RedisLoadingException) {
                         if (retry.compareAndSet(false, true)) {
                             ctx.executor().schedule(() -> {
@@ -114,11 +145,29 @@ public abstract class BaseConnectionHandler<C extends RedisConnection> extends C
                     return;
                 }
                 if (commandsCounter.decrementAndGet() == 0) {
+                    timeout.cancel();
                     ctx.fireChannelActive();
                     connectionPromise.trySuccess(connection);
                 }
             });
         }
+
+        ChannelFutureListener writeListener = future -> {
+            if (!future.isSuccess()) {
+                for (CommandData<?, ?> command : commands) {
+                    command.tryFailure(future.cause());
+                }
+            }
+        };
+        if (connection instanceof RedisPubSubConnection) {
+            for (CommandData<?, ?> command : commands) {
+                connection.send(command).addListener(writeListener);
+            }
+        } else {
+            // handshake commands are written at once and their replies are awaited together
+            RPromise<Void> batchPromise = new RedissonPromise<Void>();
+            connection.send(new CommandsData(batchPromise, commands, false, false, false)).addListener(writeListener);
+        }
     }
     
 }
@@ -32,9 +32,11 @@
 package org.redisson.client.handler;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.util.CharsetUtil;
 import org.redisson.client.*;
 import org.redisson.client.codec.Codec;
@@ -48,79 +50,120 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
 /**
  * Redis protocol command decoder
+ * <p>
+ * RESP3 replies are decoded into the same shape as RESP2 replies,
+ * so existing command decoders and convertors handle both protocols:
+ * <ul>
+ * <li>map is decoded as flat list of keys and values,
+ * or as list of key/value pairs for commands which return such list in RESP2</li>
+ * <li>set is decoded as list</li>
+ * <li>double is decoded as bulk string, infinity and NaN values use Java notation</li>
+ * <li>boolean true is decoded as <code>1</code> and false as <code>null</code>, the same way as Lua boolean in RESP2</li>
+ * <li>nested member/score pairs of sorted set commands are decoded into parent list</li>
+ * <li>null is decoded as null array for commands which return null array in RESP2</li>
+ * </ul>
  *
  * @author Nikita Koksharov
  *
  */
-public class CommandDecoder extends ReplayingDecoder<State> {
+public class CommandDecoder extends ByteToMessageDecoder {
     
     final Logger log = LoggerFactory.getLogger(getClass());
 
     private static final char CR = '\r';
     private static final char LF = '\n';
     private static final char ZERO = '0';
+
+    // commands which return flat list in RESP2 and list of pairs in RESP3
+    private static final Set<String> FLAT_REPLY_COMMANDS = new HashSet<>(Arrays.asList(
+            "ZRANGE", "ZREVRANGE", "ZRANGEBYSCORE", "ZREVRANGEBYSCORE", "ZPOPMIN", "ZPOPMAX",
+            "ZRANDMEMBER", "ZUNION", "ZINTER", "ZDIFF", "HRANDFIELD"));
+
+    // commands which return list of key/value pairs in RESP2 and map in RESP3
+    private static final Set<String> PAIRS_REPLY_COMMANDS = new HashSet<>(Arrays.asList(
+            "XREAD", "XREADGROUP"));
+
+    // commands which return null array in RESP2 and null in RESP3
+    private static final Set<String> NULL_ARRAY_REPLY_COMMANDS = new HashSet<>(Arrays.asList(
+            "BLPOP", "BRPOP", "BRPOPLPUSH", "BLMOVE", "BZPOPMIN", "BZPOPMAX",
+            "XREAD", "XREADGROUP", "EXEC"));
     
     final ExecutorService executor;
     private final boolean decodeInExecutor;
+    private final ReplyScanner scanner = new ReplyScanner();
+    private State state;
     
     public CommandDecoder(ExecutorService executor, boolean decodeInExecutor) {
         this.decodeInExecutor = decodeInExecutor;
         this.executor = executor;
     }
 
+    protected State state() {
+        return state;
+    }
+
     @Override
     protected final void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
-        QueueCommand data = ctx.channel().attr(CommandsQueue.CURRENT_COMMAND).get();
-
-        if (state() == null) {
-            state(new State());
+        // reply is decoded only once it has been fully received
+        int length;
+        try {
+            length = scanner.scan(in);
+        } catch (IOException e) {
+            scanner.reset();
+            String dataStr = in.toString(in.readerIndex(), in.readableBytes(), CharsetUtil.UTF_8);
+            in.skipBytes(in.readableBytes());
+            throw new IllegalStateException("Can't decode replay: " + dataStr, e);
+        }
+        if (length == -1) {
+            return;
         }
-        
-        if (data == null) {
-            while (in.writerIndex() > in.readerIndex()) {
-                int endIndex = skipCommand(in);
 
-                try {
-                    decode(ctx, in, data);
-                } catch (Exception e) {
-                    in.readerIndex(endIndex);
-                    throw e;
-                }
-            }
-        } else {
-            int endIndex = 0;
-            if (!(data instanceof CommandsData)) {
-                endIndex = skipCommand(in);
-            }
-            
+        if (in.getByte(in.readerIndex()) == '>') {
+            // push message isn't a reply to any command
+            int endIndex = in.readerIndex() + length;
             try {
-                decode(ctx, in, data);
-            } catch (Exception e) {
-                if (!(data instanceof CommandsData)) {
-                    in.readerIndex(endIndex);
-                }
-                throw e;
+                decodePush(ctx.channel(), in);
+            } finally {
+                in.readerIndex(endIndex);
             }
+            return;
+        }
+
+        QueueCommand data = ctx.channel().attr(CommandsQueue.CURRENT_COMMAND).get();
+
+        if (state == null) {
+            state = new State();
+        }
+
+        int endIndex = in.readerIndex() + length;
+        try {
+            decode(ctx, in, data, endIndex);
+        } finally {
+            in.readerIndex(endIndex);
         }
     }
 
-    private void decode(ChannelHandlerContext ctx, ByteBuf in, QueueCommand data) throws Exception {
+    private void decode(ChannelHandlerContext ctx, ByteBuf in, QueueCommand data, int endIndex) throws Exception {
         if (log.isTraceEnabled()) {
-            log.trace("reply: {}, channel: {}, command: {}", in.toString(0, in.writerIndex(), CharsetUtil.UTF_8), ctx.channel(), data);
+            log.trace("reply: {}, channel: {}, command: {}", in.toString(in.readerIndex(), endIndex - in.readerIndex(), CharsetUtil.UTF_8), ctx.channel(), data);
         }
 
         if (decodeInExecutor && !(data instanceof CommandsData)) {
-            ByteBuf copy = in.copy(in.readerIndex(), in.writerIndex() - in.readerIndex());
-            in.skipBytes(in.writerIndex() - in.readerIndex());
+            ByteBuf copy = in.copy(in.readerIndex(), endIndex - in.readerIndex());
+            in.readerIndex(endIndex);
             executor.execute(() -> {
-                state(new State());
+                state = new State();
                 
                 try {
                     decodeCommand(ctx.channel(), copy, data);
@@ -135,6 +178,17 @@ public class CommandDecoder extends ReplayingDecoder<State> {
         }
     }
 
+    private void decodePush(Channel channel, ByteBuf in) throws IOException {
+        List<Object> message = (List<Object>) decodeObject(in);
+        if (log.isTraceEnabled()) {
+            log.trace("push message: {}, channel: {}", message, channel);
+        }
+        RedisConnection connection = RedisConnection.getFrom(channel);
+        if (connection != null) {
+            connection.firePush(message);
+        }
+    }
+
     protected void sendNext(Channel channel, QueueCommand data) {
         if (data != null) {
             if (data.isExecuted()) {
@@ -145,50 +199,6 @@ public class CommandDecoder extends ReplayingDecoder<State> {
         }
     }
     
-    protected int skipCommand(ByteBuf in) throws Exception {
-        in.markReaderIndex();
-        skipDecode(in);
-        int res = in.readerIndex();
-        in.resetReaderIndex();
-        return res;
-    }
-    
-    protected void skipDecode(ByteBuf in) throws IOException{
-        int code = in.readByte();
-        if (code == '+') {
-            skipString(in);
-        } else if (code == '-') {
-            skipString(in);
-        } else if (code == ':') {
-            skipString(in);
-        } else if (code == '$') {
-            skipBytes(in);
-        } else if (code == '*') {
-            long size = readLong(in);
-            for (int i = 0; i < size; i++) {
-                skipDecode(in);
-            }
-        }
-    }
-    
-    private void skipBytes(ByteBuf is) throws IOException {
-        long l = readLong(is);
-        if (l > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException(
-                    "Java only supports arrays up to " + Integer.MAX_VALUE + " in size");
-        }
-        int size = (int) l;
-        if (size == -1) {
-            return;
-        }
-        is.skipBytes(size + 2);
-    }
-    
-    private void skipString(ByteBuf in) {
-        int len = in.bytesBefore((byte) '\r');
-        in.skipBytes(len + 2);
-    }
-    
     protected void decodeCommand(Channel channel, ByteBuf in, QueueCommand data) throws Exception {
         if (data instanceof CommandData) {
             CommandData<Object, Object> cmd = (CommandData<Object, Object>) data;
@@ -212,9 +222,7 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             }
         } else {
             try {
-                while (in.writerIndex() > in.readerIndex()) {
-                    decode(in, null, null, channel, false, null);
-                }
+                decode(in, null, null, channel, false, null);
                 sendNext(channel);
             } catch (Exception e) {
                 log.error("Unable to decode data. channel: " + channel + ", reply: " + LogHelper.toString(in), e);
@@ -229,76 +237,67 @@ public class CommandDecoder extends ReplayingDecoder<State> {
         if (handler != null) {
             handler.sendNextCommand(channel);
         }
-        state(null);
+        state = null;
     }
 
     private void decodeCommandBatch(Channel channel, ByteBuf in, QueueCommand data,
                     CommandsData commandBatch) throws Exception {
-        int i = state().getBatchIndex();
+        int i = state.getBatchIndex();
 
-        Throwable error = null;
-        while (in.writerIndex() > in.readerIndex()) {
-            CommandData<Object, Object> commandData = null;
-
-            checkpoint();
-            state().setBatchIndex(i);
-            
-            int endIndex = skipCommand(in);
-            try {
-                
-                RedisCommand<?> cmd = commandBatch.getCommands().get(i).getCommand();
-                boolean skipConvertor = commandBatch.isQueued();
-                List<CommandData<?, ?>> commandsData = null;
-                if (!commandBatch.isAtomic()
-                        || RedisCommands.EXEC.getName().equals(cmd.getName())
-                        || RedisCommands.WAIT.getName().equals(cmd.getName())) {
-                    commandData = (CommandData<Object, Object>) commandBatch.getCommands().get(i);
-                    if (RedisCommands.EXEC.getName().equals(cmd.getName())) {
-                        skipConvertor = false;
-                        if (commandBatch.getAttachedCommands() != null) {
-                            commandsData = commandBatch.getAttachedCommands();
-                        } else {
-                            commandsData = commandBatch.getCommands();
-                        }
+        CommandData<Object, Object> commandData = null;
+        try {
+            RedisCommand<?> cmd = commandBatch.getCommands().get(i).getCommand();
+            boolean skipConvertor = commandBatch.isQueued();
+            List<CommandData<?, ?>> commandsData = null;
+            if (!commandBatch.isAtomic()
+                    || RedisCommands.EXEC.getName().equals(cmd.getName())
+                    || RedisCommands.WAIT.getName().equals(cmd.getName())) {
+                commandData = (CommandData<Object, Object>) commandBatch.getCommands().get(i);
+                if (RedisCommands.EXEC.getName().equals(cmd.getName())) {
+                    skipConvertor = false;
+                    if (commandBatch.getAttachedCommands() != null) {
+                        commandsData = commandBatch.getAttachedCommands();
+                    } else {
+                        commandsData = commandBatch.getCommands();
                     }
                 }
-                
-                decode(in, commandData, null, channel, skipConvertor, commandsData);
-                
-                if (commandData != null && RedisCommands.EXEC.getName().equals(commandData.getCommand().getName())
-                        && commandData.getPromise().isSuccess()) {
-                    List<Object> objects = (List<Object>) commandData.getPromise().getNow();
-                    Iterator<Object> iter = objects.iterator();
-                    boolean multiFound = false; 
-                    for (CommandData<?, ?> command : commandBatch.getCommands()) {
-                        if (multiFound) {
-                            if (!iter.hasNext()) {
-                                break;
-                            }
-                            Object res = iter.next();
-                            
-                            completeResponse((CommandData<Object, Object>) command, res, channel);
+            }
+            
+            decode(in, commandData, null, channel, skipConvertor, commandsData);
+            
+            if (commandData != null && RedisCommands.EXEC.getName().equals(commandData.getCommand().getName())
+                    && commandData.getPromise().isSuccess()) {
+                List<Object> objects = (List<Object>) commandData.getPromise().getNow();
+                Iterator<Object> iter = objects.iterator();
+                boolean multiFound = false; 
+                for (CommandData<?, ?> command : commandBatch.getCommands()) {
+                    if (multiFound) {
+                        if (!iter.hasNext()) {
+                            break;
                         }
+                        Object res = iter.next();
                         
-                        if (RedisCommands.MULTI.getName().equals(command.getCommand().getName())) {
-                            multiFound = true;
-                        }
+                        completeResponse((CommandData<Object, Object>) command, res, channel);
+                    }
+                    
+                    if (RedisCommands.MULTI.getName().equals(command.getCommand().getName())) {
+                        multiFound = true;
                     }
-                }
-            } catch (Exception e) {
-                in.readerIndex(endIndex);
-                if (commandData != null) {
-                    commandData.tryFailure(e);
                 }
             }
-            i++;
-            if (commandData != null && !commandData.isSuccess()) {
-                error = commandData.cause();
+        } catch (Exception e) {
+            if (commandData != null) {
+                commandData.tryFailure(e);
             }
         }
+        i++;
+        if (commandData != null && !commandData.isSuccess()) {
+            state.setBatchError(commandData.cause());
+        }
 
         if (commandBatch.isSkipResult() || i == commandBatch.getCommands().size()) {
             RPromise<Void> promise = commandBatch.getPromise();
+            Throwable error = state.getBatchError();
             if (error != null) {
                 if (!promise.tryFailure(error) && promise.cause() instanceof RedisTimeoutException) {
                     log.warn("response has been skipped due to timeout! channel: {}, command: {}", channel, LogHelper.toString(data));
@@ -311,8 +310,7 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             
             sendNext(channel);
         } else {
-            checkpoint();
-            state().setBatchIndex(i);
+            state.setBatchIndex(i);
         }
     }
 
@@ -324,39 +322,7 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             handleResult(data, parts, result, skipConvertor, channel);
         } else if (code == '-') {
             String error = readString(in);
-
-            if (error.startsWith("MOVED")) {
-                String[] errorParts = error.split(" ");
-                int slot = Integer.valueOf(errorParts[1]);
-                String addr = errorParts[2];
-                data.tryFailure(new RedisMovedException(slot, addr));
-            } else if (error.startsWith("ASK")) {
-                String[] errorParts = error.split(" ");
-                int slot = Integer.valueOf(errorParts[1]);
-                String addr = errorParts[2];
-                data.tryFailure(new RedisAskException(slot, addr));
-            } else if (error.startsWith("TRYAGAIN")) {
-                data.tryFailure(new RedisTryAgainException(error
-                        + ". channel: " + channel + " data: " + data));
-            } else if (error.startsWith("LOADING")) {
-                data.tryFailure(new RedisLoadingException(error
-                        + ". channel: " + channel + " data: " + data));
-            } else if (error.startsWith("OOM")) {
-                data.tryFailure(new RedisOutOfMemoryException(error.split("OOM ")[1]
-                        + ". channel: " + channel + " data: " + data));
-            } else if (error.contains("-OOM ")) {
-                data.tryFailure(new RedisOutOfMemoryException(error.split("-OOM ")[1]
-                        + ". channel: " + channel + " data: " + data));
-            } else if (error.startsWith("NOAUTH")) {
-                data.tryFailure(new RedisAuthRequiredException(error
-                        + ". channel: " + channel + " data: " + data));
-            } else {
-                if (data != null) {
-                    data.tryFailure(new RedisException(error + ". channel: " + channel + " command: " + LogHelper.toString(data)));
-                } else {
-                    log.error("Error message from Redis: {} channel: {}", error, channel);
-                }
-            }
+            handleError(data, error, channel);
         } else if (code == ':') {
             Long result = readLong(in);
             handleResult(data, parts, result, false, channel);
@@ -365,18 +331,88 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             Object result = null;
             if (buf != null) {
                 Decoder<Object> decoder = selectDecoder(data, parts);
-                result = decoder.decode(buf, state());
+                result = decoder.decode(buf, state);
+            }
+            handleResult(data, parts, result, false, channel);
+        } else if (code == ',') {
+            ByteBuf buf = readDoubleBytes(in);
+            Decoder<Object> decoder = selectDecoder(data, parts);
+            Object result = decoder.decode(buf, state);
+            handleResult(data, parts, result, false, channel);
+        } else if (code == '#') {
+            Long result = null;
+            if (readBoolean(in)) {
+                result = 1L;
+            }
+            handleResult(data, parts, result, false, channel);
+        } else if (code == '_') {
+            in.skipBytes(2);
+            if (!isNested(parts, commandsData) && isReplyOf(NULL_ARRAY_REPLY_COMMANDS, data)) {
+                state.incLevel();
+                decodeList(in, data, parts, channel, -1, new ArrayList<Object>(0), skipConvertor, commandsData);
+                state.decLevel();
+                return;
+            }
+            handleResult(data, parts, null, false, channel);
+        } else if (code == '(') {
+            BigInteger result = new BigInteger(readString(in));
+            handleResult(data, parts, result, false, channel);
+        } else if (code == '=') {
+            ByteBuf buf = readBytes(in);
+            Object result = null;
+            if (buf != null) {
+                // skip three chars format and colon
+                buf.skipBytes(4);
+                Decoder<Object> decoder = selectDecoder(data, parts);
+                result = decoder.decode(buf, state);
             }
             handleResult(data, parts, result, false, channel);
-        } else if (code == '*') {
+        } else if (code == '!') {
+            ByteBuf buf = readBytes(in);
+            handleError(data, buf.toString(CharsetUtil.UTF_8), channel);
+        } else if (code == '|') {
+            // attributes aren't exposed, decode and skip them
+            long size = readLong(in);
+            for (long i = 0; i < size * 2; i++) {
+                decodeObject(in);
+            }
+            decode(in, data, parts, channel, skipConvertor, commandsData);
+        } else if (code == '%' && !isNested(parts, commandsData) && isReplyOf(PAIRS_REPLY_COMMANDS, data)) {
+            long size = readLong(in);
+            List<Object> respParts = new ArrayList<Object>(Math.max((int) size, 0));
+
+            state.incLevel();
+
+            for (long i = 0; i < size; i++) {
+                state.incLevel();
+                decodeList(in, data, respParts, channel, 2, new ArrayList<Object>(2), skipConvertor, null);
+                state.decLevel();
+            }
+            decodeListResult(data, parts, channel, respParts);
+
+            state.decLevel();
+        } else if ((code == '*' || code == '~' || code == '%')
+                        && isNested(parts, commandsData) && isReplyOf(FLAT_REPLY_COMMANDS, data)) {
             long size = readLong(in);
+            if (code == '%') {
+                size *= 2;
+            }
+            for (long i = 0; i < size; i++) {
+                decode(in, data, parts, channel, skipConvertor, null);
+            }
+        } else if (code == '*' || code == '~' || code == '%') {
+            long size = readLong(in);
+            if (code == '%') {
+                // map is decoded as flat list of keys and values
+                size *= 2;
+            }
             List<Object> respParts = new ArrayList<Object>(Math.max((int) size, 0));
             
-            state().incLevel();
+            state.incLevel();
             
             decodeList(in, data, parts, channel, size, respParts, skipConvertor, commandsData);
             
-            state().decLevel();
+            state.decLevel();
             
         } else {
             String dataStr = in.toString(0, in.writerIndex(), CharsetUtil.UTF_8);
@@ -384,6 +420,123 @@ public class CommandDecoder extends ReplayingDecoder<State> {
         }
     }
 
+    private boolean isNested(List<Object> parts, List<CommandData<?, ?>> commandsData) {
+        return parts != null && commandsData == null;
+    }
+
+    private boolean isReplyOf(Set<String> commands, CommandData<Object, Object> data) {
+        return data != null && commands.contains(data.getCommand().getName());
+    }
+
+    private void handleError(CommandData<Object, Object> data, String error, Channel channel) {
+        if (error.startsWith("MOVED")) {
+            String[] errorParts = error.split(" ");
+            int slot = Integer.valueOf(errorParts[1]);
+            String addr = errorParts[2];
+            data.tryFailure(new RedisMovedException(slot, addr));
+        } else if (error.startsWith("ASK")) {
+            String[] errorParts = error.split(" ");
+            int slot = Integer.valueOf(errorParts[1]);
+            String addr = errorParts[2];
+            data.tryFailure(new RedisAskException(slot, addr));
+        } else if (error.startsWith("TRYAGAIN")) {
+            data.tryFailure(new RedisTryAgainException(error
+                    + ". channel: " + channel + " data: " + data));
+        } else if (error.startsWith("LOADING")) {
+            data.tryFailure(new RedisLoadingException(error
+                    + ". channel: " + channel + " data: " + data));
+        } else if (error.startsWith("OOM")) {
+            data.tryFailure(new RedisOutOfMemoryException(error.split("OOM ")[1]
+                    + ". channel: " + channel + " data: " + data));
+        } else if (error.contains("-OOM ")) {
+            data.tryFailure(new RedisOutOfMemoryException(error.split("-OOM ")[1]
+                    + ". channel: " + channel + " data: " + data));
+        } else if (error.startsWith("NOAUTH")) {
+            data.tryFailure(new RedisAuthRequiredException(error
+                    + ". channel: " + channel + " data: " + data));
+        } else {
+            if (data != null) {
+                data.tryFailure(new RedisException(error + ". channel: " + channel + " command: " + LogHelper.toString(data)));
+            } else {
+                log.error("Error message from Redis: {} channel: {}", error, channel);
+            }
+        }
+    }
+
+    private Object decodeObject(ByteBuf in) throws IOException {
+        int code = in.readByte();
+        if (code == '+' || code == '-') {
+            return readString(in);
+        } else if (code == ':') {
+            return readLong(in);
+        } else if (code == '$' || code == '=' || code == '!') {
+            ByteBuf buf = readBytes(in);
+            if (buf == null) {
+                return null;
+            }
+            return ByteBufUtil.getBytes(buf);
+        } else if (code == ',') {
+            return readDouble(in);
+        } else if (code == '#') {
+            return readBoolean(in);
+        } else if (code == '_') {
+            in.skipBytes(2);
+            return null;
+        } else if (code == '(') {
+            return new BigInteger(readString(in));
+        } else if (code == '|') {
+            long size = readLong(in);
+            for (long i = 0; i < size * 2; i++) {
+                decodeObject(in);
+            }
+            return decodeObject(in);
+        } else if (code == '*' || code == '~' || code == '>' || code == '%') {
+            long size = readLong(in);
+            if (code == '%') {
+                size *= 2;
+            }
+            List<Object> result = new ArrayList<Object>(Math.max((int) size, 0));
+            for (long i = 0; i < size; i++) {
+                result.add(decodeObject(in));
+            }
+            return result;
+        }
+        throw new IOException("Can't decode reply with type: " + (char) code);
+    }
+
+    private Double readDouble(ByteBuf in) {
+        String value = readString(in);
+        if ("inf".equals(value)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if ("-inf".equals(value)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if ("nan".equals(value)) {
+            return Double.NaN;
+        }
+        return Double.valueOf(value);
+    }
+
+    private ByteBuf readDoubleBytes(ByteBuf in) {
+        String value = readString(in);
+        // infinity and NaN are converted to Java notation
+        if ("inf".equals(value)) {
+            value = String.valueOf(Double.POSITIVE_INFINITY);
+        } else if ("-inf".equals(value)) {
+            value = String.valueOf(Double.NEGATIVE_INFINITY);
+        } else if ("nan".equals(value)) {
+            value = String.valueOf(Double.NaN);
+        }
+        return Unpooled.wrappedBuffer(value.getBytes(CharsetUtil.UTF_8));
+    }
+
+    private Boolean readBoolean(ByteBuf in) {
+        byte value = in.readByte();
+        in.skipBytes(2);
+        return value == 't';
+    }
+
     private String readString(ByteBuf in) {
         int len = in.bytesBefore((byte) '\r');
         String result = in.toString(in.readerIndex(), len, CharsetUtil.UTF_8);
@@ -413,12 +566,17 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             }
         }
 
+        decodeListResult(data, parts, channel, respParts);
+    }
+
+    private void decodeListResult(CommandData<Object, Object> data, List<Object> parts,
+            Channel channel, List<Object> respParts) throws IOException {
         MultiDecoder<Object> decoder = messageDecoder(data, respParts);
         if (decoder == null) {
             return;
         }
 
-        Object result = decoder.decode(respParts, state());
+        Object result = decoder.decode(respParts, state);
         decodeResult(data, parts, channel, result);
     }
 
@@ -463,7 +621,7 @@ public class CommandDecoder extends ReplayingDecoder<State> {
         if (parts != null) {
             MultiDecoder<Object> multiDecoder = data.getCommand().getReplayMultiDecoder();
             if (multiDecoder != null) {
-                Decoder<Object> mDecoder = multiDecoder.getDecoder(parts.size(), state());
+                Decoder<Object> mDecoder = multiDecoder.getDecoder(parts.size(), state);
                 if (mDecoder != null) {
                     return mDecoder;
                 }
@@ -38,9 +38,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufUtil;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
@@ -58,11 +57,19 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
 
     public static final CommandEncoder INSTANCE = new CommandEncoder();
     
+    /**
+     * ByteBuf params of this size or bigger are added
+     * to outgoing message as is without copying
+     */
+    static final int ZERO_COPY_THRESHOLD = 8 * 1024;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private static final char ARGS_PREFIX = '*';
     private static final char BYTES_PREFIX = '$';
-    private static final byte[] CRLF = "\r\n".getBytes();
+    private static final short CRLF = ('\r' << 8) | '\n';
+
+    private static final byte[] DIGITS = "0123456789".getBytes(CharsetUtil.US_ASCII);
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
@@ -70,6 +77,19 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
             if (!promise.setUncancellable()) {
                 return;
             }
+
+            CommandData<?, ?> data = (CommandData<?, ?>) msg;
+            if (hasLargeParams(data)) {
+                ByteBuf out;
+                try {
+                    out = encodeComposite(ctx, data);
+                } catch (Exception e) {
+                    promise.tryFailure(e);
+                    throw e;
+                }
+                ctx.write(out, promise);
+                return;
+            }
         }
 
         try {
@@ -80,74 +100,176 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
         }
     }
     
+    private boolean hasLargeParams(CommandData<?, ?> msg) {
+        for (Object param : msg.getParams()) {
+            if (param instanceof ByteBuf
+                    && ((ByteBuf) param).readableBytes() >= ZERO_COPY_THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ByteBuf encodeComposite(ChannelHandlerContext ctx, CommandData<?, ?> msg) throws Exception {
+        CompositeByteBuf result = ctx.alloc().compositeBuffer(msg.getParams().length * 2 + 1);
+        try {
+            ByteBuf out = ctx.alloc().buffer();
+            writeHeader(out, msg);
+
+            for (Object param : msg.getParams()) {
+                if (param instanceof ByteBuf
+                        && ((ByteBuf) param).readableBytes() >= ZERO_COPY_THRESHOLD) {
+                    ByteBuf buf = (ByteBuf) param;
+                    out.writeByte(BYTES_PREFIX);
+                    writeLength(out, buf.readableBytes());
+                    out.writeShort(CRLF);
+                    result.addComponent(true, out);
+                    // param is released by command executor
+                    result.addComponent(true, buf.retainedSlice());
+
+                    out = ctx.alloc().buffer();
+                    out.writeShort(CRLF);
+                } else {
+                    writeArgument(out, param);
+                }
+            }
+            result.addComponent(true, out);
+
+            logMessage(ctx, msg, result);
+            return result;
+        } catch (Exception e) {
+            result.release();
+            msg.tryFailure(e);
+            throw e;
+        }
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, CommandData<?, ?> msg, ByteBuf out) throws Exception {
         try {
-            out.writeByte(ARGS_PREFIX);
-            int len = 1 + msg.getParams().length;
-            if (msg.getCommand().getSubName() != null) {
-                len++;
-            }
-            out.writeCharSequence(Long.toString(len), CharsetUtil.US_ASCII);
-            out.writeBytes(CRLF);
-            
-            writeArgument(out, msg.getCommand().getName().getBytes(CharsetUtil.UTF_8));
-            if (msg.getCommand().getSubName() != null) {
-                writeArgument(out, msg.getCommand().getSubName().getBytes(CharsetUtil.UTF_8));
-            }
+            writeHeader(out, msg);
 
             for (Object param : msg.getParams()) {
-                ByteBuf buf = encode(param);
-                writeArgument(out, buf);
-                if (!(param instanceof ByteBuf)) {
-                    buf.release();
-                }
+                writeArgument(out, param);
             }
             
-            if (log.isTraceEnabled()) {
-                String info = out.toString(CharsetUtil.UTF_8);
-                if (RedisCommands.AUTH.equals(msg.getCommand())) {
-                    info = info.substring(0, info.indexOf(RedisCommands.AUTH.getName()) + RedisCommands.AUTH.getName().length()) + "(password masked)";
-                }
-                log.trace("channel: {} message: {}", ctx.channel(), info);
-            }
+            logMessage(ctx, msg, out);
         } catch (Exception e) {
             msg.tryFailure(e);
             throw e;
         }
     }
 
-    private ByteBuf encode(Object in) {
-        if (in instanceof byte[]) {
-            return Unpooled.wrappedBuffer((byte[]) in);
-        }
-        if (in instanceof ByteBuf) {
-            return (ByteBuf) in;
+    private void logMessage(ChannelHandlerContext ctx, CommandData<?, ?> msg, ByteBuf out) {
+        if (log.isTraceEnabled()) {
+            String info = out.toString(CharsetUtil.UTF_8);
+            if (RedisCommands.AUTH.equals(msg.getCommand())) {
+                info = info.substring(0, info.indexOf(RedisCommands.AUTH.getName()) + RedisCommands.AUTH.getName().length()) + "(password masked)";
+            }
+            log.trace("channel: {} message: {}", ctx.channel(), info);
         }
-        if (in instanceof ChannelName) {
-            return Unpooled.wrappedBuffer(((ChannelName) in).getName());
+    }
+
+    private void writeHeader(ByteBuf out, CommandData<?, ?> msg) {
+        out.writeByte(ARGS_PREFIX);
+        int len = 1 + msg.getParams().length;
+        if (msg.getCommand().getSubName() != null) {
+            len++;
         }
+        writeLength(out, len);
+        out.writeShort(CRLF);
 
-        String payload = in.toString();
-        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(ByteBufUtil.utf8MaxBytes(payload));
-        ByteBufUtil.writeUtf8(buf, payload);
-        return buf;
+        // name and subName encoded once per command
+        out.writeBytes(msg.getCommand().getEncodedName());
     }
-    
+
+    private void writeArgument(ByteBuf out, Object param) {
+        if (param instanceof byte[]) {
+            writeArgument(out, (byte[]) param);
+        } else if (param instanceof ByteBuf) {
+            writeArgument(out, (ByteBuf) param);
+        } else if (param instanceof ChannelName) {
+            writeArgument(out, ((ChannelName) param).getName());
+        } else if (param instanceof Long || param instanceof Integer) {
+            writeArgument(out, ((Number) param).longValue());
+        } else {
+            writeArgument(out, param.toString());
+        }
+    }
+
     private void writeArgument(ByteBuf out, byte[] arg) {
         out.writeByte(BYTES_PREFIX);
-        out.writeCharSequence(Long.toString(arg.length), CharsetUtil.US_ASCII);
-        out.writeBytes(CRLF);
+        writeLength(out, arg.length);
+        out.writeShort(CRLF);
         out.writeBytes(arg);
-        out.writeBytes(CRLF);
+        out.writeShort(CRLF);
     }
     
     private void writeArgument(ByteBuf out, ByteBuf arg) {
         out.writeByte(BYTES_PREFIX);
-        out.writeCharSequence(Long.toString(arg.readableBytes()), CharsetUtil.US_ASCII);
-        out.writeBytes(CRLF);
+        writeLength(out, arg.readableBytes());
+        out.writeShort(CRLF);
         out.writeBytes(arg, arg.readerIndex(), arg.readableBytes());
-        out.writeBytes(CRLF);
+        out.writeShort(CRLF);
+    }
+
+    private void writeArgument(ByteBuf out, String arg) {
+        out.writeByte(BYTES_PREFIX);
+        writeLength(out, ByteBufUtil.utf8Bytes(arg));
+        out.writeShort(CRLF);
+        ByteBufUtil.writeUtf8(out, arg);
+        out.writeShort(CRLF);
+    }
+
+    private void writeArgument(ByteBuf out, long arg) {
+        out.writeByte(BYTES_PREFIX);
+        writeLength(out, digits(arg));
+        out.writeShort(CRLF);
+        writeLength(out, arg);
+        out.writeShort(CRLF);
+    }
+
+    private static int digits(long value) {
+        if (value == Long.MIN_VALUE) {
+            return 20;
+        }
+        int size = 1;
+        if (value < 0) {
+            size++;
+            value = -value;
+        }
+        while (value >= 10) {
+            value /= 10;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Writes decimal representation of value without intermediate allocations
+     */
+    static void writeLength(ByteBuf out, long value) {
+        if (value == Long.MIN_VALUE) {
+            out.writeCharSequence(Long.toString(value), CharsetUtil.US_ASCII);
+            return;
+        }
+        if (value >= 0 && value < 10) {
+            out.writeByte(DIGITS[(int) value]);
+            return;
+        }
+
+        int size = digits(value);
+        int index = out.writerIndex();
+        out.ensureWritable(size);
+        if (value < 0) {
+            out.setByte(index, '-');
+            value = -value;
+        }
+        for (int i = index + size - 1; value > 0; i--) {
+            out.setByte(i, DIGITS[(int) (value % 10)]);
+            value /= 10;
+        }
+        out.writerIndex(index + size);
     }
 
 }
@@ -67,9 +67,7 @@ public class CommandPubSubDecoder extends CommandDecoder {
     protected void decodeCommand(Channel channel, ByteBuf in, QueueCommand data) throws Exception {
         if (data == null) {
             try {
-                while (in.writerIndex() > in.readerIndex()) {
-                    decode(in, null, null, channel, false, null);
-                }
+                decode(in, null, null, channel, false, null);
                 sendNext(channel);
             } catch (Exception e) {
                 log.error("Unable to decode data. channel: " + channel + ", reply: " + LogHelper.toString(in), e);
@@ -79,9 +77,7 @@ public class CommandPubSubDecoder extends CommandDecoder {
         } else if (data instanceof CommandData) {
             CommandData<Object, Object> cmd = (CommandData<Object, Object>) data;
             try {
-                while (in.writerIndex() > in.readerIndex()) {
-                    decode(in, cmd, null, channel, false, null);
-                }
+                decode(in, cmd, null, channel, false, null);
                 sendNext(channel, data);
             } catch (Exception e) {
                 log.error("Unable to decode data. channel: " + channel + ", reply: " + LogHelper.toString(in), e);
@@ -104,8 +100,6 @@ public class CommandPubSubDecoder extends CommandDecoder {
         }
 
         if (result instanceof Message) {
-            checkpoint();
-
             RedisPubSubConnection pubSubConnection = RedisPubSubConnection.getFrom(channel);
             ChannelName channelName = ((Message) result).getChannel();
             if (result instanceof PubSubStatusMessage) {
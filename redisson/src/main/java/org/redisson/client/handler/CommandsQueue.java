@@ -49,13 +49,33 @@ public class CommandsQueue extends ChannelDuplexHandler {
 
     private final Queue<QueueCommandHolder> queue = new ConcurrentLinkedQueue<>();
 
+    private final boolean pipelining;
+
     private final ChannelFutureListener listener = future -> {
         if (!future.isSuccess() && future.channel().isActive()) {
             sendNextCommand(future.channel());
         }
     };
 
+    public CommandsQueue() {
+        this(false);
+    }
+
+    public CommandsQueue(boolean pipelining) {
+        this.pipelining = pipelining;
+    }
+
+    public boolean isPipelining() {
+        return pipelining;
+    }
+
     public void sendNextCommand(Channel channel) {
+        if (pipelining) {
+            queue.poll();
+            updateCurrentCommand(channel);
+            return;
+        }
+
         QueueCommand command = channel.attr(CommandsQueue.CURRENT_COMMAND).getAndSet(null);
         if (command != null) {
             queue.poll();
@@ -92,6 +112,11 @@ public class CommandsQueue extends ChannelDuplexHandler {
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         if (msg instanceof QueueCommand) {
             QueueCommand data = (QueueCommand) msg;
+            if (pipelining) {
+                writePipelined(ctx, data, promise);
+                return;
+            }
+
             QueueCommandHolder holder = queue.peek();
             if (holder != null && holder.getCommand() == data) {
                 super.write(ctx, msg, promise);
@@ -104,6 +129,33 @@ public class CommandsQueue extends ChannelDuplexHandler {
         }
     }
 
+    private void writePipelined(ChannelHandlerContext ctx, QueueCommand data, ChannelPromise promise) throws Exception {
+        // queue holds commands in order they were written,
+        // head of queue is the command awaiting reply
+        QueueCommandHolder holder = new QueueCommandHolder(data, promise);
+        holder.trySend();
+        queue.add(holder);
+        if (queue.peek() == holder) {
+            ctx.channel().attr(CURRENT_COMMAND).set(data);
+        }
+
+        promise.addListener(future -> {
+            if (!future.isSuccess() && queue.remove(holder)) {
+                updateCurrentCommand(ctx.channel());
+            }
+        });
+        super.write(ctx, data, promise);
+    }
+
+    private void updateCurrentCommand(Channel channel) {
+        QueueCommandHolder holder = queue.peek();
+        if (holder != null) {
+            channel.attr(CURRENT_COMMAND).set(holder.getCommand());
+        } else {
+            channel.attr(CURRENT_COMMAND).set(null);
+        }
+    }
+
     private void sendData(Channel ch) {
         QueueCommandHolder command = queue.peek();
         if (command != null && command.trySend()) {
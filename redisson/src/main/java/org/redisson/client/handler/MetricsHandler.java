@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client.handler;
+
+import org.redisson.client.RedisClient;
+import org.redisson.metrics.MetricsRecorder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Reports amount of bytes written to and read from channel
+ * to {@link MetricsRecorder}.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class MetricsHandler extends ChannelDuplexHandler {
+
+    private final MetricsRecorder metricsRecorder;
+    private final RedisClient redisClient;
+
+    public MetricsHandler(MetricsRecorder metricsRecorder, RedisClient redisClient) {
+        this.metricsRecorder = metricsRecorder;
+        this.redisClient = redisClient;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        int size = size(msg);
+        if (size > 0) {
+            metricsRecorder.recordBytesWritten(redisClient.getAddr(), size);
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        int size = size(msg);
+        if (size > 0) {
+            metricsRecorder.recordBytesRead(redisClient.getAddr(), size);
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private int size(Object msg) {
+        if (msg instanceof ByteBuf) {
+            return ((ByteBuf) msg).readableBytes();
+        }
+        if (msg instanceof ByteBufHolder) {
+            return ((ByteBufHolder) msg).content().readableBytes();
+        }
+        return 0;
+    }
+
+}
@@ -79,6 +79,10 @@ public class RedisChannelInitializer extends ChannelInitializer<Channel> {
     
     @Override
     protected void initChannel(Channel ch) throws Exception {
+        if (config.getMetricsRecorder() != null) {
+            ch.pipeline().addLast(new MetricsHandler(config.getMetricsRecorder(), redisClient));
+        }
+
         initSsl(config, ch);
         
         if (type == Type.PLAIN) {
@@ -87,18 +91,24 @@ public class RedisChannelInitializer extends ChannelInitializer<Channel> {
             ch.pipeline().addLast(new RedisPubSubConnectionHandler(redisClient));
         }
         
+        ch.pipeline().addLast(connectionWatchdog);
+
+        if (config.getWriteCoalescingSize() > 0) {
+            ch.pipeline().addLast(new WriteCoalescingHandler(config.getWriteCoalescingSize(), config.getMetricsRecorder(), redisClient));
+        }
+
+        boolean pipelining = type == Type.PLAIN && config.isPipelining();
         ch.pipeline().addLast(
-            connectionWatchdog,
             CommandEncoder.INSTANCE,
             CommandBatchEncoder.INSTANCE,
-            new CommandsQueue());
+            new CommandsQueue(pipelining));
         
         if (pingConnectionHandler != null) {
             ch.pipeline().addLast(pingConnectionHandler);
         }
         
         if (type == Type.PLAIN) {
-            ch.pipeline().addLast(new CommandDecoder(config.getExecutor(), config.isDecodeInExecutor()));
+            ch.pipeline().addLast(new CommandDecoder(config.getExecutor(), config.isDecodeInExecutor() && !pipelining));
         } else {
             ch.pipeline().addLast(new CommandPubSubDecoder(config.getExecutor(), config.isKeepPubSubOrder(), config.isDecodeInExecutor()));
         }
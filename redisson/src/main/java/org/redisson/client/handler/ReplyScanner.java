@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client.handler;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Incremental scanner of Redis protocol replies.
+ * <p>
+ * Finds boundaries of complete reply in buffer. Position and
+ * nesting of already scanned part are kept between invocations,
+ * so bytes received earlier aren't scanned again once more data arrives.
+ * Both RESP2 and RESP3 reply types are supported.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ReplyScanner {
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    // offset relative to reader index of buffer
+    private int position;
+    private long[] remaining = new long[8];
+    private int depth;
+
+    /**
+     * Scans buffer starting from its reader index.
+     *
+     * @param in - buffer
+     * @return length of complete reply in bytes or <code>-1</code> if more data is required
+     * @throws IOException if reply has invalid format
+     */
+    public int scan(ByteBuf in) throws IOException {
+        int start = in.readerIndex();
+        int end = in.writerIndex();
+        while (true) {
+            int index = start + position;
+            if (index >= end) {
+                return -1;
+            }
+
+            int lineEnd = in.indexOf(index + 1, end, LF);
+            if (lineEnd == -1) {
+                return -1;
+            }
+
+            byte code = in.getByte(index);
+            if (code == '+' || code == '-' || code == ':'
+                    || code == ',' || code == '#' || code == '_' || code == '(') {
+                position = lineEnd + 1 - start;
+            } else if (code == '$' || code == '=' || code == '!') {
+                long size = readLong(in, index + 1, lineEnd);
+                if (size == -1) {
+                    position = lineEnd + 1 - start;
+                } else {
+                    long elementEnd = lineEnd + 1 + size + 2;
+                    if (elementEnd > end) {
+                        return -1;
+                    }
+                    position = (int) (elementEnd - start);
+                }
+            } else if (code == '*' || code == '~' || code == '>' || code == '%') {
+                long size = readLong(in, index + 1, lineEnd);
+                if (code == '%') {
+                    size *= 2;
+                }
+                position = lineEnd + 1 - start;
+                if (size > 0) {
+                    push(size);
+                    continue;
+                }
+            } else if (code == '|') {
+                // attribute map is followed by the reply it describes
+                long size = readLong(in, index + 1, lineEnd);
+                position = lineEnd + 1 - start;
+                push(size * 2 + 1);
+                continue;
+            } else {
+                throw new IOException("Can't decode reply with type: " + (char) code);
+            }
+
+            if (completeElement()) {
+                int length = position;
+                reset();
+                return length;
+            }
+        }
+    }
+
+    /**
+     * Resets scanner state
+     */
+    public void reset() {
+        position = 0;
+        depth = 0;
+    }
+
+    private void push(long size) {
+        if (depth == remaining.length) {
+            long[] array = new long[remaining.length * 2];
+            System.arraycopy(remaining, 0, array, 0, remaining.length);
+            remaining = array;
+        }
+        remaining[depth++] = size;
+    }
+
+    private boolean completeElement() {
+        while (depth > 0) {
+            if (--remaining[depth - 1] > 0) {
+                return false;
+            }
+            depth--;
+        }
+        return true;
+    }
+
+    private long readLong(ByteBuf in, int from, int lineEnd) throws IOException {
+        int to = lineEnd - 1;
+        if (to < from || in.getByte(to) != CR) {
+            throw new IOException("Improper line ending");
+        }
+
+        long value = 0;
+        int sign = 1;
+        int i = from;
+        if (in.getByte(i) == '-') {
+            sign = -1;
+            i++;
+        }
+        for (; i < to; i++) {
+            int digit = in.getByte(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IOException("Invalid character in integer");
+            }
+            value = value * 10 + digit;
+        }
+        return value * sign;
+    }
+
+}
@@ -26,6 +26,8 @@ public class State {
 
     private int level = -1;
 
+    private Throwable batchError;
+
     public State() {
     }
 
@@ -48,6 +50,13 @@ public class State {
         return batchIndex;
     }
 
+    public void setBatchError(Throwable batchError) {
+        this.batchError = batchError;
+    }
+    public Throwable getBatchError() {
+        return batchError;
+    }
+
     @Override
     public String toString() {
         return "State [batchIndex=" + batchIndex + ", level=" + level + "]";
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client.handler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.client.RedisClient;
+import org.redisson.metrics.MetricsRecorder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Coalesces encoded commands written to the same channel
+ * during one event loop tick into a single flush.
+ * Flush is issued immediately once amount of pending bytes
+ * reaches <code>maxBytes</code> limit.
+ * Amount of commands carried by each flush is reported
+ * to {@link MetricsRecorder} if it's defined.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class WriteCoalescingHandler extends ChannelDuplexHandler {
+
+    private final int maxBytes;
+    private final MetricsRecorder metricsRecorder;
+    private final RedisClient redisClient;
+
+    private int pendingBytes;
+    private int pendingCommands;
+    private boolean flushScheduled;
+
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedCommands = new AtomicLong();
+    private final AtomicLong maxFlushedCommands = new AtomicLong();
+
+    public WriteCoalescingHandler(int maxBytes) {
+        this(maxBytes, null, null);
+    }
+
+    public WriteCoalescingHandler(int maxBytes, MetricsRecorder metricsRecorder, RedisClient redisClient) {
+        this.maxBytes = maxBytes;
+        this.metricsRecorder = metricsRecorder;
+        this.redisClient = redisClient;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf) {
+            pendingBytes += ((ByteBuf) msg).readableBytes();
+            pendingCommands++;
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        if (pendingBytes >= maxBytes) {
+            flushNow(ctx);
+            return;
+        }
+
+        if (!flushScheduled) {
+            flushScheduled = true;
+            // executed after all tasks already submitted to event loop
+            ctx.channel().eventLoop().execute(() -> {
+                flushScheduled = false;
+                if (pendingCommands > 0) {
+                    flushNow(ctx);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        if (pendingCommands > 0) {
+            flushNow(ctx);
+        }
+        ctx.close(promise);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        if (pendingCommands > 0) {
+            flushNow(ctx);
+        }
+        ctx.disconnect(promise);
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        flushes.incrementAndGet();
+        flushedCommands.addAndGet(pendingCommands);
+        if (pendingCommands > maxFlushedCommands.get()) {
+            maxFlushedCommands.set(pendingCommands);
+        }
+        if (metricsRecorder != null) {
+            metricsRecorder.recordFlush(redisClient.getAddr(), pendingCommands);
+        }
+
+        pendingBytes = 0;
+        pendingCommands = 0;
+        ctx.flush();
+    }
+
+    /**
+     * Returns amount of flushes issued to channel
+     *
+     * @return amount of flushes
+     */
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    /**
+     * Returns total amount of commands carried by all flushes.
+     * Batch of commands is counted as one.
+     *
+     * @return amount of commands
+     */
+    public long getFlushedCommands() {
+        return flushedCommands.get();
+    }
+
+    /**
+     * Returns maximum amount of commands carried by single flush
+     *
+     * @return amount of commands
+     */
+    public long getMaxFlushedCommands() {
+        return maxFlushedCommands.get();
+    }
+
+    /**
+     * Returns average amount of commands carried by single flush
+     *
+     * @return amount of commands
+     */
+    public double getAverageFlushedCommands() {
+        long f = flushes.get();
+        if (f == 0) {
+            return 0;
+        }
+        return (double) flushedCommands.get() / f;
+    }
+
+}
@@ -19,6 +19,8 @@ import org.redisson.client.protocol.convertor.Convertor;
 import org.redisson.client.protocol.convertor.EmptyConvertor;
 import org.redisson.client.protocol.decoder.MultiDecoder;
 
+import io.netty.util.CharsetUtil;
+
 /**
  * 
  * @author Nikita Koksharov
@@ -33,6 +35,7 @@ public class RedisCommand<R> {
 
     private final String name;
     private final String subName;
+    private volatile byte[] encodedName;
 
     private MultiDecoder<R> replayMultiDecoder;
     private Decoder<R> replayDecoder;
@@ -129,6 +132,30 @@ public class RedisCommand<R> {
         return name;
     }
 
+    /**
+     * Returns name and sub name of command encoded as Redis protocol bulk strings.
+     * 
+     * @return encoded name
+     */
+    public byte[] getEncodedName() {
+        byte[] result = encodedName;
+        if (result == null) {
+            StringBuilder str = new StringBuilder();
+            appendBulkString(str, name);
+            if (subName != null) {
+                appendBulkString(str, subName);
+            }
+            result = str.toString().getBytes(CharsetUtil.UTF_8);
+            encodedName = result;
+        }
+        return result;
+    }
+
+    private void appendBulkString(StringBuilder str, String value) {
+        str.append('$').append(value.getBytes(CharsetUtil.UTF_8).length).append("\r\n")
+            .append(value).append("\r\n");
+    }
+
     public Decoder<R> getReplayDecoder() {
         return replayDecoder;
     }
@@ -20,6 +20,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.redisson.api.BatchOptions;
+import org.redisson.client.RedisConnection;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.BatchCommandData;
 import org.redisson.client.protocol.RedisCommand;
@@ -80,5 +81,10 @@ public class BaseRedisBatchExecutor<V, R> extends RedisExecutor<V, R> {
             entry.getCommands().add(commandData);
         }
     }
-        
+
+    @Override
+    protected boolean isPipelined(RedisConnection connection) {
+        return false;
+    }
+
 }
@@ -605,10 +605,25 @@ public class CommandAsyncService implements CommandAsyncExecutor {
     public <V, R> void async(boolean readOnlyMode, NodeSource source, Codec codec,
             RedisCommand<V> command, Object[] params, RPromise<R> mainPromise, 
             boolean ignoreRedirect) {
+        if (!readOnlyMode && connectionManager.getKeyInvalidationHub().hasListeners()) {
+            List<String> keys = getKeys(params);
+            mainPromise.onComplete((res, e) -> connectionManager.getKeyInvalidationHub().fireInvalidate(keys));
+        }
+
         RedisExecutor<V, R> executor = new RedisExecutor<>(readOnlyMode, source, codec, command, params, mainPromise, ignoreRedirect, connectionManager, objectBuilder);
         executor.execute();
     }
 
+    protected List<String> getKeys(Object[] params) {
+        List<String> keys = new ArrayList<>();
+        for (Object param : params) {
+            if (param instanceof String) {
+                keys.add((String) param);
+            }
+        }
+        return keys;
+    }
+
     private void free(Object[] params) {
         for (Object obj : params) {
             ReferenceCountUtil.safeRelease(obj);
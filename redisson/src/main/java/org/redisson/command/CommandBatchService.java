@@ -35,6 +35,7 @@ import org.redisson.pubsub.AsyncSemaphore;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -108,6 +109,8 @@ public class CommandBatchService extends CommandAsyncService {
 
     private AtomicBoolean executed = new AtomicBoolean();
 
+    private final Queue<String> writtenKeys = new ConcurrentLinkedQueue<>();
+
     public CommandBatchService(ConnectionManager connectionManager) {
         super(connectionManager);
     }
@@ -128,6 +131,11 @@ public class CommandBatchService extends CommandAsyncService {
     @Override
     public <V, R> void async(boolean readOnlyMode, NodeSource nodeSource,
             Codec codec, RedisCommand<V> command, Object[] params, RPromise<R> mainPromise, boolean ignoreRedirect) {
+        if (!readOnlyMode && connectionManager.getKeyInvalidationHub().hasListeners()) {
+            // local caches are invalidated once batch is executed
+            writtenKeys.addAll(getKeys(params));
+        }
+
         if (isRedisBasedQueue()) {
             boolean isReadOnly = options.getExecutionMode() == ExecutionMode.REDIS_READ_ATOMIC;
             RedisExecutor<V, R> executor = new RedisQueuedBatchExecutor<>(isReadOnly, nodeSource, codec, command, params, mainPromise,
@@ -193,7 +201,9 @@ public class CommandBatchService extends CommandAsyncService {
         }
         
         if (isRedisBasedQueue()) {
-            return executeRedisBasedQueue();
+            RFuture<R> future = executeRedisBasedQueue();
+            future.onComplete((res, e) -> invalidateWrittenKeys());
+            return future;
         }
 
         if (this.options.getExecutionMode() != ExecutionMode.IN_MEMORY) {
@@ -224,6 +234,7 @@ public class CommandBatchService extends CommandAsyncService {
         
         RPromise<R> resultPromise;
         RPromise<Void> voidPromise = new RedissonPromise<Void>();
+        voidPromise.onComplete((res, e) -> invalidateWrittenKeys());
         if (this.options.isSkipResult()) {
             voidPromise.onComplete((res, e) -> {
                 executed.set(true);
@@ -296,6 +307,11 @@ public class CommandBatchService extends CommandAsyncService {
         return resultPromise;
     }
 
+    private void invalidateWrittenKeys() {
+        connectionManager.getKeyInvalidationHub().fireInvalidate(new ArrayList<>(writtenKeys));
+        writtenKeys.clear();
+    }
+
     private <R> RFuture<R> executeRedisBasedQueue() {
         int permits = 0;
         for (Entry entry : commands.values()) {
@@ -0,0 +1,538 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.redisson.SlotCallback;
+import org.redisson.api.ClientSideCachingOptions;
+import org.redisson.api.ClientSideCachingOptions.TrackingMode;
+import org.redisson.api.LocalCachedMapOptions.EvictionPolicy;
+import org.redisson.api.RFuture;
+import org.redisson.cache.BufferedLRUCacheMap;
+import org.redisson.cache.Cache;
+import org.redisson.cache.LFUCacheMap;
+import org.redisson.cache.LRUCacheMap;
+import org.redisson.cache.NoneCacheMap;
+import org.redisson.cache.ReferenceCacheMap;
+import org.redisson.cache.TinyLFUCacheMap;
+import org.redisson.client.RedisClient;
+import org.redisson.client.RedisClientConfig;
+import org.redisson.client.RedisConnection;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.config.Protocol;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.connection.NodeSource;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.FutureListener;
+
+/**
+ * Command executor which serves read commands from local cache.
+ * Cache entries are invalidated by Redis <code>CLIENT TRACKING</code> push messages.
+ * <p>
+ * Cache misses are executed on dedicated RESP3 connection per master node
+ * with tracking enabled. Replies and invalidation messages arrive through
+ * the same connection, so invalidation of a key can't be missed
+ * between read and caching of its result.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class CommandClientSideCachingService extends CommandAsyncService {
+
+    private static final Set<String> CACHEABLE_COMMANDS = new HashSet<>(Arrays.asList(
+            "GET", "STRLEN",
+            "HGET", "HMGET", "HGETALL", "HLEN", "HEXISTS", "HKEYS", "HVALS", "HSTRLEN",
+            "SMEMBERS", "SISMEMBER", "SCARD"));
+
+    private static final Object NULL = new Object();
+
+    /**
+     * Results of read commands cached for single Redis key
+     */
+    static class CachedKey {
+
+        final ConcurrentMap<CommandKey, Object> results = new ConcurrentHashMap<>();
+
+    }
+
+    /**
+     * Command name, codec and arguments of cached read command
+     */
+    static class CommandKey {
+
+        private final String name;
+        private final Codec codec;
+        private final Object[] args;
+        private final int hash;
+
+        CommandKey(RedisCommand<?> command, Codec codec, Object[] params) {
+            this.name = command.getName() + ' ' + command.getSubName();
+            this.codec = codec;
+            this.args = new Object[params.length];
+            for (int i = 0; i < params.length; i++) {
+                Object param = params[i];
+                if (param instanceof ByteBuf) {
+                    param = ByteBufUtil.getBytes((ByteBuf) param);
+                }
+                args[i] = param;
+            }
+            this.hash = 31 * (31 * name.hashCode() + codec.hashCode()) + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CommandKey)) {
+                return false;
+            }
+            CommandKey other = (CommandKey) obj;
+            return hash == other.hash
+                    && name.equals(other.name)
+                    && codec.equals(other.codec)
+                    && Arrays.deepEquals(args, other.args);
+        }
+
+    }
+
+    /**
+     * Dedicated connection with tracking enabled
+     */
+    static class TrackingConnection {
+
+        final RedisClient client;
+        final RFuture<RedisConnection> connectionFuture;
+        volatile RFuture<Void> trackingFuture;
+
+        TrackingConnection(RedisClient client, RFuture<RedisConnection> connectionFuture) {
+            this.client = client;
+            this.connectionFuture = connectionFuture;
+        }
+
+    }
+
+    private final ClientSideCachingOptions options;
+    private final Cache<String, CachedKey> cache;
+    private final ConcurrentMap<MasterSlaveEntry, TrackingConnection> connections = new ConcurrentHashMap<>();
+
+    private final FutureListener<Void> shutdownListener = f -> shutdown();
+    private final int invalidationListenerId;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CommandClientSideCachingService(ConnectionManager connectionManager, ClientSideCachingOptions options) {
+        super(connectionManager);
+        this.options = options;
+        this.cache = createCache(options);
+        connectionManager.getShutdownPromise().addListener(shutdownListener);
+        // keys written by this Redisson instance, including batches and transactions,
+        // are invalidated immediately without waiting for push message
+        this.invalidationListenerId = connectionManager.getKeyInvalidationHub().addListener(keys -> {
+            for (String key : keys) {
+                cache.remove(key);
+            }
+        });
+    }
+
+    private static Cache<String, CachedKey> createCache(ClientSideCachingOptions options) {
+        if (options.getEvictionPolicy() == EvictionPolicy.NONE) {
+            return new NoneCacheMap<>(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.LRU) {
+            return new LRUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.LFU) {
+            return new LFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.BUFFERED_LRU) {
+            return new BufferedLRUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.TINY_LFU) {
+            return new TinyLFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.SOFT) {
+            return ReferenceCacheMap.soft(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.WEAK) {
+            return ReferenceCacheMap.weak(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
+        throw new IllegalArgumentException("Invalid eviction policy: " + options.getEvictionPolicy());
+    }
+
+    public long getCacheHits() {
+        return hits.get();
+    }
+
+    public long getCacheMisses() {
+        return misses.get();
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Closes tracking connections. Invoked on destroy or once Redisson instance is shut down.
+     */
+    public void shutdown() {
+        connectionManager.getShutdownPromise().removeListener(shutdownListener);
+        connectionManager.getKeyInvalidationHub().removeListener(invalidationListenerId);
+        for (TrackingConnection connection : connections.values()) {
+            connection.client.shutdownAsync();
+        }
+        connections.clear();
+        cache.clear();
+    }
+
+    private boolean isCacheable(String key, RedisCommand<?> command) {
+        if (key == null || !CACHEABLE_COMMANDS.contains(command.getName())) {
+            return false;
+        }
+        if (options.getTrackingMode() == TrackingMode.BCAST
+                && !options.getPrefixes().isEmpty()) {
+            // keys outside of prefixes never receive invalidation messages
+            for (String prefix : options.getPrefixes()) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public <T, R> RFuture<R> readAsync(String key, Codec codec, RedisCommand<T> command, Object... params) {
+        if (!isCacheable(key, command)) {
+            return super.readAsync(key, codec, command, params);
+        }
+
+        RPromise<R> mainPromise = createPromise();
+        readCached(key, codec, command, params, mainPromise);
+        return mainPromise;
+    }
+
+    @Override
+    public <T, R> RFuture<R> readBatchedAsync(Codec codec, RedisCommand<T> command, SlotCallback<T, R> callback, String... keys) {
+        if (!"MGET".equals(command.getName())) {
+            return super.readBatchedAsync(codec, command, callback, keys);
+        }
+
+        // cached keys are served locally and misses are read by single MGET per slot
+        Map<Object, Object> cached = new LinkedHashMap<>();
+        Map<Integer, List<String>> slot2keys = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (isCacheable(key, RedisCommands.GET)) {
+                CommandKey commandKey = new CommandKey(RedisCommands.GET, codec, new Object[] {key});
+                Object value = getCachedKey(key).results.get(commandKey);
+                if (value != null) {
+                    hits.incrementAndGet();
+                    if (value != NULL) {
+                        cached.put(key, value);
+                    }
+                    continue;
+                }
+                misses.incrementAndGet();
+            }
+            slot2keys.computeIfAbsent(connectionManager.calcSlot(key), k -> new ArrayList<>()).add(key);
+        }
+
+        RPromise<R> result = new RedissonPromise<>();
+        if (!cached.isEmpty()) {
+            try {
+                callback.onSlotResult((T) toResult(cached));
+            } catch (ReflectiveOperationException e) {
+                result.tryFailure(e);
+                return result;
+            }
+        }
+        if (slot2keys.isEmpty()) {
+            result.trySuccess(callback.onFinish());
+            return result;
+        }
+
+        AtomicInteger counter = new AtomicInteger(slot2keys.size());
+        for (Map.Entry<Integer, List<String>> entry : slot2keys.entrySet()) {
+            List<String> slotKeys = entry.getValue();
+            Map<String, CachedKey> currentKeys = new HashMap<>();
+            for (String key : slotKeys) {
+                if (isCacheable(key, RedisCommands.GET)) {
+                    currentKeys.put(key, getCachedKey(key));
+                }
+            }
+
+            RPromise<List<Object>> promise = new RedissonPromise<>();
+            readTracked(entry.getKey(), codec, RedisCommands.MGET, slotKeys.toArray(), promise, res -> {
+                List<Object> values = (List<Object>) res;
+                for (int i = 0; i < slotKeys.size(); i++) {
+                    String key = slotKeys.get(i);
+                    CachedKey currentKey = currentKeys.get(key);
+                    // key has been invalidated or evicted if cached key was replaced
+                    if (currentKey != null && cache.get(key) == currentKey) {
+                        Object value = values.get(i);
+                        if (value == null) {
+                            value = NULL;
+                        }
+                        currentKey.results.put(new CommandKey(RedisCommands.GET, codec, new Object[] {key}), value);
+                    }
+                }
+            });
+            promise.onComplete((values, e) -> {
+                if (e != null) {
+                    result.tryFailure(e);
+                    return;
+                }
+
+                Map<Object, Object> slotResult = new LinkedHashMap<>();
+                for (int i = 0; i < slotKeys.size(); i++) {
+                    if (values.get(i) != null) {
+                        slotResult.put(slotKeys.get(i), values.get(i));
+                    }
+                }
+                if (!slotResult.isEmpty()) {
+                    callback.onSlotResult((T) slotResult);
+                }
+                if (counter.decrementAndGet() == 0) {
+                    result.trySuccess(callback.onFinish());
+                }
+            });
+        }
+        return result;
+    }
+
+    private <T, R> void readCached(String key, Codec codec, RedisCommand<T> command, Object[] params, RPromise<R> mainPromise) {
+        CommandKey commandKey = new CommandKey(command, codec, params);
+        CachedKey cachedKey = getCachedKey(key);
+        Object cachedValue = cachedKey.results.get(commandKey);
+        if (cachedValue != null) {
+            hits.incrementAndGet();
+            free(params);
+            if (cachedValue == NULL) {
+                cachedValue = null;
+            }
+            handleResult(mainPromise, cachedValue);
+            return;
+        }
+        misses.incrementAndGet();
+
+        CachedKey currentKey = cachedKey;
+        readTracked(connectionManager.calcSlot(key), codec, command, params, mainPromise, res -> {
+            // key has been invalidated or evicted if cached key was replaced
+            if (cache.get(key) == currentKey) {
+                Object value = res;
+                if (value == null) {
+                    value = NULL;
+                }
+                currentKey.results.put(commandKey, value);
+            }
+        });
+    }
+
+    /**
+     * Executes read command through tracking connection of master node.
+     * Result is passed to <code>cacheHandler</code> only if it was read with tracking enabled.
+     */
+    private <T, R> void readTracked(int slot, Codec codec, RedisCommand<T> command, Object[] params,
+                                        RPromise<R> mainPromise, Consumer<Object> cacheHandler) {
+        MasterSlaveEntry entry = connectionManager.getEntry(slot);
+        if (entry == null) {
+            // regular execution handles missing node
+            async(true, new NodeSource(entry, slot), codec, command, params, mainPromise, false);
+            return;
+        }
+
+        TrackingConnection trackingConnection = getConnection(entry);
+        trackingConnection.connectionFuture.onComplete((connection, e) -> {
+            if (e != null) {
+                readUncached(entry, slot, codec, command, params, mainPromise);
+                return;
+            }
+
+            enableTracking(trackingConnection, connection).onComplete((r, ex) -> {
+                if (ex != null) {
+                    readUncached(entry, slot, codec, command, params, mainPromise);
+                    return;
+                }
+
+                RFuture<Object> future = connection.async(codec, command, params);
+                future.onComplete((res, exc) -> {
+                    if (exc != null) {
+                        // MOVED, ASK, LOADING or connection errors are handled with retries by regular execution
+                        readUncached(entry, slot, codec, command, params, mainPromise);
+                        return;
+                    }
+
+                    free(params);
+                    cacheHandler.accept(res);
+                    handleResult(mainPromise, res);
+                });
+            });
+        });
+    }
+
+    private CachedKey getCachedKey(String key) {
+        CachedKey cachedKey = cache.get(key);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
+
+        // cache implementations don't provide atomic putIfAbsent
+        synchronized (cache) {
+            cachedKey = cache.get(key);
+            if (cachedKey == null) {
+                cachedKey = new CachedKey();
+                cache.put(key, cachedKey);
+            }
+            return cachedKey;
+        }
+    }
+
+    /**
+     * Executes command through regular connection pool without caching its result.
+     * Used if tracking connection can't serve the command, e.g. during resharding.
+     */
+    private <T, R> void readUncached(MasterSlaveEntry entry, int slot, Codec codec, RedisCommand<T> command, Object[] params, RPromise<R> mainPromise) {
+        async(true, new NodeSource(entry, slot), codec, command, params, mainPromise, false);
+    }
+
+    private <R> void handleResult(RPromise<R> mainPromise, Object value) {
+        try {
+            mainPromise.trySuccess((R) toResult(value));
+        } catch (ReflectiveOperationException e) {
+            mainPromise.tryFailure(e);
+        }
+    }
+
+    private Object toResult(Object value) throws ReflectiveOperationException {
+        // cached collection shouldn't be exposed for modification
+        if (value instanceof Map) {
+            value = new LinkedHashMap<>((Map<?, ?>) value);
+        } else if (value instanceof Set) {
+            value = new LinkedHashSet<>((Set<?>) value);
+        } else if (value instanceof List) {
+            value = new ArrayList<>((List<?>) value);
+        }
+
+        if (objectBuilder != null) {
+            value = RedisExecutor.tryHandleReference(objectBuilder, value);
+        }
+        return value;
+    }
+
+    private TrackingConnection getConnection(MasterSlaveEntry entry) {
+        return connections.computeIfAbsent(entry, e -> {
+            RedisClientConfig config = new RedisClientConfig(e.getClient().getConfig());
+            config.setProtocol(Protocol.RESP3);
+            config.setPipelining(true);
+            RedisClient client = RedisClient.create(config);
+            RFuture<RedisConnection> connectionFuture = client.connectAsync();
+            TrackingConnection trackingConnection = new TrackingConnection(client, connectionFuture);
+            connectionFuture.onComplete((connection, ex) -> {
+                if (ex != null) {
+                    connections.remove(e, trackingConnection);
+                    client.shutdownAsync();
+                    return;
+                }
+
+                connection.addPushListener(this::onPush);
+                connection.setDisconnectedListener(() -> {
+                    // tracking state is lost with connection
+                    trackingConnection.trackingFuture = null;
+                    cache.clear();
+                });
+            });
+            return trackingConnection;
+        });
+    }
+
+    private RFuture<Void> enableTracking(TrackingConnection trackingConnection, RedisConnection connection) {
+        RFuture<Void> future = trackingConnection.trackingFuture;
+        if (future != null && (!future.isDone() || future.isSuccess())) {
+            return future;
+        }
+
+        List<Object> params = new ArrayList<>();
+        params.add("ON");
+        if (options.getTrackingMode() == TrackingMode.BCAST) {
+            params.add("BCAST");
+            for (String prefix : options.getPrefixes()) {
+                params.add("PREFIX");
+                params.add(prefix);
+            }
+        }
+        future = connection.async(RedisCommands.CLIENT_TRACKING, params.toArray());
+        trackingConnection.trackingFuture = future;
+        return future;
+    }
+
+    private void onPush(List<Object> message) {
+        if (message.size() < 2
+                || !"invalidate".equals(new String((byte[]) message.get(0), CharsetUtil.UTF_8))) {
+            return;
+        }
+
+        List<Object> keys = (List<Object>) message.get(1);
+        if (keys == null) {
+            // database has been flushed
+            cache.clear();
+            return;
+        }
+        for (Object key : keys) {
+            cache.remove(new String((byte[]) key, CharsetUtil.UTF_8));
+        }
+    }
+
+    private void free(Object[] params) {
+        for (Object obj : params) {
+            ReferenceCountUtil.safeRelease(obj);
+        }
+    }
+
+}
@@ -119,6 +119,11 @@ public class RedisCommonBatchExecutor extends RedisExecutor<Object, Void> {
         return c.getCommand().getName().equals(RedisCommands.WAIT.getName());
     }
 
+    @Override
+    protected boolean isPipelined(RedisConnection connection) {
+        return false;
+    }
+
     @Override
     protected void handleResult(RPromise<Void> attemptPromise, RFuture<RedisConnection> connectionFuture) throws ReflectiveOperationException {
         if (attemptPromise.isSuccess()) {
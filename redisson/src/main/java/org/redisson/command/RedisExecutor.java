@@ -34,15 +34,19 @@ import org.redisson.client.protocol.*;
 import org.redisson.client.protocol.decoder.ListScanResult;
 import org.redisson.client.protocol.decoder.MapScanResult;
 import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.NodeSource;
 import org.redisson.connection.NodeSource.Redirect;
+import org.redisson.connection.balancer.ResponseStatistics;
 import org.redisson.liveobject.core.RedissonObjectBuilder;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.misc.LogHelper;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.InetSocketAddress;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -66,6 +70,7 @@ public class RedisExecutor<V, R> {
     final boolean ignoreRedirect;
     final RedissonObjectBuilder objectBuilder;
     final ConnectionManager connectionManager;
+    final MetricsRecorder metricsRecorder;
 
     NodeSource source;
     Codec codec;
@@ -92,6 +97,7 @@ public class RedisExecutor<V, R> {
         this.ignoreRedirect = ignoreRedirect;
         this.connectionManager = connectionManager;
         this.objectBuilder = objectBuilder;
+        this.metricsRecorder = connectionManager.getCfg().getMetricsRecorder();
         
         this.attempts = connectionManager.getConfig().getRetryAttempts();
         this.retryInterval = connectionManager.getConfig().getRetryInterval();
@@ -112,6 +118,7 @@ public class RedisExecutor<V, R> {
 
         codec = getCodec(codec);
         
+        long connectionRequestTime = System.nanoTime();
         RFuture<RedisConnection> connectionFuture = getConnection();
 
         RPromise<R> attemptPromise = new RedissonPromise<R>();
@@ -147,6 +154,21 @@ public class RedisExecutor<V, R> {
                 return;
             }
 
+            if (metricsRecorder != null) {
+                long sendTime = System.nanoTime();
+                InetSocketAddress addr = connection.getRedisClient().getAddr();
+                metricsRecorder.recordConnectionAcquire(addr, sendTime - connectionRequestTime);
+                attemptPromise.onComplete((res, ex) -> {
+                    if (!attemptPromise.isCancelled()) {
+                        metricsRecorder.recordCommand(addr, getCommandName(), System.nanoTime() - sendTime, ex == null);
+                    }
+                });
+            }
+
+            if (readOnlyMode) {
+                trackResponseTime(attemptPromise, connection);
+            }
+
             sendCommand(attemptPromise, connection);
 
             writeFuture.addListener(new ChannelFutureListener() {
@@ -164,6 +186,22 @@ public class RedisExecutor<V, R> {
         });
     }
 
+    private void trackResponseTime(RPromise<R> attemptPromise, RedisConnection connection) {
+        MasterSlaveEntry entry = connectionManager.getEntry(connection.getRedisClient());
+        if (entry == null) {
+            return;
+        }
+        ResponseStatistics statistics = entry.getResponseStatistics(connection.getRedisClient());
+        if (statistics == null) {
+            return;
+        }
+
+        long startTime = statistics.onCommandSent();
+        attemptPromise.onComplete((res, e) -> {
+            statistics.onCommandCompleted(startTime, !attemptPromise.isCancelled());
+        });
+    }
+
     private void scheduleRetryTimeout(RFuture<RedisConnection> connectionFuture, RPromise<R> attemptPromise) {
         TimerTask retryTimerTask = new TimerTask() {
 
@@ -205,6 +243,7 @@ public class RedisExecutor<V, R> {
                                 return;
                             }
                             attempt++;
+                            onRetry();
 
                             scheduleRetryTimeout(connectionFuture, attemptPromise);
                             return;
@@ -233,6 +272,7 @@ public class RedisExecutor<V, R> {
                 }
 
                 attempt++;
+                onRetry();
                 if (log.isDebugEnabled()) {
                     log.debug("attempt {} for command {} and params {}",
                             attempt, command, LogHelper.toString(params));
@@ -319,6 +359,7 @@ public class RedisExecutor<V, R> {
                     }
 
                     attempt++;
+                    onRetry();
                     if (log.isDebugEnabled()) {
                         log.debug("attempt {} for command {} and params {}",
                                 attempt, command, LogHelper.toString(params));
@@ -433,6 +474,7 @@ public class RedisExecutor<V, R> {
                         @Override
                         public void run(Timeout timeout) throws Exception {
                             attempt++;
+                            onRetry();
                             execute();
                         }
                     }, Math.min(responseTimeout, 1000), TimeUnit.MILLISECONDS);
@@ -458,6 +500,10 @@ public class RedisExecutor<V, R> {
             
             handleSuccess(mainPromise, connectionFuture, res);
         } else {
+            if (metricsRecorder != null
+                    && attemptPromise.cause() instanceof RedisTimeoutException) {
+                metricsRecorder.recordTimeout(getCommandName());
+            }
             handleError(connectionFuture, attemptPromise.cause());
         }
     }
@@ -465,6 +511,19 @@ public class RedisExecutor<V, R> {
     protected void onException() {
     }
 
+    private void onRetry() {
+        if (metricsRecorder != null) {
+            metricsRecorder.recordRetry(getCommandName());
+        }
+    }
+
+    private String getCommandName() {
+        if (command == null) {
+            return "BATCH";
+        }
+        return command.getName();
+    }
+
     protected void handleError(RFuture<RedisConnection> connectionFuture, Throwable cause) {
         mainPromise.tryFailure(cause);
     }
@@ -616,27 +675,55 @@ public class RedisExecutor<V, R> {
         }
     }
     
+    protected boolean isPipelined(RedisConnection connection) {
+        return connection.getRedisClient().getConfig().isPipelining()
+                && source.getRedirect() != Redirect.ASK
+                && !RedisCommands.BLOCKING_COMMAND_NAMES.contains(command.getName())
+                && !RedisCommands.BLOCKING_COMMANDS.contains(command);
+    }
+
     protected void releaseConnection(RPromise<R> attemptPromise, RFuture<RedisConnection> connectionFuture) {
+        if (connectionFuture.isSuccess() && isPipelined(connectionFuture.getNow())) {
+            // connection could be shared as soon as command has been written
+            writeFuture.addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess()) {
+                    releaseConnection(connectionFuture);
+                } else {
+                    attemptPromise.onComplete((res, e) -> {
+                        releaseConnection(connectionFuture);
+                    });
+                }
+            });
+            attemptPromise.onComplete((res, e) -> {
+                connectionManager.getShutdownLatch().release();
+            });
+            return;
+        }
+
         attemptPromise.onComplete((res, e) -> {
             if (!connectionFuture.isSuccess()) {
                 return;
             }
 
-            RedisConnection connection = connectionFuture.getNow();
             connectionManager.getShutdownLatch().release();
-            if (readOnlyMode) {
-                connectionManager.releaseRead(source, connection);
-            } else {
-                connectionManager.releaseWrite(source, connection);
-            }
-
-            if (log.isDebugEnabled()) {
-                log.debug("connection released for command {} and params {} from slot {} using connection {}",
-                        command, LogHelper.toString(params), source, connection);
-            }
+            releaseConnection(connectionFuture);
         });
     }
 
+    private void releaseConnection(RFuture<RedisConnection> connectionFuture) {
+        RedisConnection connection = connectionFuture.getNow();
+        if (readOnlyMode) {
+            connectionManager.releaseRead(source, connection);
+        } else {
+            connectionManager.releaseWrite(source, connection);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("connection released for command {} and params {} from slot {} using connection {}",
+                    command, LogHelper.toString(params), source, connection);
+        }
+    }
+
     protected RFuture<RedisConnection> getConnection() {
         RFuture<RedisConnection> connectionFuture;
         if (readOnlyMode) {
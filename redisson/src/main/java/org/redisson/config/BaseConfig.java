@@ -92,6 +92,12 @@ public class BaseConfig<T extends BaseConfig<T>> {
     
     private boolean tcpNoDelay;
 
+    private boolean pipelining;
+
+    private int writeCoalescingSize;
+
+    private Protocol protocol = Protocol.RESP2;
+
     
     BaseConfig() {
     }
@@ -115,6 +121,9 @@ public class BaseConfig<T extends BaseConfig<T>> {
         setPingConnectionInterval(config.getPingConnectionInterval());
         setKeepAlive(config.isKeepAlive());
         setTcpNoDelay(config.isTcpNoDelay());
+        setPipelining(config.isPipelining());
+        setWriteCoalescingSize(config.getWriteCoalescingSize());
+        setProtocol(config.getProtocol());
     }
 
     /**
@@ -432,6 +441,70 @@ public class BaseConfig<T extends BaseConfig<T>> {
         return (T) this;
     }
 
+    public boolean isPipelining() {
+        return pipelining;
+    }
+
+    /**
+     * Enables commands pipelining per connection.
+     * Multiple commands could be in flight on the same connection
+     * and their replies are matched in order they were written.
+     * Connection is returned to pool right after command has been written,
+     * except blocking commands and batches.
+     * <p>
+     * Setting <code>decodeInExecutor</code> is ignored in this mode.
+     * <p>
+     * Default is <code>false</code>
+     * 
+     * @param pipelining - boolean value
+     * @return config
+     */
+    public T setPipelining(boolean pipelining) {
+        this.pipelining = pipelining;
+        return (T) this;
+    }
+
+    public int getWriteCoalescingSize() {
+        return writeCoalescingSize;
+    }
+
+    /**
+     * Defines size in bytes of commands written to connection
+     * which are coalesced into single flush.
+     * Commands written during one event loop tick are flushed together
+     * unless this limit is reached earlier.
+     * Reduces amount of syscalls and TCP packets, especially in <code>pipelining</code> mode.
+     * <code>0</code> means disable.
+     * <p>
+     * Default is <code>0</code>
+     * 
+     * @param writeCoalescingSize - size in bytes
+     * @return config
+     */
+    public T setWriteCoalescingSize(int writeCoalescingSize) {
+        this.writeCoalescingSize = writeCoalescingSize;
+        return (T) this;
+    }
+
+    public Protocol getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Defines Redis protocol version used by connections.
+     * <code>RESP3</code> is negotiated with <code>HELLO 3</code> command
+     * during connection setup and requires Redis 6.0+
+     * <p>
+     * Default is <code>RESP2</code>
+     * 
+     * @param protocol - protocol version
+     * @return config
+     */
+    public T setProtocol(Protocol protocol) {
+        this.protocol = protocol;
+        return (T) this;
+    }
+
     
     
 }
@@ -24,6 +24,7 @@ import org.redisson.connection.AddressResolverGroupFactory;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.DnsAddressResolverGroupFactory;
 import org.redisson.connection.ReplicatedConnectionManager;
+import org.redisson.metrics.MetricsRecorder;
 
 import java.io.File;
 import java.io.IOException;
@@ -90,8 +91,16 @@ public class Config {
 
     private int cleanUpKeysAmount = 100;
 
+    private boolean useSharedEviction;
+
     private NettyHook nettyHook = new DefaultNettyHook();
 
+    private MetricsRecorder metricsRecorder;
+
+    private int connectionWarmupConcurrency;
+
+    private int lockNotificationShards;
+
     /**
      * AddressResolverGroupFactory switch between default and round robin
      */
@@ -102,6 +111,9 @@ public class Config {
 
     public Config(Config oldConf) {
         setNettyHook(oldConf.getNettyHook());
+        setMetricsRecorder(oldConf.getMetricsRecorder());
+        setConnectionWarmupConcurrency(oldConf.getConnectionWarmupConcurrency());
+        setLockNotificationShards(oldConf.getLockNotificationShards());
         setExecutor(oldConf.getExecutor());
 
         if (oldConf.getCodec() == null) {
@@ -112,6 +124,7 @@ public class Config {
         setMinCleanUpDelay(oldConf.getMinCleanUpDelay());
         setMaxCleanUpDelay(oldConf.getMaxCleanUpDelay());
         setCleanUpKeysAmount(oldConf.getCleanUpKeysAmount());
+        setUseSharedEviction(oldConf.isUseSharedEviction());
         setDecodeInExecutor(oldConf.isDecodeInExecutor());
         setUseScriptCache(oldConf.isUseScriptCache());
         setKeepPubSubOrder(oldConf.isKeepPubSubOrder());
@@ -160,6 +173,74 @@ public class Config {
         return this;
     }
 
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Metrics recorder used to collect command latencies, retries, timeouts,
+     * network traffic and connection pool state.
+     * <p>
+     * {@link org.redisson.metrics.MicrometerMetricsRecorder} could be used to publish metrics through Micrometer.
+     * <p>
+     * Default is <code>null</code>, metrics are disabled
+     *
+     * @param metricsRecorder - metrics recorder object
+     * @return config
+     */
+    public Config setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
+    public int getConnectionWarmupConcurrency() {
+        return connectionWarmupConcurrency;
+    }
+
+    /**
+     * Defines maximum amount of connections established concurrently
+     * to all Redis nodes during connection pools initialization.
+     * Minimum idle connections of all pools are requested at once
+     * and limited only by this value.
+     * <p>
+     * <code>0</code> means each pool establishes up to 50 connections concurrently.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param connectionWarmupConcurrency - amount of connections
+     * @return config
+     */
+    public Config setConnectionWarmupConcurrency(int connectionWarmupConcurrency) {
+        this.connectionWarmupConcurrency = connectionWarmupConcurrency;
+        return this;
+    }
+
+    public int getLockNotificationShards() {
+        return lockNotificationShards;
+    }
+
+    /**
+     * Defines amount of shared channels used to notify
+     * waiting {@link org.redisson.api.RLock}, {@link org.redisson.api.RSemaphore}
+     * and {@link org.redisson.api.RCountDownLatch} objects.
+     * Object name is appended to notification and waiting object is found locally,
+     * so amount of subscriptions doesn't depend on amount of objects
+     * and shared channel stays subscribed between waits.
+     * <p>
+     * Value should be the same for all Redisson instances using these objects.
+     * <p>
+     * <code>0</code> means each object uses its own channel.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param lockNotificationShards - amount of shared channels
+     * @return config
+     */
+    public Config setLockNotificationShards(int lockNotificationShards) {
+        this.lockNotificationShards = lockNotificationShards;
+        return this;
+    }
+
     /**
      * Redis key/value codec. Default is FST codec
      *
@@ -777,4 +858,30 @@ public class Config {
         return this;
     }
 
+    public boolean isUseSharedEviction() {
+        return useSharedEviction;
+    }
+
+    /**
+     * Defines whether to use shared eviction engine instead of
+     * separate clean up task per object.
+     * <p>
+     * Next expiration time of each object is tracked in single index stored in Redis.
+     * Only one Redisson instance elected among all instances with this setting turned on
+     * evicts expired entries. It wakes up only when some object is due and
+     * evicts due objects by batched scripts per Redis node.
+     * Objects without known expiration are checked at least once per <code>maxCleanUpDelay</code>.
+     * <p>
+     * Applied to JCache, RSetCache, RMapCache, RListMultimapCache, RSetMultimapCache objects.
+     * <p>
+     * Default is <code>false</code>.
+     *
+     * @param useSharedEviction - <code>true</code> if shared eviction engine is required, <code>false</code> otherwise.
+     * @return config
+     */
+    public Config setUseSharedEviction(boolean useSharedEviction) {
+        this.useSharedEviction = useSharedEviction;
+        return this;
+    }
+
 }
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.config;
+
+/**
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public enum Protocol {
+
+    /**
+     * Redis serialization protocol version 2
+     */
+    RESP2,
+
+    /**
+     * Redis serialization protocol version 3.
+     * Adds native map, set, double, boolean, big number, attribute and push reply types.
+     * Requires Redis 6.0+
+     */
+    RESP3
+
+}
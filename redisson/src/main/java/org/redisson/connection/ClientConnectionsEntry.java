@@ -21,10 +21,14 @@ import org.redisson.client.RedisClient;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisPubSubConnection;
 import org.redisson.config.ReadMode;
+import org.redisson.connection.balancer.ResponseStatistics;
+import org.redisson.metrics.ConnectionPoolMetrics;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.pubsub.AsyncSemaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.InetSocketAddress;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
@@ -34,7 +38,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @author Nikita Koksharov
  *
  */
-public class ClientConnectionsEntry {
+public class ClientConnectionsEntry implements ConnectionPoolMetrics {
 
     final Logger log = LoggerFactory.getLogger(getClass());
 
@@ -45,6 +49,7 @@ public class ClientConnectionsEntry {
     private final Queue<RedisConnection> allConnections = new ConcurrentLinkedQueue<>();
     private final Queue<RedisConnection> freeConnections = new ConcurrentLinkedQueue<>();
     private final AsyncSemaphore freeConnectionsCounter;
+    private final int poolMaxSize;
 
     public enum FreezeReason {MANAGER, RECONNECT, SYSTEM}
 
@@ -57,10 +62,13 @@ public class ClientConnectionsEntry {
 
     private final AtomicLong firstFailTime = new AtomicLong(0);
 
+    private final ResponseStatistics responseStatistics = new ResponseStatistics();
+
     public ClientConnectionsEntry(RedisClient client, int poolMinSize, int poolMaxSize, int subscribePoolMinSize, int subscribePoolMaxSize,
             ConnectionManager connectionManager, NodeType nodeType) {
         this.client = client;
         this.freeConnectionsCounter = new AsyncSemaphore(poolMaxSize);
+        this.poolMaxSize = poolMaxSize;
         this.connectionManager = connectionManager;
         this.nodeType = nodeType;
         this.freeSubscribeConnectionsCounter = new AsyncSemaphore(subscribePoolMaxSize);
@@ -75,6 +83,11 @@ public class ClientConnectionsEntry {
                 freeConnections.remove(c);
                 return allConnections.remove(c);
             });
+
+        MetricsRecorder metricsRecorder = connectionManager.getCfg().getMetricsRecorder();
+        if (metricsRecorder != null) {
+            metricsRecorder.registerConnectionPool(this);
+        }
     }
     
     public boolean isMasterForRead() {
@@ -86,10 +99,36 @@ public class ClientConnectionsEntry {
     public void setNodeType(NodeType nodeType) {
         this.nodeType = nodeType;
     }
+    @Override
     public NodeType getNodeType() {
         return nodeType;
     }
 
+    @Override
+    public InetSocketAddress getAddress() {
+        return client.getAddr();
+    }
+
+    @Override
+    public int getFreeConnections() {
+        return freeConnectionsCounter.getCounter();
+    }
+
+    @Override
+    public int getUsedConnections() {
+        return poolMaxSize - freeConnectionsCounter.getCounter();
+    }
+
+    @Override
+    public int getOpenedConnections() {
+        return allConnections.size();
+    }
+
+    @Override
+    public int getPendingAcquires() {
+        return freeConnectionsCounter.queueSize();
+    }
+
     public void resetFirstFail() {
         firstFailTime.set(0);
     }
@@ -109,6 +148,18 @@ public class ClientConnectionsEntry {
         return client;
     }
 
+    public RFuture<Void> shutdownAsync() {
+        MetricsRecorder metricsRecorder = connectionManager.getCfg().getMetricsRecorder();
+        if (metricsRecorder != null) {
+            metricsRecorder.unregisterConnectionPool(this);
+        }
+        return client.shutdownAsync();
+    }
+
+    public ResponseStatistics getResponseStatistics() {
+        return responseStatistics;
+    }
+
     public boolean isFreezed() {
         return freezed;
     }
@@ -33,6 +33,7 @@ import org.redisson.config.MasterSlaveServersConfig;
 import org.redisson.misc.InfinitySemaphoreLatch;
 import org.redisson.misc.RedisURI;
 import org.redisson.pubsub.PublishSubscribeService;
+import org.redisson.renewal.LockRenewalScheduler;
 
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.Timeout;
@@ -66,12 +67,18 @@ public interface ConnectionManager {
 
     ConnectionEventsHub getConnectionEventsHub();
 
+    KeyInvalidationHub getKeyInvalidationHub();
+
     boolean isShutdown();
 
     boolean isShuttingDown();
     
     IdleConnectionWatcher getConnectionWatcher();
 
+    ConnectionWarmup getConnectionWarmup();
+
+    LockRenewalScheduler getLockRenewalScheduler();
+
     int calcSlot(String key);
     
     int calcSlot(byte[] key);
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.redisson.api.RFuture;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+import org.redisson.pubsub.AsyncSemaphore;
+
+/**
+ * Tracks initialization of connection pools per Redis node
+ * and limits amount of connections established concurrently
+ * to all nodes.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ConnectionWarmup {
+
+    /**
+     * Initialization progress of connection pools of single Redis node
+     */
+    public static class NodeProgress {
+
+        private final InetSocketAddress address;
+        private final AtomicInteger pendingPools = new AtomicInteger();
+        private final AtomicInteger requiredConnections = new AtomicInteger();
+        private final AtomicInteger initializedConnections = new AtomicInteger();
+        private final RPromise<Void> readinessPromise = new RedissonPromise<Void>();
+
+        NodeProgress(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        void addPool(int connections) {
+            pendingPools.incrementAndGet();
+            requiredConnections.addAndGet(connections);
+        }
+
+        /**
+         * Invoked once connection has been established
+         */
+        public void onConnectionInitialized() {
+            initializedConnections.incrementAndGet();
+        }
+
+        /**
+         * Invoked once pool initialization has been completed
+         *
+         * @param cause - error or <code>null</code> if pool was initialized successfully
+         */
+        public void onPoolInitialized(Throwable cause) {
+            if (cause != null) {
+                readinessPromise.tryFailure(cause);
+                return;
+            }
+            if (pendingPools.decrementAndGet() == 0) {
+                readinessPromise.trySuccess(null);
+            }
+        }
+
+        public InetSocketAddress getAddress() {
+            return address;
+        }
+
+        /**
+         * Returns amount of connections required by all pools of node
+         *
+         * @return amount of connections
+         */
+        public int getRequiredConnections() {
+            return requiredConnections.get();
+        }
+
+        /**
+         * Returns amount of connections already established
+         *
+         * @return amount of connections
+         */
+        public int getInitializedConnections() {
+            return initializedConnections.get();
+        }
+
+        /**
+         * Returns future completed once all pools of node registered so far
+         * have been initialized. Failed if any of them couldn't be initialized.
+         *
+         * @return readiness future
+         */
+        public RFuture<Void> getReadinessFuture() {
+            return readinessPromise;
+        }
+
+    }
+
+    private final Map<InetSocketAddress, NodeProgress> nodes = new ConcurrentHashMap<>();
+    private final AsyncSemaphore semaphore;
+
+    public ConnectionWarmup(int concurrency) {
+        if (concurrency > 0) {
+            semaphore = new AsyncSemaphore(concurrency);
+        } else {
+            semaphore = null;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if amount of concurrently
+     * established connections is limited globally
+     *
+     * @return <code>true</code> if limit defined
+     */
+    public boolean isLimited() {
+        return semaphore != null;
+    }
+
+    /**
+     * Executes <code>runnable</code> once connection permit is available.
+     * Permit should be returned through {@link #release()} method.
+     *
+     * @param runnable - task establishing connection
+     */
+    public void acquire(Runnable runnable) {
+        if (semaphore == null) {
+            runnable.run();
+            return;
+        }
+        semaphore.acquire(runnable);
+    }
+
+    public void release() {
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Registers pool initialization of Redis node.
+     * New progress is started if previous initialization of node has been completed.
+     *
+     * @param address - address of node
+     * @param connections - amount of connections required by pool
+     * @return progress of node
+     */
+    public NodeProgress register(InetSocketAddress address, int connections) {
+        return nodes.compute(address, (addr, current) -> {
+            NodeProgress progress = current;
+            if (progress == null || progress.getReadinessFuture().isDone()) {
+                progress = new NodeProgress(addr);
+            }
+            progress.addPool(connections);
+            return progress;
+        });
+    }
+
+    /**
+     * Returns initialization progress of Redis node
+     *
+     * @param address - address of node
+     * @return progress or <code>null</code> if node pools haven't been initialized
+     */
+    public NodeProgress getProgress(InetSocketAddress address) {
+        return nodes.get(address);
+    }
+
+    /**
+     * Returns initialization progress of all Redis nodes
+     *
+     * @return progress mapped by node address
+     */
+    public Map<InetSocketAddress, NodeProgress> getProgress() {
+        return Collections.unmodifiableMap(nodes);
+    }
+
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Notifies local caches about keys written by this Redisson instance,
+ * so a read following a write isn't served from stale local cache
+ * before invalidation message sent by Redis arrives.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class KeyInvalidationHub {
+
+    private final Map<Integer, Consumer<Collection<String>>> listenersMap = new ConcurrentHashMap<>();
+
+    public int addListener(Consumer<Collection<String>> listener) {
+        int id = System.identityHashCode(listener);
+        listenersMap.put(id, listener);
+        return id;
+    }
+
+    public void removeListener(int listenerId) {
+        listenersMap.remove(listenerId);
+    }
+
+    public boolean hasListeners() {
+        return !listenersMap.isEmpty();
+    }
+
+    public void fireInvalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        for (Consumer<Collection<String>> listener : listenersMap.values()) {
+            listener.accept(keys);
+        }
+    }
+
+}
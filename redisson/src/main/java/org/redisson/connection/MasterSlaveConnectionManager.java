@@ -53,6 +53,7 @@ import org.redisson.misc.RPromise;
 import org.redisson.misc.RedisURI;
 import org.redisson.misc.RedissonPromise;
 import org.redisson.pubsub.PublishSubscribeService;
+import org.redisson.renewal.LockRenewalScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -143,7 +144,13 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
     private IdleConnectionWatcher connectionWatcher;
 
+    private final ConnectionWarmup connectionWarmup;
+
+    private final LockRenewalScheduler lockRenewalScheduler = new LockRenewalScheduler(this);
+
     private final ConnectionEventsHub connectionEventsHub = new ConnectionEventsHub();
+
+    private final KeyInvalidationHub keyInvalidationHub = new KeyInvalidationHub();
     
     private final ExecutorService executor; 
     
@@ -224,6 +231,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
         this.cfg = cfg;
         this.codec = cfg.getCodec();
+        this.connectionWarmup = new ConnectionWarmup(cfg.getConnectionWarmupConcurrency());
         this.commandExecutor = new CommandSyncService(this);
     }
     
@@ -319,6 +327,16 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         return connectionWatcher;
     }
 
+    @Override
+    public ConnectionWarmup getConnectionWarmup() {
+        return connectionWarmup;
+    }
+
+    @Override
+    public LockRenewalScheduler getLockRenewalScheduler() {
+        return lockRenewalScheduler;
+    }
+
     @Override
     public Config getCfg() {
         return cfg;
@@ -483,8 +501,12 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
               .setPingConnectionInterval(config.getPingConnectionInterval())
               .setKeepAlive(config.isKeepAlive())
               .setTcpNoDelay(config.isTcpNoDelay())
+              .setPipelining(config.isPipelining())
+              .setWriteCoalescingSize(config.getWriteCoalescingSize())
+              .setProtocol(config.getProtocol())
               .setUsername(config.getUsername())
               .setPassword(config.getPassword())
+              .setMetricsRecorder(cfg.getMetricsRecorder())
               .setNettyHook(cfg.getNettyHook());
         
         if (type != NodeType.SENTINEL) {
@@ -739,6 +761,11 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         return connectionEventsHub;
     }
 
+    @Override
+    public KeyInvalidationHub getKeyInvalidationHub() {
+        return keyInvalidationHub;
+    }
+
     protected void stopThreads() {
         shutdown();
     }
@@ -30,6 +30,7 @@ import org.redisson.config.ReadMode;
 import org.redisson.config.SubscriptionMode;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.connection.balancer.LoadBalancerManager;
+import org.redisson.connection.balancer.ResponseStatistics;
 import org.redisson.connection.pool.MasterConnectionPool;
 import org.redisson.connection.pool.MasterPubSubConnectionPool;
 import org.redisson.misc.*;
@@ -297,7 +298,7 @@ public class MasterSlaveEntry {
             RFuture<Void> addFuture = slaveBalancer.add(entry);
             addFuture.onComplete((r, ex) -> {
                 if (ex != null) {
-                    client.shutdownAsync();
+                    entry.shutdownAsync();
                 }
             });
             addFuture.onComplete(new TransferListener<Void>(result));
@@ -322,6 +323,10 @@ public class MasterSlaveEntry {
     public ClientConnectionsEntry getEntry(RedisClient redisClient) {
         return slaveBalancer.getEntry(redisClient);
     }
+
+    public ResponseStatistics getResponseStatistics(RedisClient redisClient) {
+        return slaveBalancer.getResponseStatistics(redisClient);
+    }
     
     public RedisClient getClient() {
         return masterEntry.getClient();
@@ -409,7 +414,7 @@ public class MasterSlaveEntry {
                 if (oldMaster != masterEntry) {
                     writeConnectionPool.remove(masterEntry);
                     pubSubConnectionPool.remove(masterEntry);
-                    masterEntry.getClient().shutdownAsync();
+                    masterEntry.shutdownAsync();
                     masterEntry = oldMaster;
                 }
                 log.error("Unable to change master from: " + oldMaster.getClient().getAddr() + " to: " + address, e);
@@ -432,7 +437,7 @@ public class MasterSlaveEntry {
                     && slaveBalancer.getAvailableClients() > 1) {
                 slaveDown(newMasterClient.getAddr(), FreezeReason.SYSTEM);
             }
-            oldMaster.getClient().shutdownAsync();
+            oldMaster.shutdownAsync();
             log.info("master {} has changed to {}", oldMaster.getClient().getAddr(), masterEntry.getClient().getAddr());
         });
     }
@@ -444,7 +449,7 @@ public class MasterSlaveEntry {
 
         RPromise<Void> result = new RedissonPromise<Void>();
         CountableListener<Void> listener = new CountableListener<Void>(result, null, 2);
-        masterEntry.getClient().shutdownAsync().onComplete(listener);
+        masterEntry.shutdownAsync().onComplete(listener);
         slaveBalancer.shutdownAsync().onComplete(listener);
         return result;
     }
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection.balancer;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.redisson.connection.ClientConnectionsEntry;
+import org.redisson.misc.RedisURI;
+
+/**
+ * Latency aware balancer.
+ * <p>
+ * Picks two random nodes and chooses the one with lower load.
+ * Load is estimated as moving average of response time
+ * multiplied by amount of commands awaiting response.
+ * Slow or overloaded node, e.g. during BGSAVE, receives less commands
+ * until its response time recovers.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class LatencyAwareLoadBalancer implements LoadBalancer {
+
+    private volatile Set<InetSocketAddress> preferredAddresses = Collections.emptySet();
+
+    public LatencyAwareLoadBalancer() {
+        this(Collections.<String>emptyList());
+    }
+
+    /**
+     * Creates latency aware balancer.
+     * Nodes with <code>preferredAddresses</code> are used if any of them is available,
+     * e.g. nodes located in the same zone as application.
+     *
+     * @param preferredAddresses - preferred node addresses in <code>redis://host:port</code> format
+     */
+    public LatencyAwareLoadBalancer(Collection<String> preferredAddresses) {
+        this.preferredAddresses = parse(preferredAddresses);
+    }
+
+    /**
+     * Defines preferred node addresses.
+     * Nodes with these addresses are used if any of them is available,
+     * e.g. nodes located in the same zone as application.
+     * Allowed value format: "redis://127.0.0.1:6379"
+     *
+     * @param preferredAddresses - preferred node addresses
+     */
+    public void setPreferredAddresses(Collection<String> preferredAddresses) {
+        this.preferredAddresses = parse(preferredAddresses);
+    }
+
+    private static Set<InetSocketAddress> parse(Collection<String> addresses) {
+        Set<InetSocketAddress> result = new HashSet<>();
+        for (String address : addresses) {
+            RedisURI uri = new RedisURI(address);
+            result.add(new InetSocketAddress(uri.getHost(), uri.getPort()));
+        }
+        return result;
+    }
+
+    @Override
+    public ClientConnectionsEntry getEntry(List<ClientConnectionsEntry> clientsCopy) {
+        List<ClientConnectionsEntry> clients = clientsCopy;
+        Set<InetSocketAddress> addresses = preferredAddresses;
+        if (!addresses.isEmpty()) {
+            List<ClientConnectionsEntry> preferred = new ArrayList<>(clientsCopy.size());
+            for (ClientConnectionsEntry entry : clientsCopy) {
+                if (addresses.contains(entry.getClient().getAddr())) {
+                    preferred.add(entry);
+                }
+            }
+            if (!preferred.isEmpty()) {
+                clients = preferred;
+            }
+        }
+
+        if (clients.size() == 1) {
+            return clients.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(clients.size());
+        int second = random.nextInt(clients.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ClientConnectionsEntry firstEntry = clients.get(first);
+        ClientConnectionsEntry secondEntry = clients.get(second);
+        long now = System.nanoTime();
+        if (secondEntry.getResponseStatistics().getLoad(now) < firstEntry.getResponseStatistics().getLoad(now)) {
+            return secondEntry;
+        }
+        return firstEntry;
+    }
+
+    @Override
+    public boolean isResponseTimeTracked() {
+        return true;
+    }
+
+}
@@ -28,4 +28,14 @@ public interface LoadBalancer {
 
     ClientConnectionsEntry getEntry(List<ClientConnectionsEntry> clientsCopy);
 
+    /**
+     * Returns <code>true</code> if balancer uses response time statistics
+     * of entries. Statistics are collected by read commands only if required.
+     *
+     * @return <code>true</code> if statistics should be collected
+     */
+    default boolean isResponseTimeTracked() {
+        return false;
+    }
+
 }
@@ -53,6 +53,7 @@ public class LoadBalancerManager {
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private final ConnectionManager connectionManager;
+    private final LoadBalancer loadBalancer;
     private final PubSubConnectionPool pubSubConnectionPool;
     private final SlaveConnectionPool slaveConnectionPool;
     
@@ -60,6 +61,7 @@ public class LoadBalancerManager {
 
     public LoadBalancerManager(MasterSlaveServersConfig config, ConnectionManager connectionManager, MasterSlaveEntry entry) {
         this.connectionManager = connectionManager;
+        this.loadBalancer = config.getLoadBalancer();
         slaveConnectionPool = new SlaveConnectionPool(config, connectionManager, entry);
         pubSubConnectionPool = new PubSubConnectionPool(config, connectionManager, entry);
     }
@@ -135,6 +137,8 @@ public class LoadBalancerManager {
                 entry.resetFirstFail();
                 entry.setFreezed(false);
                 entry.setFreezeReason(null);
+                // response time measured before failure is outdated
+                entry.getResponseStatistics().reset();
                 
                 slaveConnectionPool.initConnections(entry);
                 pubSubConnectionPool.initConnections(entry);
@@ -226,6 +230,24 @@ public class LoadBalancerManager {
         return client2Entry.get(redisClient);
     }
 
+    /**
+     * Returns response time statistics of node
+     * if they are used by load balancer
+     *
+     * @param redisClient - client of node
+     * @return statistics or <code>null</code> if they aren't tracked
+     */
+    public ResponseStatistics getResponseStatistics(RedisClient redisClient) {
+        if (!loadBalancer.isResponseTimeTracked()) {
+            return null;
+        }
+        ClientConnectionsEntry entry = client2Entry.get(redisClient);
+        if (entry == null) {
+            return null;
+        }
+        return entry.getResponseStatistics();
+    }
+
     public RFuture<RedisConnection> getConnection(RedisCommand<?> command, RedisURI addr) {
         ClientConnectionsEntry entry = getEntry(addr);
         if (entry != null) {
@@ -265,7 +287,7 @@ public class LoadBalancerManager {
         RPromise<Void> result = new RedissonPromise<Void>();
         CountableListener<Void> listener = new CountableListener<Void>(result, null, client2Entry.values().size());
         for (ClientConnectionsEntry entry : client2Entry.values()) {
-            entry.getClient().shutdownAsync().onComplete(listener);
+            entry.shutdownAsync().onComplete(listener);
         }
         return result;
     }
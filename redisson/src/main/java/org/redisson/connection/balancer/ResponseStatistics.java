@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection.balancer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Response time statistics of Redis node.
+ * <p>
+ * Keeps exponentially weighted moving average of response time
+ * which decays over time and amount of commands awaiting response.
+ * Response time higher than current average replaces it immediately,
+ * so node slowdown is detected after the first slow response.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ResponseStatistics {
+
+    private static final double DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicInteger inFlightCommands = new AtomicInteger();
+    private double average;
+    private long lastUpdateTime = System.nanoTime();
+
+    /**
+     * Invoked before command is sent
+     *
+     * @return start time of command
+     */
+    public long onCommandSent() {
+        inFlightCommands.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Invoked once command is completed
+     *
+     * @param startTime - value returned by {@link #onCommandSent()}
+     * @param measured - <code>false</code> if command was cancelled and response time shouldn't be measured
+     */
+    public void onCommandCompleted(long startTime, boolean measured) {
+        inFlightCommands.decrementAndGet();
+        if (measured) {
+            long now = System.nanoTime();
+            update(now - startTime, now);
+        }
+    }
+
+    synchronized void update(long responseTime, long now) {
+        double decayed = decay(now);
+        if (responseTime > decayed) {
+            average = responseTime;
+        } else {
+            double weight = Math.exp(-(now - lastUpdateTime) / DECAY_TIME);
+            average = average * weight + responseTime * (1 - weight);
+        }
+        lastUpdateTime = now;
+    }
+
+    private double decay(long now) {
+        return average * Math.exp(-(now - lastUpdateTime) / DECAY_TIME);
+    }
+
+    /**
+     * Returns average response time in nanoseconds.
+     * Average decays towards zero while node doesn't respond to commands,
+     * so idle node is eventually chosen again and probed.
+     *
+     * @param now - current time in nanoseconds
+     * @return average response time
+     */
+    public synchronized double getAverage(long now) {
+        return decay(now);
+    }
+
+    public int getInFlightCommands() {
+        return inFlightCommands.get();
+    }
+
+    /**
+     * Returns estimated load of node. Lower value is better.
+     *
+     * @param now - current time in nanoseconds
+     * @return load
+     */
+    public double getLoad(long now) {
+        return (getAverage(now) + 1) * (getInFlightCommands() + 1);
+    }
+
+    /**
+     * Resets response time average
+     */
+    public synchronized void reset() {
+        average = 0;
+        lastUpdateTime = System.nanoTime();
+    }
+
+}
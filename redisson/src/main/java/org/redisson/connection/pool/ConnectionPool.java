@@ -27,6 +27,8 @@ import org.redisson.config.MasterSlaveServersConfig;
 import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.ConnectionWarmup;
+import org.redisson.connection.ConnectionWarmup.NodeProgress;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
@@ -92,16 +94,26 @@ abstract class ConnectionPool<T extends RedisConnection> {
             return;
         }
 
+        ConnectionWarmup warmup = connectionManager.getConnectionWarmup();
+        NodeProgress progress = warmup.register(entry.getClient().getAddr(), minimumIdleSize);
+        initPromise.onComplete((r, e) -> {
+            progress.onPoolInitialized(e);
+        });
+
         AtomicInteger initializedConnections = new AtomicInteger(minimumIdleSize);
-        int startAmount = Math.min(50, minimumIdleSize);
+        // concurrency is limited by warmup permits shared between all pools
+        int startAmount = minimumIdleSize;
+        if (!warmup.isLimited()) {
+            startAmount = Math.min(50, minimumIdleSize);
+        }
         AtomicInteger requests = new AtomicInteger(startAmount);
         for (int i = 0; i < startAmount; i++) {
-            createConnection(checkFreezed, requests, entry, initPromise, minimumIdleSize, initializedConnections);
+            createConnection(checkFreezed, requests, entry, initPromise, minimumIdleSize, initializedConnections, progress);
         }
     }
 
     private void createConnection(boolean checkFreezed, AtomicInteger requests, ClientConnectionsEntry entry, RPromise<Void> initPromise,
-            int minimumIdleSize, AtomicInteger initializedConnections) {
+            int minimumIdleSize, AtomicInteger initializedConnections, NodeProgress progress) {
 
         if ((checkFreezed && entry.isFreezed()) || !tryAcquireConnection(entry)) {
             int totalInitializedConnections = minimumIdleSize - initializedConnections.get();
@@ -112,14 +124,17 @@ abstract class ConnectionPool<T extends RedisConnection> {
             return;
         }
         
-        acquireConnection(entry, new Runnable() {
+        ConnectionWarmup warmup = connectionManager.getConnectionWarmup();
+        warmup.acquire(() -> acquireConnection(entry, new Runnable() {
             
             @Override
             public void run() {
                 RPromise<T> promise = new RedissonPromise<T>();
                 createConnection(entry, promise);
                 promise.onComplete((conn, e) -> {
+                        warmup.release();
                         if (e == null) {
+                            progress.onConnectionInitialized();
                             if (!initPromise.isDone()) {
                                 releaseConnection(entry, conn);
                             } else {
@@ -168,12 +183,12 @@ abstract class ConnectionPool<T extends RedisConnection> {
                             }
                         } else if (value > 0 && !initPromise.isDone()) {
                             if (requests.incrementAndGet() <= minimumIdleSize) {
-                                createConnection(checkFreezed, requests, entry, initPromise, minimumIdleSize, initializedConnections);
+                                createConnection(checkFreezed, requests, entry, initPromise, minimumIdleSize, initializedConnections, progress);
                             }
                         }
                 });
             }
-        });
+        }));
 
     }
 
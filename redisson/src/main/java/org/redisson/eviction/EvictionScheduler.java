@@ -33,16 +33,30 @@ public class EvictionScheduler {
 
     private final ConcurrentMap<String, EvictionTask> tasks = new ConcurrentHashMap<>();
     private final CommandAsyncExecutor executor;
+    private final SharedEvictionEngine engine;
 
     public EvictionScheduler(CommandAsyncExecutor executor) {
         this.executor = executor;
+        if (executor.getConnectionManager().getCfg().isUseSharedEviction()) {
+            engine = new SharedEvictionEngine(executor);
+        } else {
+            engine = null;
+        }
+    }
+
+    private void schedule(EvictionTask task) {
+        if (engine != null) {
+            engine.register(task);
+            return;
+        }
+        task.schedule();
     }
 
     public void scheduleCleanMultimap(String name, String timeoutSetName) {
         EvictionTask task = new MultimapEvictionTask(name, timeoutSetName, executor);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
     
@@ -50,7 +64,7 @@ public class EvictionScheduler {
         EvictionTask task = new JCacheEvictionTask(name, timeoutSetName, expiredChannelName, executor);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
     
@@ -58,7 +72,7 @@ public class EvictionScheduler {
         EvictionTask task = new ScoredSetEvictionTask(name, executor, shiftInMilliseconds);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
         }
     }
 
@@ -66,15 +80,38 @@ public class EvictionScheduler {
         EvictionTask task = new MapCacheEvictionTask(name, timeoutSetName, maxIdleSetName, expiredChannelName, lastAccessTimeSetName, executor);
         EvictionTask prevTask = tasks.putIfAbsent(name, task);
         if (prevTask == null) {
-            task.schedule();
+            schedule(task);
+        }
+    }
+
+    /**
+     * Notifies shared eviction engine about entry of object
+     * written with defined expiration time.
+     * Ignored if shared eviction engine isn't used.
+     *
+     * @param name - name of object
+     * @param expirationTime - expiration time of entry in milliseconds
+     */
+    public void scheduleExpiration(String name, long expirationTime) {
+        if (engine == null) {
+            return;
+        }
+        EvictionTask task = tasks.get(name);
+        if (task != null) {
+            engine.scheduleExpiration(task, expirationTime);
         }
     }
 
     public void remove(String name) {
         EvictionTask task = tasks.remove(name);
-        if (task != null) {
-            task.getScheduledFuture().cancel(false);
+        if (task == null) {
+            return;
+        }
+        if (engine != null) {
+            engine.unregister(name);
+            return;
         }
+        task.getScheduledFuture().cancel(false);
     }
     
 }
@@ -23,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -61,9 +62,33 @@ abstract class EvictionTask implements Runnable {
         return scheduledFuture;
     }
 
-    abstract RFuture<Integer> execute();
+    abstract RFuture<Integer> execute(CommandAsyncExecutor executor);
     
     abstract String getName();
+
+    /**
+     * Returns type and parameters used to recreate task
+     * by {@link SharedEvictionEngine} on any Redisson instance
+     *
+     * @return type and parameters
+     */
+    abstract List<String> getDescriptor();
+
+    /**
+     * Returns names of sorted sets scored by expiration time of entries
+     *
+     * @return names of sorted sets
+     */
+    abstract List<Object> getExpirationSetNames();
+
+    /**
+     * Returns time added to entry score to get its expiration time
+     *
+     * @return time in milliseconds
+     */
+    long getExpirationShift() {
+        return 0;
+    }
     
     @Override
     public void run() {
@@ -71,7 +96,7 @@ abstract class EvictionTask implements Runnable {
             return;
         }
         
-        RFuture<Integer> future = execute();
+        RFuture<Integer> future = execute(executor);
         future.onComplete((size, e) -> {
             if (e != null) {
                 schedule();
@@ -16,6 +16,8 @@
 package org.redisson.eviction;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.redisson.api.RFuture;
 import org.redisson.client.codec.LongCodec;
@@ -46,7 +48,17 @@ public class JCacheEvictionTask extends EvictionTask {
     }
     
     @Override
-    RFuture<Integer> execute() {
+    List<String> getDescriptor() {
+        return Arrays.asList(SharedEvictionEngine.JCACHE, name, timeoutSetName, expiredChannelName);
+    }
+
+    @Override
+    List<Object> getExpirationSetNames() {
+        return Collections.<Object>singletonList(timeoutSetName);
+    }
+
+    @Override
+    RFuture<Integer> execute(CommandAsyncExecutor executor) {
         return executor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
                 "local expiredKeys = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
               + "for i, k in ipairs(expiredKeys) do "
@@ -16,6 +16,7 @@
 package org.redisson.eviction;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.redisson.RedissonObject;
 import org.redisson.api.RFuture;
@@ -54,7 +55,17 @@ public class MapCacheEvictionTask extends EvictionTask {
     }
     
     @Override
-    RFuture<Integer> execute() {
+    List<String> getDescriptor() {
+        return Arrays.asList(SharedEvictionEngine.MAP_CACHE, name, timeoutSetName, maxIdleSetName, expiredChannelName, lastAccessTimeSetName);
+    }
+
+    @Override
+    List<Object> getExpirationSetNames() {
+        return Arrays.<Object>asList(timeoutSetName, maxIdleSetName);
+    }
+
+    @Override
+    RFuture<Integer> execute(CommandAsyncExecutor executor) {
         int latchExpireTime = Math.min(delay, 30);
         return executor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
                 "if redis.call('setnx', KEYS[6], ARGV[4]) == 0 then "
@@ -16,6 +16,8 @@
 package org.redisson.eviction;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.redisson.api.RFuture;
 import org.redisson.client.codec.LongCodec;
@@ -43,7 +45,18 @@ public class MultimapEvictionTask extends EvictionTask {
         return name;
     }
     
-    RFuture<Integer> execute() {
+    @Override
+    List<String> getDescriptor() {
+        return Arrays.asList(SharedEvictionEngine.MULTIMAP, name, timeoutSetName);
+    }
+
+    @Override
+    List<Object> getExpirationSetNames() {
+        return Collections.<Object>singletonList(timeoutSetName);
+    }
+
+    @Override
+    RFuture<Integer> execute(CommandAsyncExecutor executor) {
         return executor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
                 "local expiredKeys = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
               + "if #expiredKeys > 0 then "
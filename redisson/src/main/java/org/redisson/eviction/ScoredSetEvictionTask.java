@@ -15,6 +15,10 @@
  */
 package org.redisson.eviction;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.redisson.api.RFuture;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.protocol.RedisCommands;
@@ -42,7 +46,22 @@ public class ScoredSetEvictionTask extends EvictionTask {
     }
     
     @Override
-    RFuture<Integer> execute() {
+    List<String> getDescriptor() {
+        return Arrays.asList(SharedEvictionEngine.SCORED_SET, name, String.valueOf(shiftInMilliseconds));
+    }
+
+    @Override
+    List<Object> getExpirationSetNames() {
+        return Collections.<Object>singletonList(name);
+    }
+
+    @Override
+    long getExpirationShift() {
+        return shiftInMilliseconds;
+    }
+
+    @Override
+    RFuture<Integer> execute(CommandAsyncExecutor executor) {
         return executor.writeAsync(name, LongCodec.INSTANCE, RedisCommands.ZREMRANGEBYSCORE, name, 0, System.currentTimeMillis() - shiftInMilliseconds);
     }
     
@@ -0,0 +1,458 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.eviction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.command.CommandBatchService;
+import org.redisson.connection.ConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.Timeout;
+
+/**
+ * Eviction engine shared by all objects with expirable entries.
+ * <p>
+ * Next expiration time of each object is stored in single sorted set index.
+ * Instead of polling each object separately, engine wakes up only when
+ * the earliest object in index is due and evicts all due objects
+ * with their scripts sent in one batch, so scripts are grouped per Redis node.
+ * Afterwards index is updated with next expiration time of each evicted object.
+ * <p>
+ * Index is handled only by one Redisson instance which holds leader lease.
+ * Other instances register objects and retry to acquire lease once it expires.
+ * <p>
+ * Writes of entries with expiration lower score of object in index, so it's evicted in time.
+ * Leader is woken up immediately by writes through the same instance and
+ * within <code>lockWatchdogTimeout / 3</code> by writes through other instances.
+ * Objects without known expiration are checked with delay growing
+ * from <code>minCleanUpDelay</code> to <code>maxCleanUpDelay</code>.
+ * <p>
+ * Object is removed from index once it's destroyed or doesn't exist anymore.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class SharedEvictionEngine {
+
+    static final String MAP_CACHE = "map";
+    static final String JCACHE = "jcache";
+    static final String MULTIMAP = "multimap";
+    static final String SCORED_SET = "scoredset";
+
+    private static final String LEADER_NAME = "{redisson__eviction}:leader";
+    private static final String INDEX_NAME = "{redisson__eviction}:index";
+    private static final String OBJECTS_NAME = "{redisson__eviction}:objects";
+
+    private static final long RETRY_INTERVAL = 1000;
+
+    private static final String REGISTER_SCRIPT =
+            "redis.call('hset', KEYS[2], ARGV[1], ARGV[2]); "
+          + "local score = redis.call('zscore', KEYS[1], ARGV[1]); "
+          + "if score == false or tonumber(score) > tonumber(ARGV[3]) then "
+              + "redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]); "
+          + "end; ";
+
+    private static final String UNREGISTER_SCRIPT =
+            "redis.call('zrem', KEYS[1], ARGV[1]); "
+          + "redis.call('hdel', KEYS[2], ARGV[1]); ";
+
+    private static final String POLL_SCRIPT =
+            "local owner = redis.call('get', KEYS[1]); "
+          + "if owner ~= false and owner ~= ARGV[1] then "
+              + "return {'0', tostring(redis.call('pttl', KEYS[1]))}; "
+          + "end; "
+          + "redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[2]); "
+          + "local result = {'1', ARGV[5]}; "
+          + "local due = redis.call('zrangebyscore', KEYS[2], 0, ARGV[3], 'limit', 0, ARGV[4]); "
+          + "if #due > 0 then "
+              + "result[2] = '0'; "
+              + "for i, name in ipairs(due) do "
+                  + "local descriptor = redis.call('hget', KEYS[3], name); "
+                  + "if descriptor == false then "
+                      + "redis.call('zrem', KEYS[2], name); "
+                  + "else "
+                      + "table.insert(result, name); "
+                      + "table.insert(result, descriptor); "
+                  + "end; "
+              + "end; "
+              + "return result; "
+          + "end; "
+          + "local head = redis.call('zrange', KEYS[2], 0, 0, 'withscores'); "
+          + "if #head > 0 then "
+              + "local wait = math.max(0, tonumber(head[2]) - tonumber(ARGV[3])); "
+              + "result[2] = tostring(math.min(tonumber(ARGV[5]), wait)); "
+          + "end; "
+          + "return result; ";
+
+    private static final String UPDATE_SCRIPT =
+            "for i = 2, #ARGV, 2 do "
+              + "local score = redis.call('zscore', KEYS[1], ARGV[i + 1]); "
+              + "if score ~= false and tonumber(score) <= tonumber(ARGV[1]) then "
+                  + "if tonumber(ARGV[i]) < 0 then "
+                      + "redis.call('zrem', KEYS[1], ARGV[i + 1]); "
+                      + "redis.call('hdel', KEYS[2], ARGV[i + 1]); "
+                  + "else "
+                      + "redis.call('zadd', KEYS[1], ARGV[i], ARGV[i + 1]); "
+                  + "end; "
+              + "end; "
+          + "end; ";
+
+    private static final String NEXT_EXPIRATION_SCRIPT =
+            "if redis.call('exists', unpack(KEYS)) == 0 then "
+              + "return -2; "
+          + "end; "
+          + "local result = -1; "
+          + "for i = 2, #KEYS do "
+              + "local head = redis.call('zrange', KEYS[i], 0, 0, 'withscores'); "
+              + "if #head > 0 then "
+                  + "local score = tonumber(head[2]) + tonumber(ARGV[1]); "
+                  + "if result == -1 or score < result then "
+                      + "result = score; "
+                  + "end; "
+              + "end; "
+          + "end; "
+          + "return result; ";
+
+    private static final class ScheduledTime {
+
+        final long time;
+        final long sentAt;
+
+        ScheduledTime(long time, long sentAt) {
+            this.time = time;
+            this.sentAt = sentAt;
+        }
+
+    }
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final CommandAsyncExecutor executor;
+    private final ConnectionManager connectionManager;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final long leaseTime;
+    private final long maxDelay;
+    private final long minDelay;
+    private final int keysLimit;
+
+    // expiration times sent to index by this instance
+    private final ConcurrentMap<String, ScheduledTime> scheduledTimes = new ConcurrentHashMap<>();
+    // clean up delays of objects without expirable entries, used by leader
+    private final ConcurrentMap<String, Long> idleDelays = new ConcurrentHashMap<>();
+
+    private boolean leader;
+    private boolean polling;
+    private int generation;
+    private Timeout timeout;
+    private long wakeTime;
+    private long wakeRequest = Long.MAX_VALUE;
+
+    public SharedEvictionEngine(CommandAsyncExecutor executor) {
+        this.executor = executor;
+        this.connectionManager = executor.getConnectionManager();
+        this.leaseTime = connectionManager.getCfg().getLockWatchdogTimeout();
+        this.minDelay = TimeUnit.SECONDS.toMillis(connectionManager.getCfg().getMinCleanUpDelay());
+        this.maxDelay = TimeUnit.SECONDS.toMillis(connectionManager.getCfg().getMaxCleanUpDelay());
+        this.keysLimit = connectionManager.getCfg().getCleanUpKeysAmount();
+    }
+
+    /**
+     * Adds object to index. Object becomes due immediately
+     * and engine is started if it hasn't been started yet.
+     *
+     * @param task - eviction task of object
+     */
+    void register(EvictionTask task) {
+        send(task, System.currentTimeMillis());
+
+        if (started.compareAndSet(false, true)) {
+            schedule(0);
+        }
+    }
+
+    /**
+     * Lowers score of object in index if entry expires earlier.
+     * Index update is skipped if earlier time has been sent recently.
+     *
+     * @param task - eviction task of object
+     * @param expirationTime - expiration time of entry
+     */
+    void scheduleExpiration(EvictionTask task, long expirationTime) {
+        long now = System.currentTimeMillis();
+        ScheduledTime scheduled = scheduledTimes.get(task.getName());
+        if (scheduled != null
+                && scheduled.time > now
+                    && scheduled.time <= expirationTime
+                        && now - scheduled.sentAt < RETRY_INTERVAL) {
+            return;
+        }
+
+        scheduledTimes.put(task.getName(), new ScheduledTime(expirationTime, now));
+        send(task, expirationTime);
+        wakeUp(expirationTime);
+    }
+
+    private void send(EvictionTask task, long time) {
+        RFuture<Void> future = executor.evalWriteAsync(INDEX_NAME, StringCodec.INSTANCE, RedisCommands.EVAL_VOID,
+                REGISTER_SCRIPT, Arrays.<Object>asList(INDEX_NAME, OBJECTS_NAME),
+                task.getName(), encode(task.getDescriptor()), time);
+        future.onComplete((res, e) -> {
+            if (e != null) {
+                log.error("Unable to register object " + task.getName() + " for eviction", e);
+            }
+        });
+    }
+
+    /**
+     * Removes object from index
+     *
+     * @param name - name of object
+     */
+    void unregister(String name) {
+        scheduledTimes.remove(name);
+        idleDelays.remove(name);
+        RFuture<Void> future = executor.evalWriteAsync(INDEX_NAME, StringCodec.INSTANCE, RedisCommands.EVAL_VOID,
+                UNREGISTER_SCRIPT, Arrays.<Object>asList(INDEX_NAME, OBJECTS_NAME), name);
+        future.onComplete((res, e) -> {
+            if (e != null) {
+                log.error("Unable to unregister object " + name + " from eviction", e);
+            }
+        });
+    }
+
+    private synchronized void schedule(long delay) {
+        if (connectionManager.isShuttingDown()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long nextDelay = delay;
+        if (wakeRequest != Long.MAX_VALUE) {
+            nextDelay = Math.min(delay, Math.max(0, wakeRequest - now));
+            wakeRequest = Long.MAX_VALUE;
+        }
+
+        polling = false;
+        wakeTime = now + nextDelay;
+        int currentGeneration = ++generation;
+        timeout = connectionManager.newTimeout(t -> poll(currentGeneration), nextDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Wakes up leader earlier if object becomes due before planned poll
+     */
+    private synchronized void wakeUp(long time) {
+        if (!leader) {
+            return;
+        }
+        if (polling) {
+            // applied once current poll completes
+            wakeRequest = Math.min(wakeRequest, time);
+            return;
+        }
+        if (time >= wakeTime) {
+            return;
+        }
+
+        timeout.cancel();
+        schedule(Math.max(0, time - System.currentTimeMillis()));
+    }
+
+    private void poll(int currentGeneration) {
+        synchronized (this) {
+            if (currentGeneration != generation) {
+                return;
+            }
+            polling = true;
+        }
+
+        if (connectionManager.isShuttingDown()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        RFuture<List<Object>> future = executor.evalWriteAsync(LEADER_NAME, StringCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                POLL_SCRIPT, Arrays.<Object>asList(LEADER_NAME, INDEX_NAME, OBJECTS_NAME),
+                connectionManager.getId(), leaseTime, now, keysLimit, maxDelay);
+        future.onComplete((res, e) -> {
+            if (e != null) {
+                log.error("Unable to poll eviction index", e);
+                schedule(minDelay);
+                return;
+            }
+
+            long wait = Long.valueOf((String) res.get(1));
+            boolean elected = "1".equals(res.get(0));
+            synchronized (this) {
+                leader = elected;
+            }
+            if (!elected) {
+                // another instance is leader, retry once its lease expires
+                schedule(Math.max(wait, RETRY_INTERVAL));
+                return;
+            }
+
+            if (res.size() == 2) {
+                // renew lease before it expires
+                schedule(Math.min(wait, leaseTime / 3));
+                return;
+            }
+
+            evict(res.subList(2, res.size()), now);
+        });
+    }
+
+    private void evict(List<Object> objects, long now) {
+        CommandBatchService batch = new CommandBatchService(connectionManager);
+        List<String> names = new ArrayList<>(objects.size() / 2);
+        List<RFuture<Integer>> evictedFutures = new ArrayList<>(objects.size() / 2);
+        List<RFuture<Long>> expirationFutures = new ArrayList<>(objects.size() / 2);
+        for (int i = 0; i < objects.size(); i += 2) {
+            String name = (String) objects.get(i);
+            EvictionTask task = createTask(decode((String) objects.get(i + 1)));
+            names.add(name);
+            if (task == null) {
+                evictedFutures.add(null);
+                expirationFutures.add(null);
+                continue;
+            }
+
+            List<Object> keys = new ArrayList<>();
+            keys.add(name);
+            keys.addAll(task.getExpirationSetNames());
+            evictedFutures.add(task.execute(batch));
+            expirationFutures.add(batch.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                    NEXT_EXPIRATION_SCRIPT, keys, task.getExpirationShift()));
+        }
+
+        batch.executeAsync().onComplete((r, ex) -> {
+            if (ex != null) {
+                log.error("Unable to evict expired entries", ex);
+            }
+
+            long time = System.currentTimeMillis();
+            List<Object> args = new ArrayList<>(names.size() * 2 + 1);
+            args.add(now);
+            for (int i = 0; i < names.size(); i++) {
+                args.add(getNextTime(names.get(i), evictedFutures.get(i), expirationFutures.get(i), time));
+                args.add(names.get(i));
+            }
+
+            RFuture<Void> future = executor.evalWriteAsync(INDEX_NAME, StringCodec.INSTANCE, RedisCommands.EVAL_VOID,
+                    UPDATE_SCRIPT, Arrays.<Object>asList(INDEX_NAME, OBJECTS_NAME), args.toArray());
+            future.onComplete((res, e) -> {
+                if (e != null) {
+                    log.error("Unable to update eviction index", e);
+                    schedule(minDelay);
+                    return;
+                }
+                schedule(0);
+            });
+        });
+    }
+
+    private long getNextTime(String name, RFuture<Integer> evictedFuture, RFuture<Long> expirationFuture, long time) {
+        if (evictedFuture == null) {
+            return time + maxDelay;
+        }
+        if (!evictedFuture.isSuccess() || !expirationFuture.isSuccess()) {
+            return time + minDelay;
+        }
+
+        int evicted = evictedFuture.getNow();
+        log.debug("{} elements evicted", evicted);
+        if (evicted == -1) {
+            // object is cleaned up by instance using per object task
+            return time + RETRY_INTERVAL;
+        }
+        if (evicted >= keysLimit) {
+            return time;
+        }
+
+        long expiration = expirationFuture.getNow();
+        if (expiration == -2) {
+            // object doesn't exist anymore, it's registered again by next write with expiration
+            idleDelays.remove(name);
+            return -1;
+        }
+        if (expiration == -1) {
+            // entries without known expiration could be written by instance using per object tasks
+            Long delay = idleDelays.get(name);
+            long nextDelay = minDelay;
+            if (delay != null) {
+                nextDelay = Math.min(maxDelay, delay * 3 / 2);
+            }
+            idleDelays.put(name, nextDelay);
+            return time + nextDelay;
+        }
+        idleDelays.remove(name);
+        return Math.min(Math.max(expiration, time + RETRY_INTERVAL), time + maxDelay);
+    }
+
+    private EvictionTask createTask(List<String> descriptor) {
+        EvictionTask task = null;
+        String type = descriptor.get(0);
+        if (MAP_CACHE.equals(type)) {
+            task = new MapCacheEvictionTask(descriptor.get(1), descriptor.get(2), descriptor.get(3),
+                    descriptor.get(4), descriptor.get(5), executor);
+            // latch prevents repeated clean up by instances using per object tasks
+            task.delay = 1;
+        } else if (JCACHE.equals(type)) {
+            task = new JCacheEvictionTask(descriptor.get(1), descriptor.get(2), descriptor.get(3), executor);
+        } else if (MULTIMAP.equals(type)) {
+            task = new MultimapEvictionTask(descriptor.get(1), descriptor.get(2), executor);
+        } else if (SCORED_SET.equals(type)) {
+            task = new ScoredSetEvictionTask(descriptor.get(1), executor, Long.valueOf(descriptor.get(2)));
+        } else {
+            log.warn("Unknown eviction object type: {}", type);
+        }
+        return task;
+    }
+
+    static String encode(List<String> values) {
+        StringBuilder result = new StringBuilder();
+        for (String value : values) {
+            result.append(value.length()).append(':').append(value);
+        }
+        return result.toString();
+    }
+
+    static List<String> decode(String value) {
+        List<String> result = new ArrayList<>();
+        int index = 0;
+        while (index < value.length()) {
+            int separator = value.indexOf(':', index);
+            int length = Integer.parseInt(value.substring(index, separator));
+            result.add(value.substring(separator + 1, separator + 1 + length));
+            index = separator + 1 + length;
+        }
+        return result;
+    }
+
+}
@@ -19,9 +19,17 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 import org.redisson.ScanResult;
+import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
+import org.redisson.command.CommandAsyncExecutor;
 
 /**
+ * Iterator over SCAN cursor of single object or node.
+ * <p>
+ * If {@link #iteratorAsync(RedisClient, long)} is implemented
+ * and iterator is created with {@link CommandAsyncExecutor}
+ * next page is requested right after current one has been loaded,
+ * so it's transferred while current page is consumed.
  * 
  * @author Nikita Koksharov
  *
@@ -30,14 +38,30 @@ import org.redisson.client.RedisClient;
  */
 public abstract class BaseIterator<V, E> implements Iterator<V> {
 
+    private final CommandAsyncExecutor commandExecutor;
+
     private Iterator<E> lastIter;
     protected long nextIterPos;
     protected RedisClient client;
 
+    private RFuture<? extends ScanResult<E>> prefetchedPage;
     private boolean finished;
     private boolean currentElementRemoved;
     protected E value;
 
+    public BaseIterator() {
+        this(null);
+    }
+
+    /**
+     * Creates iterator which prefetches next page
+     *
+     * @param commandExecutor - executor used to wait for prefetched page
+     */
+    public BaseIterator(CommandAsyncExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     @Override
     public boolean hasNext() {
         if (lastIter == null || !lastIter.hasNext()) {
@@ -52,12 +76,15 @@ public abstract class BaseIterator<V, E> implements Iterator<V> {
                 finished = false;
             }
             do {
-                ScanResult<E> res = iterator(client, nextIterPos);
+                ScanResult<E> res = loadPage();
                 
                 client = res.getRedisClient();
                 
                 lastIter = res.getValues().iterator();
                 nextIterPos = res.getPos();
+                if (nextIterPos != 0 && commandExecutor != null) {
+                    prefetchedPage = iteratorAsync(client, nextIterPos);
+                }
 
                 if (res.getPos() == 0) {
                     finished = true;
@@ -78,12 +105,32 @@ public abstract class BaseIterator<V, E> implements Iterator<V> {
         return lastIter.hasNext();
     }
     
+    private ScanResult<E> loadPage() {
+        RFuture<? extends ScanResult<E>> future = prefetchedPage;
+        prefetchedPage = null;
+        if (future == null) {
+            return iterator(client, nextIterPos);
+        }
+        return commandExecutor.get(future);
+    }
+
     protected boolean tryAgain() {
         return false;
     }
 
     protected abstract ScanResult<E> iterator(RedisClient client, long nextIterPos);
 
+    /**
+     * Loads page asynchronously. Used to prefetch next page.
+     *
+     * @param client - client used for previous page
+     * @param nextIterPos - cursor position
+     * @return page or <code>null</code> if prefetching isn't supported
+     */
+    protected RFuture<? extends ScanResult<E>> iteratorAsync(RedisClient client, long nextIterPos) {
+        return null;
+    }
+
     @Override
     public V next() {
         if (!hasNext()) {
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.iterator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import org.redisson.ScanResult;
+import org.redisson.api.RFuture;
+import org.redisson.client.RedisClient;
+import org.redisson.client.RedisException;
+
+/**
+ * Iterator over multiple SCAN cursors, usually one per master node.
+ * Cursors are scanned concurrently and next pages are requested
+ * asynchronously while loaded ones are consumed.
+ * Amount of loaded and requested but not consumed pages is limited
+ * by <code>prefetchDepth</code>.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public class PrefetchingScanIterator<V> implements Iterator<V> {
+
+    /**
+     * Loads page of SCAN cursor
+     */
+    public interface ScanSource {
+
+        /**
+         * Loads page starting from defined position
+         *
+         * @param client - client used for previous page or <code>null</code> for first page
+         * @param position - cursor position
+         * @return page
+         */
+        RFuture<? extends ScanResult<?>> scan(RedisClient client, long position);
+
+    }
+
+    private static final class Cursor {
+
+        final ScanSource source;
+        RedisClient client;
+        long position;
+        boolean pending;
+        boolean finished;
+
+        Cursor(ScanSource source) {
+            this.source = source;
+        }
+
+    }
+
+    private static final Object END = new Object();
+
+    private final List<Cursor> cursors = new ArrayList<>();
+    private final int prefetchDepth;
+    private final Consumer<V> remover;
+    private final BlockingQueue<Object> pages = new LinkedBlockingQueue<>();
+
+    // amount of pages requested or loaded but not consumed yet
+    private int usedDepth;
+    private int activeCursors;
+    private boolean started;
+
+    private Iterator<V> page = Collections.emptyIterator();
+    private V value;
+    private boolean removed;
+
+    public PrefetchingScanIterator(Collection<? extends ScanSource> sources, int prefetchDepth, Consumer<V> remover) {
+        if (prefetchDepth < 1) {
+            throw new IllegalArgumentException("prefetchDepth can't be lower than 1");
+        }
+        for (ScanSource source : sources) {
+            cursors.add(new Cursor(source));
+        }
+        this.activeCursors = cursors.size();
+        this.prefetchDepth = prefetchDepth;
+        this.remover = remover;
+    }
+
+    private synchronized void fill() {
+        for (Cursor cursor : cursors) {
+            if (usedDepth >= prefetchDepth) {
+                return;
+            }
+            if (cursor.pending || cursor.finished) {
+                continue;
+            }
+
+            cursor.pending = true;
+            usedDepth++;
+            RFuture<? extends ScanResult<?>> future = cursor.source.scan(cursor.client, cursor.position);
+            future.onComplete((res, e) -> {
+                onPage(cursor, res, e);
+            });
+        }
+    }
+
+    private void onPage(Cursor cursor, ScanResult<?> res, Throwable cause) {
+        synchronized (this) {
+            cursor.pending = false;
+            if (cause != null) {
+                usedDepth--;
+                cursor.finished = true;
+                activeCursors--;
+                pages.add(cause);
+                return;
+            }
+
+            cursor.client = res.getRedisClient();
+            cursor.position = res.getPos();
+            if (res.getPos() == 0) {
+                cursor.finished = true;
+                activeCursors--;
+            }
+
+            if (res.getValues().isEmpty()) {
+                usedDepth--;
+            } else {
+                pages.add(res.getValues());
+            }
+            if (cursor.finished) {
+                // wakes up consumer to recheck remaining cursors
+                pages.add(END);
+            }
+        }
+        fill();
+    }
+
+    private synchronized boolean isCompleted() {
+        return activeCursors == 0 && usedDepth == 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            fill();
+        }
+
+        while (!page.hasNext()) {
+            if (isCompleted() && pages.isEmpty()) {
+                return false;
+            }
+
+            Object element;
+            try {
+                element = pages.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RedisException("Iteration has been interrupted", e);
+            }
+
+            if (element == END) {
+                continue;
+            }
+            if (element instanceof Throwable) {
+                Throwable cause = (Throwable) element;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new RedisException("Unable to load page", cause);
+            }
+
+            synchronized (this) {
+                usedDepth--;
+            }
+            fill();
+            page = ((Collection<V>) element).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No such element");
+        }
+
+        value = page.next();
+        removed = false;
+        return value;
+    }
+
+    @Override
+    public void remove() {
+        if (remover == null) {
+            throw new UnsupportedOperationException();
+        }
+        if (removed) {
+            throw new IllegalStateException("Element been already deleted");
+        }
+        if (value == null) {
+            throw new IllegalStateException();
+        }
+
+        remover.accept(value);
+        removed = true;
+    }
+
+}
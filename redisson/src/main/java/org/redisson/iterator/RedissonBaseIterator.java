@@ -15,6 +15,8 @@
  */
 package org.redisson.iterator;
 
+import org.redisson.command.CommandAsyncExecutor;
+
 /**
  * 
  * @author Nikita Koksharov
@@ -23,6 +25,13 @@ package org.redisson.iterator;
  */
 public abstract class RedissonBaseIterator<V> extends BaseIterator<V, Object> {
 
+    public RedissonBaseIterator() {
+    }
+
+    public RedissonBaseIterator(CommandAsyncExecutor commandExecutor) {
+        super(commandExecutor);
+    }
+
     @Override
     protected V getValue(Object entry) {
         return (V) entry;
@@ -19,6 +19,8 @@ import java.util.AbstractMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.redisson.command.CommandAsyncExecutor;
+
 /**
  * 
  * @author Nikita Koksharov
@@ -27,6 +29,13 @@ import java.util.Map.Entry;
  */
 public abstract class RedissonBaseMapIterator<V> extends BaseIterator<V, Entry<Object, Object>> {
 
+    public RedissonBaseMapIterator() {
+    }
+
+    public RedissonBaseMapIterator(CommandAsyncExecutor commandExecutor) {
+        super(commandExecutor);
+    }
+
     @SuppressWarnings("unchecked")
     protected V getValue(Map.Entry<Object, Object> entry) {
         return (V) new AbstractMap.SimpleEntry(entry.getKey(), entry.getValue()) {
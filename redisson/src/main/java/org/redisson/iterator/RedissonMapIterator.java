@@ -17,7 +17,10 @@ package org.redisson.iterator;
 
 import org.redisson.RedissonMap;
 import org.redisson.ScanResult;
+import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.client.protocol.decoder.MapScanResult;
 
 import java.util.Map.Entry;
 
@@ -33,7 +36,8 @@ public class RedissonMapIterator<M> extends RedissonBaseMapIterator<M> {
     private final String pattern;
     private final int count;
 
-    public RedissonMapIterator(RedissonMap map, String pattern, int count) {
+    public RedissonMapIterator(RedissonMap map, CommandAsyncExecutor commandExecutor, String pattern, int count) {
+        super(commandExecutor);
         this.map = map;
         this.pattern = pattern;
         this.count = count;
@@ -49,6 +53,11 @@ public class RedissonMapIterator<M> extends RedissonBaseMapIterator<M> {
         return map.scanIterator(map.getName(), client, nextIterPos, pattern, count);
     }
 
+    @Override
+    protected RFuture<MapScanResult<Object, Object>> iteratorAsync(RedisClient client, long nextIterPos) {
+        return map.scanIteratorAsync(map.getName(), client, nextIterPos, pattern, count);
+    }
+
     @Override
     protected void remove(Entry<Object, Object> value) {
         map.fastRemove(value.getKey());
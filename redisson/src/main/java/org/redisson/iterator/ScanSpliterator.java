@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.iterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.redisson.iterator.PrefetchingScanIterator.ScanSource;
+
+/**
+ * Spliterator over multiple SCAN cursors.
+ * Splitting divides cursors between spliterators,
+ * so parallel stream scans different nodes in different threads.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public class ScanSpliterator<V> implements Spliterator<V> {
+
+    private final List<ScanSource> sources;
+    private int prefetchDepth;
+    private PrefetchingScanIterator<V> iterator;
+
+    public ScanSpliterator(List<? extends ScanSource> sources, int prefetchDepth) {
+        this.sources = new ArrayList<>(sources);
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    private PrefetchingScanIterator<V> getIterator() {
+        if (iterator == null) {
+            iterator = new PrefetchingScanIterator<>(sources, prefetchDepth, null);
+        }
+        return iterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super V> action) {
+        PrefetchingScanIterator<V> iter = getIterator();
+        if (!iter.hasNext()) {
+            return false;
+        }
+        action.accept(iter.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super V> action) {
+        getIterator().forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<V> trySplit() {
+        if (iterator != null || sources.size() < 2) {
+            return null;
+        }
+
+        int half = sources.size() / 2;
+        List<ScanSource> splitSources = new ArrayList<>(sources.subList(0, half));
+        sources.subList(0, half).clear();
+
+        int splitDepth = Math.max(1, prefetchDepth / 2);
+        prefetchDepth = Math.max(1, prefetchDepth - splitDepth);
+        return new ScanSpliterator<>(splitSources, splitDepth);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+}
@@ -15,28 +15,292 @@
  */
 package org.redisson.liveobject;
 
+import org.redisson.RedissonObject;
 import org.redisson.RedissonScoredSortedSet;
 import org.redisson.RedissonSet;
 import org.redisson.RedissonSetMultimap;
 import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RSet;
 import org.redisson.api.RSetMultimap;
+import org.redisson.api.annotation.RIndex;
 import org.redisson.api.condition.Condition;
+import org.redisson.api.condition.Sort;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.liveobject.condition.*;
+import org.redisson.liveobject.core.SortedIndex;
+import org.redisson.liveobject.misc.ClassUtils;
 import org.redisson.liveobject.resolver.NamingScheme;
 
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 /**
- * 
+ * Evaluates {@link Condition} tree over live object indexes.
+ * <p>
+ * Condition tree is compiled into program evaluated by Lua script
+ * inside Redis, so only final ids are transferred over the network.
+ * <code>AND</code> condition materializes its most selective operand only
+ * and checks rest of operands per id using <code>SISMEMBER</code> and <code>ZSCORE</code>.
+ * If index keys are located in different slots of Redis cluster
+ * condition is evaluated on client side.
+ *
  * @author Nikita Koksharov
  *
  */
 public class LiveObjectSearch {
-    
+
+    private static final String OP_AND = "and";
+    private static final String OP_OR = "or";
+    private static final String OP_SET = "set";
+    private static final String OP_RANGE = "range";
+
+    // functions evaluating compiled condition program started at ARGV[pos]
+    private static final String PROGRAM_FUNCTIONS =
+            "local function toNumber(v) "
+              + "if v == '-inf' then return -math.huge; end; "
+              + "if v == '+inf' then return math.huge; end; "
+              + "return tonumber(v); "
+          + "end; "
+          + "local function bound(v, inclusive) "
+              + "if inclusive or v == '-inf' or v == '+inf' then return v; end; "
+              + "return '(' .. v; "
+          + "end; "
+
+          + "local function parse() "
+              + "local node = {op = ARGV[pos]}; "
+              + "pos = pos + 1; "
+              + "if node.op == '" + OP_AND + "' or node.op == '" + OP_OR + "' then "
+                  + "local n = tonumber(ARGV[pos]); "
+                  + "pos = pos + 1; "
+                  + "node.children = {}; "
+                  + "for i = 1, n do "
+                      + "table.insert(node.children, parse()); "
+                  + "end; "
+              + "elseif node.op == '" + OP_SET + "' then "
+                  + "node.key = KEYS[tonumber(ARGV[pos])]; "
+                  + "pos = pos + 1; "
+              + "else "
+                  + "node.key = KEYS[tonumber(ARGV[pos])]; "
+                  + "node.min = ARGV[pos + 1]; "
+                  + "node.minInclusive = ARGV[pos + 2] == '1'; "
+                  + "node.max = ARGV[pos + 3]; "
+                  + "node.maxInclusive = ARGV[pos + 4] == '1'; "
+                  + "node.minNumber = toNumber(node.min); "
+                  + "node.maxNumber = toNumber(node.max); "
+                  + "pos = pos + 5; "
+              + "end; "
+              + "return node; "
+          + "end; "
+
+          // estimated amount of ids matched by node
+          + "local function estimate(node) "
+              + "if node.size == nil then "
+                  + "if node.op == '" + OP_SET + "' then "
+                      + "node.size = redis.call('scard', node.key); "
+                  + "elseif node.op == '" + OP_RANGE + "' then "
+                      + "node.size = redis.call('zcount', node.key, bound(node.min, node.minInclusive), bound(node.max, node.maxInclusive)); "
+                  + "elseif node.op == '" + OP_AND + "' then "
+                      + "node.size = -1; "
+                      + "for i, child in ipairs(node.children) do "
+                          + "local size = estimate(child); "
+                          + "if node.size == -1 or size < node.size then node.size = size; end; "
+                      + "end; "
+                      + "if node.size == -1 then node.size = 0; end; "
+                  + "else "
+                      + "node.size = 0; "
+                      + "for i, child in ipairs(node.children) do "
+                          + "node.size = node.size + estimate(child); "
+                      + "end; "
+                  + "end; "
+              + "end; "
+              + "return node.size; "
+          + "end; "
+
+          + "local function matches(node, id) "
+              + "if node.op == '" + OP_SET + "' then "
+                  + "return redis.call('sismember', node.key, id) == 1; "
+              + "elseif node.op == '" + OP_RANGE + "' then "
+                  + "local score = redis.call('zscore', node.key, id); "
+                  + "if not score then return false; end; "
+                  + "score = tonumber(score); "
+                  + "if score < node.minNumber or (score == node.minNumber and not node.minInclusive) then return false; end; "
+                  + "if score > node.maxNumber or (score == node.maxNumber and not node.maxInclusive) then return false; end; "
+                  + "return true; "
+              + "elseif node.op == '" + OP_AND + "' then "
+                  + "for i, child in ipairs(node.children) do "
+                      + "if not matches(child, id) then return false; end; "
+                  + "end; "
+                  + "return true; "
+              + "else "
+                  + "for i, child in ipairs(node.children) do "
+                      + "if matches(child, id) then return true; end; "
+                  + "end; "
+                  + "return false; "
+              + "end; "
+          + "end; "
+
+          + "local function collect(node) "
+              + "if node.op == '" + OP_SET + "' then "
+                  + "return redis.call('smembers', node.key); "
+              + "elseif node.op == '" + OP_RANGE + "' then "
+                  + "return redis.call('zrangebyscore', node.key, bound(node.min, node.minInclusive), bound(node.max, node.maxInclusive)); "
+              + "elseif node.op == '" + OP_AND + "' then "
+                  + "if estimate(node) == 0 then return {}; end; "
+                  + "local selective; "
+                  + "for i, child in ipairs(node.children) do "
+                      + "if selective == nil or estimate(child) < estimate(selective) then selective = child; end; "
+                  + "end; "
+                  + "local result = {}; "
+                  + "for i, id in ipairs(collect(selective)) do "
+                      + "local found = true; "
+                      + "for j, child in ipairs(node.children) do "
+                          + "if child ~= selective and not matches(child, id) then "
+                              + "found = false; "
+                              + "break; "
+                          + "end; "
+                      + "end; "
+                      + "if found then table.insert(result, id); end; "
+                  + "end; "
+                  + "return result; "
+              + "else "
+                  + "local result = {}; "
+                  + "local seen = {}; "
+                  + "for i, child in ipairs(node.children) do "
+                      + "if estimate(child) > 0 then "
+                          + "for j, id in ipairs(collect(child)) do "
+                              + "if not seen[id] then "
+                                  + "seen[id] = true; "
+                                  + "table.insert(result, id); "
+                              + "end; "
+                          + "end; "
+                      + "end; "
+                  + "end; "
+                  + "return result; "
+              + "end; "
+          + "end; ";
+
+    private static final String SEARCH_SCRIPT =
+            "local pos = 4; "
+          + PROGRAM_FUNCTIONS
+          + "local node = parse(); "
+          + "if ARGV[1] == '1' then "
+              + "if node.op == '" + OP_SET + "' or node.op == '" + OP_RANGE + "' then "
+                  + "return estimate(node); "
+              + "end; "
+              + "return #collect(node); "
+          + "end; "
+          + "local offset = tonumber(ARGV[2]); "
+          + "local limit = tonumber(ARGV[3]); "
+          + "if offset == 0 and limit < 0 then "
+              + "return collect(node); "
+          + "end; "
+          + "if limit == 0 or estimate(node) == 0 then "
+              + "return {}; "
+          + "end; "
+
+          // stable order is required for paging, so ids are stored in temporary
+          // sorted set with zero scores and read in lexicographical order
+          + "local temp = KEYS[#KEYS]; "
+          + "local sets = node.op == '" + OP_SET + "'; "
+          + "if node.op == '" + OP_AND + "' or node.op == '" + OP_OR + "' then "
+              + "sets = true; "
+              + "for i, child in ipairs(node.children) do "
+                  + "if child.op ~= '" + OP_SET + "' then sets = false; end; "
+              + "end; "
+          + "end; "
+          + "if sets then "
+              + "local children = node.children or {node}; "
+              + "local args = {temp, #children}; "
+              + "for i, child in ipairs(children) do "
+                  + "table.insert(args, child.key); "
+              + "end; "
+              + "table.insert(args, 'weights'); "
+              + "for i = 1, #children do "
+                  + "table.insert(args, 0); "
+              + "end; "
+              + "if node.op == '" + OP_OR + "' then "
+                  + "redis.call('zunionstore', unpack(args)); "
+              + "else "
+                  + "redis.call('zinterstore', unpack(args)); "
+              + "end; "
+          + "else "
+              + "local ids = collect(node); "
+              + "for i = 1, #ids, 1000 do "
+                  + "local args = {}; "
+                  + "for j = i, math.min(i + 999, #ids) do "
+                      + "table.insert(args, 0); "
+                      + "table.insert(args, ids[j]); "
+                  + "end; "
+                  + "redis.call('zadd', temp, unpack(args)); "
+              + "end; "
+          + "end; "
+          + "local result = redis.call('zrangebylex', temp, '-', '+', 'limit', offset, limit); "
+          + "redis.call('del', temp); "
+          + "return result;";
+
+    private static final int SCAN_CHUNK_SIZE = 1000;
+
+    private static final String SORTED_SEARCH_SCRIPT =
+            "local pos = 7; "
+          + PROGRAM_FUNCTIONS
+          + "local offset = tonumber(ARGV[2]); "
+          + "local limit = tonumber(ARGV[3]); "
+          + "local desc = ARGV[4] == 'desc'; "
+          + "local fields = tonumber(ARGV[5]); "
+          + "local chunk = tonumber(ARGV[6]); "
+          + "local node; "
+          + "if ARGV[7] ~= nil then node = parse(); end; "
+
+          + "local function range(first, last) "
+              + "if desc then return redis.call('zrevrange', KEYS[1], first, last); end; "
+              + "return redis.call('zrange', KEYS[1], first, last); "
+          + "end; "
+          // id follows field values of sorted index member
+          + "local function toId(member) "
+              + "local p = 0; "
+              + "for i = 1, fields do "
+                  + "p = string.find(member, '\\0', p + 1, true); "
+              + "end; "
+              + "return string.sub(member, p + 1); "
+          + "end; "
+
+          + "local result = {}; "
+          + "if limit == 0 then return result; end; "
+          + "if node == nil then "
+              + "local last = -1; "
+              + "if limit > 0 then last = offset + limit - 1; end; "
+              + "for i, member in ipairs(range(offset, last)) do "
+                  + "table.insert(result, toId(member)); "
+              + "end; "
+              + "return result; "
+          + "end; "
+          + "if estimate(node) == 0 then return result; end; "
+
+          + "local skipped = 0; "
+          + "local first = 0; "
+          + "while true do "
+              + "local members = range(first, first + chunk - 1); "
+              + "for i, member in ipairs(members) do "
+                  + "local id = toId(member); "
+                  + "if matches(node, id) then "
+                      + "if skipped < offset then "
+                          + "skipped = skipped + 1; "
+                      + "else "
+                          + "table.insert(result, id); "
+                          + "if limit > 0 and #result >= limit then return result; end; "
+                      + "end; "
+                  + "end; "
+              + "end; "
+              + "if #members < chunk then return result; end; "
+              + "first = first + chunk; "
+          + "end;";
+
     private final CommandAsyncExecutor commandExecutor;
 
     public LiveObjectSearch(CommandAsyncExecutor commandExecutor) {
@@ -270,7 +534,264 @@ public class LiveObjectSearch {
         return allIds;
     }
     
+    /**
+     * Returns ids of entities matched by condition
+     *
+     * @param entityClass - entity class
+     * @param condition - condition object
+     * @return ids of entities
+     */
     public Set<Object> find(Class<?> entityClass, Condition condition) {
+        List<Object> ids = execute(entityClass, condition, RedisCommands.EVAL_LIST, false, 0, -1);
+        if (ids == null) {
+            return findLocally(entityClass, condition);
+        }
+        return new HashSet<>(ids);
+    }
+
+    /**
+     * Returns page of ids of entities matched by condition.
+     * Ids are ordered by their encoded form. Matched ids are stored
+     * in temporary sorted set and page is read from it by <code>ZRANGEBYLEX</code>.
+     *
+     * @param entityClass - entity class
+     * @param condition - condition object
+     * @param offset - amount of ids to skip
+     * @param limit - maximum amount of ids to return. <code>-1</code> means no limit
+     * @return ids of entities
+     */
+    public List<Object> find(Class<?> entityClass, Condition condition, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset can't be negative");
+        }
+
+        List<Object> ids = execute(entityClass, condition, RedisCommands.EVAL_LIST, false, offset, limit);
+        if (ids == null) {
+            long maxSize = limit;
+            if (limit < 0) {
+                maxSize = Long.MAX_VALUE;
+            }
+            return findLocally(entityClass, condition).stream()
+                    .skip(offset)
+                    .limit(maxSize)
+                    .collect(Collectors.toList());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns amount of entities matched by condition
+     *
+     * @param entityClass - entity class
+     * @param condition - condition object
+     * @return amount of entities
+     */
+    public long count(Class<?> entityClass, Condition condition) {
+        Long count = execute(entityClass, condition, RedisCommands.EVAL_LONG, true, 0, -1);
+        if (count == null) {
+            return findLocally(entityClass, condition).size();
+        }
+        return count;
+    }
+
+    private <R> R execute(Class<?> entityClass, Condition condition, RedisCommand<R> command,
+                            boolean countOnly, int offset, int limit) {
+        NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(entityClass);
+
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        List<Object> args = new ArrayList<>();
+        if (countOnly) {
+            args.add(1);
+        } else {
+            args.add(0);
+        }
+        args.add(offset);
+        args.add(limit);
+        compile(condition, namingScheme, entityClass, keys, args);
+
+        if (commandExecutor.getConnectionManager().isClusterMode()) {
+            Set<Integer> slots = new HashSet<>();
+            for (String key : keys.keySet()) {
+                slots.add(commandExecutor.getConnectionManager().calcSlot(key));
+            }
+            if (slots.size() > 1) {
+                return null;
+            }
+        }
+
+        String firstKey = keys.keySet().iterator().next();
+        if (countOnly || (offset == 0 && limit < 0)) {
+            return commandExecutor.get(commandExecutor.evalReadAsync(firstKey, namingScheme.getCodec(), command,
+                    SEARCH_SCRIPT, new ArrayList<>(keys.keySet()), args.toArray()));
+        }
+
+        // temporary key used for paging is located in the same slot as first key
+        keyIndex(RedissonObject.suffixName(firstKey, "search:" + UUID.randomUUID()), keys);
+        return commandExecutor.get(commandExecutor.evalWriteAsync(firstKey, namingScheme.getCodec(), command,
+                SEARCH_SCRIPT, new ArrayList<>(keys.keySet()), args.toArray()));
+    }
+
+    /**
+     * Returns page of ids of entities matched by condition
+     * ordered by sorted index defined for <code>sort</code> fields.
+     * Sorted index is scanned in defined order and condition is checked per id,
+     * so scan stops once page is filled.
+     *
+     * @param entityClass - entity class
+     * @param condition - condition object or <code>null</code> to match all entities
+     * @param sort - sort object
+     * @param offset - amount of ids to skip
+     * @param limit - maximum amount of ids to return. <code>-1</code> means no limit
+     * @return ids of entities
+     */
+    public List<Object> find(Class<?> entityClass, Condition condition, Sort sort, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset can't be negative");
+        }
+
+        NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(entityClass);
+
+        String indexName;
+        int fields;
+        SortedIndex index = SortedIndex.getIndex(entityClass, sort.getFields());
+        if (index != null) {
+            indexName = index.getName(namingScheme, entityClass);
+            fields = index.getFields().length;
+        } else if (isNumericIndex(entityClass, sort.getFields())) {
+            // numeric index members are ids ordered by field value
+            indexName = namingScheme.getIndexName(entityClass, sort.getFields()[0]);
+            fields = 0;
+        } else {
+            throw new IllegalArgumentException("Sorted index isn't defined for fields " + Arrays.toString(sort.getFields())
+                                                    + " of " + entityClass);
+        }
+
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        keyIndex(indexName, keys);
+
+        List<Object> args = new ArrayList<>();
+        args.add(0);
+        args.add(offset);
+        args.add(limit);
+        args.add(sort.getOrder().name().toLowerCase());
+        args.add(fields);
+        args.add(SCAN_CHUNK_SIZE);
+        if (condition != null) {
+            compile(condition, namingScheme, entityClass, keys, args);
+        }
+
+        if (commandExecutor.getConnectionManager().isClusterMode()) {
+            Set<Integer> slots = new HashSet<>();
+            for (String key : keys.keySet()) {
+                slots.add(commandExecutor.getConnectionManager().calcSlot(key));
+            }
+            if (slots.size() > 1) {
+                throw new IllegalStateException("Index keys of " + entityClass + " should be located in the same slot");
+            }
+        }
+
+        return commandExecutor.get(commandExecutor.evalReadAsync(indexName, namingScheme.getCodec(), RedisCommands.EVAL_LIST,
+                SORTED_SEARCH_SCRIPT, new ArrayList<>(keys.keySet()), args.toArray()));
+    }
+
+    private boolean isNumericIndex(Class<?> entityClass, String[] fields) {
+        if (fields.length != 1) {
+            return false;
+        }
+
+        try {
+            Field field = ClassUtils.getDeclaredField(entityClass, fields[0]);
+            if (field.getAnnotation(RIndex.class) == null) {
+                return false;
+            }
+            return Number.class.isAssignableFrom(field.getType())
+                    || (field.getType().isPrimitive()
+                            && field.getType() != boolean.class
+                                && field.getType() != char.class);
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+
+    private void compile(Condition condition, NamingScheme namingScheme, Class<?> entityClass,
+                            Map<String, Integer> keys, List<Object> args) {
+        if (condition instanceof ANDCondition || condition instanceof ORCondition) {
+            Condition[] conditions;
+            if (condition instanceof ANDCondition) {
+                args.add(OP_AND);
+                conditions = ((ANDCondition) condition).getConditions();
+            } else {
+                args.add(OP_OR);
+                conditions = ((ORCondition) condition).getConditions();
+            }
+            args.add(conditions.length);
+            for (Condition cond : conditions) {
+                compile(cond, namingScheme, entityClass, keys, args);
+            }
+        } else if (condition instanceof EQCondition) {
+            EQCondition c = (EQCondition) condition;
+            String indexName = namingScheme.getIndexName(entityClass, c.getName());
+            if (c.getValue() instanceof Number) {
+                double v = ((Number) c.getValue()).doubleValue();
+                addRange(indexName, v, true, v, true, keys, args);
+            } else {
+                RSetMultimap<Object, Object> map = new RedissonSetMultimap<>(namingScheme.getCodec(), commandExecutor, indexName);
+                args.add(OP_SET);
+                args.add(keyIndex(map.get(c.getValue()).getName(), keys));
+            }
+        } else if (condition instanceof GTCondition) {
+            GTCondition c = (GTCondition) condition;
+            String indexName = namingScheme.getIndexName(entityClass, c.getName());
+            addRange(indexName, c.getValue().doubleValue(), false, Double.POSITIVE_INFINITY, false, keys, args);
+        } else if (condition instanceof GECondition) {
+            GECondition c = (GECondition) condition;
+            String indexName = namingScheme.getIndexName(entityClass, c.getName());
+            addRange(indexName, c.getValue().doubleValue(), true, Double.POSITIVE_INFINITY, false, keys, args);
+        } else if (condition instanceof LTCondition) {
+            LTCondition c = (LTCondition) condition;
+            String indexName = namingScheme.getIndexName(entityClass, c.getName());
+            addRange(indexName, Double.NEGATIVE_INFINITY, false, c.getValue().doubleValue(), false, keys, args);
+        } else if (condition instanceof LECondition) {
+            LECondition c = (LECondition) condition;
+            String indexName = namingScheme.getIndexName(entityClass, c.getName());
+            addRange(indexName, Double.NEGATIVE_INFINITY, false, c.getValue().doubleValue(), true, keys, args);
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void addRange(String indexName, double min, boolean minInclusive, double max, boolean maxInclusive,
+                            Map<String, Integer> keys, List<Object> args) {
+        args.add(OP_RANGE);
+        args.add(keyIndex(indexName, keys));
+        args.add(value(min));
+        args.add(flag(minInclusive));
+        args.add(value(max));
+        args.add(flag(maxInclusive));
+    }
+
+    private int keyIndex(String key, Map<String, Integer> keys) {
+        return keys.computeIfAbsent(key, k -> keys.size() + 1);
+    }
+
+    private String flag(boolean value) {
+        if (value) {
+            return "1";
+        }
+        return "0";
+    }
+
+    private String value(double score) {
+        if (Double.isInfinite(score)) {
+            if (score > 0) {
+                return "+inf";
+            }
+            return "-inf";
+        }
+        return BigDecimal.valueOf(score).toPlainString();
+    }
+
+    private Set<Object> findLocally(Class<?> entityClass, Condition condition) {
         NamingScheme namingScheme = commandExecutor.getObjectBuilder().getNamingScheme(entityClass);
 
         if (condition instanceof EQCondition) {
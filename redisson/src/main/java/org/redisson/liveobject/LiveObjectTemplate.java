@@ -16,6 +16,7 @@
 package org.redisson.liveobject;
 
 import org.redisson.api.RMap;
+import org.redisson.liveobject.core.LiveObjectSnapshot;
 
 /**
  *
@@ -25,5 +26,6 @@ public class LiveObjectTemplate {
 
     private Object liveObjectId;
     private RMap liveObjectLiveMap;
+    private LiveObjectSnapshot liveObjectSnapshot;
 
 }
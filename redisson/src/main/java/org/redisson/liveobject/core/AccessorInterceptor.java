@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
+import org.redisson.RedissonObject;
 import org.redisson.RedissonReference;
 import org.redisson.RedissonScoredSortedSet;
 import org.redisson.RedissonSetMultimap;
@@ -65,7 +66,8 @@ public class AccessorInterceptor {
     @SuppressWarnings("NestedIfDepth")
     public Object intercept(@Origin Method method, @SuperCall Callable<?> superMethod,
             @AllArguments Object[] args, @This Object me,
-            @FieldValue("liveObjectLiveMap") RMap<String, Object> liveMap) throws Exception {
+            @FieldValue("liveObjectLiveMap") RMap<String, Object> liveMap,
+            @FieldValue("liveObjectSnapshot") LiveObjectSnapshot snapshot) throws Exception {
         if (isGetter(method, getREntityIdFieldName(me))) {
             return ((RLiveObject) me).getLiveObjectId();
         }
@@ -79,11 +81,19 @@ public class AccessorInterceptor {
         Class<?> fieldType = field.getType();
         
         if (isGetter(method, fieldName)) {
-            Object result = liveMap.get(fieldName);
+            Object result;
+            if (snapshot != null && snapshot.isLoaded(fieldName)) {
+                result = snapshot.get(fieldName);
+            } else {
+                result = liveMap.get(fieldName);
+            }
             if (result == null) {
                 RObject ar = connectionManager.getCommandExecutor().getObjectBuilder().createObject(((RLiveObject) me).getLiveObjectId(), me.getClass().getSuperclass(), fieldType, fieldName);
                 if (ar != null) {
                     connectionManager.getCommandExecutor().getObjectBuilder().store(ar, fieldName, liveMap);
+                    if (snapshot != null) {
+                        snapshot.invalidate(fieldName);
+                    }
                     return ar;
                 }
             }
@@ -122,6 +132,9 @@ public class AccessorInterceptor {
                             ns.getName(rEntity, fieldType, getREntityIdFieldName(liveObject),
                                     liveObject.getLiveObjectId())));
                 }
+                if (snapshot != null) {
+                    snapshot.invalidate(fieldName);
+                }
 
                 return me;
             }
@@ -150,11 +163,26 @@ public class AccessorInterceptor {
             
             if (arg instanceof RObject) {
                 connectionManager.getCommandExecutor().getObjectBuilder().store((RObject) arg, fieldName, liveMap);
+                if (snapshot != null) {
+                    snapshot.invalidate(fieldName);
+                }
                 return me;
             }
 
+            boolean sorted = SortedIndex.isIndexed(me.getClass().getSuperclass(), fieldName);
             if (arg == null) {
-                Object oldArg = liveMap.remove(fieldName);
+                Object oldArg;
+                if (sorted && !(commandExecutor instanceof CommandBatchService) && isSortedIndexSlot(me, liveMap)) {
+                    oldArg = updateSortedIndexes(me, fieldName, null, liveMap, true);
+                } else {
+                    if (sorted) {
+                        updateSortedIndexes(me, fieldName, null, liveMap, false);
+                    }
+                    oldArg = liveMap.remove(fieldName);
+                }
+                if (snapshot != null) {
+                    snapshot.update(fieldName, null, false);
+                }
                 if (field.getAnnotation(RIndex.class) != null) {
                     NamingScheme namingScheme = connectionManager.getCommandExecutor().getObjectBuilder().getNamingScheme(me.getClass().getSuperclass());
                     String indexName = namingScheme.getIndexName(me.getClass().getSuperclass(), fieldName);
@@ -181,12 +209,26 @@ public class AccessorInterceptor {
                     ce.execute();
                 }
             } else {
+                boolean buffered = snapshot != null && snapshot.isBufferWrites();
+                boolean written = sorted && !buffered && isSortedIndexSlot(me, liveMap);
+                if (sorted) {
+                    updateSortedIndexes(me, fieldName, arg, liveMap, written);
+                }
                 storeIndex(field, me, arg);
 
-                if (commandExecutor instanceof CommandBatchService) {
-                    liveMap.fastPutAsync(fieldName, arg);
+                if (buffered) {
+                    snapshot.update(fieldName, arg, true);
                 } else {
-                    liveMap.fastPut(fieldName, arg);
+                    if (!written) {
+                        if (commandExecutor instanceof CommandBatchService) {
+                            liveMap.fastPutAsync(fieldName, arg);
+                        } else {
+                            liveMap.fastPut(fieldName, arg);
+                        }
+                    }
+                    if (snapshot != null) {
+                        snapshot.update(fieldName, arg, false);
+                    }
                 }
             }
             return me;
@@ -222,6 +264,30 @@ public class AccessorInterceptor {
         }
     }
 
+    private boolean isSortedIndexSlot(Object me, RMap<String, Object> liveMap) {
+        Class<?> entityClass = me.getClass().getSuperclass();
+        NamingScheme namingScheme = connectionManager.getCommandExecutor().getObjectBuilder().getNamingScheme(entityClass);
+        return connectionManager.calcSlot(liveMap.getName())
+                    == connectionManager.calcSlot(SortedIndex.getValuesName(namingScheme, entityClass));
+    }
+
+    protected Object updateSortedIndexes(Object me, String fieldName, Object arg, RMap<String, Object> liveMap, boolean writeField) {
+        Class<?> entityClass = me.getClass().getSuperclass();
+        NamingScheme namingScheme = connectionManager.getCommandExecutor().getObjectBuilder().getNamingScheme(entityClass);
+
+        RedissonObject map = null;
+        if (writeField) {
+            map = (RedissonObject) liveMap;
+        }
+        // index members are built from stored values of other fields by the same script
+        RFuture<Object> future = SortedIndex.updateAsync(commandExecutor, namingScheme, entityClass,
+                                        ((RLiveObject) me).getLiveObjectId(), fieldName, arg, map);
+        if (commandExecutor instanceof CommandBatchService) {
+            return null;
+        }
+        return commandExecutor.get(future);
+    }
+
     private String getFieldName(Method method) {
         String name = method.getName();
         int i = 4;
@@ -142,6 +142,11 @@ public class LiveObjectInterceptor {
                     idsMultimap.removeAsync(value, ((RLiveObject) me).getLiveObjectId());
                 }
             }
+
+            if (!SortedIndex.getIndexes(me.getClass().getSuperclass()).isEmpty()) {
+                SortedIndex.removeAsync(ce, namingScheme, me.getClass().getSuperclass(), ((RLiveObject) me).getLiveObjectId());
+            }
+
             RFuture<Long> deleteFuture = new RedissonKeys(ce).deleteAsync(map.getName());
             ce.execute();
             
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.liveobject.core;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Field values of live object loaded in advance.
+ * Getters of live object return values from snapshot
+ * instead of reading them from Redis one by one.
+ * <p>
+ * If writes are buffered, setters store plain field values in snapshot
+ * and mark them as dirty. Dirty values are written later with single command.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class LiveObjectSnapshot {
+
+    private final Map<String, Object> values = new HashMap<>();
+    private final Set<String> dirtyFields = new LinkedHashSet<>();
+    private final boolean bufferWrites;
+    private boolean complete;
+
+    public LiveObjectSnapshot(boolean bufferWrites) {
+        this.bufferWrites = bufferWrites;
+    }
+
+    public boolean isBufferWrites() {
+        return bufferWrites;
+    }
+
+    /**
+     * Loads all field values of live object.
+     * Fields absent in <code>values</code> are treated as <code>null</code>.
+     *
+     * @param values - field values
+     */
+    public synchronized void loadAll(Map<String, Object> values) {
+        this.values.putAll(values);
+        complete = true;
+    }
+
+    /**
+     * Loads values of defined fields.
+     * Fields absent in <code>values</code> are treated as <code>null</code>.
+     *
+     * @param fields - names of fields
+     * @param values - field values
+     */
+    public synchronized void load(Collection<String> fields, Map<String, Object> values) {
+        for (String field : fields) {
+            this.values.put(field, values.get(field));
+        }
+    }
+
+    public synchronized boolean isLoaded(String field) {
+        return complete || values.containsKey(field);
+    }
+
+    public synchronized Object get(String field) {
+        return values.get(field);
+    }
+
+    /**
+     * Updates value of field
+     *
+     * @param field - name of field
+     * @param value - field value
+     * @param dirty - <code>true</code> if value isn't written to Redis yet
+     */
+    public synchronized void update(String field, Object value, boolean dirty) {
+        values.put(field, value);
+        if (dirty) {
+            dirtyFields.add(field);
+        } else {
+            dirtyFields.remove(field);
+        }
+    }
+
+    /**
+     * Removes field value from snapshot, so it will be read from Redis
+     *
+     * @param field - name of field
+     */
+    public synchronized void invalidate(String field) {
+        dirtyFields.remove(field);
+        values.remove(field);
+        // absent fields can't be treated as null anymore
+        complete = false;
+    }
+
+    /**
+     * Returns values of dirty fields and marks them as written
+     *
+     * @return field values
+     */
+    public synchronized Map<String, Object> flush() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String field : dirtyFields) {
+            result.put(field, values.get(field));
+        }
+        dirtyFields.clear();
+        return result;
+    }
+
+}
@@ -0,0 +1,443 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.liveobject.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.RedissonObject;
+import org.redisson.api.RFuture;
+import org.redisson.api.annotation.RCompositeIndex;
+import org.redisson.api.annotation.RSortedIndex;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.liveobject.resolver.NamingScheme;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.CharsetUtil;
+
+/**
+ * Sorted index of live objects defined by {@link RSortedIndex} or {@link RCompositeIndex} annotation.
+ * <p>
+ * Index is stored as sorted set with zero score for all members, so members are
+ * ordered lexicographically. Each member consists of order-preserving encoded
+ * field values terminated by <code>0</code> byte followed by encoded entity id.
+ * <code>0</code> and <code>1</code> bytes of field values are escaped,
+ * so field values can't contain terminator and shorter value is ordered first.
+ * <p>
+ * Numbers are encoded as double value followed by difference between
+ * exact value and double value. So <code>long</code> values are ordered
+ * exactly even if they exceed 2^53. Other numbers are ordered by double value,
+ * equal <code>long</code> and <code>double</code> values are ordered as equal.
+ * <code>-0.0</code> is ordered before <code>0.0</code> and <code>0</code>,
+ * <code>NaN</code> is ordered after positive infinity.
+ * <p>
+ * Encoded value of each indexed field is stored in separate hash located in
+ * the same slot as indexes. Index members are built from these values and replaced
+ * by single script along with field update, so concurrent updates of different
+ * fields of composite index don't leave stale members in index.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class SortedIndex {
+
+    private static final ConcurrentMap<Class<?>, List<SortedIndex>> INDEXES = new ConcurrentHashMap<>();
+
+    // KEYS[1] is hash of encoded field values, ARGV[1] is encoded entity id
+    private static final String FUNCTIONS =
+            "local function parse(pos, n) "
+              + "local indexes = {}; "
+              + "for i = 1, n do "
+                  + "local size = tonumber(ARGV[pos]); "
+                  + "local names = {}; "
+                  + "for j = 1, size do "
+                      + "names[j] = ARGV[pos + j] .. '\0' .. ARGV[1]; "
+                  + "end; "
+                  + "indexes[i] = names; "
+                  + "pos = pos + size + 1; "
+              + "end; "
+              + "return indexes, pos; "
+          + "end; "
+          + "local function member(names) "
+              + "local values = redis.call('hmget', KEYS[1], unpack(names)); "
+              + "local empty = true; "
+              + "local result = ''; "
+              + "for i = 1, #names do "
+                  + "if values[i] ~= false then "
+                      + "empty = false; "
+                      + "result = result .. values[i]; "
+                  + "end; "
+                  + "result = result .. '\0'; "
+              + "end; "
+              + "if empty then "
+                  + "return nil; "
+              + "end; "
+              + "return result .. ARGV[1]; "
+          + "end; ";
+
+    private static final String UPDATE_SCRIPT = FUNCTIONS
+          + "local n = tonumber(ARGV[5]); "
+          + "local indexes, pos = parse(6, n); "
+          + "local old = {}; "
+          + "for i = 1, n do "
+              + "old[i] = member(indexes[i]); "
+          + "end; "
+          + "local name = ARGV[2] .. '\0' .. ARGV[1]; "
+          + "if ARGV[3] == '1' then "
+              + "redis.call('hset', KEYS[1], name, ARGV[4]); "
+          + "else "
+              + "redis.call('hdel', KEYS[1], name); "
+          + "end; "
+          + "for i = 1, n do "
+              + "local new = member(indexes[i]); "
+              + "if old[i] ~= new then "
+                  + "if old[i] ~= nil then "
+                      + "redis.call('zrem', KEYS[i + 1], old[i]); "
+                  + "end; "
+                  + "if new ~= nil then "
+                      + "redis.call('zadd', KEYS[i + 1], 0, new); "
+                  + "end; "
+              + "end; "
+          + "end; "
+          + "if #KEYS > n + 1 then "
+              + "local value = redis.call('hget', KEYS[n + 2], ARGV[pos]); "
+              + "if ARGV[3] == '1' then "
+                  + "redis.call('hset', KEYS[n + 2], ARGV[pos], ARGV[pos + 1]); "
+              + "else "
+                  + "redis.call('hdel', KEYS[n + 2], ARGV[pos]); "
+              + "end; "
+              + "return value; "
+          + "end; ";
+
+    private static final String REMOVE_SCRIPT = FUNCTIONS
+          + "local n = tonumber(ARGV[2]); "
+          + "local indexes = parse(3, n); "
+          + "for i = 1, n do "
+              + "local old = member(indexes[i]); "
+              + "if old ~= nil then "
+                  + "redis.call('zrem', KEYS[i + 1], old); "
+              + "end; "
+          + "end; "
+          + "for i = 1, n do "
+              + "redis.call('hdel', KEYS[1], unpack(indexes[i])); "
+          + "end; ";
+
+    private final String[] fields;
+
+    private SortedIndex(String[] fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Returns sorted indexes defined for entity class
+     *
+     * @param entityClass - entity class
+     * @return list of indexes
+     */
+    public static List<SortedIndex> getIndexes(Class<?> entityClass) {
+        List<SortedIndex> indexes = INDEXES.get(entityClass);
+        if (indexes != null) {
+            return indexes;
+        }
+
+        Map<List<String>, SortedIndex> result = new LinkedHashMap<>();
+        for (Class<?> c = entityClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getAnnotation(RSortedIndex.class) != null) {
+                    result.putIfAbsent(Collections.singletonList(field.getName()), new SortedIndex(new String[] {field.getName()}));
+                }
+            }
+            for (RCompositeIndex index : c.getAnnotationsByType(RCompositeIndex.class)) {
+                if (index.value().length == 0) {
+                    throw new IllegalArgumentException("RCompositeIndex annotation of " + entityClass + " should define at least one field");
+                }
+                result.putIfAbsent(Arrays.asList(index.value()), new SortedIndex(index.value()));
+            }
+        }
+
+        indexes = Collections.unmodifiableList(new ArrayList<>(result.values()));
+        INDEXES.putIfAbsent(entityClass, indexes);
+        return indexes;
+    }
+
+    /**
+     * Returns index which could serve sort by defined fields
+     *
+     * @param entityClass - entity class
+     * @param sortFields - names of fields
+     * @return index or <code>null</code> if there is no suitable index
+     */
+    public static SortedIndex getIndex(Class<?> entityClass, String[] sortFields) {
+        for (SortedIndex index : getIndexes(entityClass)) {
+            if (index.fields.length >= sortFields.length
+                    && Arrays.equals(Arrays.copyOf(index.fields, sortFields.length), sortFields)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    public String[] getFields() {
+        return fields;
+    }
+
+    public boolean contains(String fieldName) {
+        return Arrays.asList(fields).contains(fieldName);
+    }
+
+    public String getName(NamingScheme namingScheme, Class<?> entityClass) {
+        return namingScheme.getIndexName(entityClass, "sorted:" + String.join(",", fields));
+    }
+
+    /**
+     * Returns <code>true</code> if field is a part of any sorted index of entity class
+     *
+     * @param entityClass - entity class
+     * @param fieldName - name of field
+     * @return <code>true</code> if field is indexed
+     */
+    public static boolean isIndexed(Class<?> entityClass, String fieldName) {
+        for (SortedIndex index : getIndexes(entityClass)) {
+            if (index.contains(fieldName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns name of hash with encoded values of indexed fields
+     *
+     * @param namingScheme - naming scheme of entity class
+     * @param entityClass - entity class
+     * @return name of hash
+     */
+    public static String getValuesName(NamingScheme namingScheme, Class<?> entityClass) {
+        return namingScheme.getIndexName(entityClass, "sorted-values");
+    }
+
+    /**
+     * Updates field value and replaces members of entity in all indexes
+     * containing this field. If <code>liveMap</code> is defined then field
+     * is written to it by the same script. Live map should be located
+     * in the same slot as indexes in this case.
+     *
+     * @param commandExecutor - executor
+     * @param namingScheme - naming scheme of entity class
+     * @param entityClass - entity class
+     * @param id - entity id
+     * @param fieldName - name of field
+     * @param value - new field value or <code>null</code> to remove it
+     * @param liveMap - live map of entity or <code>null</code> if field is written separately
+     * @return previous field value stored in live map
+     */
+    public static RFuture<Object> updateAsync(CommandAsyncExecutor commandExecutor, NamingScheme namingScheme,
+                                                Class<?> entityClass, Object id, String fieldName, Object value,
+                                                RedissonObject liveMap) {
+        List<Object> keys = new ArrayList<>();
+        keys.add(getValuesName(namingScheme, entityClass));
+        List<Object> params = new ArrayList<>();
+        params.add(encodeId(namingScheme.getCodec(), id));
+        params.add(fieldName);
+        if (value == null) {
+            params.add("0");
+            params.add(new byte[0]);
+        } else {
+            params.add("1");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeEscaped(out, encode(value));
+            params.add(out.toByteArray());
+        }
+        List<SortedIndex> indexes = new ArrayList<>();
+        for (SortedIndex index : getIndexes(entityClass)) {
+            if (index.contains(fieldName)) {
+                indexes.add(index);
+            }
+        }
+        addIndexes(keys, params, namingScheme, entityClass, indexes);
+        if (liveMap != null) {
+            keys.add(liveMap.getName());
+            params.add(liveMap.encodeMapKey(fieldName));
+            if (value == null) {
+                params.add(new byte[0]);
+            } else {
+                params.add(liveMap.encodeMapValue(value));
+            }
+        }
+        return commandExecutor.evalWriteAsync(getValuesName(namingScheme, entityClass), namingScheme.getCodec(),
+                RedisCommands.EVAL_MAP_VALUE, UPDATE_SCRIPT, keys, params.toArray());
+    }
+
+    /**
+     * Removes entity from all indexes of entity class
+     *
+     * @param commandExecutor - executor
+     * @param namingScheme - naming scheme of entity class
+     * @param entityClass - entity class
+     * @param id - entity id
+     * @return void
+     */
+    public static RFuture<Void> removeAsync(CommandAsyncExecutor commandExecutor, NamingScheme namingScheme,
+                                                Class<?> entityClass, Object id) {
+        List<Object> keys = new ArrayList<>();
+        keys.add(getValuesName(namingScheme, entityClass));
+        List<Object> params = new ArrayList<>();
+        params.add(encodeId(namingScheme.getCodec(), id));
+        addIndexes(keys, params, namingScheme, entityClass, getIndexes(entityClass));
+        return commandExecutor.evalWriteAsync(getValuesName(namingScheme, entityClass), namingScheme.getCodec(),
+                RedisCommands.EVAL_VOID, REMOVE_SCRIPT, keys, params.toArray());
+    }
+
+    private static void addIndexes(List<Object> keys, List<Object> params, NamingScheme namingScheme,
+                                    Class<?> entityClass, List<SortedIndex> indexes) {
+        params.add(indexes.size());
+        for (SortedIndex index : indexes) {
+            keys.add(index.getName(namingScheme, entityClass));
+            params.add(index.fields.length);
+            params.addAll(Arrays.asList(index.fields));
+        }
+    }
+
+    /**
+     * Returns entity id encoded in the same way as in index member
+     *
+     * @param codec - codec used to encode entity id
+     * @param id - entity id
+     * @return encoded id
+     */
+    private static byte[] encodeId(Codec codec, Object id) {
+        ByteBuf encodedId;
+        try {
+            encodedId = codec.getValueEncoder().encode(id);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        try {
+            return ByteBufUtil.getBytes(encodedId);
+        } finally {
+            encodedId.release();
+        }
+    }
+
+    /**
+     * Returns index member for entity with defined field values.
+     * Index member is built in the same way by update script.
+     *
+     * @param values - field values mapped by field name
+     * @param codec - codec used to encode entity id
+     * @param id - entity id
+     * @return member or <code>null</code> if all field values are <code>null</code>
+     */
+    public byte[] getMember(Map<String, Object> values, Codec codec, Object id) {
+        boolean empty = true;
+        for (String field : fields) {
+            if (values.get(field) != null) {
+                empty = false;
+                break;
+            }
+        }
+        if (empty) {
+            return null;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String field : fields) {
+            Object value = values.get(field);
+            if (value != null) {
+                writeEscaped(out, encode(value));
+            }
+            out.write(0);
+        }
+
+        byte[] idBytes = encodeId(codec, id);
+        out.write(idBytes, 0, idBytes.length);
+        return out.toByteArray();
+    }
+
+    private static byte[] encode(Object value) {
+        if (value instanceof Date) {
+            return encode(((Date) value).getTime());
+        }
+        if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte
+                    || value instanceof AtomicLong || value instanceof AtomicInteger) {
+            return encode(((Number) value).longValue());
+        }
+        if (value instanceof Number) {
+            return encode(((Number) value).doubleValue(), 0);
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name().getBytes(CharsetUtil.UTF_8);
+        }
+        return value.toString().getBytes(CharsetUtil.UTF_8);
+    }
+
+    private static byte[] encode(long value) {
+        double rounded = value;
+        // values rounded to the same double are ordered by remainder,
+        // cast saturates to Long.MAX_VALUE thus remainder can't overflow
+        return encode(rounded, value - (long) rounded);
+    }
+
+    private static byte[] encode(double value, long remainder) {
+        long bits = Double.doubleToLongBits(value);
+        // flip sign bit for positive values and all bits for negative values,
+        // so unsigned byte order matches numeric order
+        if (bits < 0) {
+            bits = ~bits;
+        } else {
+            bits ^= Long.MIN_VALUE;
+        }
+        byte[] result = new byte[16];
+        write(result, 0, bits);
+        write(result, 8, remainder ^ Long.MIN_VALUE);
+        return result;
+    }
+
+    private static void write(byte[] result, int offset, long value) {
+        for (int i = offset + 7; i >= offset; i--) {
+            result[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static void writeEscaped(ByteArrayOutputStream out, byte[] value) {
+        for (byte b : value) {
+            if (b == 0 || b == 1) {
+                out.write(1);
+                out.write(b + 1);
+            } else {
+                out.write(b);
+            }
+        }
+    }
+
+}
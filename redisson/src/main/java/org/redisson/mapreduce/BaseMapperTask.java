@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.redisson.api.RedissonClient;
 import org.redisson.api.annotation.RInject;
+import org.redisson.api.mapreduce.RReducer;
 
 /**
  * 
@@ -33,6 +34,11 @@ public abstract class BaseMapperTask<KOut, VOut> implements Runnable, Serializab
 
     private static final long serialVersionUID = 6224632826989873592L;
 
+    /**
+     * Amount of source elements loaded per request
+     */
+    static final int CHUNK_SIZE = 1000;
+
     @RInject
     protected RedissonClient redisson;
     
@@ -43,6 +49,7 @@ public abstract class BaseMapperTask<KOut, VOut> implements Runnable, Serializab
     protected int workersAmount;
     protected String collectorMapName;
     protected long timeout;
+    protected RReducer<KOut, VOut> combiner;
     
     public BaseMapperTask() {
     }
@@ -69,6 +76,10 @@ public abstract class BaseMapperTask<KOut, VOut> implements Runnable, Serializab
         this.workersAmount = workersAmount;
     }
 
+    public void setCombiner(RReducer<KOut, VOut> combiner) {
+        this.combiner = combiner;
+    }
+
     public void setCollectorMapName(String collatorMapName) {
         this.collectorMapName = collatorMapName;
     }
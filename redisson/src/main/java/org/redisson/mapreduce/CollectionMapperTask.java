@@ -22,7 +22,6 @@ import org.redisson.api.RSet;
 import org.redisson.api.RSetCache;
 import org.redisson.api.RSortedSet;
 import org.redisson.api.mapreduce.RCollectionMapper;
-import org.redisson.api.mapreduce.RCollector;
 import org.redisson.client.codec.Codec;
 import org.redisson.misc.Injector;
 
@@ -58,26 +57,33 @@ public class CollectionMapperTask<VIn, KOut, VOut> extends BaseMapperTask<KOut,
         }
         
         Injector.inject(mapper, redisson);
+        if (combiner != null) {
+            Injector.inject(combiner, redisson);
+        }
 
         for (String objectName : objectNames) {
             Iterable<VIn> collection = null;
             if (RSetCache.class.isAssignableFrom(objectClass)) {
-                collection = redisson.getSetCache(objectName, codec);
+                RSetCache<VIn> set = redisson.getSetCache(objectName, codec);
+                collection = () -> set.iterator(CHUNK_SIZE);
             } else if (RSet.class.isAssignableFrom(objectClass)) {
-                collection = redisson.getSet(objectName, codec);
+                RSet<VIn> set = redisson.getSet(objectName, codec);
+                collection = () -> set.iterator(CHUNK_SIZE);
             } else if (RSortedSet.class.isAssignableFrom(objectClass)) {
                 collection = redisson.getSortedSet(objectName, codec);
             } else if (RScoredSortedSet.class.isAssignableFrom(objectClass)) {
-                collection = redisson.getScoredSortedSet(objectName, codec);
+                RScoredSortedSet<VIn> set = redisson.getScoredSortedSet(objectName, codec);
+                collection = () -> set.iterator(CHUNK_SIZE);
             } else if (RLexSortedSet.class.isAssignableFrom(objectClass)) {
                 collection = (Iterable<VIn>) redisson.getLexSortedSet(objectName);
             } else if (RList.class.isAssignableFrom(objectClass)) {
-                collection = redisson.getList(objectName, codec);
+                RList<VIn> list = redisson.getList(objectName, codec);
+                collection = () -> new ListChunkIterator<VIn>(list, CHUNK_SIZE);
             } else {
                 throw new IllegalStateException("Unable to work with " + objectClass);
             }
             
-            RCollector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout);
+            Collector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout, combiner);
             
             for (VIn value : collection) {
                 if (Thread.currentThread().isInterrupted()) {
@@ -86,6 +92,8 @@ public class CollectionMapperTask<VIn, KOut, VOut> extends BaseMapperTask<KOut,
                 
                 mapper.map(value, collector);
             }
+
+            collector.flush();
         }
     }
 
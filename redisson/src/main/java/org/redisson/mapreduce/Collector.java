@@ -16,12 +16,21 @@
 package org.redisson.mapreduce;
 
 import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
-import org.redisson.api.RListMultimap;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMultimapAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.mapreduce.RCollector;
+import org.redisson.api.mapreduce.RReducer;
 import org.redisson.client.codec.Codec;
 import org.redisson.misc.Hash;
 
@@ -36,25 +45,78 @@ import io.netty.buffer.ByteBuf;
  */
 public class Collector<K, V> implements RCollector<K, V> {
 
+    /**
+     * Maximum amount of buffered values or combined keys
+     */
+    static final int BUFFER_SIZE = 10000;
+
     private RedissonClient client;
     private String name;
     private int parts;
     private Codec codec;
     private long timeout;
     private BitSet expirationsBitSet = new BitSet();
+    private RReducer<K, V> combiner;
+    private final List<Entry<K, V>> values = new ArrayList<>();
+    private final Map<K, V> combinedValues = new HashMap<>();
     
     public Collector(Codec codec, RedissonClient client, String name, int parts, long timeout) {
+        this(codec, client, name, parts, timeout, null);
+    }
+
+    public Collector(Codec codec, RedissonClient client, String name, int parts, long timeout, RReducer<K, V> combiner) {
         super();
         this.client = client;
         this.name = name;
         this.parts = parts;
         this.codec = codec;
         this.timeout = timeout;
+        this.combiner = combiner;
         expirationsBitSet = new BitSet(parts);
     }
 
     @Override
     public void emit(K key, V value) {
+        if (combiner == null) {
+            values.add(new AbstractMap.SimpleEntry<K, V>(key, value));
+            if (values.size() >= BUFFER_SIZE) {
+                flush();
+            }
+            return;
+        }
+
+        V combinedValue = value;
+        if (combinedValues.containsKey(key)) {
+            combinedValue = combiner.reduce(key, Arrays.asList(combinedValues.get(key), value).iterator());
+        }
+        combinedValues.put(key, combinedValue);
+        if (combinedValues.size() >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends buffered values to Redis using single batch
+     */
+    public void flush() {
+        if (values.isEmpty() && combinedValues.isEmpty()) {
+            return;
+        }
+
+        RBatch batch = client.createBatch();
+        for (Entry<K, V> entry : values) {
+            add(batch, entry.getKey(), entry.getValue());
+        }
+        for (Entry<K, V> entry : combinedValues.entrySet()) {
+            add(batch, entry.getKey(), entry.getValue());
+        }
+        batch.execute();
+
+        values.clear();
+        combinedValues.clear();
+    }
+
+    private void add(RBatch batch, K key, V value) {
         try {
             ByteBuf encodedKey = codec.getValueEncoder().encode(key);
             long hash = Hash.hash64(encodedKey);
@@ -62,10 +124,10 @@ public class Collector<K, V> implements RCollector<K, V> {
             int part = (int) Math.abs(hash % parts);
             String partName = name + ":" + part;
             
-            RListMultimap<K, V> multimap = client.getListMultimap(partName, codec);
-            multimap.put(key, value);
+            RMultimapAsync<K, V> multimap = batch.getListMultimap(partName, codec);
+            multimap.putAsync(key, value);
             if (timeout > 0 && !expirationsBitSet.get(part)) {
-                multimap.expire(timeout, TimeUnit.MILLISECONDS);
+                multimap.expireAsync(timeout, TimeUnit.MILLISECONDS);
                 expirationsBitSet.set(part);
             }
         } catch (IOException e) {
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.mapreduce;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.redisson.api.RList;
+
+/**
+ * Iterates list loading elements by chunks of defined size.
+ * Next chunk is loaded only once previous one has been consumed.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+class ListChunkIterator<V> implements Iterator<V> {
+
+    private final RList<V> list;
+    private final int chunkSize;
+
+    private Iterator<V> chunk = Collections.emptyIterator();
+    private int index;
+    private boolean completed;
+
+    ListChunkIterator(RList<V> list, int chunkSize) {
+        this.list = list;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (chunk.hasNext()) {
+            return true;
+        }
+        if (completed) {
+            return false;
+        }
+
+        List<V> values = list.range(index, index + chunkSize - 1);
+        index += values.size();
+        if (values.size() < chunkSize) {
+            completed = true;
+        }
+        chunk = values.iterator();
+        return chunk.hasNext();
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return chunk.next();
+    }
+
+}
@@ -16,7 +16,9 @@
 package org.redisson.mapreduce;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.redisson.api.RListMultimap;
@@ -71,13 +73,22 @@ public class ReducerTask<KOut, VOut> implements Runnable, Serializable {
         
         RMap<KOut, VOut> map = redisson.getMap(resultMapName);
         RListMultimap<KOut, VOut> multimap = redisson.getListMultimap(name, codec);
+        // results are streamed to result map by chunks
+        Map<KOut, VOut> results = new HashMap<>();
         for (KOut key : multimap.keySet()) {
             if (Thread.currentThread().isInterrupted()) {
                 break;
             }
             List<VOut> values = multimap.get(key);
             VOut out = reducer.reduce(key, values.iterator());
-            map.put(key, out);
+            results.put(key, out);
+            if (results.size() >= BaseMapperTask.CHUNK_SIZE) {
+                map.putAll(results);
+                results.clear();
+            }
+        }
+        if (!results.isEmpty()) {
+            map.putAll(results);
         }
         if (timeout > 0) {
             map.expire(timeout, TimeUnit.MILLISECONDS);
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.net.InetSocketAddress;
+
+import org.redisson.api.NodeType;
+
+/**
+ * State of connection pool to Redis node
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface ConnectionPoolMetrics {
+
+    /**
+     * Returns address of Redis node
+     *
+     * @return address
+     */
+    InetSocketAddress getAddress();
+
+    /**
+     * Returns type of Redis node
+     *
+     * @return node type
+     */
+    NodeType getNodeType();
+
+    /**
+     * Returns amount of connections which could be acquired
+     * without waiting
+     *
+     * @return amount of connections
+     */
+    int getFreeConnections();
+
+    /**
+     * Returns amount of acquired connections
+     *
+     * @return amount of connections
+     */
+    int getUsedConnections();
+
+    /**
+     * Returns amount of opened connections
+     *
+     * @return amount of connections
+     */
+    int getOpenedConnections();
+
+    /**
+     * Returns amount of requests waiting for free connection
+     *
+     * @return amount of requests
+     */
+    int getPendingAcquires();
+
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Receives metrics of Redisson client.
+ * <p>
+ * Methods are invoked by Netty and Redisson threads on hot paths,
+ * so implementation should be thread-safe and shouldn't block.
+ * Metrics aren't measured at all if recorder isn't defined.
+ *
+ * @see org.redisson.config.Config#setMetricsRecorder(MetricsRecorder)
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records duration of command execution attempt.
+     * Duration is measured from the moment command is sent to connection
+     * until its reply is decoded or attempt is failed.
+     *
+     * @param node - address of Redis node
+     * @param command - command name
+     * @param durationNanos - duration in nanoseconds
+     * @param success - <code>true</code> if attempt succeeded
+     */
+    void recordCommand(InetSocketAddress node, String command, long durationNanos, boolean success);
+
+    /**
+     * Records time spent waiting for connection from pool
+     *
+     * @param node - address of Redis node
+     * @param durationNanos - duration in nanoseconds
+     */
+    void recordConnectionAcquire(InetSocketAddress node, long durationNanos);
+
+    /**
+     * Records retry of command execution
+     *
+     * @param command - command name
+     */
+    void recordRetry(String command);
+
+    /**
+     * Records command failed by timeout after all retry attempts
+     *
+     * @param command - command name
+     */
+    void recordTimeout(String command);
+
+    /**
+     * Records amount of bytes written to connection
+     *
+     * @param node - address of Redis node
+     * @param bytes - amount of bytes
+     */
+    void recordBytesWritten(InetSocketAddress node, long bytes);
+
+    /**
+     * Records amount of bytes read from connection
+     *
+     * @param node - address of Redis node
+     * @param bytes - amount of bytes
+     */
+    void recordBytesRead(InetSocketAddress node, long bytes);
+
+    /**
+     * Records flush of commands coalesced by connection.
+     * Invoked only if write coalescing is enabled.
+     *
+     * @see org.redisson.config.BaseConfig#setWriteCoalescingSize(int)
+     * @param node - address of Redis node
+     * @param commands - amount of commands carried by flush. Batch of commands is counted as one.
+     */
+    void recordFlush(InetSocketAddress node, int commands);
+
+    /**
+     * Invoked once connection pool to Redis node has been created.
+     * Pool state could be polled at any time afterwards.
+     * Pool created for the same node and node type replaces previous one.
+     *
+     * @param pool - connection pool
+     */
+    void registerConnectionPool(ConnectionPoolMetrics pool);
+
+    /**
+     * Invoked once connection pool to Redis node has been shutdown.
+     * Pool state shouldn't be polled afterwards.
+     *
+     * @param pool - connection pool
+     */
+    void unregisterConnectionPool(ConnectionPoolMetrics pool);
+
+}
@@ -0,0 +1,307 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.redisson.api.NodeType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link MetricsRecorder} implementation which registers meters in Micrometer {@link MeterRegistry}.
+ * <p>
+ * Timers publish percentile histograms, so latency percentiles
+ * could be aggregated by monitoring system.
+ * <p>
+ * Meters:
+ * <ul>
+ * <li><code>redisson.command</code> - timer tagged with node, command and status
+ * <li><code>redisson.connection.acquire</code> - timer tagged with node
+ * <li><code>redisson.command.retries</code> - counter tagged with command
+ * <li><code>redisson.command.timeouts</code> - counter tagged with command
+ * <li><code>redisson.bytes.written</code> and <code>redisson.bytes.read</code> - counters tagged with node
+ * <li><code>redisson.flush.commands</code> - distribution summary of commands per coalesced flush tagged with node
+ * <li><code>redisson.pool.connections.free</code>, <code>redisson.pool.connections.used</code>,
+ * <code>redisson.pool.connections.opened</code> and <code>redisson.pool.pending</code> - gauges tagged with node and type
+ * </ul>
+ * Node type is checked each time pool gauge is sampled. Gauges are registered again
+ * with actual type once it's changed, e.g. after failover.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    static final class NodeMeters {
+
+        final Tags tags;
+        final Timer connectionAcquire;
+        final Counter bytesWritten;
+        final Counter bytesRead;
+        final DistributionSummary flushedCommands;
+        final ConcurrentMap<String, Timer> succeeded = new ConcurrentHashMap<>();
+        final ConcurrentMap<String, Timer> failed = new ConcurrentHashMap<>();
+
+        NodeMeters(Tags tags, Timer connectionAcquire, Counter bytesWritten, Counter bytesRead,
+                    DistributionSummary flushedCommands) {
+            this.tags = tags;
+            this.connectionAcquire = connectionAcquire;
+            this.bytesWritten = bytesWritten;
+            this.bytesRead = bytesRead;
+            this.flushedCommands = flushedCommands;
+        }
+
+    }
+
+    static final class PoolMeters {
+
+        final String key;
+        final ConnectionPoolMetrics pool;
+        final NodeType nodeType;
+        final List<Meter> meters;
+
+        PoolMeters(String key, ConnectionPoolMetrics pool, NodeType nodeType, List<Meter> meters) {
+            this.key = key;
+            this.pool = pool;
+            this.nodeType = nodeType;
+            this.meters = meters;
+        }
+
+    }
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+
+    private final ConcurrentMap<InetSocketAddress, NodeMeters> nodes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> retries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> timeouts = new ConcurrentHashMap<>();
+    private final Map<String, PoolMeters> pools = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsRecorder(MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * Creates recorder instance
+     *
+     * @param registry - meter registry
+     * @param tags - tags added to all meters
+     */
+    public MicrometerMetricsRecorder(MeterRegistry registry, Tags tags) {
+        this.registry = registry;
+        this.tags = tags;
+    }
+
+    private NodeMeters getNode(InetSocketAddress node) {
+        NodeMeters meters = nodes.get(node);
+        if (meters != null) {
+            return meters;
+        }
+
+        return nodes.computeIfAbsent(node, n -> {
+            Tags nodeTags = tags.and("node", toString(n));
+            Timer acquire = Timer.builder("redisson.connection.acquire")
+                                .description("Time spent waiting for connection from pool")
+                                .tags(nodeTags)
+                                .publishPercentileHistogram()
+                                .register(registry);
+            Counter written = Counter.builder("redisson.bytes.written")
+                                .baseUnit("bytes")
+                                .tags(nodeTags)
+                                .register(registry);
+            Counter read = Counter.builder("redisson.bytes.read")
+                                .baseUnit("bytes")
+                                .tags(nodeTags)
+                                .register(registry);
+            DistributionSummary flushed = DistributionSummary.builder("redisson.flush.commands")
+                                .description("Amount of commands carried by coalesced flush")
+                                .tags(nodeTags)
+                                .register(registry);
+            return new NodeMeters(nodeTags, acquire, written, read, flushed);
+        });
+    }
+
+    private String toString(InetSocketAddress node) {
+        if (node == null) {
+            return "unknown";
+        }
+        return node.getHostString() + ":" + node.getPort();
+    }
+
+    @Override
+    public void recordCommand(InetSocketAddress node, String command, long durationNanos, boolean success) {
+        NodeMeters meters = getNode(node);
+        ConcurrentMap<String, Timer> timers = meters.failed;
+        if (success) {
+            timers = meters.succeeded;
+        }
+
+        Timer timer = timers.get(command);
+        if (timer == null) {
+            String status = "failure";
+            if (success) {
+                status = "success";
+            }
+            Tags commandTags = meters.tags.and("command", command).and("status", status);
+            timer = timers.computeIfAbsent(command, c -> Timer.builder("redisson.command")
+                                                            .description("Command execution time")
+                                                            .tags(commandTags)
+                                                            .publishPercentileHistogram()
+                                                            .register(registry));
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordConnectionAcquire(InetSocketAddress node, long durationNanos) {
+        getNode(node).connectionAcquire.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRetry(String command) {
+        getCounter(retries, "redisson.command.retries", command).increment();
+    }
+
+    @Override
+    public void recordTimeout(String command) {
+        getCounter(timeouts, "redisson.command.timeouts", command).increment();
+    }
+
+    private Counter getCounter(ConcurrentMap<String, Counter> counters, String name, String command) {
+        Counter counter = counters.get(command);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(command, c -> Counter.builder(name)
+                                                        .tags(tags.and("command", c))
+                                                        .register(registry));
+    }
+
+    @Override
+    public void recordBytesWritten(InetSocketAddress node, long bytes) {
+        getNode(node).bytesWritten.increment(bytes);
+    }
+
+    @Override
+    public void recordBytesRead(InetSocketAddress node, long bytes) {
+        getNode(node).bytesRead.increment(bytes);
+    }
+
+    @Override
+    public void recordFlush(InetSocketAddress node, int commands) {
+        getNode(node).flushedCommands.record(commands);
+    }
+
+    @Override
+    public void registerConnectionPool(ConnectionPoolMetrics pool) {
+        synchronized (pools) {
+            removePool(pool);
+            addPool(pool);
+        }
+    }
+
+    @Override
+    public void unregisterConnectionPool(ConnectionPoolMetrics pool) {
+        synchronized (pools) {
+            removePool(pool);
+        }
+    }
+
+    private void addPool(ConnectionPoolMetrics pool) {
+        NodeType nodeType = pool.getNodeType();
+        Tags poolTags = tags.and("node", toString(pool.getAddress()))
+                            .and("type", nodeType.toString().toLowerCase());
+        String key = poolTags.toString();
+
+        PoolMeters prevMeters = pools.remove(key);
+        if (prevMeters != null) {
+            removeMeters(prevMeters);
+        }
+
+        List<Meter> meters = Arrays.asList(
+            registerGauge("redisson.pool.connections.free", "Amount of connections which could be acquired without waiting",
+                            poolTags, pool, nodeType, ConnectionPoolMetrics::getFreeConnections),
+            registerGauge("redisson.pool.connections.used", "Amount of acquired connections",
+                            poolTags, pool, nodeType, ConnectionPoolMetrics::getUsedConnections),
+            registerGauge("redisson.pool.connections.opened", "Amount of opened connections",
+                            poolTags, pool, nodeType, ConnectionPoolMetrics::getOpenedConnections),
+            registerGauge("redisson.pool.pending", "Amount of requests waiting for free connection",
+                            poolTags, pool, nodeType, ConnectionPoolMetrics::getPendingAcquires));
+        pools.put(key, new PoolMeters(key, pool, nodeType, meters));
+    }
+
+    private Gauge registerGauge(String name, String description, Tags poolTags, ConnectionPoolMetrics pool,
+                                    NodeType nodeType, ToDoubleFunction<ConnectionPoolMetrics> value) {
+        // gauges reference pool weakly, so it isn't retained once removed from client
+        return Gauge.builder(name, pool, p -> {
+                        if (p.getNodeType() != nodeType) {
+                            refreshPool(p);
+                        }
+                        return value.applyAsDouble(p);
+                    })
+                    .description(description)
+                    .tags(poolTags)
+                    .register(registry);
+    }
+
+    private void refreshPool(ConnectionPoolMetrics pool) {
+        synchronized (pools) {
+            PoolMeters poolMeters = findPool(pool);
+            if (poolMeters != null && poolMeters.nodeType != pool.getNodeType()) {
+                removePool(pool);
+                addPool(pool);
+            }
+        }
+    }
+
+    private PoolMeters findPool(ConnectionPoolMetrics pool) {
+        for (PoolMeters poolMeters : pools.values()) {
+            if (poolMeters.pool == pool) {
+                return poolMeters;
+            }
+        }
+        return null;
+    }
+
+    private void removePool(ConnectionPoolMetrics pool) {
+        PoolMeters poolMeters = findPool(pool);
+        if (poolMeters != null) {
+            pools.remove(poolMeters.key);
+            removeMeters(poolMeters);
+        }
+    }
+
+    private void removeMeters(PoolMeters poolMeters) {
+        for (Meter meter : poolMeters.meters) {
+            registry.remove(meter);
+        }
+    }
+
+}
@@ -29,7 +29,7 @@ public class CountDownLatchPubSub extends PublishSubscribe<RedissonCountDownLatc
     public static final Long NEW_COUNT_MESSAGE = 1L;
     
     public CountDownLatchPubSub(PublishSubscribeService service) {
-        super(service);
+        super(service, "redisson_countdownlatch__shared_channel:");
     }
 
     @Override
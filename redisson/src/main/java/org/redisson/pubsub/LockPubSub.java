@@ -29,7 +29,7 @@ public class LockPubSub extends PublishSubscribe<RedissonLockEntry> {
     public static final Long READ_UNLOCK_MESSAGE = 1L;
 
     public LockPubSub(PublishSubscribeService service) {
-        super(service);
+        super(service, "redisson_lock__shared_channel:");
     }
     
     @Override
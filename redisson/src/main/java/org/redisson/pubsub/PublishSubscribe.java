@@ -25,6 +25,7 @@ import org.redisson.client.BaseRedisPubSubListener;
 import org.redisson.client.ChannelName;
 import org.redisson.client.RedisPubSubListener;
 import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.pubsub.PubSubType;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
@@ -38,14 +39,58 @@ import org.redisson.misc.TransferListener;
 abstract class PublishSubscribe<E extends PubSubEntry<E>> {
 
     private final PublishSubscribeService service;
+    private final String sharedChannelPrefix;
     
-    PublishSubscribe(PublishSubscribeService service) {
+    PublishSubscribe(PublishSubscribeService service, String sharedChannelPrefix) {
         super();
         this.service = service;
+        this.sharedChannelPrefix = sharedChannelPrefix;
     }
 
     private final ConcurrentMap<String, E> entries = new ConcurrentHashMap<>();
 
+    // entries subscribed through shared channels mapped by own channel name
+    private final ConcurrentMap<String, E> channelEntries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RPromise<Void>> sharedSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns <code>true</code> if notifications are published
+     * to shared channels instead of object channels
+     *
+     * @return <code>true</code> if shared channels are used
+     */
+    public boolean isMultiplexed() {
+        return service.getNotificationShards() > 0;
+    }
+
+    /**
+     * Returns channel used to publish notification for object channel
+     *
+     * @param channelName - object channel name
+     * @return shared channel name in multiplexed mode or object channel name otherwise
+     */
+    public String getNotificationChannel(String channelName) {
+        int shards = service.getNotificationShards();
+        if (shards <= 0) {
+            return channelName;
+        }
+        return sharedChannelPrefix + (channelName.hashCode() & Integer.MAX_VALUE) % shards;
+    }
+
+    /**
+     * Returns suffix appended to published message.
+     * Allows to find waiting object when notification is received through shared channel.
+     *
+     * @param channelName - object channel name
+     * @return suffix in multiplexed mode or empty string otherwise
+     */
+    public String getNotificationSuffix(String channelName) {
+        if (!isMultiplexed()) {
+            return "";
+        }
+        return ":" + channelName;
+    }
+
     public void unsubscribe(E entry, String entryName, String channelName) {
         AsyncSemaphore semaphore = service.getSemaphore(new ChannelName(channelName));
         semaphore.acquire(new Runnable() {
@@ -109,10 +154,121 @@ abstract class PublishSubscribe<E extends PubSubEntry<E>> {
         return newPromise;
     }
 
+    /**
+     * Subscribes to object notifications published to shared channel.
+     * Shared channel stays subscribed once used, so waiting doesn't require
+     * SUBSCRIBE and UNSUBSCRIBE commands.
+     *
+     * @param entryName - entry name
+     * @param channelName - object channel name
+     * @return entry
+     */
+    public RFuture<E> subscribeMultiplexed(String entryName, String channelName) {
+        String sharedChannel = getNotificationChannel(channelName);
+        AtomicReference<Runnable> listenerHolder = new AtomicReference<Runnable>();
+        AsyncSemaphore semaphore = service.getSemaphore(new ChannelName(sharedChannel));
+        RPromise<E> newPromise = new RedissonPromise<E>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return semaphore.remove(listenerHolder.get());
+            }
+        };
+
+        Runnable listener = new Runnable() {
+
+            @Override
+            public void run() {
+                E entry = entries.get(entryName);
+                if (entry != null) {
+                    entry.acquire();
+                    semaphore.release();
+                    entry.getPromise().onComplete(new TransferListener<E>(newPromise));
+                    return;
+                }
+
+                E value = createEntry(newPromise);
+                value.acquire();
+                entries.put(entryName, value);
+                channelEntries.put(channelName, value);
+
+                RPromise<Void> subscription = sharedSubscriptions.get(sharedChannel);
+                if (subscription == null) {
+                    RPromise<Void> newSubscription = new RedissonPromise<Void>();
+                    sharedSubscriptions.put(sharedChannel, newSubscription);
+                    RedisPubSubListener<Object> listener = createSharedListener(sharedChannel);
+                    RFuture<PubSubConnectionEntry> future = service.subscribe(StringCodec.INSTANCE, sharedChannel, semaphore, listener);
+                    future.onComplete((res, e) -> {
+                        if (e != null) {
+                            sharedSubscriptions.remove(sharedChannel, newSubscription);
+                            newSubscription.tryFailure(e);
+                            return;
+                        }
+                        newSubscription.trySuccess(null);
+                    });
+                    subscription = newSubscription;
+                } else {
+                    semaphore.release();
+                }
+
+                subscription.onComplete((res, e) -> {
+                    if (e != null) {
+                        entries.remove(entryName, value);
+                        channelEntries.remove(channelName, value);
+                        value.getPromise().tryFailure(e);
+                        return;
+                    }
+                    value.getPromise().trySuccess(value);
+                });
+            }
+        };
+        semaphore.acquire(listener);
+        listenerHolder.set(listener);
+
+        return newPromise;
+    }
+
+    public void unsubscribeMultiplexed(E entry, String entryName, String channelName) {
+        AsyncSemaphore semaphore = service.getSemaphore(new ChannelName(getNotificationChannel(channelName)));
+        semaphore.acquire(new Runnable() {
+            @Override
+            public void run() {
+                if (entry.release() == 0) {
+                    entries.remove(entryName, entry);
+                    channelEntries.remove(channelName, entry);
+                }
+                semaphore.release();
+            }
+        });
+    }
+
     protected abstract E createEntry(RPromise<E> newPromise);
 
     protected abstract void onMessage(E value, Long message);
 
+    private RedisPubSubListener<Object> createSharedListener(String sharedChannel) {
+        return new BaseRedisPubSubListener() {
+
+            @Override
+            public void onMessage(CharSequence channel, Object message) {
+                if (!sharedChannel.equals(channel.toString())) {
+                    return;
+                }
+
+                // message format is <value>:<object channel name>
+                String payload = message.toString();
+                int index = payload.indexOf(':');
+                if (index == -1) {
+                    return;
+                }
+                E value = channelEntries.get(payload.substring(index + 1));
+                if (value != null) {
+                    PublishSubscribe.this.onMessage(value, Long.valueOf(payload.substring(0, index)));
+                }
+            }
+
+        };
+    }
+
     private RedisPubSubListener<Object> createListener(String channelName, E value) {
         RedisPubSubListener<Object> listener = new BaseRedisPubSubListener() {
 
@@ -94,6 +94,10 @@ public class PublishSubscribeService {
         return semaphorePubSub;
     }
 
+    public int getNotificationShards() {
+        return connectionManager.getCfg().getLockNotificationShards();
+    }
+
     public PubSubConnectionEntry getPubSubEntry(ChannelName channelName) {
         return name2PubSubConnection.get(channelName);
     }
@@ -26,7 +26,7 @@ import org.redisson.misc.RPromise;
 public class SemaphorePubSub extends PublishSubscribe<RedissonLockEntry> {
 
     public SemaphorePubSub(PublishSubscribeService service) {
-        super(service);
+        super(service, "redisson_sc__shared_channel:");
     }
 
     @Override
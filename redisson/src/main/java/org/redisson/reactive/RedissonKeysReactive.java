@@ -65,6 +65,30 @@ public class RedissonKeysReactive {
         return Flux.merge(publishers);
     }
 
+    public Flux<Long> deleteByPatternWithProgress(String pattern) {
+        return Flux.create(emitter -> {
+            instance.deleteByPatternAsync(pattern, value -> emitter.next(value)).onComplete((res, e) -> {
+                if (e != null) {
+                    emitter.error(e);
+                    return;
+                }
+                emitter.complete();
+            });
+        });
+    }
+
+    public Flux<Long> unlinkByPatternWithProgress(String pattern) {
+        return Flux.create(emitter -> {
+            instance.unlinkByPatternAsync(pattern, value -> emitter.next(value)).onComplete((res, e) -> {
+                if (e != null) {
+                    emitter.error(e);
+                    return;
+                }
+                emitter.complete();
+            });
+        });
+    }
+
     private Flux<String> createKeysIterator(final MasterSlaveEntry entry, final String pattern, final int count) {
         return Flux.create(new Consumer<FluxSink<String>>() {
             
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.redisson.RedissonBlockingQueue;
+import org.redisson.api.RBlockingQueueAsync;
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.Codec;
+import org.redisson.command.CommandBatchService;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+/**
+ * Writes remote service responses and acks to response queues in batches.
+ * Responses added while previous batch is in progress are sent together
+ * in next batch, so amount of round trips decreases as load grows.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ResponseBatchWriter {
+
+    static class Response {
+
+        final String queueName;
+        final RRemoteServiceResponse value;
+        final long timeout;
+        final RPromise<Void> promise = new RedissonPromise<>();
+
+        Response(String queueName, RRemoteServiceResponse value, long timeout) {
+            this.queueName = queueName;
+            this.value = value;
+            this.timeout = timeout;
+        }
+
+    }
+
+    private final Queue<Response> responses = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Codec codec;
+    private final ConnectionManager connectionManager;
+
+    public ResponseBatchWriter(Codec codec, ConnectionManager connectionManager) {
+        this.codec = codec;
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Adds response to the response queue
+     *
+     * @param queueName - response queue name
+     * @param value - response or ack
+     * @param timeout - expiration timeout of response queue in milliseconds. Not applied if <code>0</code>
+     * @return void
+     */
+    public RFuture<Void> add(String queueName, RRemoteServiceResponse value, long timeout) {
+        Response response = new Response(queueName, value, timeout);
+        responses.add(response);
+        flush();
+        return response.promise;
+    }
+
+    private void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<Response> batchResponses = new ArrayList<>();
+        while (true) {
+            Response response = responses.poll();
+            if (response == null) {
+                break;
+            }
+            batchResponses.add(response);
+        }
+
+        if (batchResponses.isEmpty()) {
+            flushing.set(false);
+            // response might be added after polling
+            if (!responses.isEmpty()) {
+                flush();
+            }
+            return;
+        }
+
+        CommandBatchService batch = new CommandBatchService(connectionManager);
+        for (Response response : batchResponses) {
+            RBlockingQueueAsync<RRemoteServiceResponse> queue = new RedissonBlockingQueue<>(codec, batch, response.queueName, null);
+            queue.putAsync(response.value);
+            if (response.timeout > 0) {
+                queue.expireAsync(response.timeout, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        RFuture<?> future = batch.executeAsync();
+        future.onComplete((res, e) -> {
+            for (Response response : batchResponses) {
+                if (e != null) {
+                    response.promise.tryFailure(e);
+                } else {
+                    response.promise.trySuccess(null);
+                }
+            }
+
+            flushing.set(false);
+            flush();
+        });
+    }
+
+}
@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.renewal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandBatchService;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.MasterSlaveEntry;
+
+/**
+ * Renews expiration of all locks held by this Redisson instance
+ * using single timer. Locks are grouped by Redis node and slot,
+ * each group is renewed by single Lua script and all scripts
+ * of one renewal cycle are sent in single batch.
+ * <p>
+ * Renewal is stopped once Redis reports that lock isn't held anymore.
+ * Failed renewal is retried on the next cycles and stopped only after
+ * {@link #MAX_RENEWAL_ATTEMPTS} consecutive failures.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class LockRenewalScheduler {
+
+    /**
+     * Lock which expiration should be renewed
+     */
+    public interface RenewalTask {
+
+        /**
+         * Returns name of lock object
+         *
+         * @return lock name
+         */
+        String getName();
+
+        /**
+         * Returns name of hash field which holds lock owner
+         *
+         * @return field name or <code>null</code> if lock has no owner
+         */
+        String getOwnerName();
+
+        /**
+         * Returns <code>true</code> if lock could be renewed
+         * by batched script and <code>false</code> if
+         * {@link #renewAsync()} should be used
+         *
+         * @return <code>true</code> if lock could be renewed in batch
+         */
+        boolean isBatched();
+
+        /**
+         * Renews expiration of this lock only
+         *
+         * @return <code>true</code> if lock is still held
+         */
+        RFuture<Boolean> renewAsync();
+
+        /**
+         * Invoked once lock renewal stopped because lock
+         * is not held anymore or renewal has been failed
+         *
+         * @param cause - renewal failure or <code>null</code> if lock isn't held anymore
+         */
+        void onStopped(Throwable cause);
+
+    }
+
+    static final int MAX_KEYS_PER_SCRIPT = 1000;
+
+    static final int MAX_RENEWAL_ATTEMPTS = 3;
+
+    private static final String RENEW_SCRIPT =
+            "local result = {}; " +
+            "for i = 1, #KEYS, 1 do " +
+                "if (redis.call('hexists', KEYS[i], ARGV[i + 1]) == 1) then " +
+                    "redis.call('pexpire', KEYS[i], ARGV[1]); " +
+                    "table.insert(result, 1); " +
+                "else " +
+                    "table.insert(result, 0); " +
+                "end; " +
+            "end; " +
+            "return result;";
+
+    private final ConcurrentMap<String, RenewalTask> tasks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RenewalTask, AtomicInteger> failures = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ConnectionManager connectionManager;
+
+    public LockRenewalScheduler(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Starts renewal of lock expiration
+     *
+     * @param entryName - unique name of lock entry
+     * @param task - renewal task
+     */
+    public void schedule(String entryName, RenewalTask task) {
+        tasks.put(entryName, task);
+        start();
+    }
+
+    /**
+     * Stops renewal of lock expiration
+     *
+     * @param entryName - unique name of lock entry
+     * @param task - renewal task
+     */
+    public void cancel(String entryName, RenewalTask task) {
+        tasks.remove(entryName, task);
+        failures.remove(task);
+    }
+
+    /**
+     * Returns amount of locks which expiration is renewed
+     *
+     * @return amount of locks
+     */
+    public int getSize() {
+        return tasks.size();
+    }
+
+    private long getLeaseTime() {
+        return connectionManager.getCfg().getLockWatchdogTimeout();
+    }
+
+    private void start() {
+        if (running.compareAndSet(false, true)) {
+            scheduleNext();
+        }
+    }
+
+    private void scheduleNext() {
+        connectionManager.newTimeout(t -> renew(), getLeaseTime() / 3, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew() {
+        if (connectionManager.isShuttingDown()) {
+            running.set(false);
+            return;
+        }
+
+        if (tasks.isEmpty()) {
+            running.set(false);
+            // lock might be registered after emptiness check
+            if (!tasks.isEmpty()) {
+                start();
+            }
+            return;
+        }
+
+        Map<MasterSlaveEntry, Map<Integer, List<Map.Entry<String, RenewalTask>>>> groups = new HashMap<>();
+        List<Map.Entry<String, RenewalTask>> singles = new ArrayList<>();
+        for (Map.Entry<String, RenewalTask> e : tasks.entrySet()) {
+            RenewalTask task = e.getValue();
+            if (!task.isBatched()) {
+                singles.add(e);
+                continue;
+            }
+
+            int slot = connectionManager.calcSlot(task.getName());
+            MasterSlaveEntry entry = connectionManager.getEntry(slot);
+            if (entry == null) {
+                singles.add(e);
+                continue;
+            }
+            groups.computeIfAbsent(entry, k -> new HashMap<>())
+                    .computeIfAbsent(slot, k -> new ArrayList<>())
+                    .add(e);
+        }
+
+        AtomicInteger pending = new AtomicInteger(singles.size() + 1);
+        Runnable onDone = () -> {
+            if (pending.decrementAndGet() == 0) {
+                scheduleNext();
+            }
+        };
+
+        for (Map.Entry<String, RenewalTask> e : singles) {
+            RFuture<Boolean> future = e.getValue().renewAsync();
+            future.onComplete((res, ex) -> {
+                handle(e.getKey(), e.getValue(), res, ex);
+                onDone.run();
+            });
+        }
+
+        if (groups.isEmpty()) {
+            onDone.run();
+            return;
+        }
+
+        CommandBatchService batch = new CommandBatchService(connectionManager);
+        for (Map.Entry<MasterSlaveEntry, Map<Integer, List<Map.Entry<String, RenewalTask>>>> group : groups.entrySet()) {
+            for (List<Map.Entry<String, RenewalTask>> slotTasks : group.getValue().values()) {
+                for (int i = 0; i < slotTasks.size(); i += MAX_KEYS_PER_SCRIPT) {
+                    List<Map.Entry<String, RenewalTask>> chunk = slotTasks.subList(i, Math.min(slotTasks.size(), i + MAX_KEYS_PER_SCRIPT));
+                    renew(batch, group.getKey(), chunk);
+                }
+            }
+        }
+
+        RFuture<?> batchFuture = batch.executeAsync();
+        batchFuture.onComplete((res, e) -> {
+            onDone.run();
+        });
+    }
+
+    private void renew(CommandBatchService batch, MasterSlaveEntry entry, List<Map.Entry<String, RenewalTask>> chunk) {
+        List<Map.Entry<String, RenewalTask>> renewed = new ArrayList<>(chunk.size());
+        List<Object> keys = new ArrayList<>(chunk.size());
+        List<Object> params = new ArrayList<>(chunk.size() + 1);
+        params.add(getLeaseTime());
+        for (Map.Entry<String, RenewalTask> e : chunk) {
+            String owner = e.getValue().getOwnerName();
+            if (owner == null) {
+                continue;
+            }
+            renewed.add(e);
+            keys.add(e.getValue().getName());
+            params.add(owner);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        RFuture<List<Long>> future = batch.evalWriteAsync(entry, LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                RENEW_SCRIPT, keys, params.toArray());
+        future.onComplete((res, e) -> {
+            for (int i = 0; i < renewed.size(); i++) {
+                Map.Entry<String, RenewalTask> task = renewed.get(i);
+                if (e != null) {
+                    handle(task.getKey(), task.getValue(), null, e);
+                    continue;
+                }
+                if (res == null || i >= res.size()) {
+                    handle(task.getKey(), task.getValue(), null, new IllegalStateException("Unexpected renewal reply: " + res));
+                    continue;
+                }
+                handle(task.getKey(), task.getValue(), res.get(i) == 1, null);
+            }
+        });
+    }
+
+    private void handle(String entryName, RenewalTask task, Boolean renewed, Throwable cause) {
+        if (cause != null) {
+            // lock is still registered, so renewal is retried on the next cycle
+            AtomicInteger attempts = failures.computeIfAbsent(task, k -> new AtomicInteger());
+            if (attempts.incrementAndGet() < MAX_RENEWAL_ATTEMPTS) {
+                return;
+            }
+        } else {
+            failures.remove(task);
+            if (renewed) {
+                return;
+            }
+        }
+
+        failures.remove(task);
+        if (tasks.remove(entryName, task)) {
+            task.onStopped(cause);
+        }
+    }
+
+}
@@ -23,7 +23,9 @@ import org.redisson.RedissonKeys;
 import org.redisson.client.RedisClient;
 import org.redisson.connection.MasterSlaveEntry;
 
+import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
 import io.reactivex.functions.LongConsumer;
 import io.reactivex.processors.ReplayProcessor;
 
@@ -62,6 +64,32 @@ public class RedissonKeysRx {
         return Flowable.merge(publishers);
     }
 
+    public Flowable<Long> deleteByPatternWithProgress(String pattern) {
+        return Flowable.create(source -> {
+            FlowableEmitter<Long> emitter = source.serialize();
+            instance.deleteByPatternAsync(pattern, value -> emitter.onNext(value)).onComplete((res, e) -> {
+                if (e != null) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onComplete();
+            });
+        }, BackpressureStrategy.BUFFER);
+    }
+
+    public Flowable<Long> unlinkByPatternWithProgress(String pattern) {
+        return Flowable.create(source -> {
+            FlowableEmitter<Long> emitter = source.serialize();
+            instance.unlinkByPatternAsync(pattern, value -> emitter.onNext(value)).onComplete((res, e) -> {
+                if (e != null) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onComplete();
+            });
+        }, BackpressureStrategy.BUFFER);
+    }
+
     private Publisher<String> createKeysIterator(MasterSlaveEntry entry, String pattern, int count) {
         ReplayProcessor<String> p = ReplayProcessor.create();
         return p.doOnRequest(new LongConsumer() {
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -58,6 +59,7 @@ import org.redisson.transaction.operation.map.MapRemoveOperation;
 import org.redisson.transaction.operation.map.MapReplaceOperation;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 
 /**
  * 
@@ -97,15 +99,18 @@ public class BaseTransactionalMap<K, V> {
     final RMap<K, V> map;
     final CommandAsyncExecutor commandExecutor;
     final String transactionId;
+    final OptimisticValidator validator;
     Boolean deleted;
     
-    public BaseTransactionalMap(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RMap<K, V> map, String transactionId) {
+    public BaseTransactionalMap(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RMap<K, V> map, 
+            String transactionId, OptimisticValidator validator) {
         super();
         this.timeout = timeout;
         this.operations = operations;
         this.map = map;
         this.commandExecutor = commandExecutor;
         this.transactionId = transactionId;
+        this.validator = validator;
     }
 
     HashValue toKeyHash(Object key) {
@@ -871,10 +876,40 @@ public class BaseTransactionalMap<K, V> {
     }
     
     protected <R> void executeLocked(RPromise<R> promise, K key, Runnable runnable) {
+        if (validator != null) {
+            executeOptimistic(promise, runnable, Collections.singletonList(key));
+            return;
+        }
+        
         RLock lock = getLock(key);
         executeLocked(promise, runnable, lock);
     }
 
+    /**
+     * Stores values of keys and defers lock acquisition to commit stage.
+     */
+    private <R> void executeOptimistic(RPromise<R> promise, Runnable runnable, Collection<K> keys) {
+        long threadId = Thread.currentThread().getId();
+        List<byte[]> fields = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            validator.addLock(map.getName(), getLock(key), threadId);
+            ByteBuf keyState = ((RedissonObject) map).encodeMapKey(key);
+            try {
+                fields.add(ByteBufUtil.getBytes(keyState));
+            } finally {
+                keyState.release();
+            }
+        }
+        
+        validator.readAsync(map.getName(), OptimisticValidator.HASH, fields).onComplete((res, e) -> {
+            if (e == null) {
+                runnable.run();
+            } else {
+                promise.tryFailure(e);
+            }
+        });
+    }
+
     protected RLock getLock(K key) {
         String lockName = ((RedissonMap<K, V>) map).getLockByMapKey(key, "lock");
         return new RedissonTransactionalLock(commandExecutor, lockName, transactionId);
@@ -891,6 +926,11 @@ public class BaseTransactionalMap<K, V> {
     }
     
     protected <R> void executeLocked(RPromise<R> promise, Runnable runnable, Collection<K> keys) {
+        if (validator != null) {
+            executeOptimistic(promise, runnable, keys);
+            return;
+        }
+        
         List<RLock> locks = new ArrayList<>(keys.size());
         for (K key : keys) {
             RLock lock = getLock(key);
@@ -36,8 +36,9 @@ import org.redisson.transaction.operation.map.MapCachePutOperation;
  */
 public class BaseTransactionalMapCache<K, V> extends BaseTransactionalMap<K, V> {
 
-    public BaseTransactionalMapCache(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RMap<K, V> map, String transactionId) {
-        super(commandExecutor, timeout, operations, map, transactionId);
+    public BaseTransactionalMapCache(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RMap<K, V> map, 
+            String transactionId, OptimisticValidator validator) {
+        super(commandExecutor, timeout, operations, map, transactionId, validator);
     }
     
     public RFuture<V> putIfAbsentAsync(K key, V value, long ttl, TimeUnit ttlUnit, long maxIdleTime, TimeUnit maxIdleUnit) {
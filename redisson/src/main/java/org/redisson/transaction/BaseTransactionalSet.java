@@ -16,6 +16,7 @@
 package org.redisson.transaction;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import org.redisson.RedissonMultiLock;
 import org.redisson.RedissonObject;
 import org.redisson.RedissonSet;
@@ -54,15 +55,18 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
     final RObject object;
     final String name;
     final CommandAsyncExecutor commandExecutor;
+    final OptimisticValidator validator;
     Boolean deleted;
     
-    public BaseTransactionalSet(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RCollectionAsync<V> set) {
+    public BaseTransactionalSet(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RCollectionAsync<V> set,
+            OptimisticValidator validator) {
         this.commandExecutor = commandExecutor;
         this.timeout = timeout;
         this.operations = operations;
         this.set = set;
         this.object = (RObject) set;
         this.name = object.getName();
+        this.validator = validator;
     }
 
     private HashValue toHash(Object value) {
@@ -271,11 +275,23 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
         RPromise<Boolean> result = new RedissonPromise<Boolean>();
         RLock destinationLock = getLock(destinationSet, value);
         RLock lock = getLock(set, value);
-        RedissonMultiLock multiLock = new RedissonMultiLock(destinationLock, lock);
         long threadId = Thread.currentThread().getId();
-        multiLock.lockAsync(timeout, TimeUnit.MILLISECONDS).onComplete((res, e) -> {
+        RFuture<Void> lockFuture;
+        if (validator != null) {
+            validator.addLock(destination, destinationLock, threadId);
+            validator.addLock(name, lock, threadId);
+            lockFuture = validator.readAsync(name, getValidationCommand(), Collections.singletonList(encode(value)));
+        } else {
+            RedissonMultiLock multiLock = new RedissonMultiLock(destinationLock, lock);
+            lockFuture = multiLock.lockAsync(timeout, TimeUnit.MILLISECONDS);
+            lockFuture.onComplete((res, e) -> {
+                if (e != null) {
+                    multiLock.unlockAsync(threadId);
+                }
+            });
+        }
+        lockFuture.onComplete((res, e) -> {
             if (e != null) {
-                multiLock.unlockAsync(threadId);
                 result.tryFailure(e);
                 return;
             }
@@ -314,6 +330,13 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
     protected abstract MoveOperation createMoveOperation(String destination, V value, long threadId);
 
     protected abstract RLock getLock(RCollectionAsync<V> set, V value);
+
+    /**
+     * Returns command used by optimistic transaction to read value state
+     * 
+     * @return command name
+     */
+    protected abstract String getValidationCommand();
     
     public RFuture<Boolean> removeAsync(Object value) {
         RPromise<Boolean> result = new RedissonPromise<Boolean>();
@@ -510,10 +533,44 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
     }
     
     protected <R> void executeLocked(RPromise<R> promise, Object value, Runnable runnable) {
+        if (validator != null) {
+            executeOptimistic(promise, runnable, Collections.singletonList(value));
+            return;
+        }
+        
         RLock lock = getLock(set, (V) value);
         executeLocked(promise, runnable, lock);
     }
 
+    /**
+     * Stores state of values and defers lock acquisition to commit stage.
+     */
+    private <R> void executeOptimistic(RPromise<R> promise, Runnable runnable, Collection<?> values) {
+        long threadId = Thread.currentThread().getId();
+        List<byte[]> fields = new ArrayList<>(values.size());
+        for (Object value : values) {
+            validator.addLock(name, getLock(set, (V) value), threadId);
+            fields.add(encode(value));
+        }
+        
+        validator.readAsync(name, getValidationCommand(), fields).onComplete((res, e) -> {
+            if (e == null) {
+                runnable.run();
+            } else {
+                promise.tryFailure(e);
+            }
+        });
+    }
+
+    private byte[] encode(Object value) {
+        ByteBuf state = ((RedissonObject) set).encode(value);
+        try {
+            return ByteBufUtil.getBytes(state);
+        } finally {
+            state.release();
+        }
+    }
+
     protected <R> void executeLocked(RPromise<R> promise, Runnable runnable, RLock lock) {
         lock.lockAsync(timeout, TimeUnit.MILLISECONDS).onComplete((res, e) -> {
             if (e == null) {
@@ -525,6 +582,11 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
     }
     
     protected <R> void executeLocked(RPromise<R> promise, Runnable runnable, Collection<?> values) {
+        if (validator != null) {
+            executeOptimistic(promise, runnable, values);
+            return;
+        }
+        
         List<RLock> locks = new ArrayList<RLock>(values.size());
         for (Object value : values) {
             RLock lock = getLock(set, (V) value);
@@ -0,0 +1,360 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.command.CommandBatchService;
+import org.redisson.misc.Hash;
+import org.redisson.misc.HashValue;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+import org.redisson.transaction.operation.TransactionalOperation;
+import org.redisson.transaction.operation.map.MapOperation;
+import org.redisson.transaction.operation.set.SetOperation;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * Tracks state of optimistic transaction.
+ * <p>
+ * Keeps values read by transaction for each key it modifies
+ * and locks which are acquired during commit instead of each operation.
+ * Before commit values are compared with current ones and locks are acquired
+ * by single Lua script per object. Transaction fails with {@link TransactionConflictException}
+ * if any value has been changed or lock is held by another transaction.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class OptimisticValidator {
+
+    /**
+     * Command used to read hash field value
+     */
+    public static final String HASH = "hget";
+
+    /**
+     * Command used to read set membership
+     */
+    public static final String SET = "sismember";
+
+    /**
+     * Command used to read scored sorted set member
+     */
+    public static final String SCORED_SET = "zscore";
+
+    private static final String READ_SCRIPT =
+            "local result = {}; "
+          + "for i = 2, #ARGV do "
+              + "local v = redis.call(ARGV[1], KEYS[1], ARGV[i]); "
+              + "if type(v) == 'number' then "
+                  + "if v == 1 then v = ''; else v = false; end; "
+              + "end; "
+              + "table.insert(result, v); "
+          + "end; "
+          + "return result; ";
+
+    private static final String VALIDATE_SCRIPT =
+            "local n = tonumber(ARGV[3]); "
+          + "for i = 0, n - 1 do "
+              + "local j = 4 + i * 3; "
+              + "local v = redis.call(ARGV[2], KEYS[1], ARGV[j]); "
+              + "if type(v) == 'number' then "
+                  + "if v == 1 then v = ''; else v = false; end; "
+              + "end; "
+              + "if ARGV[j + 1] == '0' then "
+                  + "if v ~= false then return 0; end; "
+              + "elseif v ~= ARGV[j + 2] then "
+                  + "return 0; "
+              + "end; "
+          + "end; "
+          + "local offset = 4 + n * 3; "
+          + "for i = 2, #KEYS do "
+              + "local field = ARGV[offset + (i - 2) * 2]; "
+              + "if redis.call('exists', KEYS[i]) == 1 and redis.call('hexists', KEYS[i], field) == 0 then "
+                  + "return 0; "
+              + "end; "
+          + "end; "
+          + "for i = 2, #KEYS do "
+              + "local j = offset + (i - 2) * 2; "
+              + "redis.call('hincrby', KEYS[i], ARGV[j], ARGV[j + 1]); "
+              + "redis.call('pexpire', KEYS[i], ARGV[1]); "
+          + "end; "
+          + "return 1; ";
+
+    static class ReadValue {
+
+        final byte[] field;
+        final byte[] value;
+
+        ReadValue(byte[] field, byte[] value) {
+            this.field = field;
+            this.value = value;
+        }
+
+    }
+
+    static class LockHold {
+
+        final String name;
+        final long threadId;
+        int count;
+
+        LockHold(String name, long threadId) {
+            this.name = name;
+            this.threadId = threadId;
+        }
+
+    }
+
+    static class ObjectState {
+
+        String command = "";
+        final Map<HashValue, ReadValue> reads = new LinkedHashMap<>();
+        final Map<String, LockHold> locks = new LinkedHashMap<>();
+
+    }
+
+    private final CommandAsyncExecutor commandExecutor;
+    private final String transactionId;
+    private final long leaseTime;
+    private final Map<String, ObjectState> objects = new LinkedHashMap<>();
+    private volatile boolean acquired;
+
+    public OptimisticValidator(CommandAsyncExecutor commandExecutor, String transactionId, long timeout) {
+        this.commandExecutor = commandExecutor;
+        this.transactionId = transactionId;
+        if (timeout > 0) {
+            this.leaseTime = timeout;
+        } else {
+            this.leaseTime = commandExecutor.getConnectionManager().getCfg().getLockWatchdogTimeout();
+        }
+    }
+
+    /**
+     * Registers lock which should be held by transaction during commit.
+     *
+     * @param name - name of object guarded by lock
+     * @param lock - transactional lock
+     * @param threadId - id of thread
+     */
+    public synchronized void addLock(String name, RLock lock, long threadId) {
+        String field = ((RedissonTransactionalLock) lock).getLockName(threadId);
+        ObjectState state = getState(name);
+        LockHold hold = state.locks.get(lock.getName() + ":" + field);
+        if (hold == null) {
+            hold = new LockHold(lock.getName(), threadId);
+            state.locks.put(lock.getName() + ":" + field, hold);
+        }
+        hold.count++;
+    }
+
+    /**
+     * Reads and stores current values of fields which haven't been read by transaction yet.
+     *
+     * @param name - name of object
+     * @param command - command used to read value
+     * @param fields - encoded fields
+     * @return void
+     */
+    public RFuture<Void> readAsync(String name, String command, Collection<byte[]> fields) {
+        List<Object> args = new ArrayList<>(fields.size() + 1);
+        args.add(command);
+        synchronized (this) {
+            ObjectState state = getState(name);
+            state.command = command;
+            for (byte[] field : fields) {
+                if (!state.reads.containsKey(toHash(field))) {
+                    args.add(field);
+                }
+            }
+        }
+        if (args.size() == 1) {
+            return RedissonPromise.newSucceededFuture(null);
+        }
+
+        RPromise<Void> result = new RedissonPromise<>();
+        RFuture<List<Object>> future = commandExecutor.evalReadAsync(name, ByteArrayCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                READ_SCRIPT, Collections.<Object>singletonList(name), args.toArray());
+        future.onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            synchronized (this) {
+                ObjectState state = getState(name);
+                for (int i = 1; i < args.size(); i++) {
+                    byte[] field = (byte[]) args.get(i);
+                    byte[] value = null;
+                    if (i - 1 < res.size()) {
+                        value = (byte[]) res.get(i - 1);
+                    }
+                    state.reads.putIfAbsent(toHash(field), new ReadValue(field, value));
+                }
+            }
+            result.trySuccess(null);
+        });
+        return result;
+    }
+
+    /**
+     * Compares stored values with current ones and acquires registered locks.
+     * Locks are released back if validation of any object has failed.
+     *
+     * @return void
+     */
+    public synchronized RFuture<Void> validateAsync() {
+        if (objects.isEmpty()) {
+            return RedissonPromise.newSucceededFuture(null);
+        }
+
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        Map<String, RFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (Entry<String, ObjectState> entry : objects.entrySet()) {
+            ObjectState state = entry.getValue();
+            List<Object> keys = new ArrayList<>(state.locks.size() + 1);
+            keys.add(entry.getKey());
+            List<Object> args = new ArrayList<>();
+            args.add(leaseTime);
+            args.add(state.command);
+            args.add(state.reads.size());
+            for (ReadValue read : state.reads.values()) {
+                args.add(read.field);
+                if (read.value == null) {
+                    args.add("0");
+                    args.add("");
+                } else {
+                    args.add("1");
+                    args.add(read.value);
+                }
+            }
+            for (LockHold hold : state.locks.values()) {
+                keys.add(hold.name);
+                args.add(new RedissonTransactionalLock(commandExecutor, hold.name, transactionId).getLockName(hold.threadId));
+                args.add(hold.count);
+            }
+
+            RFuture<Boolean> future = executorService.evalWriteAsync(entry.getKey(), ByteArrayCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                    VALIDATE_SCRIPT, keys, args.toArray());
+            futures.put(entry.getKey(), future);
+        }
+
+        RPromise<Void> result = new RedissonPromise<>();
+        executorService.executeAsync().onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(new TransactionException("Unable to validate transaction", e));
+                return;
+            }
+
+            List<String> conflicts = new ArrayList<>();
+            List<String> validated = new ArrayList<>();
+            for (Entry<String, RFuture<Boolean>> entry : futures.entrySet()) {
+                if (entry.getValue().getNow()) {
+                    validated.add(entry.getKey());
+                } else {
+                    conflicts.add(entry.getKey());
+                }
+            }
+
+            if (conflicts.isEmpty()) {
+                acquired = true;
+                result.trySuccess(null);
+                return;
+            }
+
+            release(validated);
+            result.tryFailure(new TransactionConflictException("Unable to commit transaction. Objects " + conflicts
+                        + " were modified or locked by another transaction"));
+        });
+        return result;
+    }
+
+    private void release(List<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        for (String name : names) {
+            for (LockHold hold : objects.get(name).locks.values()) {
+                for (int i = 0; i < hold.count; i++) {
+                    new RedissonTransactionalLock(executorService, hold.name, transactionId).unlockAsync(hold.threadId);
+                }
+            }
+        }
+        executorService.executeAsync();
+    }
+
+    /**
+     * Returns amount of values read by transaction
+     *
+     * @return amount of values
+     */
+    public synchronized int getReadsAmount() {
+        int amount = 0;
+        for (ObjectState state : objects.values()) {
+            amount += state.reads.size();
+        }
+        return amount;
+    }
+
+    /**
+     * Returns <code>true</code> if lock of operation is acquired during validation
+     * instead of operation execution. Locks of buckets are always acquired
+     * by operation itself.
+     *
+     * @param operation - transactional operation
+     * @return <code>true</code> if lock is acquired during validation
+     */
+    public static boolean isValidated(TransactionalOperation operation) {
+        return operation instanceof MapOperation || operation instanceof SetOperation;
+    }
+
+    /**
+     * Returns <code>true</code> if locks have been acquired during validation
+     *
+     * @return <code>true</code> if locks are held
+     */
+    public boolean isAcquired() {
+        return acquired;
+    }
+
+    public synchronized void clear() {
+        objects.clear();
+    }
+
+    private ObjectState getState(String name) {
+        return objects.computeIfAbsent(name, k -> new ObjectState());
+    }
+
+    private HashValue toHash(byte[] field) {
+        return new HashValue(Hash.hash128(Unpooled.wrappedBuffer(field)));
+    }
+
+}
@@ -85,10 +85,13 @@ public class RedissonTransaction implements RTransaction {
     
     private final String id = generateId();
     
+    private final OptimisticValidator validator;
+    
     public RedissonTransaction(CommandAsyncExecutor commandExecutor, TransactionOptions options) {
         super();
         this.options = options;
         this.commandExecutor = commandExecutor;
+        this.validator = createValidator();
     }
     
     public RedissonTransaction(CommandAsyncExecutor commandExecutor, TransactionOptions options,
@@ -98,6 +101,14 @@ public class RedissonTransaction implements RTransaction {
         this.options = options;
         this.operations = operations;
         this.localCaches = localCaches;
+        this.validator = createValidator();
+    }
+
+    private OptimisticValidator createValidator() {
+        if (options.isOptimistic()) {
+            return new OptimisticValidator(commandExecutor, id, options.getTimeout());
+        }
+        return null;
     }
 
     @Override
@@ -106,7 +117,7 @@ public class RedissonTransaction implements RTransaction {
 
         localCaches.add(fromInstance.getName());
         return new RedissonTransactionalLocalCachedMap<K, V>(commandExecutor,
-                operations, options.getTimeout(), executed, fromInstance, id);
+                operations, options.getTimeout(), executed, fromInstance, id, validator);
     }
     
     @Override
@@ -141,56 +152,56 @@ public class RedissonTransaction implements RTransaction {
     public <V> RSet<V> getSet(String name) {
         checkState();
         
-        return new RedissonTransactionalSet<V>(commandExecutor, name, operations, options.getTimeout(), executed, id);        
+        return new RedissonTransactionalSet<V>(commandExecutor, name, operations, options.getTimeout(), executed, id, validator);        
     }
     
     @Override
     public <V> RSet<V> getSet(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalSet<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalSet<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, validator);
     }
     
     @Override
     public <V> RSetCache<V> getSetCache(String name) {
         checkState();
         
-        return new RedissonTransactionalSetCache<V>(commandExecutor, name, operations, options.getTimeout(), executed, id);        
+        return new RedissonTransactionalSetCache<V>(commandExecutor, name, operations, options.getTimeout(), executed, id, validator);        
     }
     
     @Override
     public <V> RSetCache<V> getSetCache(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalSetCache<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalSetCache<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, validator);
     }
 
     @Override
     public <K, V> RMap<K, V> getMap(String name) {
         checkState();
         
-        return new RedissonTransactionalMap<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMap<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id, validator);
     }
 
     @Override
     public <K, V> RMap<K, V> getMap(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalMap<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMap<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, validator);
     }
 
     @Override
     public <K, V> RMapCache<K, V> getMapCache(String name) {
         checkState();
         
-        return new RedissonTransactionalMapCache<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMapCache<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id, validator);
     }
 
     @Override
     public <K, V> RMapCache<K, V> getMapCache(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalMapCache<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMapCache<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, validator);
     }
     
     @Override
@@ -208,38 +219,61 @@ public class RedissonTransaction implements RTransaction {
 
         String id = generateId();
         RPromise<Void> result = new RedissonPromise<Void>();
-        RFuture<Map<HashKey, HashValue>> future = disableLocalCacheAsync(id, localCaches, operations);
-        future.onComplete((res, ex) -> {
-            if (ex != null) {
-                result.tryFailure(new TransactionException("Unable to execute transaction", ex));
+        validateAsync().onComplete((v, validationEx) -> {
+            if (validationEx != null) {
+                createRollbackBatch(operations).executeAsync().onComplete((r, e) -> {
+                    clearOperations(operations);
+                    result.tryFailure(validationEx);
+                });
                 return;
             }
             
-            Map<HashKey, HashValue> hashes = future.getNow();
-            try {
-                checkTimeout();
-            } catch (TransactionTimeoutException e) {
-                enableLocalCacheAsync(id, hashes);
-                result.tryFailure(e);
-                return;
-            }
-                            
-            RFuture<List<?>> transactionFuture = transactionExecutor.executeAsync();
-            transactionFuture.onComplete((r, exc) -> {
-                if (exc != null) {
-                    result.tryFailure(new TransactionException("Unable to execute transaction", exc));
+            RFuture<Map<HashKey, HashValue>> future = disableLocalCacheAsync(id, localCaches, operations);
+            future.onComplete((res, ex) -> {
+                if (ex != null) {
+                    result.tryFailure(new TransactionException("Unable to execute transaction", ex));
                     return;
                 }
                 
-                enableLocalCacheAsync(id, hashes);
-                executed.set(true);
-                
-                result.trySuccess(null);
+                Map<HashKey, HashValue> hashes = future.getNow();
+                try {
+                    checkTimeout();
+                } catch (TransactionTimeoutException e) {
+                    enableLocalCacheAsync(id, hashes);
+                    result.tryFailure(e);
+                    return;
+                }
+                                
+                RFuture<List<?>> transactionFuture = transactionExecutor.executeAsync();
+                transactionFuture.onComplete((r, exc) -> {
+                    if (exc != null) {
+                        result.tryFailure(new TransactionException("Unable to execute transaction", exc));
+                        return;
+                    }
+                    
+                    enableLocalCacheAsync(id, hashes);
+                    executed.set(true);
+                    
+                    result.trySuccess(null);
+                });
             });
         });
         return result;
     }
 
+    /**
+     * Validates values read by optimistic transaction 
+     * and acquires locks of modified keys.
+     * 
+     * @return void
+     */
+    private RFuture<Void> validateAsync() {
+        if (validator == null) {
+            return RedissonPromise.newSucceededFuture(null);
+        }
+        return validator.validateAsync();
+    }
+
     private BatchOptions createOptions() {
         int syncSlaves = 0;
         if (!commandExecutor.getConnectionManager().isClusterMode()) {
@@ -273,6 +307,18 @@ public class RedissonTransaction implements RTransaction {
             transactionalOperation.commit(transactionExecutor);
         }
 
+        try {
+            commandExecutor.get(validateAsync());
+        } catch (TransactionException e) {
+            try {
+                createRollbackBatch(operations).execute();
+            } catch (Exception ex) {
+                e.addSuppressed(ex);
+            }
+            clearOperations(operations);
+            throw e;
+        }
+        
         String id = generateId();
         Map<HashKey, HashValue> hashes = disableLocalCache(id, localCaches, operations);
         
@@ -556,10 +602,7 @@ public class RedissonTransaction implements RTransaction {
     public void rollback(List<TransactionalOperation> operations) {
         checkState();
 
-        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
-        for (TransactionalOperation transactionalOperation : operations) {
-            transactionalOperation.rollback(executorService);
-        }
+        CommandBatchService executorService = createRollbackBatch(operations);
 
         try {
             executorService.execute();
@@ -567,18 +610,14 @@ public class RedissonTransaction implements RTransaction {
             throw new TransactionException("Unable to rollback transaction", e);
         }
 
-        operations.clear();
-        executed.set(true);
+        clearOperations(operations);
     }
     
     @Override
     public RFuture<Void> rollbackAsync() {
         checkState();
 
-        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
-        for (TransactionalOperation transactionalOperation : operations) {
-            transactionalOperation.rollback(executorService);
-        }
+        CommandBatchService executorService = createRollbackBatch(operations);
 
         RPromise<Void> result = new RedissonPromise<>();
         RFuture<List<?>> future = executorService.executeAsync();
@@ -588,12 +627,32 @@ public class RedissonTransaction implements RTransaction {
                 return;
             }
             
-            operations.clear();
-            executed.set(true);
+            clearOperations(operations);
             result.trySuccess(null);
         });
         return result;
     }
+
+    private CommandBatchService createRollbackBatch(List<TransactionalOperation> operations) {
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        for (TransactionalOperation transactionalOperation : operations) {
+            if (validator != null && !validator.isAcquired()
+                    && OptimisticValidator.isValidated(transactionalOperation)) {
+                // lock is acquired by optimistic transaction only during commit
+                continue;
+            }
+            transactionalOperation.rollback(executorService);
+        }
+        return executorService;
+    }
+
+    private void clearOperations(List<TransactionalOperation> operations) {
+        if (validator != null) {
+            validator.clear();
+        }
+        operations.clear();
+        executed.set(true);
+    }
     
     public Set<String> getLocalCaches() {
         return localCaches;
@@ -36,8 +36,9 @@ import org.redisson.transaction.operation.TransactionalOperation;
 public class RedissonTransactionalLocalCachedMap<K, V> extends RedissonTransactionalMap<K, V> implements RLocalCachedMap<K, V> {
 
     public RedissonTransactionalLocalCachedMap(CommandAsyncExecutor commandExecutor,  
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, RLocalCachedMap<K, V> innerMap, String transactionId) {
-        super(commandExecutor, operations, timeout, executed, innerMap, transactionId);
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, RLocalCachedMap<K, V> innerMap, String transactionId,
+            OptimisticValidator validator) {
+        super(commandExecutor, operations, timeout, executed, innerMap, transactionId, validator);
     }
 
     @Override
@@ -51,26 +51,29 @@ public class RedissonTransactionalMap<K, V> extends RedissonMap<K, V> {
     private final AtomicBoolean executed;
 
     public RedissonTransactionalMap(CommandAsyncExecutor commandExecutor,  
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, RMap<K, V> innerMap, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, RMap<K, V> innerMap, String transactionId,
+            OptimisticValidator validator) {
         super(innerMap.getCodec(), commandExecutor, innerMap.getName(), null, null, null);
         this.executed = executed;
-        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, validator);
     }
     
     public RedissonTransactionalMap(CommandAsyncExecutor commandExecutor, String name, 
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId,
+            OptimisticValidator validator) {
         super(commandExecutor, name, null, null, null);
         this.executed = executed;
         RedissonMap<K, V> innerMap = new RedissonMap<K, V>(commandExecutor, name, null, null, null);
-        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, validator);
     }
 
     public RedissonTransactionalMap(Codec codec, CommandAsyncExecutor commandExecutor, String name,
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId,
+            OptimisticValidator validator) {
         super(codec, commandExecutor, name, null, null, null);
         this.executed = executed;
         RedissonMap<K, V> innerMap = new RedissonMap<K, V>(codec, commandExecutor, name, null, null, null);
-        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, validator);
     }
     
     @Override
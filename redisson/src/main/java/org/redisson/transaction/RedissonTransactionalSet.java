@@ -49,19 +49,21 @@ public class RedissonTransactionalSet<V> extends RedissonSet<V> {
     private final AtomicBoolean executed;
     
     public RedissonTransactionalSet(CommandAsyncExecutor commandExecutor,
-            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId,
+            OptimisticValidator validator) {
         super(commandExecutor, name, null);
         this.executed = executed;
         RedissonSet<V> innerSet = new RedissonSet<V>(commandExecutor, name, null);
-        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId);
+        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId, validator);
     }
     
     public RedissonTransactionalSet(Codec codec, CommandAsyncExecutor commandExecutor,
-            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId,
+            OptimisticValidator validator) {
         super(codec, commandExecutor, name, null);
         this.executed = executed;
         RedissonSet<V> innerSet = new RedissonSet<V>(codec, commandExecutor, name, null);
-        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId);
+        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId, validator);
     }
     
     @Override
@@ -43,19 +43,21 @@ public class RedissonTransactionalSetCache<V> extends RedissonSetCache<V> {
     private final AtomicBoolean executed;
     
     public RedissonTransactionalSetCache(CommandAsyncExecutor commandExecutor, String name,
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId,
+            OptimisticValidator validator) {
         super(null, commandExecutor, name, null);
         this.executed = executed;
         RedissonSetCache<V> innerSet = new RedissonSetCache<V>(null, commandExecutor, name, null);
-        this.transactionalSet = new TransactionalSetCache<V>(commandExecutor, timeout, operations, innerSet, transactionId);
+        this.transactionalSet = new TransactionalSetCache<V>(commandExecutor, timeout, operations, innerSet, transactionId, validator);
     }
     
     public RedissonTransactionalSetCache(Codec codec, CommandAsyncExecutor commandExecutor, String name,
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId,
+            OptimisticValidator validator) {
         super(null, commandExecutor, name, null);
         this.executed = executed;
         RedissonSetCache<V> innerSet = new RedissonSetCache<V>(codec, null, commandExecutor, name, null);
-        this.transactionalSet = new TransactionalSetCache<V>(commandExecutor, timeout, operations, innerSet, transactionId);
+        this.transactionalSet = new TransactionalSetCache<V>(commandExecutor, timeout, operations, innerSet, transactionId, validator);
     }
 
 
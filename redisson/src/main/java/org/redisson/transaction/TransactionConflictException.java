@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2013-2020 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.transaction;
+
+/**
+ * This exception used to report that optimistic Transaction
+ * can't be committed because values it has read were modified
+ * concurrently or are locked by another transaction.
+ * Transaction could be retried from scratch.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class TransactionConflictException extends TransactionException {
+
+    private static final long serialVersionUID = -1748317398724193425L;
+
+    public TransactionConflictException(String message) {
+        super(message);
+    }
+
+}
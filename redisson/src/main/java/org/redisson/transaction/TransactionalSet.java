@@ -43,8 +43,8 @@ public class TransactionalSet<V> extends BaseTransactionalSet<V> {
     private final String transactionId;
     
     public TransactionalSet(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations,
-            RSet<V> set, String transactionId) {
-        super(commandExecutor, timeout, operations, set);
+            RSet<V> set, String transactionId, OptimisticValidator validator) {
+        super(commandExecutor, timeout, operations, set, validator);
         this.set = set;
         this.transactionId = transactionId;
     }
@@ -80,5 +80,10 @@ public class TransactionalSet<V> extends BaseTransactionalSet<V> {
         String lockName = ((RedissonSet<V>) set).getLockByValue(value, "lock");
         return new RedissonTransactionalLock(commandExecutor, lockName, transactionId);
     }
+
+    @Override
+    protected String getValidationCommand() {
+        return OptimisticValidator.SET;
+    }
     
 }
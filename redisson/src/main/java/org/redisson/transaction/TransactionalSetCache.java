@@ -44,8 +44,8 @@ public class TransactionalSetCache<V> extends BaseTransactionalSet<V> {
     private final String transactionId;
     
     public TransactionalSetCache(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations,
-            RSetCache<V> set, String transactionId) {
-        super(commandExecutor, timeout, operations, set);
+            RSetCache<V> set, String transactionId, OptimisticValidator validator) {
+        super(commandExecutor, timeout, operations, set, validator);
         this.set = set;
         this.transactionId = transactionId;
     }
@@ -86,5 +86,10 @@ public class TransactionalSetCache<V> extends BaseTransactionalSet<V> {
         String lockName = ((RedissonSetCache<V>) set).getLockByValue(value, "lock");
         return new RedissonTransactionalLock(commandExecutor, lockName, transactionId);
     }
+
+    @Override
+    protected String getValidationCommand() {
+        return OptimisticValidator.SCORED_SET;
+    }
     
 }
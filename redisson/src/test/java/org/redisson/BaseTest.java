@@ -7,6 +7,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.redisson.config.Protocol;
 
 public abstract class BaseTest {
     
@@ -74,6 +75,14 @@ public abstract class BaseTest {
         return Redisson.create(config);
     }
 
+    public static RedissonClient createInstance(Protocol protocol) {
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort())
+                .setProtocol(protocol);
+        return Redisson.create(config);
+    }
+
     protected boolean flushBetweenTests() {
         return true;
     }
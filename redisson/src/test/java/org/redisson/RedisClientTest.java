@@ -136,6 +136,29 @@ public class RedisClientTest {
         conn.sync(RedisCommands.FLUSHDB);
     }
 
+    @Test
+    public void testPipelining() throws InterruptedException {
+        RedisClientConfig config = new RedisClientConfig();
+        config.setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setPipelining(true);
+        RedisClient client = RedisClient.create(config);
+        RedisConnection conn = client.connect();
+
+        conn.sync(StringCodec.INSTANCE, RedisCommands.SET, "test", 0);
+        List<RFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            futures.add(conn.async(StringCodec.INSTANCE, RedisCommands.INCR, "test"));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).awaitUninterruptibly().getNow()).isEqualTo(i + 1);
+        }
+        assertThat(conn.getCurrentCommand()).isNull();
+
+        conn.sync(RedisCommands.FLUSHDB);
+        client.shutdown();
+    }
+
     @Test
     public void testPipeline() throws InterruptedException, ExecutionException {
         RedisConnection conn = redisClient.connect();
@@ -0,0 +1,119 @@
+package org.redisson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.redisson.api.ClientSideCachingOptions;
+import org.redisson.api.ClientSideCachingOptions.TrackingMode;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RClientSideCaching;
+import org.redisson.api.RMap;
+import org.redisson.api.RSet;
+import org.redisson.api.RTransaction;
+import org.redisson.api.TransactionOptions;
+
+public class RedissonClientSideCachingTest extends BaseTest {
+
+    @Before
+    public void checkVersion() {
+        Assume.assumeTrue(RedisRunner.getDefaultRedisServerInstance().getRedisVersion().compareTo("6.0.0") >= 0);
+    }
+
+    @Test
+    public void testBucket() {
+        RClientSideCaching csc = redisson.createClientSideCaching(ClientSideCachingOptions.defaults());
+        RBucket<String> bucket = csc.getBucket("test");
+        redisson.getBucket("test").set("1");
+
+        assertThat(bucket.get()).isEqualTo("1");
+        assertThat(bucket.get()).isEqualTo("1");
+        assertThat(csc.getCacheMisses()).isEqualTo(1);
+        assertThat(csc.getCacheHits()).isEqualTo(1);
+
+        // change made outside of client side cache
+        redisson.getBucket("test").set("2");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> "2".equals(bucket.get()));
+
+        bucket.set("3");
+        assertThat(bucket.get()).isEqualTo("3");
+        csc.destroy();
+    }
+
+    @Test
+    public void testBuckets() {
+        RClientSideCaching csc = redisson.createClientSideCaching(ClientSideCachingOptions.defaults());
+        redisson.getBucket("test1").set("1");
+        redisson.getBucket("test2").set("2");
+
+        assertThat(csc.getBuckets().get("test1", "test2", "test3")).containsEntry("test1", "1").containsEntry("test2", "2").hasSize(2);
+        assertThat(csc.getBuckets().get("test1", "test2", "test3")).hasSize(2);
+        assertThat(csc.getCacheHits()).isEqualTo(3);
+        assertThat(csc.getCacheMisses()).isEqualTo(3);
+        csc.destroy();
+    }
+
+    @Test
+    public void testBatchAndTransactionInvalidation() {
+        RClientSideCaching csc = redisson.createClientSideCaching(ClientSideCachingOptions.defaults());
+        RBucket<String> bucket = csc.getBucket("test");
+        redisson.getBucket("test").set("1");
+        assertThat(bucket.get()).isEqualTo("1");
+
+        RBatch batch = redisson.createBatch();
+        batch.<String>getBucket("test").setAsync("2");
+        batch.execute();
+        // invalidated locally without waiting for push message
+        assertThat(bucket.get()).isEqualTo("2");
+
+        RTransaction transaction = redisson.createTransaction(TransactionOptions.defaults());
+        transaction.<String>getBucket("test").set("3");
+        transaction.commit();
+        assertThat(bucket.get()).isEqualTo("3");
+        csc.destroy();
+    }
+
+    @Test
+    public void testMapAndSet() {
+        RClientSideCaching csc = redisson.createClientSideCaching(ClientSideCachingOptions.defaults());
+        RMap<String, String> map = csc.getMap("map");
+        map.put("1", "a");
+        assertThat(map.get("1")).isEqualTo("a");
+        assertThat(map.get("1")).isEqualTo("a");
+        assertThat(csc.getCacheHits()).isEqualTo(1);
+
+        redisson.getMap("map").put("1", "b");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> "b".equals(map.get("1")));
+
+        RSet<String> set = csc.getSet("set");
+        set.add("1");
+        assertThat(set.contains("1")).isTrue();
+        redisson.getSet("set").remove("1");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> !set.contains("1"));
+        csc.destroy();
+    }
+
+    @Test
+    public void testBroadcast() {
+        RClientSideCaching csc = redisson.createClientSideCaching(ClientSideCachingOptions.defaults()
+                                                    .trackingMode(TrackingMode.BCAST)
+                                                    .prefixes("cached:"));
+        redisson.getBucket("cached:1").set("1");
+        redisson.getBucket("other").set("1");
+
+        RBucket<String> bucket = csc.getBucket("cached:1");
+        assertThat(bucket.get()).isEqualTo("1");
+        assertThat(csc.getBucket("other").get()).isEqualTo("1");
+        assertThat(csc.getCacheSize()).isEqualTo(1);
+
+        redisson.getBucket("cached:1").set("2");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> "2".equals(bucket.get()));
+        csc.destroy();
+    }
+
+}
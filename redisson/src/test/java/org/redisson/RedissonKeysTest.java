@@ -5,10 +5,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -117,6 +120,25 @@ public class RedissonKeysTest extends BaseTest {
     }
 
     
+    @Test
+    public void testKeysByPatternPrefetch() {
+        for (int i = 0; i < 1000; i++) {
+            redisson.getBucket("test" + i).set(i);
+        }
+        redisson.getBucket("other").set(1);
+
+        Set<String> keys = new HashSet<>();
+        for (String key : redisson.getKeys().getKeysByPattern("test*", 10, 4)) {
+            keys.add(key);
+        }
+        assertThat(keys).hasSize(1000);
+
+        Set<String> streamKeys = redisson.getKeys().getKeysStreamByPattern("test*", 10, 4)
+                                        .parallel()
+                                        .collect(Collectors.toSet());
+        assertThat(streamKeys).isEqualTo(keys);
+    }
+
     @Test
     public void testKeysIterablePattern() {
         redisson.getBucket("test1").set("someValue");
@@ -226,6 +248,39 @@ public class RedissonKeysTest extends BaseTest {
         Assert.assertEquals(0, redisson.getKeys().deleteByPattern("test?"));
     }
 
+    @Test
+    public void testUnlinkByPattern() {
+        for (int i = 0; i < 3000; i++) {
+            redisson.getBucket("test" + i).set(i);
+        }
+        redisson.getBucket("other").set(1);
+
+        List<Long> progress = new ArrayList<>();
+        long count = ((RedissonKeys) redisson.getKeys()).unlinkByPatternAsync("test*", value -> {
+            synchronized (progress) {
+                progress.add(value);
+            }
+        }).join();
+        assertThat(count).isEqualTo(3000);
+        assertThat(progress).isNotEmpty();
+        assertThat(Collections.max(progress)).isEqualTo(3000);
+        assertThat(redisson.getKeys().count()).isEqualTo(1);
+        assertThat(redisson.getKeys().unlinkByPattern("test*")).isZero();
+    }
+
+    @Test
+    public void testExpireByPattern() {
+        for (int i = 0; i < 10; i++) {
+            redisson.getBucket("test" + i).set(i);
+        }
+        redisson.getBucket("other").set(1);
+
+        assertThat(redisson.getKeys().expireByPattern("test*", 1, TimeUnit.MINUTES)).isEqualTo(10);
+        assertThat(redisson.getBucket("test1").remainTimeToLive()).isPositive();
+        assertThat(redisson.getBucket("other").remainTimeToLive()).isEqualTo(-1);
+        assertThat(redisson.getKeys().touchByPattern("test*")).isEqualTo(10);
+    }
+
     @Test
     public void testDeleteByPatternBatch() {
         RBucket<String> bucket = redisson.getBucket("test0");
@@ -30,11 +30,16 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.redisson.api.*;
 import org.redisson.api.annotation.RCascade;
+import org.redisson.api.annotation.RCompositeIndex;
 import org.redisson.api.annotation.REntity;
 import org.redisson.api.annotation.RFieldAccessor;
 import org.redisson.api.annotation.RId;
 import org.redisson.api.annotation.RIndex;
+import org.redisson.api.annotation.RSortedIndex;
+import org.redisson.api.condition.Condition;
 import org.redisson.api.condition.Conditions;
+import org.redisson.api.condition.Sort;
+import org.redisson.client.codec.ByteArrayCodec;
 import org.redisson.liveobject.resolver.DefaultNamingScheme;
 import org.redisson.liveobject.resolver.LongGenerator;
 import org.redisson.liveobject.resolver.UUIDGenerator;
@@ -359,6 +364,86 @@ public class RedissonLiveObjectServiceTest extends BaseTest {
         }
         
     }
+
+    @REntity
+    @RCompositeIndex({"lastName", "firstName"})
+    public static class TestSorted implements Serializable {
+
+        @RId
+        private String id;
+        @RSortedIndex
+        private String lastName;
+        private String firstName;
+        @RIndex
+        private Integer age;
+
+        protected TestSorted() {
+        }
+
+        public TestSorted(String id, String lastName, String firstName, Integer age) {
+            super();
+            this.id = id;
+            this.lastName = lastName;
+            this.firstName = firstName;
+            this.age = age;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+        public void setLastName(String lastName) {
+            this.lastName = lastName;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+
+    }
+
+    @REntity
+    public static class TestSortedLong implements Serializable {
+
+        @RId
+        private String id;
+        @RSortedIndex
+        private Long value;
+
+        protected TestSortedLong() {
+        }
+
+        public TestSortedLong(String id, Long value) {
+            super();
+            this.id = id;
+            this.value = value;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Long getValue() {
+            return value;
+        }
+        public void setValue(Long value) {
+            this.value = value;
+        }
+
+    }
     
     @Test
     public void testFindLe() {
@@ -574,6 +659,169 @@ public class RedissonLiveObjectServiceTest extends BaseTest {
         assertThat(objects6.iterator().next().getId()).isEqualTo("4");
     }
     
+    @Test
+    public void testFindPageAndCount() {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        for (int i = 0; i < 10; i++) {
+            TestIndexed t = new TestIndexed("" + i);
+            t.setName1("test" + (i % 2));
+            t.setNum1(i);
+            s.persist(t);
+        }
+
+        Condition condition = Conditions.and(Conditions.eq("name1", "test0"), Conditions.ge("num1", 2));
+        assertThat(s.count(TestIndexed.class, condition)).isEqualTo(4);
+        assertThat(s.count(TestIndexed.class, Conditions.or(Conditions.eq("name1", "test1"), Conditions.lt("num1", 3)))).isEqualTo(7);
+        assertThat(s.count(TestIndexed.class, Conditions.eq("name1", "test3"))).isZero();
+
+        Collection<TestIndexed> all = s.find(TestIndexed.class, condition, 0, -1);
+        assertThat(all).extracting(TestIndexed::getId).containsExactlyInAnyOrder("2", "4", "6", "8");
+
+        List<String> ids = new ArrayList<>();
+        for (int offset = 0; offset < 6; offset += 3) {
+            Collection<TestIndexed> page = s.find(TestIndexed.class, condition, offset, 3);
+            page.forEach(t -> ids.add(t.getId()));
+        }
+        assertThat(ids).containsExactlyInAnyOrder("2", "4", "6", "8");
+        assertThat(s.find(TestIndexed.class, condition, 4, 3)).isEmpty();
+
+        assertThat(s.count(TestIndexed.class, Conditions.eq("name1", "test1"))).isEqualTo(5);
+        assertThat(s.count(TestIndexed.class, Conditions.ge("num1", 5))).isEqualTo(5);
+
+        List<String> ids2 = new ArrayList<>();
+        for (int offset = 0; offset < 6; offset += 2) {
+            Collection<TestIndexed> page = s.find(TestIndexed.class, Conditions.eq("name1", "test1"), offset, 2);
+            page.forEach(t -> ids2.add(t.getId()));
+        }
+        assertThat(ids2).containsExactlyInAnyOrder("1", "3", "5", "7", "9");
+
+        Condition or = Conditions.or(Conditions.eq("name1", "test0"), Conditions.eq("name1", "test1"));
+        List<String> ids3 = new ArrayList<>();
+        for (int offset = 0; offset < 10; offset += 4) {
+            Collection<TestIndexed> page = s.find(TestIndexed.class, or, offset, 4);
+            page.forEach(t -> ids3.add(t.getId()));
+        }
+        assertThat(ids3).containsExactlyInAnyOrder("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        assertThat(redisson.getKeys().getKeysByPattern("*search:*")).isEmpty();
+    }
+
+    @Test
+    public void testFindSorted() {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        s.persist(new TestSorted("1", "Smith", "John", 40));
+        s.persist(new TestSorted("2", "Adams", "Mary", 25));
+        s.persist(new TestSorted("3", "Smith", "Anna", 31));
+        s.persist(new TestSorted("4", "Brown", "Paul", 25));
+        s.persist(new TestSorted("5", "Clark", "Anna", 52));
+
+        List<TestSorted> r1 = s.find(TestSorted.class, null, Sort.asc("lastName"), 0, 3);
+        assertThat(r1).extracting(TestSorted::getId).containsExactly("2", "4", "5");
+
+        List<TestSorted> r2 = s.find(TestSorted.class, null, Sort.asc("lastName", "firstName"), 3, -1);
+        assertThat(r2).extracting(TestSorted::getId).containsExactly("3", "1");
+
+        List<TestSorted> r3 = s.find(TestSorted.class, null, Sort.desc("age"), 0, 2);
+        assertThat(r3).extracting(TestSorted::getId).containsExactly("5", "1");
+
+        List<TestSorted> r4 = s.find(TestSorted.class, Conditions.gt("age", 30), Sort.desc("lastName", "firstName"), 1, 2);
+        assertThat(r4).extracting(TestSorted::getId).containsExactly("3", "5");
+
+        TestSorted t = s.get(TestSorted.class, "3");
+        t.setLastName("Allen");
+        List<TestSorted> r5 = s.find(TestSorted.class, Conditions.gt("age", 30), Sort.asc("lastName"), 0, 1);
+        assertThat(r5).extracting(TestSorted::getId).containsExactly("3");
+
+        s.delete(t);
+        List<TestSorted> r6 = s.find(TestSorted.class, null, Sort.asc("lastName", "firstName"), 0, -1);
+        assertThat(r6).extracting(TestSorted::getId).containsExactly("2", "4", "5", "1");
+    }
+
+    @Test
+    public void testFindSortedConcurrentUpdates() throws InterruptedException {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        s.persist(new TestSorted("1", "a0", "b0", 20));
+
+        Thread t1 = new Thread(() -> {
+            TestSorted t = s.get(TestSorted.class, "1");
+            for (int i = 1; i <= 100; i++) {
+                t.setLastName("a" + i);
+            }
+        });
+        Thread t2 = new Thread(() -> {
+            TestSorted t = s.get(TestSorted.class, "1");
+            for (int i = 1; i <= 100; i++) {
+                t.setFirstName("b" + i);
+            }
+        });
+        t1.start();
+        t2.start();
+        t1.join();
+        t2.join();
+
+        assertThat(redisson.getKeys().getKeysByPattern("*sorted:lastName,firstName")).hasSize(1);
+        String name = redisson.getKeys().getKeysByPattern("*sorted:lastName,firstName").iterator().next();
+        assertThat(redisson.getScoredSortedSet(name, ByteArrayCodec.INSTANCE).size()).isEqualTo(1);
+
+        List<TestSorted> r = s.find(TestSorted.class, null, Sort.asc("lastName", "firstName"), 0, -1);
+        assertThat(r).hasSize(1);
+        assertThat(r.get(0).getLastName()).isEqualTo("a100");
+        assertThat(r.get(0).getFirstName()).isEqualTo("b100");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindSortedWithoutIndex() {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        s.find(TestSorted.class, null, Sort.asc("firstName"), 0, 10);
+    }
+
+    @Test
+    public void testFindSortedLong() {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        long base = 1L << 53;
+        s.persist(new TestSortedLong("1", base + 1));
+        s.persist(new TestSortedLong("2", base));
+        s.persist(new TestSortedLong("3", Long.MAX_VALUE));
+        s.persist(new TestSortedLong("4", base + 2));
+        s.persist(new TestSortedLong("5", Long.MAX_VALUE - 1));
+
+        List<TestSortedLong> r1 = s.find(TestSortedLong.class, null, Sort.asc("value"), 0, -1);
+        assertThat(r1).extracting(TestSortedLong::getId).containsExactly("2", "1", "4", "5", "3");
+
+        TestSortedLong t = s.get(TestSortedLong.class, "1");
+        t.setValue(base + 3);
+        t.setValue(base - 1);
+        List<TestSortedLong> r2 = s.find(TestSortedLong.class, null, Sort.asc("value"), 0, -1);
+        assertThat(r2).extracting(TestSortedLong::getId).containsExactly("1", "2", "4", "5", "3");
+    }
+
+    @Test
+    public void testGetAllAndPrefetch() {
+        RLiveObjectService s = redisson.getLiveObjectService();
+        s.persist(new TestSorted("1", "Smith", "John", 30), new TestSorted("2", "Brown", "Anna", 25));
+
+        List<TestSorted> objects = s.getAll(TestSorted.class, Arrays.asList("1", "3", "2"));
+        assertThat(objects).extracting("id").containsExactly("1", "2");
+        assertThat(objects.get(0).getFirstName()).isEqualTo("John");
+        assertThat(objects.get(1).getAge()).isEqualTo(25);
+
+        // prefetched values are served locally
+        s.asRMap(objects.get(0)).fastPut("firstName", "Jim");
+        assertThat(objects.get(0).getFirstName()).isEqualTo("John");
+
+        // setters write through
+        objects.get(0).setFirstName("Jack");
+        assertThat(s.get(TestSorted.class, "1").getFirstName()).isEqualTo("Jack");
+
+        s.prefetch(objects, "firstName");
+        assertThat(objects.get(0).getFirstName()).isEqualTo("Jack");
+        assertThat(objects.get(0).getLastName()).isEqualTo("Smith");
+
+        s.asRMap(objects.get(0)).fastPut("lastName", "Jones");
+        assertThat(objects.get(0).getLastName()).isEqualTo("Smith");
+        s.clearPrefetch(objects);
+        assertThat(objects.get(0).getLastName()).isEqualTo("Jones");
+    }
+
     @Test
     public void testFindEq() {
         RLiveObjectService s = redisson.getLiveObjectService();
@@ -4,13 +4,22 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 
 import org.junit.Assert;
+import org.awaitility.Duration;
 import org.junit.Test;
+import org.redisson.api.RCountDownLatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.config.Config;
+import org.redisson.misc.RedissonPromise;
+import org.redisson.renewal.LockRenewalScheduler;
 
 import static org.awaitility.Awaitility.*;
 
@@ -346,4 +355,133 @@ public class RedissonLockTest extends BaseConcurrentTest {
         Assert.assertEquals(iterations, lockedCounter.get());
     }
 
+    @Test
+    public void testMultiplexedNotifications() throws InterruptedException {
+        Config config = createConfig();
+        config.setLockNotificationShards(8);
+        RedissonClient r = Redisson.create(config);
+
+        RLock lock = r.getLock("lock");
+        lock.lock();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread t = new Thread(() -> {
+            RLock l = r.getLock("lock");
+            try {
+                if (l.tryLock(5, TimeUnit.SECONDS)) {
+                    latch.countDown();
+                    l.unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        t.start();
+
+        Thread.sleep(300);
+        long startTime = System.currentTimeMillis();
+        lock.unlock();
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.currentTimeMillis() - startTime).isLessThan(500);
+        t.join();
+
+        RCountDownLatch countDownLatch = r.getCountDownLatch("latch");
+        countDownLatch.trySetCount(1);
+        Thread counter = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            countDownLatch.countDown();
+        });
+        counter.start();
+        assertThat(countDownLatch.await(2, TimeUnit.SECONDS)).isTrue();
+        counter.join();
+
+        r.shutdown();
+    }
+
+    @Test
+    public void testRenewalRetry() throws InterruptedException {
+        Config config = createConfig();
+        config.setLockWatchdogTimeout(300);
+        RedissonClient r = Redisson.create(config);
+        LockRenewalScheduler scheduler = ((Redisson) r).getConnectionManager().getLockRenewalScheduler();
+
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean failAlways = new AtomicBoolean();
+        AtomicReference<Throwable> stopped = new AtomicReference<>();
+        LockRenewalScheduler.RenewalTask task = new LockRenewalScheduler.RenewalTask() {
+            @Override
+            public String getName() {
+                return "lock";
+            }
+
+            @Override
+            public String getOwnerName() {
+                return null;
+            }
+
+            @Override
+            public boolean isBatched() {
+                return false;
+            }
+
+            @Override
+            public RFuture<Boolean> renewAsync() {
+                // every third renewal succeeds
+                if (attempts.incrementAndGet() % 3 == 0 && !failAlways.get()) {
+                    return RedissonPromise.newSucceededFuture(true);
+                }
+                return RedissonPromise.newFailedFuture(new RedisException("renewal failed"));
+            }
+
+            @Override
+            public void onStopped(Throwable cause) {
+                stopped.set(cause);
+            }
+        };
+        scheduler.schedule("lock", task);
+
+        await().atMost(Duration.FIVE_SECONDS).until(() -> attempts.get() >= 7);
+        assertThat(stopped.get()).isNull();
+        assertThat(scheduler.getSize()).isEqualTo(1);
+
+        failAlways.set(true);
+        await().atMost(Duration.FIVE_SECONDS).until(() -> stopped.get() != null);
+        assertThat(stopped.get()).isInstanceOf(RedisException.class);
+        assertThat(scheduler.getSize()).isZero();
+
+        r.shutdown();
+    }
+
+    @Test
+    public void testSharedRenewal() throws InterruptedException {
+        Config config = createConfig();
+        config.setLockWatchdogTimeout(1000);
+        RedissonClient r = Redisson.create(config);
+        LockRenewalScheduler scheduler = ((Redisson) r).getConnectionManager().getLockRenewalScheduler();
+
+        RLock lock1 = r.getLock("lock1");
+        RLock lock2 = r.getLock("lock2");
+        RLock readLock = r.getReadWriteLock("lock3").readLock();
+        lock1.lock();
+        lock2.lock();
+        readLock.lock();
+        assertThat(scheduler.getSize()).isEqualTo(3);
+
+        Thread.sleep(2500);
+        assertThat(lock1.remainTimeToLive()).isGreaterThan(0);
+        assertThat(lock2.remainTimeToLive()).isGreaterThan(0);
+        assertThat(readLock.isLocked()).isTrue();
+
+        lock1.unlock();
+        lock2.unlock();
+        readLock.unlock();
+        assertThat(scheduler.getSize()).isZero();
+
+        r.shutdown();
+    }
+
 }
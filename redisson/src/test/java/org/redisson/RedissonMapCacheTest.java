@@ -25,6 +25,7 @@ import org.redisson.api.MapOptions;
 import org.redisson.api.MapOptions.WriteMode;
 import org.redisson.api.RMap;
 import org.redisson.api.RMapCache;
+import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.map.event.EntryCreatedListener;
 import org.redisson.api.map.event.EntryEvent;
@@ -212,6 +213,68 @@ public class RedissonMapCacheTest extends BaseMapTest {
         redisson.shutdown();
     }
 
+    @Test
+    public void testSharedEviction() throws InterruptedException {
+        Config config = new Config();
+        config.useSingleServer().setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setMaxCleanUpDelay(2);
+        config.setMinCleanUpDelay(1);
+        config.setUseSharedEviction(true);
+        RedissonClient redisson = Redisson.create(config);
+
+        RMapCache<String, String> map = redisson.getMapCache("test", StringCodec.INSTANCE);
+        RMapCache<String, String> map2 = redisson.getMapCache("test2", StringCodec.INSTANCE);
+        map.put("1", "1", 1, TimeUnit.SECONDS);
+        map.put("2", "2", 0, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
+        map2.put("3", "3", 1, TimeUnit.SECONDS);
+        map2.put("4", "4");
+
+        Thread.sleep(4000);
+
+        assertThat(redisson.getKeys().countExists("test")).isZero();
+        assertThat(map2.size()).isEqualTo(1);
+        assertThat(map2.get("4")).isEqualTo("4");
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testSharedEvictionDefaultDelays() throws InterruptedException {
+        Config config = new Config();
+        config.useSingleServer().setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setUseSharedEviction(true);
+        RedissonClient redisson = Redisson.create(config);
+
+        RMapCache<String, String> map = redisson.getMapCache("test", StringCodec.INSTANCE);
+        Thread.sleep(500);
+        map.put("1", "1", 1, TimeUnit.SECONDS);
+        map.put("2", "2", 0, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
+
+        Thread.sleep(3500);
+
+        assertThat(redisson.getKeys().countExists("test")).isZero();
+        redisson.shutdown();
+    }
+
+    @Test
+    public void testSharedEvictionUnregister() throws InterruptedException {
+        Config config = new Config();
+        config.useSingleServer().setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setUseSharedEviction(true);
+        RedissonClient redisson = Redisson.create(config);
+
+        RScoredSortedSet<String> index = redisson.getScoredSortedSet("{redisson__eviction}:index", StringCodec.INSTANCE);
+        RMapCache<String, String> map = redisson.getMapCache("test", StringCodec.INSTANCE);
+        map.put("1", "1", 1, TimeUnit.MINUTES);
+        Thread.sleep(500);
+        assertThat(index.contains("test")).isTrue();
+
+        map.destroy();
+        Thread.sleep(500);
+        assertThat(index.contains("test")).isFalse();
+        assertThat(redisson.getMap("{redisson__eviction}:objects", StringCodec.INSTANCE).containsKey("test")).isFalse();
+        redisson.shutdown();
+    }
+
     @Test
     public void testMaxSize() {
         final AtomicInteger maxSize = new AtomicInteger(2);
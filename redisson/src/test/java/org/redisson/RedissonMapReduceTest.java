@@ -179,6 +179,31 @@ public class RedissonMapReduceTest extends BaseTest {
         resultMap.delete();
     }
 
+    @Test
+    public void testCombiner() {
+        RMap<String, String> map = getMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put("" + i, "to be or not to be");
+        }
+
+        Map<String, Integer> result = new HashMap<>();
+        result.put("to", 2000);
+        result.put("be", 2000);
+        result.put("or", 1000);
+        result.put("not", 1000);
+
+        RMapReduce<String, String, String, Integer> mapReduce = map.<String, Integer>mapReduce()
+                                                        .mapper(new WordMapper())
+                                                        .combiner(new WordReducer())
+                                                        .reducer(new WordReducer());
+        assertThat(mapReduce.execute()).isEqualTo(result);
+
+        mapReduce.execute("resultMap");
+        RMap<Object, Object> resultMap = redisson.getMap("resultMap");
+        assertThat(resultMap).isEqualTo(result);
+        resultMap.delete();
+    }
+
     private RMap<String, String> getMap() {
         RMap<String, String> map = null;
         if (RMapCache.class.isAssignableFrom(mapClass)) {
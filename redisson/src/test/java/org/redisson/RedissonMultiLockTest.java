@@ -20,6 +20,43 @@ import io.netty.channel.nio.NioEventLoopGroup;
 
 public class RedissonMultiLockTest {
 
+    @Test
+    public void testBulkLock() throws IOException, InterruptedException {
+        RedisProcess redis1 = redisTestMultilockInstance();
+        
+        Config config1 = new Config();
+        config1.useSingleServer().setAddress(redis1.getRedisServerAddressAndPort());
+        RedissonClient client = Redisson.create(config1);
+        
+        RLock[] locks = new RLock[200];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = client.getLock("lock" + i);
+        }
+        locks[100].lock();
+        
+        RedissonMultiLock lock = new RedissonMultiLock(locks);
+        Thread t = new Thread(() -> {
+            assertThat(lock.tryLock()).isFalse();
+        });
+        t.start();
+        t.join();
+        assertThat(locks[0].isLocked()).isFalse();
+        
+        locks[100].unlock();
+        assertThat(lock.tryLock()).isTrue();
+        for (RLock l : locks) {
+            assertThat(l.isHeldByCurrentThread()).isTrue();
+        }
+        
+        lock.unlock();
+        for (RLock l : locks) {
+            assertThat(l.isLocked()).isFalse();
+        }
+        
+        client.shutdown();
+        assertThat(redis1.stop()).isEqualTo(0);
+    }
+    
     @Test
     public void testWaitAndLeaseTimeouts() throws IOException, InterruptedException {
         RedisProcess redis1 = redisTestMultilockInstance();
@@ -7,6 +7,7 @@ import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -17,9 +18,11 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.awaitility.Awaitility;
 import org.junit.Assert;
 import org.junit.Test;
 import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
 import org.redisson.api.RRemoteService;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.RedissonReactiveClient;
@@ -29,8 +32,10 @@ import org.redisson.api.annotation.RRemoteAsync;
 import org.redisson.api.annotation.RRemoteReactive;
 import org.redisson.api.annotation.RRemoteRx;
 import org.redisson.codec.FstCodec;
+import org.redisson.connection.ConnectionManager;
 import org.redisson.codec.SerializationCodec;
 import org.redisson.remote.RemoteServiceAckTimeoutException;
+import org.redisson.remote.RemoteServiceRequest;
 import org.redisson.remote.RemoteServiceTimeoutException;
 
 import io.reactivex.Completable;
@@ -294,6 +299,58 @@ public class RedissonRemoteServiceTest extends BaseTest {
         remoteService.deregister(RemoteInterface.class);
     }
 
+    @Test
+    public void testBatchedInvocations() {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        AtomicInteger maxBatchSize = new AtomicInteger();
+        ConnectionManager connectionManager = ((Redisson) redisson).getConnectionManager();
+        RRemoteService remoteService = new RedissonRemoteService(redisson.getConfig().getCodec(), "redisson_remote_service",
+                connectionManager.getCommandExecutor(), connectionManager.getId(), new ConcurrentHashMap<>()) {
+            @Override
+            protected RFuture<List<RemoteServiceRequest>> getTasks(List<String> requestIds, RMap<String, RemoteServiceRequest> tasks) {
+                maxBatchSize.accumulateAndGet(requestIds.size(), Math::max);
+                return super.getTasks(requestIds, tasks);
+            }
+        };
+        remoteService.register(RemoteInterface.class, new RemoteImpl(), 4, workers, 10);
+        RemoteInterface service = redisson.getRemoteService().get(RemoteInterface.class);
+        RemoteInterface noAckService = redisson.getRemoteService().get(RemoteInterface.class, RemoteInvocationOptions.defaults().noAck());
+
+        List<Future<?>> futures = new ArrayList<>();
+
+        int iterations = 1000;
+        AtomicBoolean bool = new AtomicBoolean();
+        for (int i = 0; i < iterations; i++) {
+            long value = i;
+            futures.add(executorService.submit(() -> {
+                try {
+                    RemoteInterface s = service;
+                    if (ThreadLocalRandom.current().nextBoolean()) {
+                        s = noAckService;
+                    }
+                    if (s.resultMethod(value) != value * 2) {
+                        bool.set(true);
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    bool.set(true);
+                }
+            }));
+        }
+
+        while (!futures.stream().allMatch(Future::isDone)) {}
+
+        assertThat(bool.get()).isFalse();
+        // requests have been dequeued in batches
+        assertThat(maxBatchSize.get()).isGreaterThan(1);
+        // workers are released after responses are sent
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> remoteService.getFreeWorkers(RemoteInterface.class) == 4);
+        remoteService.deregister(RemoteInterface.class);
+        executorService.shutdown();
+        workers.shutdown();
+    }
+
     @Test
     public void testPendingInvocations() throws InterruptedException, ExecutionException {
         ExecutorService executor = Executors.newSingleThreadExecutor();
@@ -0,0 +1,48 @@
+package org.redisson;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Protocol;
+
+/**
+ * Runs {@link RedissonScoredSortedSetTest} over RESP3 connections
+ */
+public class RedissonScoredSortedSetResp3Test extends RedissonScoredSortedSetTest {
+
+    private static RedissonClient resp3Redisson;
+    private RedissonClient resp2Redisson;
+
+    @Before
+    @Override
+    public void before() throws IOException, InterruptedException {
+        super.before();
+        if (resp3Redisson == null) {
+            resp3Redisson = createInstance(Protocol.RESP3);
+        }
+        resp2Redisson = redisson;
+        redisson = resp3Redisson;
+    }
+
+    @After
+    @Override
+    public void after() throws InterruptedException {
+        redisson = resp2Redisson;
+        if (RedissonRuntimeEnvironment.isTravis) {
+            afterClass();
+        }
+        super.after();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        if (resp3Redisson != null) {
+            resp3Redisson.shutdown();
+            resp3Redisson = null;
+        }
+    }
+
+}
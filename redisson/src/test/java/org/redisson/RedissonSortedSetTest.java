@@ -1,9 +1,11 @@
 package org.redisson;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -29,6 +31,33 @@ public class RedissonSortedSetTest extends BaseTest {
         assertThat(set.readAll()).containsExactly(0L, 1L, 2L, 5L);
     }
     
+    @Test
+    public void testLargeSet() {
+        RSortedSet<Integer> set = redisson.getSortedSet("simple");
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values);
+        for (Integer value : values) {
+            assertThat(set.add(value)).isTrue();
+        }
+        assertThat(set.add(1000)).isFalse();
+
+        Collections.sort(values);
+        assertThat(set.readAll()).containsExactlyElementsOf(values);
+        assertThat(set.contains(1999)).isTrue();
+        assertThat(set.contains(2000)).isFalse();
+
+        for (int i = 0; i < 2000; i += 2) {
+            assertThat(set.remove(i)).isTrue();
+        }
+        assertThat(set.remove(0)).isFalse();
+        assertThat(set.size()).isEqualTo(1000);
+        assertThat(set.first()).isEqualTo(1);
+        assertThat(set.last()).isEqualTo(1999);
+    }
+
     @Test
     public void testReadAll() {
         RSortedSet<Integer> set = redisson.getSortedSet("simple");
@@ -0,0 +1,277 @@
+package org.redisson.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.redisson.client.RedisConnection;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.CommandsData;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ScoredEntry;
+import org.redisson.api.StreamMessageId;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+
+public class CommandDecoderTest {
+
+    private EmbeddedChannel createChannel() {
+        return new EmbeddedChannel(new CommandsQueue(), new CommandDecoder(null, false));
+    }
+
+    private void writeByChunks(EmbeddedChannel channel, String reply, int chunkSize) {
+        byte[] bytes = reply.getBytes(CharsetUtil.UTF_8);
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            channel.writeInbound(Unpooled.wrappedBuffer(bytes, i, Math.min(chunkSize, bytes.length - i)));
+        }
+    }
+
+    @Test
+    public void testScanner() throws IOException {
+        ReplyScanner scanner = new ReplyScanner();
+        ByteBuf buf = Unpooled.buffer();
+        String reply = "*3\r\n$3\r\nfoo\r\n*2\r\n:1\r\n$-1\r\n*0\r\n";
+        for (byte b : reply.getBytes(CharsetUtil.UTF_8)) {
+            assertThat(scanner.scan(buf)).isEqualTo(-1);
+            buf.writeByte(b);
+        }
+        assertThat(scanner.scan(buf)).isEqualTo(reply.length());
+
+        buf.writeBytes("+OK\r\n".getBytes(CharsetUtil.UTF_8));
+        buf.skipBytes(reply.length());
+        assertThat(scanner.scan(buf)).isEqualTo(5);
+    }
+
+    @Test
+    public void testSplitReply() {
+        for (int chunkSize : Arrays.asList(1, 2, 3, 7, 100)) {
+            EmbeddedChannel channel = createChannel();
+            RPromise<Map<Object, Object>> promise = new RedissonPromise<>();
+            channel.writeOutbound(new CommandData<>(promise, StringCodec.INSTANCE, RedisCommands.HGETALL, new Object[] {"map"}));
+            channel.releaseOutbound();
+
+            writeByChunks(channel, "*4\r\n$2\r\nk1\r\n$2\r\nv1\r\n$2\r\nk2\r\n$3\r\nv22\r\n", chunkSize);
+
+            assertThat(promise.isSuccess()).isTrue();
+            assertThat(promise.getNow()).containsEntry("k1", "v1").containsEntry("k2", "v22").hasSize(2);
+            channel.finish();
+        }
+    }
+
+    @Test
+    public void testBatchReplies() {
+        EmbeddedChannel channel = createChannel();
+        List<CommandData<?, ?>> commands = new ArrayList<>();
+        RPromise<Object> setPromise = new RedissonPromise<>();
+        commands.add(new CommandData<>(setPromise, StringCodec.INSTANCE, RedisCommands.SET, new Object[] {"key", "value"}));
+        RPromise<Object> getPromise = new RedissonPromise<>();
+        commands.add(new CommandData<>(getPromise, StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key"}));
+        RPromise<Object> errorPromise = new RedissonPromise<>();
+        commands.add(new CommandData<>(errorPromise, StringCodec.INSTANCE, RedisCommands.INCR, new Object[] {"key"}));
+        RPromise<Void> batchPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandsData(batchPromise, commands, false, false, false));
+        channel.releaseOutbound();
+
+        writeByChunks(channel, "+OK\r\n$5\r\nvalue\r\n-ERR value is not an integer\r\n", 4);
+
+        assertThat(setPromise.isSuccess()).isTrue();
+        assertThat(getPromise.getNow()).isEqualTo("value");
+        assertThat(errorPromise.cause()).hasMessageStartingWith("ERR value is not an integer");
+        assertThat(batchPromise.cause()).isSameAs(errorPromise.cause());
+        channel.finish();
+    }
+
+    @Test
+    public void testPipelinedReplies() {
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandsQueue(true), new CommandDecoder(null, false));
+        List<RPromise<Object>> promises = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            RPromise<Object> promise = new RedissonPromise<>();
+            promises.add(promise);
+            channel.writeOutbound(new CommandData<>(promise, StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key" + i}));
+        }
+        channel.releaseOutbound();
+
+        StringBuilder replies = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            replies.append("$6\r\nvalue").append(i).append("\r\n");
+        }
+        writeByChunks(channel, replies.toString(), 5);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(promises.get(i).getNow()).isEqualTo("value" + i);
+        }
+        channel.finish();
+    }
+
+    @Test
+    public void testResp3Types() {
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandsQueue(true), new CommandDecoder(null, false));
+        RPromise<Map<Object, Object>> mapPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(mapPromise, StringCodec.INSTANCE, RedisCommands.HGETALL, new Object[] {"map"}));
+        RPromise<Set<Object>> setPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(setPromise, StringCodec.INSTANCE, RedisCommands.SMEMBERS, new Object[] {"set"}));
+        RPromise<Double> scorePromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(scorePromise, StringCodec.INSTANCE, RedisCommands.ZSCORE, new Object[] {"zset", "a"}));
+        RPromise<List<ScoredEntry<Object>>> entriesPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(entriesPromise, StringCodec.INSTANCE, RedisCommands.ZRANGE_ENTRY, new Object[] {"zset", 0, -1, "WITHSCORES"}));
+        RPromise<Boolean> boolPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(boolPromise, StringCodec.INSTANCE, RedisCommands.SETNX, new Object[] {"key", "value"}));
+        RPromise<Object> nullPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(nullPromise, StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key"}));
+        RPromise<Object> attrPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(attrPromise, StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key"}));
+        RPromise<Object> verbatimPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(verbatimPromise, StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key"}));
+        RPromise<Object> errorPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(errorPromise, StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key"}));
+        channel.releaseOutbound();
+
+        writeByChunks(channel, "%2\r\n$2\r\nk1\r\n$2\r\nv1\r\n$2\r\nk2\r\n$2\r\nv2\r\n"
+                                + "~2\r\n$1\r\na\r\n$1\r\nb\r\n"
+                                + ",1.5\r\n"
+                                + "*2\r\n*2\r\n$1\r\na\r\n,1\r\n*2\r\n$1\r\nb\r\n,inf\r\n"
+                                + "#t\r\n"
+                                + "_\r\n"
+                                + "|1\r\n+ttl\r\n:100\r\n$5\r\nvalue\r\n"
+                                + "=9\r\ntxt:value\r\n"
+                                + "!10\r\nERR failed\r\n", 3);
+
+        assertThat(mapPromise.getNow()).containsEntry("k1", "v1").containsEntry("k2", "v2").hasSize(2);
+        assertThat(setPromise.getNow()).containsOnly("a", "b");
+        assertThat(scorePromise.getNow()).isEqualTo(1.5);
+        assertThat(entriesPromise.getNow()).extracting(ScoredEntry::getValue).containsExactly("a", "b");
+        assertThat(entriesPromise.getNow()).extracting(ScoredEntry::getScore).containsExactly(1.0, Double.POSITIVE_INFINITY);
+        assertThat(boolPromise.getNow()).isTrue();
+        assertThat(nullPromise.isSuccess()).isTrue();
+        assertThat(nullPromise.getNow()).isNull();
+        assertThat(attrPromise.getNow()).isEqualTo("value");
+        assertThat(verbatimPromise.getNow()).isEqualTo("value");
+        assertThat(errorPromise.cause()).hasMessageStartingWith("ERR failed");
+        channel.finish();
+    }
+
+    private <T> T decodeReply(RedisCommand<T> command, String reply) {
+        EmbeddedChannel channel = createChannel();
+        RPromise<T> promise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(promise, StringCodec.INSTANCE, command, new Object[] {"key"}));
+        channel.releaseOutbound();
+
+        writeByChunks(channel, reply, 3);
+
+        assertThat(promise.isSuccess()).isTrue();
+        channel.finish();
+        return promise.getNow();
+    }
+
+    private void assertSameReply(RedisCommand<?> command, String resp2Reply, String resp3Reply) {
+        Object resp2 = decodeReply(command, resp2Reply);
+        Object resp3 = decodeReply(command, resp3Reply);
+        assertThat(resp3).isEqualTo(resp2);
+    }
+
+    @Test
+    public void testResp3StreamReplies() {
+        String entries = "*2\r\n*2\r\n$3\r\n1-0\r\n*2\r\n$1\r\nf\r\n$1\r\nv\r\n"
+                        + "*2\r\n$3\r\n2-0\r\n*4\r\n$1\r\na\r\n$1\r\nb\r\n$1\r\nc\r\n$1\r\nd\r\n";
+        String resp2 = "*2\r\n*2\r\n$2\r\ns1\r\n" + entries + "*2\r\n$2\r\ns2\r\n" + entries;
+        String resp3 = "%2\r\n$2\r\ns1\r\n" + entries + "$2\r\ns2\r\n" + entries;
+
+        Map<String, Map<StreamMessageId, Map<Object, Object>>> result = decodeReply(RedisCommands.XREAD, resp3);
+        assertThat(result).containsOnlyKeys("s1", "s2");
+        assertThat(result.get("s1").get(new StreamMessageId(2, 0))).containsEntry("a", "b").containsEntry("c", "d");
+
+        assertSameReply(RedisCommands.XREAD, resp2, resp3);
+        assertSameReply(RedisCommands.XREAD_BLOCKING, resp2, resp3);
+        assertSameReply(RedisCommands.XREADGROUP, resp2, resp3);
+        assertSameReply(RedisCommands.XREAD_SINGLE, "*1\r\n*2\r\n$2\r\ns1\r\n" + entries, "%1\r\n$2\r\ns1\r\n" + entries);
+        assertSameReply(RedisCommands.XREAD_BLOCKING, "*-1\r\n", "_\r\n");
+    }
+
+    @Test
+    public void testResp3ScoredSortedSetReplies() {
+        String resp2 = "*4\r\n$1\r\na\r\n$3\r\n1.5\r\n$1\r\nb\r\n$1\r\n2\r\n";
+        String resp3 = "*2\r\n*2\r\n$1\r\na\r\n,1.5\r\n*2\r\n$1\r\nb\r\n,2\r\n";
+
+        List<ScoredEntry<Object>> entries = decodeReply(RedisCommands.ZRANGE_ENTRY, resp3);
+        assertThat(entries).extracting(ScoredEntry::getValue).containsExactly("a", "b");
+        assertThat(entries).extracting(ScoredEntry::getScore).containsExactly(1.5, 2.0);
+
+        assertSameReply(RedisCommands.ZRANGE_ENTRY, resp2, resp3);
+        assertSameReply(RedisCommands.ZPOPMIN, resp2, resp3);
+        assertSameReply(RedisCommands.ZPOPMIN, "*2\r\n$1\r\na\r\n$3\r\n1.5\r\n", "*2\r\n$1\r\na\r\n,1.5\r\n");
+        assertSameReply(RedisCommands.ZSCORE, "$3\r\n1.5\r\n", ",1.5\r\n");
+        assertSameReply(RedisCommands.BZPOPMIN_VALUE, "*-1\r\n", "_\r\n");
+    }
+
+    @Test
+    public void testResp3MapAndScalarReplies() {
+        assertSameReply(RedisCommands.HGETALL, "*4\r\n$2\r\nk1\r\n$2\r\nv1\r\n$2\r\nk2\r\n$2\r\nv2\r\n",
+                                                "%2\r\n$2\r\nk1\r\n$2\r\nv1\r\n$2\r\nk2\r\n$2\r\nv2\r\n");
+        assertSameReply(RedisCommands.EVAL_BOOLEAN, ":1\r\n", "#t\r\n");
+        assertSameReply(RedisCommands.EVAL_BOOLEAN, "$-1\r\n", "#f\r\n");
+        assertSameReply(RedisCommands.EVAL_OBJECT, "$-1\r\n", "#f\r\n");
+        assertSameReply(RedisCommands.BLPOP_VALUE, "*-1\r\n", "_\r\n");
+        assertSameReply(RedisCommands.GET, "$-1\r\n", "_\r\n");
+    }
+
+    @Test
+    public void testResp3BatchReplies() {
+        EmbeddedChannel channel = createChannel();
+        List<CommandData<?, ?>> commands = new ArrayList<>();
+        commands.add(new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.MULTI, new Object[] {}));
+        RPromise<List<ScoredEntry<Object>>> rangePromise = new RedissonPromise<>();
+        commands.add(new CommandData<>(rangePromise, StringCodec.INSTANCE, RedisCommands.ZRANGE_ENTRY, new Object[] {"zset", 0, -1, "WITHSCORES"}));
+        RPromise<Map<Object, Object>> mapPromise = new RedissonPromise<>();
+        commands.add(new CommandData<>(mapPromise, StringCodec.INSTANCE, RedisCommands.HGETALL, new Object[] {"map"}));
+        RPromise<List<Object>> execPromise = new RedissonPromise<>();
+        commands.add(new CommandData<>(execPromise, StringCodec.INSTANCE, RedisCommands.EXEC, new Object[] {}));
+        RPromise<Void> batchPromise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandsData(batchPromise, commands, false, true, false));
+        channel.releaseOutbound();
+
+        writeByChunks(channel, "+OK\r\n+QUEUED\r\n+QUEUED\r\n"
+                                + "*2\r\n*2\r\n*2\r\n$1\r\na\r\n,1\r\n*2\r\n$1\r\nb\r\n,inf\r\n"
+                                + "%1\r\n$1\r\nk\r\n$1\r\nv\r\n", 5);
+
+        assertThat(batchPromise.isSuccess()).isTrue();
+        assertThat(rangePromise.getNow()).extracting(ScoredEntry::getScore).containsExactly(1.0, Double.POSITIVE_INFINITY);
+        assertThat(mapPromise.getNow()).containsEntry("k", "v").hasSize(1);
+        channel.finish();
+    }
+
+    @Test
+    public void testResp3Push() {
+        EmbeddedChannel channel = createChannel();
+        RedisConnection connection = new RedisConnection(null, channel, new RedissonPromise<>());
+        List<List<Object>> messages = new ArrayList<>();
+        connection.addPushListener(messages::add);
+
+        RPromise<Object> promise = new RedissonPromise<>();
+        channel.writeOutbound(new CommandData<>(promise, StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key"}));
+        channel.releaseOutbound();
+
+        writeByChunks(channel, ">2\r\n$10\r\ninvalidate\r\n*1\r\n$3\r\nkey\r\n$5\r\nvalue\r\n", 4);
+
+        assertThat(promise.getNow()).isEqualTo("value");
+        assertThat(messages).hasSize(1);
+        List<Object> message = messages.get(0);
+        assertThat(new String((byte[]) message.get(0), CharsetUtil.UTF_8)).isEqualTo("invalidate");
+        assertThat(new String((byte[]) ((List<Object>) message.get(1)).get(0), CharsetUtil.UTF_8)).isEqualTo("key");
+        channel.finish();
+    }
+
+}
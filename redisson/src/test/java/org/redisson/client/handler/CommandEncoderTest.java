@@ -0,0 +1,67 @@
+package org.redisson.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.redisson.client.ChannelName;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+
+public class CommandEncoderTest {
+
+    private ByteBuf encode(CommandData<?, ?> data) {
+        EmbeddedChannel channel = new EmbeddedChannel(CommandEncoder.INSTANCE);
+        channel.writeOutbound(data);
+        ByteBuf buf = channel.readOutbound();
+        channel.finish();
+        return buf;
+    }
+
+    @Test
+    public void testEncode() {
+        CommandData<?, ?> data = new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE,
+                RedisCommands.CLIENT_SETNAME, new Object[] {"name", 123L, -45, new ChannelName("ch"), "тест".getBytes(CharsetUtil.UTF_8)});
+        ByteBuf buf = encode(data);
+        assertThat(buf.toString(CharsetUtil.UTF_8)).isEqualTo("*7\r\n$6\r\nCLIENT\r\n$7\r\nSETNAME\r\n$4\r\nname\r\n"
+                + "$3\r\n123\r\n$3\r\n-45\r\n$2\r\nch\r\n$8\r\nтест\r\n");
+        buf.release();
+    }
+
+    @Test
+    public void testEncodeLargeParam() {
+        byte[] value = new byte[CommandEncoder.ZERO_COPY_THRESHOLD];
+        Arrays.fill(value, (byte) 'a');
+        ByteBuf param = Unpooled.wrappedBuffer(value);
+        CommandData<?, ?> data = new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE,
+                RedisCommands.SET, new Object[] {"key", param});
+        ByteBuf buf = encode(data);
+        assertThat(buf).isInstanceOf(CompositeByteBuf.class);
+        assertThat(buf.toString(CharsetUtil.UTF_8)).isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$" + value.length + "\r\n"
+                + new String(value, CharsetUtil.UTF_8) + "\r\n");
+        assertThat(param.refCnt()).isEqualTo(2);
+        buf.release();
+        assertThat(param.refCnt()).isEqualTo(1);
+        assertThat(param.readableBytes()).isEqualTo(value.length);
+        param.release();
+    }
+
+    @Test
+    public void testWriteLength() {
+        for (long value : new long[] {0, 9, 10, 99, 12345, -1, -10, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            ByteBuf buf = Unpooled.buffer(1);
+            CommandEncoder.writeLength(buf, value);
+            assertThat(buf.toString(CharsetUtil.US_ASCII)).isEqualTo(Long.toString(value));
+        }
+    }
+
+}
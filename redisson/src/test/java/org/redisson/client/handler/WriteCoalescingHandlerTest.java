@@ -0,0 +1,122 @@
+package org.redisson.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.util.ReferenceCountUtil;
+
+public class WriteCoalescingHandlerTest {
+
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        volatile int flushes;
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) throws Exception {
+            flushes++;
+            super.flush(ctx);
+        }
+
+    }
+
+    private EventLoopGroup group;
+    private Channel server;
+
+    @Before
+    public void before() throws InterruptedException {
+        group = new DefaultEventLoopGroup(1);
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                        ReferenceCountUtil.release(msg);
+                    }
+                })
+                .bind(new LocalAddress("coalescing-test")).sync().channel();
+    }
+
+    @After
+    public void after() throws InterruptedException {
+        server.close().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    private Channel connect(FlushCounter counter, WriteCoalescingHandler handler) throws InterruptedException {
+        return new Bootstrap()
+                .group(group)
+                .channel(LocalChannel.class)
+                .handler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+                        ctx.pipeline().addLast(counter, handler);
+                    }
+                })
+                .connect(server.localAddress()).sync().channel();
+    }
+
+    private ByteBuf command(int size) {
+        return Unpooled.wrappedBuffer(new byte[size]);
+    }
+
+    @Test
+    public void testCoalescingPerTick() throws InterruptedException {
+        FlushCounter counter = new FlushCounter();
+        WriteCoalescingHandler handler = new WriteCoalescingHandler(1024);
+        Channel channel = connect(counter, handler);
+
+        channel.eventLoop().submit(() -> {
+            for (int i = 0; i < 10; i++) {
+                channel.writeAndFlush(command(10));
+            }
+        }).sync();
+        channel.eventLoop().submit(() -> { }).sync();
+
+        assertThat(counter.flushes).isEqualTo(1);
+        assertThat(handler.getFlushes()).isEqualTo(1);
+        assertThat(handler.getFlushedCommands()).isEqualTo(10);
+        assertThat(handler.getMaxFlushedCommands()).isEqualTo(10);
+        channel.close().sync();
+    }
+
+    @Test
+    public void testFlushOnSizeLimit() throws InterruptedException {
+        FlushCounter counter = new FlushCounter();
+        WriteCoalescingHandler handler = new WriteCoalescingHandler(100);
+        Channel channel = connect(counter, handler);
+
+        channel.eventLoop().submit(() -> {
+            channel.writeAndFlush(command(60));
+            assertThat(counter.flushes).isZero();
+            channel.writeAndFlush(command(60));
+            assertThat(counter.flushes).isEqualTo(1);
+            channel.writeAndFlush(command(10));
+        }).sync();
+        channel.eventLoop().submit(() -> { }).sync();
+
+        assertThat(counter.flushes).isEqualTo(2);
+        assertThat(handler.getFlushedCommands()).isEqualTo(3);
+        assertThat(handler.getAverageFlushedCommands()).isEqualTo(1.5);
+        channel.close().sync();
+    }
+
+}
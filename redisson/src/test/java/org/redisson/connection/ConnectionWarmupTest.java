@@ -0,0 +1,69 @@
+package org.redisson.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.redisson.connection.ConnectionWarmup.NodeProgress;
+
+public class ConnectionWarmupTest {
+
+    private final InetSocketAddress address = InetSocketAddress.createUnresolved("127.0.0.1", 6379);
+
+    @Test
+    public void testReadiness() {
+        ConnectionWarmup warmup = new ConnectionWarmup(0);
+        NodeProgress progress = warmup.register(address, 2);
+        assertThat(warmup.register(address, 3)).isSameAs(progress);
+        assertThat(progress.getRequiredConnections()).isEqualTo(5);
+
+        progress.onConnectionInitialized();
+        progress.onConnectionInitialized();
+        progress.onPoolInitialized(null);
+        assertThat(progress.getInitializedConnections()).isEqualTo(2);
+        assertThat(progress.getReadinessFuture().isDone()).isFalse();
+
+        progress.onPoolInitialized(null);
+        assertThat(progress.getReadinessFuture().isSuccess()).isTrue();
+        assertThat(warmup.getProgress(address)).isSameAs(progress);
+
+        // node reinitialization starts new progress
+        NodeProgress newProgress = warmup.register(address, 1);
+        assertThat(newProgress).isNotSameAs(progress);
+        newProgress.onPoolInitialized(new IllegalStateException());
+        assertThat(newProgress.getReadinessFuture().cause()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testConcurrencyLimit() {
+        ConnectionWarmup warmup = new ConnectionWarmup(2);
+        assertThat(warmup.isLimited()).isTrue();
+
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            warmup.acquire(executed::incrementAndGet);
+        }
+        assertThat(executed.get()).isEqualTo(2);
+
+        warmup.release();
+        assertThat(executed.get()).isEqualTo(3);
+        warmup.release();
+        warmup.release();
+        assertThat(executed.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void testUnlimited() {
+        ConnectionWarmup warmup = new ConnectionWarmup(0);
+        assertThat(warmup.isLimited()).isFalse();
+
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            warmup.acquire(executed::incrementAndGet);
+        }
+        assertThat(executed.get()).isEqualTo(100);
+    }
+
+}
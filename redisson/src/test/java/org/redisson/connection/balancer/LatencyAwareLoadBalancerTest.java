@@ -0,0 +1,110 @@
+package org.redisson.connection.balancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.redisson.client.RedisClient;
+import org.redisson.connection.ClientConnectionsEntry;
+
+import mockit.Expectations;
+import mockit.Injectable;
+
+public class LatencyAwareLoadBalancerTest {
+
+    @Injectable
+    ClientConnectionsEntry entry1;
+    @Injectable
+    ClientConnectionsEntry entry2;
+    @Injectable
+    ClientConnectionsEntry entry3;
+
+    @Injectable
+    RedisClient client1;
+    @Injectable
+    RedisClient client2;
+    @Injectable
+    RedisClient client3;
+
+    private final ResponseStatistics statistics1 = new ResponseStatistics();
+    private final ResponseStatistics statistics2 = new ResponseStatistics();
+    private final ResponseStatistics statistics3 = new ResponseStatistics();
+
+    private void recordEntries() {
+        new Expectations() {{
+            entry1.getClient(); result = client1; minTimes = 0;
+            entry2.getClient(); result = client2; minTimes = 0;
+            entry3.getClient(); result = client3; minTimes = 0;
+            client1.getAddr(); result = new InetSocketAddress("127.0.0.1", 6379); minTimes = 0;
+            client2.getAddr(); result = new InetSocketAddress("127.0.0.1", 6380); minTimes = 0;
+            client3.getAddr(); result = new InetSocketAddress("127.0.0.1", 6381); minTimes = 0;
+            entry1.getResponseStatistics(); result = statistics1; minTimes = 0;
+            entry2.getResponseStatistics(); result = statistics2; minTimes = 0;
+            entry3.getResponseStatistics(); result = statistics3; minTimes = 0;
+        }};
+    }
+
+    private void overload(ResponseStatistics statistics) {
+        statistics.update(TimeUnit.MILLISECONDS.toNanos(100), System.nanoTime());
+        for (int i = 0; i < 10; i++) {
+            statistics.onCommandSent();
+        }
+    }
+
+    private Map<ClientConnectionsEntry, Integer> select(LoadBalancer balancer, List<ClientConnectionsEntry> entries, int times) {
+        Map<ClientConnectionsEntry, Integer> result = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            result.merge(balancer.getEntry(entries), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    @Test
+    public void testHighLoadAvoided() {
+        recordEntries();
+        overload(statistics1);
+
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer();
+        Map<ClientConnectionsEntry, Integer> result = select(balancer, Arrays.asList(entry1, entry2, entry3), 1000);
+
+        // loaded entry loses each pair it's picked in
+        assertThat(result).doesNotContainKey(entry1);
+        assertThat(result.get(entry2)).isGreaterThan(300);
+        assertThat(result.get(entry3)).isGreaterThan(300);
+    }
+
+    @Test
+    public void testPreferredAddresses() {
+        recordEntries();
+        overload(statistics1);
+
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(Collections.singletonList("redis://127.0.0.1:6379"));
+        Map<ClientConnectionsEntry, Integer> result = select(balancer, Arrays.asList(entry1, entry2, entry3), 100);
+        // preferred entry wins despite its load
+        assertThat(result).containsOnlyKeys(entry1);
+
+        // preferred entry isn't available
+        result = select(balancer, Arrays.asList(entry2, entry3), 100);
+        assertThat(result).containsOnlyKeys(entry2, entry3);
+    }
+
+    @Test
+    public void testSetPreferredAddresses() {
+        recordEntries();
+        overload(statistics2);
+
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer();
+        balancer.setPreferredAddresses(Arrays.asList("redis://127.0.0.1:6380", "redis://127.0.0.1:6381"));
+        Map<ClientConnectionsEntry, Integer> result = select(balancer, Arrays.asList(entry1, entry2, entry3), 100);
+        // power of two choices applied among preferred entries
+        assertThat(result).containsOnlyKeys(entry3);
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.redisson.connection.balancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ResponseStatisticsTest {
+
+    @Test
+    public void testPeakAndDecay() {
+        ResponseStatistics statistics = new ResponseStatistics();
+        long now = System.nanoTime();
+        statistics.update(TimeUnit.MILLISECONDS.toNanos(1), now);
+        assertThat(statistics.getAverage(now)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+
+        // slow response is applied immediately
+        statistics.update(TimeUnit.MILLISECONDS.toNanos(50), now);
+        assertThat(statistics.getAverage(now)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+
+        // fast responses move average down gradually
+        long later = now + TimeUnit.SECONDS.toNanos(1);
+        statistics.update(TimeUnit.MILLISECONDS.toNanos(1), later);
+        assertThat(statistics.getAverage(later))
+                .isLessThan(TimeUnit.MILLISECONDS.toNanos(50))
+                .isGreaterThan(TimeUnit.MILLISECONDS.toNanos(1));
+
+        // idle node becomes attractive again
+        long idle = later + TimeUnit.MINUTES.toNanos(1);
+        assertThat(statistics.getAverage(idle)).isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    public void testInFlightCommands() {
+        ResponseStatistics statistics = new ResponseStatistics();
+        long startTime = statistics.onCommandSent();
+        statistics.onCommandSent();
+        assertThat(statistics.getInFlightCommands()).isEqualTo(2);
+
+        long now = System.nanoTime();
+        double load = statistics.getLoad(now);
+        statistics.onCommandCompleted(startTime, false);
+        assertThat(statistics.getInFlightCommands()).isEqualTo(1);
+        assertThat(statistics.getLoad(now)).isLessThan(load);
+        assertThat(statistics.getAverage(now)).isZero();
+
+        statistics.onCommandCompleted(startTime, true);
+        assertThat(statistics.getInFlightCommands()).isZero();
+        assertThat(statistics.getAverage(System.nanoTime())).isPositive();
+
+        statistics.reset();
+        assertThat(statistics.getAverage(System.nanoTime())).isZero();
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.redisson.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+import org.redisson.client.RedisClient;
+import org.redisson.client.protocol.decoder.ListScanResult;
+import org.redisson.iterator.PrefetchingScanIterator.ScanSource;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+public class PrefetchingScanIteratorTest {
+
+    static class PagedSource implements ScanSource {
+
+        final String prefix;
+        final int pages;
+
+        PagedSource(String prefix, int pages) {
+            this.prefix = prefix;
+            this.pages = pages;
+        }
+
+        @Override
+        public RPromise<ListScanResult<Object>> scan(RedisClient client, long position) {
+            long next = position + 1;
+            if (next == pages) {
+                next = 0;
+            }
+            List<Object> values = Arrays.asList(prefix + position + ":a", prefix + position + ":b");
+            RPromise<ListScanResult<Object>> promise = new RedissonPromise<>();
+            promise.trySuccess(new ListScanResult<>(next, values));
+            return promise;
+        }
+
+    }
+
+    @Test
+    public void testMultipleSources() {
+        List<PagedSource> sources = Arrays.asList(new PagedSource("a", 5), new PagedSource("b", 3), new PagedSource("c", 1));
+        PrefetchingScanIterator<String> iterator = new PrefetchingScanIterator<>(sources, 2, null);
+
+        List<String> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+
+        assertThat(values).hasSize((5 + 3 + 1) * 2);
+        assertThat(values).doesNotHaveDuplicates();
+        assertThat(values).contains("a4:b", "b2:a", "c0:a");
+    }
+
+    @Test
+    public void testPrefetchDepth() {
+        AtomicInteger maxPending = new AtomicInteger();
+        AtomicInteger pending = new AtomicInteger();
+        List<RPromise<ListScanResult<Object>>> promises = Collections.synchronizedList(new ArrayList<>());
+        List<ScanSource> sources = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sources.add((client, position) -> {
+                RPromise<ListScanResult<Object>> promise = new RedissonPromise<>();
+                maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+                promises.add(promise);
+                return promise;
+            });
+        }
+
+        PrefetchingScanIterator<String> iterator = new PrefetchingScanIterator<>(sources, 3, null);
+        Thread t = new Thread(() -> iterator.hasNext());
+        t.setDaemon(true);
+        t.start();
+
+        while (promises.size() < 3) {
+            Thread.yield();
+        }
+        assertThat(maxPending.get()).isEqualTo(3);
+        for (RPromise<ListScanResult<Object>> promise : new ArrayList<>(promises)) {
+            pending.decrementAndGet();
+            promise.trySuccess(new ListScanResult<>(0, Collections.singletonList("value")));
+        }
+        assertThat(maxPending.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void testParallelStream() {
+        List<PagedSource> sources = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            sources.add(new PagedSource("s" + i + "-", 10));
+        }
+
+        List<String> values = StreamSupport.stream(new ScanSpliterator<String>(sources, 4), true)
+                .collect(Collectors.toList());
+
+        assertThat(values).hasSize(8 * 10 * 2);
+        assertThat(values).doesNotHaveDuplicates();
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.redisson.liveobject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.redisson.api.annotation.RCompositeIndex;
+import org.redisson.api.annotation.RSortedIndex;
+import org.redisson.client.codec.StringCodec;
+
+public class SortedIndexTest {
+
+    @RCompositeIndex({"lastName", "firstName"})
+    @RCompositeIndex({"age", "lastName"})
+    public static class Person {
+
+        @RSortedIndex
+        private String lastName;
+        private String firstName;
+        private Integer age;
+
+    }
+
+    private static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < Math.min(a.length, b.length); i++) {
+            int r = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if (r != 0) {
+                return r;
+            }
+        }
+        return a.length - b.length;
+    }
+
+    private static byte[] member(SortedIndex index, String id, Object... values) {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            map.put(index.getFields()[i], values[i]);
+        }
+        return index.getMember(map, StringCodec.INSTANCE, id);
+    }
+
+    private static void assertOrdered(List<byte[]> members) {
+        List<byte[]> sorted = new ArrayList<>(members);
+        sorted.sort(SortedIndexTest::compare);
+        for (int i = 0; i < members.size(); i++) {
+            assertThat(sorted.get(i)).isEqualTo(members.get(i));
+        }
+    }
+
+    @Test
+    public void testIndexes() {
+        List<SortedIndex> indexes = SortedIndex.getIndexes(Person.class);
+        assertThat(indexes).hasSize(3);
+        assertThat(indexes.get(0).getFields()).containsExactly("lastName");
+
+        assertThat(SortedIndex.getIndex(Person.class, new String[] {"lastName", "firstName"}).getFields())
+                    .containsExactly("lastName", "firstName");
+        assertThat(SortedIndex.getIndex(Person.class, new String[] {"age"}).getFields())
+                    .containsExactly("age", "lastName");
+        assertThat(SortedIndex.getIndex(Person.class, new String[] {"firstName"})).isNull();
+    }
+
+    @Test
+    public void testNumberOrder() {
+        SortedIndex index = SortedIndex.getIndex(Person.class, new String[] {"age"});
+        List<byte[]> members = new ArrayList<>();
+        for (double v : Arrays.asList(Double.NEGATIVE_INFINITY, -1000.5, -1.0, -0.25, -0.0, 0.0, 0.25, 1.0, 256.0, 1e12,
+                                            Double.POSITIVE_INFINITY, Double.NaN)) {
+            members.add(member(index, "1", v, "x"));
+        }
+        assertOrdered(members);
+    }
+
+    @Test
+    public void testStringOrder() {
+        SortedIndex index = SortedIndex.getIndex(Person.class, new String[] {"lastName", "firstName"});
+        List<byte[]> members = Arrays.asList(
+                member(index, "9", null, "b"),
+                member(index, "1", "ab", null),
+                member(index, "0", "ab", "a"),
+                member(index, "0", "ab\u0000", "a"),
+                member(index, "0", "ab\u0001", "a"),
+                member(index, "0", "ab\u0002", "a"),
+                member(index, "5", "abc", "a"));
+        assertOrdered(members);
+    }
+
+    @Test
+    public void testMember() {
+        SortedIndex index = SortedIndex.getIndex(Person.class, new String[] {"lastName"});
+        assertThat(member(index, "1", (Object) null)).isNull();
+        assertThat(member(index, "id", "a\u0000b")).isEqualTo(new byte[] {'a', 1, 1, 'b', 0, 'i', 'd'});
+    }
+
+}
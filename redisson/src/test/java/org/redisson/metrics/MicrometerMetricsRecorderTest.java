@@ -0,0 +1,157 @@
+package org.redisson.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.redisson.api.NodeType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerMetricsRecorderTest {
+
+    private static class TestPool implements ConnectionPoolMetrics {
+
+        private final InetSocketAddress address;
+        NodeType nodeType = NodeType.MASTER;
+        int free;
+        int used;
+        int pending;
+
+        TestPool(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        @Override
+        public InetSocketAddress getAddress() {
+            return address;
+        }
+
+        @Override
+        public NodeType getNodeType() {
+            return nodeType;
+        }
+
+        @Override
+        public int getFreeConnections() {
+            return free;
+        }
+
+        @Override
+        public int getUsedConnections() {
+            return used;
+        }
+
+        @Override
+        public int getOpenedConnections() {
+            return free + used;
+        }
+
+        @Override
+        public int getPendingAcquires() {
+            return pending;
+        }
+
+    }
+
+    private final InetSocketAddress node = InetSocketAddress.createUnresolved("127.0.0.1", 6379);
+
+    private SimpleMeterRegistry registry;
+    private MicrometerMetricsRecorder recorder;
+
+    @Before
+    public void before() {
+        registry = new SimpleMeterRegistry();
+        recorder = new MicrometerMetricsRecorder(registry);
+    }
+
+    @Test
+    public void testCommand() {
+        recorder.recordCommand(node, "GET", TimeUnit.MILLISECONDS.toNanos(1), true);
+        recorder.recordCommand(node, "GET", TimeUnit.MILLISECONDS.toNanos(3), true);
+        recorder.recordCommand(node, "GET", TimeUnit.MILLISECONDS.toNanos(5), false);
+        recorder.recordCommand(node, "SET", TimeUnit.MILLISECONDS.toNanos(2), true);
+
+        Timer getTimer = registry.get("redisson.command")
+                                    .tag("node", "127.0.0.1:6379")
+                                    .tag("command", "GET")
+                                    .tag("status", "success")
+                                    .timer();
+        assertThat(getTimer.count()).isEqualTo(2);
+        assertThat(getTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4);
+        assertThat(getTimer.max(TimeUnit.MILLISECONDS)).isEqualTo(3);
+
+        Timer failedTimer = registry.get("redisson.command")
+                                    .tag("command", "GET")
+                                    .tag("status", "failure")
+                                    .timer();
+        assertThat(failedTimer.count()).isEqualTo(1);
+
+        assertThat(registry.get("redisson.command").tag("command", "SET").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCounters() {
+        recorder.recordRetry("GET");
+        recorder.recordRetry("GET");
+        recorder.recordTimeout("BATCH");
+        recorder.recordBytesWritten(node, 100);
+        recorder.recordBytesWritten(node, 20);
+        recorder.recordBytesRead(node, 30);
+        recorder.recordConnectionAcquire(node, TimeUnit.MICROSECONDS.toNanos(10));
+        recorder.recordFlush(node, 10);
+        recorder.recordFlush(node, 2);
+
+        assertThat(registry.get("redisson.command.retries").tag("command", "GET").counter().count()).isEqualTo(2);
+        assertThat(registry.get("redisson.command.timeouts").tag("command", "BATCH").counter().count()).isEqualTo(1);
+        assertThat(registry.get("redisson.bytes.written").counter().count()).isEqualTo(120);
+        assertThat(registry.get("redisson.bytes.read").counter().count()).isEqualTo(30);
+        assertThat(registry.get("redisson.connection.acquire").timer().count()).isEqualTo(1);
+
+        DistributionSummary flushes = registry.get("redisson.flush.commands").summary();
+        assertThat(flushes.count()).isEqualTo(2);
+        assertThat(flushes.totalAmount()).isEqualTo(12);
+        assertThat(flushes.max()).isEqualTo(10);
+    }
+
+    @Test
+    public void testConnectionPool() {
+        TestPool pool = new TestPool(node);
+        recorder.registerConnectionPool(pool);
+
+        pool.free = 20;
+        pool.used = 4;
+        pool.pending = 2;
+        assertThat(registry.get("redisson.pool.connections.free").tag("type", "master").gauge().value()).isEqualTo(20);
+        assertThat(registry.get("redisson.pool.connections.used").gauge().value()).isEqualTo(4);
+        assertThat(registry.get("redisson.pool.connections.opened").gauge().value()).isEqualTo(24);
+        assertThat(registry.get("redisson.pool.pending").gauge().value()).isEqualTo(2);
+
+        TestPool newPool = new TestPool(node);
+        newPool.free = 7;
+        recorder.registerConnectionPool(newPool);
+        assertThat(registry.find("redisson.pool.connections.free").gauges()).hasSize(1);
+        assertThat(registry.get("redisson.pool.connections.free").gauge().value()).isEqualTo(7);
+
+        // type tag follows node type after failover
+        newPool.nodeType = NodeType.SLAVE;
+        assertThat(registry.get("redisson.pool.connections.free").gauge().value()).isEqualTo(7);
+        assertThat(registry.find("redisson.pool.connections.free").tag("type", "master").gauges()).isEmpty();
+        assertThat(registry.get("redisson.pool.connections.free").tag("type", "slave").gauge().value()).isEqualTo(7);
+        assertThat(registry.find("redisson.pool.pending").tag("type", "slave").gauges()).hasSize(1);
+
+        // pool replaced earlier doesn't remove meters of current one
+        recorder.unregisterConnectionPool(pool);
+        assertThat(registry.find("redisson.pool.connections.free").gauges()).hasSize(1);
+
+        recorder.unregisterConnectionPool(newPool);
+        assertThat(registry.find("redisson.pool.connections.free").gauges()).isEmpty();
+        assertThat(registry.find("redisson.pool.pending").gauges()).isEmpty();
+    }
+
+}
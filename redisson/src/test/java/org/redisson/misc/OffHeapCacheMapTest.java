@@ -0,0 +1,70 @@
+package org.redisson.misc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.redisson.cache.CacheKey;
+import org.redisson.cache.CacheValue;
+import org.redisson.cache.OffHeapCacheMap;
+import org.redisson.client.codec.StringCodec;
+
+public class OffHeapCacheMapTest {
+
+    private CacheKey key(String key) {
+        return new CacheKey(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testPutGet() {
+        OffHeapCacheMap map = new OffHeapCacheMap(StringCodec.INSTANCE, 0, 0, 0, 0);
+        map.put(key("1"), new CacheValue("1", "value1"));
+        map.put(key("2"), new CacheValue("2", null));
+
+        CacheValue value = map.get(key("1"));
+        assertThat(value.getKey()).isEqualTo("1");
+        assertThat(value.getValue()).isEqualTo("value1");
+        assertThat(map.get(key("2")).getValue()).isNull();
+        assertThat(map.get(key("3"))).isNull();
+
+        CacheValue prev = map.put(key("1"), new CacheValue("1", "value2"));
+        assertThat(prev.getValue()).isEqualTo("value1");
+        assertThat(map.get(key("1")).getValue()).isEqualTo("value2");
+        assertThat(map.containsValue(new CacheValue("1", "value2"))).isTrue();
+    }
+
+    @Test
+    public void testBytesEviction() {
+        OffHeapCacheMap map = new OffHeapCacheMap(StringCodec.INSTANCE, 0, 100, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            map.put(key("" + i), new CacheValue("" + i, "0123456789"));
+        }
+
+        // each entry takes 8 + 1 + 10 bytes
+        assertThat(map.getUsedBytes()).isLessThanOrEqualTo(100);
+        assertThat(map.size()).isEqualTo(5);
+        assertThat(map.keySet()).contains(key("9"));
+    }
+
+    @Test
+    public void testRelease() {
+        OffHeapCacheMap map = new OffHeapCacheMap(StringCodec.INSTANCE, 2, 0, 0, 0);
+        map.put(key("1"), new CacheValue("1", "value"));
+        map.put(key("2"), new CacheValue("2", "value"));
+        map.put(key("3"), new CacheValue("3", "value"));
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.getUsedBytes()).isEqualTo(2 * 14);
+
+        assertThat(map.putIfAbsent(key("3"), new CacheValue("3", "value2")).getValue()).isEqualTo("value");
+        assertThat(map.getUsedBytes()).isEqualTo(2 * 14);
+
+        assertThat(map.remove(key("3")).getValue()).isEqualTo("value");
+        assertThat(map.getUsedBytes()).isEqualTo(14);
+
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.getUsedBytes()).isZero();
+    }
+
+}
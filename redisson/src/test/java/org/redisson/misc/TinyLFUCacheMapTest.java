@@ -0,0 +1,85 @@
+package org.redisson.misc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.redisson.cache.Cache;
+import org.redisson.cache.TinyLFUCacheMap;
+
+public class TinyLFUCacheMapTest {
+
+    @Test
+    public void testMaxIdleTimeEviction() throws InterruptedException {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(2, 0, 400);
+        map.put(1, 0);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(200);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(410);
+        assertThat(map.keySet()).isEmpty();
+    }
+
+    @Test
+    public void testSizeEviction() throws InterruptedException {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(2, 0, 0);
+        map.put(1, 0);
+        map.put(2, 0);
+        
+        assertThat(map.keySet()).containsOnly(1, 2);
+        
+        map.put(3, 0);
+        
+        assertThat(map.keySet()).contains(3).hasSize(2);
+        
+        map.put(4, 0);
+        
+        assertThat(map.keySet()).contains(4).hasSize(2);
+    }
+
+    @Test
+    public void testFrequentEntriesRetained() {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(10, 0, 0);
+        for (int i = 1; i <= 10; i++) {
+            map.put(i, 0);
+        }
+        for (int i = 0; i < 5; i++) {
+            map.get(1);
+            map.get(2);
+        }
+
+        // scan of keys read only once
+        for (int i = 100; i < 200; i++) {
+            map.put(i, 0);
+        }
+
+        assertThat(map.keySet()).contains(1, 2).hasSize(10);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(100, 0, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 100000; j++) {
+                    int key = ThreadLocalRandom.current().nextInt(1000);
+                    if (map.get(key) == null) {
+                        map.put(key, key);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        
+        assertThat(map.size()).isLessThanOrEqualTo(100 + 8);
+        map.clear();
+        assertThat(map).isEmpty();
+    }
+    
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Test;
 import org.redisson.BaseTest;
+import org.redisson.api.RBucket;
 import org.redisson.api.RMap;
 import org.redisson.api.RTransaction;
 import org.redisson.api.TransactionOptions;
@@ -47,6 +48,99 @@ public abstract class RedissonBaseTransactionalMapTest extends BaseTest {
         assertThat(m.size()).isZero();
     }
     
+    @Test
+    public void testOptimistic() {
+        RMap<String, String> m = getMap();
+        m.put("1", "2");
+        
+        RTransaction t = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map = getTransactionalMap(t);
+        assertThat(map.put("1", "3")).isEqualTo("2");
+        assertThat(map.fastPut("2", "4")).isTrue();
+        assertThat(m.get("1")).isEqualTo("2");
+        
+        t.commit();
+        
+        assertThat(m.get("1")).isEqualTo("3");
+        assertThat(m.get("2")).isEqualTo("4");
+        assertThat(redisson.getKeys().getKeysByPattern("*lock*")).isEmpty();
+    }
+    
+    @Test
+    public void testOptimisticConflict() {
+        RMap<String, String> m = getMap();
+        m.put("1", "2");
+        
+        RTransaction t = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map = getTransactionalMap(t);
+        map.put("1", "3");
+        map.put("2", "4");
+        
+        m.put("1", "5");
+        
+        try {
+            t.commit();
+            Assert.fail();
+        } catch (TransactionConflictException e) {
+            // skip
+        }
+        
+        assertThat(m.get("1")).isEqualTo("5");
+        assertThat(m.get("2")).isNull();
+        assertThat(redisson.getKeys().getKeysByPattern("*lock*")).isEmpty();
+        
+        RTransaction t2 = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map2 = getTransactionalMap(t2);
+        map2.put("1", "3");
+        t2.commit();
+        
+        assertThat(m.get("1")).isEqualTo("3");
+    }
+    
+    @Test
+    public void testOptimisticConflictWithBucket() {
+        RMap<String, String> m = getMap();
+        m.put("1", "2");
+        
+        RTransaction t = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map = getTransactionalMap(t);
+        map.put("1", "3");
+        RBucket<String> bucket = t.getBucket("test-bucket");
+        bucket.set("value");
+        assertThat(redisson.getKeys().getKeysByPattern("*lock*")).isNotEmpty();
+        
+        m.put("1", "5");
+        
+        try {
+            t.commit();
+            Assert.fail();
+        } catch (TransactionConflictException e) {
+            // skip
+        }
+        
+        assertThat(redisson.getBucket("test-bucket").get()).isNull();
+        assertThat(redisson.getKeys().getKeysByPattern("*lock*")).isEmpty();
+        
+        RTransaction t2 = redisson.createTransaction(TransactionOptions.defaults().timeout(3, TimeUnit.SECONDS));
+        t2.getBucket("test-bucket").set("value2");
+        t2.commit();
+        
+        assertThat(redisson.getBucket("test-bucket").get()).isEqualTo("value2");
+    }
+    
+    @Test
+    public void testOptimisticRollbackWithBucket() {
+        RTransaction t = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map = getTransactionalMap(t);
+        map.put("1", "3");
+        t.getBucket("test-bucket").set("value");
+        
+        t.rollback();
+        
+        assertThat(redisson.getKeys().getKeysByPattern("*lock*")).isEmpty();
+        assertThat(getMap().get("1")).isNull();
+    }
+    
     @Test
     public void testGetAll() {
         RMap<String, String> m = getMap();
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.redisson.BaseTest;
 import org.redisson.api.RSet;
@@ -13,6 +14,28 @@ import org.redisson.api.TransactionOptions;
 
 public class RedissonTransactionalSetTest extends BaseTest {
 
+    @Test
+    public void testOptimisticConflict() {
+        RSet<String> s = redisson.getSet("test");
+        s.add("1");
+        
+        RTransaction t = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RSet<String> set = t.getSet("test");
+        assertThat(set.remove("1")).isTrue();
+        assertThat(set.add("2")).isTrue();
+        
+        s.add("2");
+        
+        try {
+            t.commit();
+            Assert.fail();
+        } catch (TransactionConflictException e) {
+            // skip
+        }
+        
+        assertThat(s).containsOnly("1", "2");
+    }
+    
     @Test
     public void testRemoveAll() {
         RSet<String> s = redisson.getSet("test");